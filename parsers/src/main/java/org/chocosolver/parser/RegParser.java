@@ -97,11 +97,16 @@ public abstract class RegParser implements IParser {
             usage = "Autoflush weights on black-box strategies (default: int max value).")
     protected int flushRate = Integer.MAX_VALUE;
 
+    @Option(name = "-heap",
+            forbids = {"-varsel"},
+            usage = "Maintain variables in a heap instead of scanning them on black-box strategies (default: false).")
+    protected boolean heap = false;
+
     @Option(name = "-varsel",
             handler = VarSelHandler.class,
             depends = {"-f"},
-            forbids = {"-varh", "-flush"},
-            usage = "Define the variable selector to use. Expected format: [varsel,flush] as [String,int] -- no space allowed.")
+            forbids = {"-varh", "-flush", "-heap"},
+            usage = "Define the variable selector to use. Expected format: [varsel,flush(,heap)] as [String,int(,boolean)] -- no space allowed.")
     public SearchParams.VarSelConf varsel;
 
     @Option(name = "-valh", aliases = {"--valHeuristic"},
@@ -126,15 +131,22 @@ public abstract class RegParser implements IParser {
     @Option(name = "-last",
             depends = {"-f"},
             forbids = {"-valsel"},
-            usage = "Tell the solver to use progress (or phase) saving.")
+            usage = "Tell the solver to branch on the value of the last solution (solution-guided search).")
     protected boolean last = false;
 
+    @Option(name = "-phase",
+            depends = {"-f"},
+            forbids = {"-valsel"},
+            usage = "Tell the solver to save the value of each decision and use it as the next value for the variable (phase saving). " +
+                    "When combined with -last, phases are reset to the last solution on restarts.")
+    protected boolean phase = false;
+
     @Option(name = "-valsel",
             handler = ValSelHandler.class,
             depends = {"-f"},
-            forbids = {"-valh", "-best", "-bestRate", "-last"},
-            usage = "Define the variable selector to use. Expected format: [valh,best,bestRate,last] " +
-                    "as [String,String,int,boolean]  -- no space allowed.")
+            forbids = {"-valh", "-best", "-bestRate", "-last", "-phase"},
+            usage = "Define the variable selector to use. Expected format: [valh,best,bestRate,last(,phase)] " +
+                    "as [String,String,int,boolean(,boolean)]  -- no space allowed.")
     public SearchParams.ValSelConf valsel;
 
     @Option(name = "-restarts",
@@ -164,6 +176,10 @@ public abstract class RegParser implements IParser {
             "--nb-cores"}, usage = "Number of cores available for parallel search (default: 1).")
     protected int nb_cores = 1;
 
+    @Option(name = "-mem", usage = "Budget, in MB, on the estimated memory of trails and propagators (default: none).\n" +
+            "When exceeded, learnt clauses are reduced and a restart is forced; if it is still exceeded, the resolution stops.")
+    protected long memory = -1L;
+
     @Option(name = "-seed", usage = "Set the seed for random number generator. ")
     protected long seed = 0L;
 
@@ -254,10 +270,10 @@ public abstract class RegParser implements IParser {
             System.out.printf("%s\n", Arrays.toString(args));
         }
         if (varsel == null) {
-            varsel = new SearchParams.VarSelConf(varH, flushRate);
+            varsel = new SearchParams.VarSelConf(varH, flushRate, heap);
         }
         if (valsel == null) {
-            valsel = new SearchParams.ValSelConf(valH, best, bestRate, last);
+            valsel = new SearchParams.ValSelConf(valH, best, bestRate, last, phase);
         }
         createSettings();
         Runtime.getRuntime().addShutdownHook(statOnKill);
@@ -326,6 +342,9 @@ public abstract class RegParser implements IParser {
             if (limits.getRuns() > -1) {
                 portfolio.getModels().get(i).getSolver().limitRestart(limits.getRuns());
             }
+            if (memory > -1) {
+                portfolio.getModels().get(i).getSolver().limitMemory(memory << 20);
+            }
             makeComplementarySearch(portfolio.getModels().get(i), i);
         }
     }
@@ -146,6 +146,13 @@ public class DIMACS extends RegParser {
         }
     }
 
+    @Override
+    public void freesearch(Solver solver) {
+        // the search is declared on parsing, only the restart policy is taken from the command line
+        solver.clearRestarter();
+        solver.addRestarter(restarts.make().apply(solver));
+    }
+
     protected void singleThread() {
         Model model = portfolio.getModels().get(0);
         boolean enumerate = model.getResolutionPolicy() != ResolutionPolicy.SATISFACTION || all;
@@ -267,6 +274,9 @@ public class DIMACS extends RegParser {
                             (int) Math.ceil(solver.getTimeCount()) :
                             Integer.MAX_VALUE);
         }
+        if (csv) {
+            solver.log().printf("%s;%s\n", instance, solver.getMeasures().toCSV());
+        }
         if (level.isLoggable(Level.INFO)) {
             solver.printShortFeatures();
             solver.getMeasures().toOneLineString();
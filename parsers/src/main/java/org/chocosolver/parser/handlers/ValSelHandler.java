@@ -36,7 +36,7 @@ public class ValSelHandler extends OneArgumentOptionHandler<SearchParams.ValSelC
      */
     @Override
     public String getDefaultMetaVariable() {
-        return "[String,boolean,int,boolean]";
+        return "[String,boolean,int,boolean(,boolean)]";
     }
 
 
@@ -45,12 +45,13 @@ public class ValSelHandler extends OneArgumentOptionHandler<SearchParams.ValSelC
         if (argument.startsWith("[")) argument = argument.substring(1);
         if (argument.endsWith("]")) argument = argument.substring(0, argument.length() - 1);
         String[] pars = argument.split(",");
-        if (pars.length == 4) {
+        if (pars.length == 4 || pars.length == 5) {
             return new SearchParams.ValSelConf(
                     SearchParams.ValueSelection.valueOf(pars[0].toUpperCase()),
                     SearchParams.BestSelection.valueOf(pars[1].toUpperCase()),
                     Integer.parseInt(pars[2]),
-                    Boolean.parseBoolean(pars[3])
+                    Boolean.parseBoolean(pars[3]),
+                    pars.length == 5 && Boolean.parseBoolean(pars[4])
             );
         }
         throw new CmdLineException(owner,
@@ -65,6 +65,10 @@ public class MPS extends RegParser {
     @Option(name = "-split", usage = "Split any contraints of cardinality greater than this value (default: 100).")
     int split = 100;
 
+    @SuppressWarnings("FieldMayBeFinal")
+    @Option(name = "-lp", usage = "Maintain the linear relaxation of the integer linear constraints (default: false).")
+    private boolean lp = false;
+
 
     /**
      * Needed to print the last solution found
@@ -152,6 +156,9 @@ public class MPS extends RegParser {
 
     public void parse(Model target, MPSParser parser, int i) throws Exception {
         parser.model(target, instance, maximize, ninf, pinf, ibex, noeq);
+        if (lp) {
+            target.linearRelaxation().post();
+        }
         if (i == 0) {
             if (target.getNbRealVar() == 0) {
                 BlackBoxConfigurator.init()
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.parser.mps;
 
+import org.chocosolver.lp.SparseLinearProgram;
 import org.chocosolver.parser.ParserException;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
@@ -65,6 +66,73 @@ public class MPSParser {
                       double ninf, double pinf,
                       boolean ibex,
                       boolean noeq) throws IOException {
+        read(instance, ninf, pinf);
+        build(model, maximize, ibex, noeq);
+    }
+
+    /**
+     * Read an instance and return its linear relaxation, that is, the integrality of the variables is ignored.
+     * Unbounded variables and rows are given infinite bounds.
+     *
+     * @param instance path to the instance
+     * @param maximize set to <i>true</i> to maximize the objective function, <i>false</i> to minimize it
+     * @return the linear relaxation of the instance, ready to be solved
+     * @throws IOException if the instance cannot be read
+     */
+    public SparseLinearProgram linearRelaxation(String instance, boolean maximize) throws IOException {
+        read(instance, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        SparseLinearProgram lp = new SparseLinearProgram();
+        HashMap<String, Integer> index = new HashMap<>();
+        for (String vnam : allvars) {
+            Number[] bounds = varsDom.get(vnam);
+            if (bounds == null) {
+                bounds = new Number[]{0, POS_INF};
+            }
+            index.put(vnam, lp.makeVariable(bounds[0].doubleValue(), bounds[1].doubleValue()));
+        }
+        String[] cnames = vars4eq.keySet().toArray(new String[vars4eq.size()]);
+        Arrays.sort(cnames); // preserve order for determinism
+        boolean foundObj = false;
+        for (String cnam : cnames) {
+            int[] vars = vars4eq.get(cnam).stream().mapToInt(index::get).toArray();
+            double[] coefs = coeffs4eq.get(cnam).stream().mapToDouble(Number::doubleValue).toArray();
+            String op = ope4eq.get(cnam);
+            Number rhs = rhs4eq.get(cnam);
+            Number rng = range4eq.get(cnam);
+            double b = rhs == null ? 0. : rhs.doubleValue();
+            if (op == null) {
+                if (foundObj) {
+                    throw new ParserException("More than one objective function found");
+                } else if (rng != null) {
+                    throw new ParserException("Range found for objective function");
+                }
+                lp.setObjective(maximize, vars, coefs);
+                foundObj = true;
+                continue;
+            }
+            double lb = Double.NEGATIVE_INFINITY;
+            double ub = Double.POSITIVE_INFINITY;
+            double r = rng == null ? 0. : rng.doubleValue();
+            switch (op) {
+                case "=":
+                    lb = r < 0 ? b + r : b;
+                    ub = r > 0 ? b + r : b;
+                    break;
+                case "<=":
+                    lb = rng == null ? lb : b - Math.abs(r);
+                    ub = b;
+                    break;
+                case ">=":
+                    lb = b;
+                    ub = rng == null ? ub : b + Math.abs(r);
+                    break;
+            }
+            lp.addRow(vars, coefs, lb, ub);
+        }
+        return lp;
+    }
+
+    private void read(String instance, double ninf, double pinf) throws IOException {
         ope4eq = new HashMap<>();
         coeffs4eq = new HashMap<>();
         vars4eq = new HashMap<>();
@@ -106,7 +174,6 @@ public class MPSParser {
                 line = br.readLine();
             }
         }
-        build(model, maximize, ibex, noeq);
         reader.close();
         if(gzis != null) {
             gzis.close();
@@ -15,6 +15,8 @@ import org.chocosolver.parser.ParserException;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.extension.hybrid.HybridTuples;
+import org.chocosolver.solver.constraints.extension.hybrid.ISupportable;
 import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
 import org.chocosolver.solver.expression.discrete.arithmetic.NaArExpression;
@@ -38,6 +40,7 @@ import org.xcsp.common.Condition;
 import org.xcsp.common.Types;
 import org.xcsp.common.predicates.XNode;
 import org.xcsp.common.predicates.XNodeParent;
+import org.xcsp.common.structures.AbstractTuple;
 import org.xcsp.common.structures.Transition;
 import org.xcsp.parser.callbacks.XCallbacks2;
 import org.xcsp.parser.entries.XConstraints;
@@ -442,6 +445,88 @@ public class XCSPParser implements XCallbacks2 {
         model.table(vars(list), mTuples).post();
     }
 
+    @Override
+    public void buildCtrExtension(String id, XVariables.XVarInteger[] list, AbstractTuple[] tuples, boolean positive, Set<Types.TypeFlag> flags) {
+        if (!positive) {
+            throw new ParserException("Negative hybrid tables are not supported");
+        }
+        HybridTuples hTuples = new HybridTuples();
+        for (AbstractTuple tuple : tuples) {
+            ISupportable[] exps = new ISupportable[list.length];
+            if (tuple instanceof AbstractTuple.OrdinaryTuple) {
+                int[] values = ((AbstractTuple.OrdinaryTuple) tuple).values;
+                for (int i = 0; i < values.length; i++) {
+                    exps[i] = values[i] == STAR_INT ? HybridTuples.any() : HybridTuples.eq(values[i]);
+                }
+            } else {
+                Object[] values = ((AbstractTuple.HybridTuple) tuple).values;
+                for (int i = 0; i < values.length; i++) {
+                    exps[i] = hybrid(values[i]);
+                }
+            }
+            hTuples.add(exps);
+        }
+        model.table(vars(list), hTuples).post();
+    }
+
+    private static ISupportable hybrid(Object value) {
+        if (value instanceof Number) {
+            int v = ((Number) value).intValue();
+            return v == STAR_INT ? HybridTuples.any() : HybridTuples.eq(v);
+        } else if (value instanceof Condition.ConditionVal) {
+            Condition.ConditionVal c = (Condition.ConditionVal) value;
+            int k = (int) c.k;
+            switch (c.operator) {
+                case LT:
+                    return HybridTuples.lt(k);
+                case LE:
+                    return HybridTuples.le(k);
+                case GE:
+                    return HybridTuples.ge(k);
+                case GT:
+                    return HybridTuples.gt(k);
+                case NE:
+                    return HybridTuples.ne(k);
+                case EQ:
+                    return HybridTuples.eq(k);
+            }
+        } else if (value instanceof Condition.ConditionIntvl) {
+            Condition.ConditionIntvl c = (Condition.ConditionIntvl) value;
+            int[] set = IntStream.rangeClosed((int) c.min, (int) c.max).toArray();
+            return c.operator == Types.TypeConditionOperatorSet.IN ? HybridTuples.in(set) : HybridTuples.nin(set);
+        } else if (value instanceof Condition.ConditionIntset) {
+            Condition.ConditionIntset c = (Condition.ConditionIntset) value;
+            return c.operator == Types.TypeConditionOperatorSet.IN ? HybridTuples.in(c.t) : HybridTuples.nin(c.t);
+        } else if (value instanceof Condition.ConditionPar) {
+            // a reference to another column, possibly with a constant
+            Condition.ConditionPar c = (Condition.ConditionPar) value;
+            int inc = 0;
+            if (c instanceof Condition.ConditionPar2) {
+                Condition.ConditionPar2 c2 = (Condition.ConditionPar2) c;
+                if (!(c2.par2 instanceof Integer)) {
+                    throw new ParserException("Hybrid condition not supported: " + value);
+                }
+                inc = c2.addition ? (Integer) c2.par2 : -(Integer) c2.par2;
+            }
+            ISupportable.UnCol col = HybridTuples.col(c.par1.number);
+            switch ((Types.TypeConditionOperatorRel) c.operator) {
+                case LT:
+                    return HybridTuples.lt(col, inc);
+                case LE:
+                    return HybridTuples.le(col, inc);
+                case GE:
+                    return HybridTuples.ge(col, inc);
+                case GT:
+                    return HybridTuples.gt(col, inc);
+                case NE:
+                    return HybridTuples.ne(col, inc);
+                case EQ:
+                    return HybridTuples.eq(col, inc);
+            }
+        }
+        throw new ParserException("Hybrid condition not supported: " + value);
+    }
+
     @Override
     public void buildCtrExtension(String id, XVariables.XVarInteger x, int[] values, boolean positive, Set<Types.TypeFlag> flags) {
         if (flags.contains(Types.TypeFlag.STARRED_TUPLES)) {
@@ -12,6 +12,9 @@ package org.chocosolver.flatzinc;
 import org.chocosolver.parser.PerformanceListener;
 import org.chocosolver.parser.SetUpException;
 import org.chocosolver.parser.flatzinc.Flatzinc;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.SearchState;
 import org.testng.Assert;
 import org.testng.annotations.*;
@@ -285,4 +288,41 @@ public class PerformanceTest {
         Assert.assertEquals(fzn.getModel().getSolver().getFailCount(), 257, "Unexpected number of failures");
         logPerf(fzn);
     }
+
+    @Test(groups = "mzn", dataProvider = "instances", timeOut = 60_000, priority = 2)
+    public void testCopy(String path, int solutions, Integer bst, int nodes, int failures) throws SetUpException {
+        String file = Objects.requireNonNull(this.getClass().getResource(path)).getFile();
+        String[] args = new String[]{
+                file,
+                "-limit", "[50s]",
+                "-lvl", LEVEL,
+                "-p", "1"
+        };
+        Flatzinc fzn = new Flatzinc();
+        fzn.setUp(args);
+        fzn.createSolver();
+        long time = -System.nanoTime();
+        fzn.buildModel();
+        time += System.nanoTime();
+        fzn.configureSearch();
+        long ctime = -System.nanoTime();
+        Model copy = fzn.getModel().copy();
+        ctime += System.nanoTime();
+        System.out.printf(Locale.ENGLISH, "%s: parsed in %.2fms, copied in %.2fms%n",
+                path, time / 1_000_000f, ctime / 1_000_000f);
+        Solver solver = copy.getSolver();
+        if (copy.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+            solver.solve();
+        } else {
+            //noinspection StatementWithEmptyBody
+            while (solver.solve()) ;
+        }
+        Assert.assertEquals(solver.getSearchState(), SearchState.TERMINATED, "Unexpected search state");
+        if (bst != null) {
+            Assert.assertEquals(solver.getObjectiveManager().getBestSolutionValue(), bst, "Unexpected best solution");
+        }
+        Assert.assertEquals(solver.getSolutionCount(), solutions, "Unexpected number of solutions");
+        Assert.assertEquals(solver.getNodeCount(), nodes, "Unexpected number of nodes");
+        Assert.assertEquals(solver.getFailCount(), failures, "Unexpected number of failures");
+    }
 }
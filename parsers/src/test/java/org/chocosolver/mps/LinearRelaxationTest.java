@@ -0,0 +1,185 @@
+/*
+ * This file is part of choco-parsers, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.mps;
+
+import org.chocosolver.lp.LinearProgram.Status;
+import org.chocosolver.lp.SparseLinearProgram;
+import org.chocosolver.parser.SetUpException;
+import org.chocosolver.parser.mps.MPS;
+import org.chocosolver.parser.mps.MPSParser;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.SearchState;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark of {@link SparseLinearProgram} on the linear relaxation of MPS instances:
+ * each relaxation is solved from scratch, then re-solved from the previous basis after a branching decision.
+ * The instances are also solved with and without the linear relaxation maintained during search.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class LinearRelaxationTest {
+
+    private static final String ROOT = "/mps/";
+    private static final String COMMENT = "#";
+    private static final String DELIMITER = ",";
+
+    private StringBuilder writer;
+    private StringBuilder nodes;
+
+    @BeforeClass(alwaysRun = true, groups = "mps")
+    public void beforeStart() {
+        writer = new StringBuilder();
+        writer.append("name;variables;rows;nonzeros;status;objective;iterations;time(ms);" +
+                "warmStatus;warmIterations;warmTime(ms);coldIterations\n");
+        nodes = new StringBuilder();
+        nodes.append("name;state;best;nodes;time(ms);lpState;lpBest;lpNodes;lpTime(ms)\n");
+    }
+
+    @AfterClass(groups = "mps")
+    public void afterStart() throws IOException {
+        Path path = Paths.get(System.getProperty("user.dir"), "target", "lp_results.csv");
+        if (Files.isDirectory(path.getParent())) {
+            Files.write(path, writer.toString().getBytes());
+            Files.write(path.resolveSibling("lp_nodes.csv"), nodes.toString().getBytes());
+        }
+    }
+
+    @DataProvider(name = "instances")
+    public Object[][] mps() {
+        List<Object[]> parameters = new ArrayList<>();
+        try (BufferedReader br = Files.newBufferedReader(
+                Paths.get(this.getClass().getResource(
+                        ROOT + "instances.csv").getPath()))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.startsWith(COMMENT))
+                    continue;
+                parameters.add(new Object[]{ROOT + line.split(DELIMITER)[0]});
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+        return parameters.toArray(new Object[0][0]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testExample() throws IOException {
+        String file = this.getClass().getResource(ROOT + "example1.mps").getFile();
+        SparseLinearProgram lp = new MPSParser().linearRelaxation(file, false);
+        Assert.assertEquals(lp.getNbVariables(), 3);
+        Assert.assertEquals(lp.getNbRows(), 3);
+        Assert.assertEquals(lp.simplex(), Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 54., 1e-6);
+    }
+
+    @Test(groups = "mps", timeOut = 120000, dataProvider = "instances")
+    public void testRelaxation(String path) throws IOException {
+        String file = this.getClass().getResource(path).getFile();
+        SparseLinearProgram lp = new MPSParser().linearRelaxation(file, false);
+        long time = -System.currentTimeMillis();
+        Status status = lp.simplex();
+        time += System.currentTimeMillis();
+        writer.append(path).append(';')
+                .append(lp.getNbVariables()).append(';')
+                .append(lp.getNbRows()).append(';')
+                .append(lp.getNbNonzeros()).append(';')
+                .append(status).append(';')
+                .append(lp.objective()).append(';')
+                .append(lp.getIterations()).append(';')
+                .append(time).append(';');
+        Assert.assertNotEquals(status, Status.UNKNOWN);
+        // branch on the first fractional variable, if any
+        int j = -1;
+        for (int k = 0; status == Status.FEASIBLE && k < lp.getNbVariables() && j == -1; k++) {
+            double v = lp.value(k);
+            if (Math.abs(v - Math.rint(v)) > 1e-6) {
+                j = k;
+            }
+        }
+        if (j == -1) {
+            writer.append(";;;\n");
+            return;
+        }
+        lp.setBounds(j, lp.getLB(j), Math.floor(lp.value(j)));
+        time = -System.currentTimeMillis();
+        Status warm = lp.simplex();
+        time += System.currentTimeMillis();
+        double objective = lp.objective();
+        long iterations = lp.getIterations();
+        lp.resetBasis();
+        Status cold = lp.simplex();
+        writer.append(warm).append(';')
+                .append(iterations).append(';')
+                .append(time).append(';')
+                .append(lp.getIterations()).append('\n');
+        Assert.assertEquals(warm, cold);
+        if (cold == Status.FEASIBLE) {
+            Assert.assertEquals(objective, lp.objective(), 1e-6 * Math.max(1., Math.abs(objective)));
+        }
+        Assert.assertTrue(iterations <= lp.getIterations());
+    }
+
+    @Test(groups = "mps", timeOut = 120000, dataProvider = "instances")
+    public void testNodes(String path) throws SetUpException {
+        String file = this.getClass().getResource(path).getFile();
+        nodes.append(path);
+        Solver[] solvers = new Solver[2];
+        for (int k = 0; k < 2; k++) {
+            List<String> args = new ArrayList<>(Arrays.asList(
+                    file,
+                    "-limit", "[20s]",
+                    "-lvl", "COMPET",
+                    "-prec", "1.0E-4D",
+                    "-ninf", "-999.D",
+                    "-pinf", "999.D",
+                    "-p", "1"));
+            if (k == 1) {
+                args.add("-lp");
+            }
+            MPS mps = new MPS();
+            mps.setUp(args.toArray(new String[0]));
+            mps.createSolver();
+            mps.buildModel();
+            mps.configureSearch();
+            long time = -System.currentTimeMillis();
+            mps.solve();
+            time += System.currentTimeMillis();
+            solvers[k] = mps.getModel().getSolver();
+            nodes.append(';').append(solvers[k].getSearchState())
+                    .append(';').append(solvers[k].getObjectiveManager().getBestSolutionValue())
+                    .append(';').append(solvers[k].getNodeCount())
+                    .append(';').append(time);
+        }
+        nodes.append('\n');
+        if (solvers[0].getSearchState() == SearchState.TERMINATED
+                && solvers[1].getSearchState() == SearchState.TERMINATED) {
+            Assert.assertEquals(solvers[1].getObjectiveManager().getBestSolutionValue(),
+                    solvers[0].getObjectiveManager().getBestSolutionValue());
+            Assert.assertTrue(solvers[1].getNodeCount() <= solvers[0].getNodeCount());
+        }
+    }
+
+}
@@ -159,6 +159,25 @@ public class RegParserTest {
                 SearchParams.VariableSelection.CHS, 64));
     }
 
+    @Test(groups = "1s")
+    public void testVarsel2() throws CmdLineException {
+        CmdLineParser p = new CmdLineParser(parser);
+        p.parseArgument("-f", "-varsel", "[DOMWDEG,32,true]", "/file");
+        Assert.assertEquals(parser.varsel, new SearchParams.VarSelConf(
+                SearchParams.VariableSelection.DOMWDEG, 32, true));
+        Assert.assertNotEquals(parser.varsel, new SearchParams.VarSelConf(
+                SearchParams.VariableSelection.DOMWDEG, 32));
+    }
+
+    @Test(groups = "1s")
+    public void testHeap1() throws CmdLineException {
+        CmdLineParser p = new CmdLineParser(parser);
+        p.parseArgument("/file");
+        Assert.assertFalse(parser.heap);
+        p.parseArgument("-f", "-heap", "/file");
+        Assert.assertTrue(parser.heap);
+    }
+
     @Test(groups = "1s")
     public void testVarl1() throws CmdLineException {
         CmdLineParser p = new CmdLineParser(parser);
@@ -211,6 +230,24 @@ public class RegParserTest {
 
     }
 
+    @Test(groups = "1s")
+    public void testValsel4() throws CmdLineException {
+        CmdLineParser p = new CmdLineParser(parser);
+        p.parseArgument("-f", "-valsel", "[MIN,none,1,true,true]", "/file");
+        Assert.assertEquals(parser.valsel, new SearchParams.ValSelConf(SearchParams.ValueSelection.MIN, SearchParams.BestSelection.NONE, 1, true, true));
+        Assert.assertNotEquals(parser.valsel, new SearchParams.ValSelConf(SearchParams.ValueSelection.MIN, SearchParams.BestSelection.NONE, 1, true));
+    }
+
+    @Test(groups = "1s")
+    public void testPhase1() throws CmdLineException {
+        CmdLineParser p = new CmdLineParser(parser);
+        p.parseArgument("/file");
+        Assert.assertFalse(parser.phase);
+        p.parseArgument("-f", "-phase", "/file");
+        Assert.assertTrue(parser.phase);
+        Assert.assertFalse(parser.last);
+    }
+
     @Test(groups = "1s")
     public void test() throws CmdLineException {
         CmdLineParser p = new CmdLineParser(parser);
@@ -11,6 +11,9 @@ package org.chocosolver.xscp;
 
 import org.chocosolver.parser.SetUpException;
 import org.chocosolver.parser.xcsp.XCSP;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.search.SearchState;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -124,4 +127,40 @@ public class PerformanceTest {
         logPerf(xcsp);
     }
 
+    @Test(groups = "xcsp", dataProvider = "instances", timeOut = 60000)
+    public void testCopy(String path, int solutions, Integer bst, int nodes, int failures) throws SetUpException {
+        String file = Objects.requireNonNull(this.getClass().getResource(path)).getFile();
+        String[] args = new String[]{
+                file,
+                "-limit", "[50s]",
+                "-lvl", "SILENT",
+                "-p", "1"
+        };
+        XCSP xcsp = new XCSP();
+        xcsp.setUp(args);
+        xcsp.createSolver();
+        long time = -System.nanoTime();
+        xcsp.buildModel();
+        time += System.nanoTime();
+        xcsp.configureSearch();
+        long ctime = -System.nanoTime();
+        Model copy = xcsp.getModel().copy();
+        ctime += System.nanoTime();
+        System.out.printf(Locale.ENGLISH, "%s: parsed in %.2fms, copied in %.2fms%n",
+                path, time / 1_000_000f, ctime / 1_000_000f);
+        Solver solver = copy.getSolver();
+        if (copy.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
+            solver.solve();
+        } else {
+            //noinspection StatementWithEmptyBody
+            while (solver.solve()) ;
+        }
+        Assert.assertEquals(solver.getSearchState(), SearchState.TERMINATED, "Unexpected search state");
+        Assert.assertEquals(solver.getSolutionCount(), solutions, "Unexpected number of solutions");
+        Assert.assertEquals(solver.getNodeCount(), nodes, "Unexpected number of nodes");
+        Assert.assertEquals(solver.getFailCount(), failures, "Unexpected number of failures");
+        if (bst != null) {
+            Assert.assertEquals(solver.getObjectiveManager().getBestSolutionValue(), bst, "Unexpected best solution");
+        }
+    }
 }
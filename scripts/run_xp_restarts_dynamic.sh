@@ -0,0 +1,51 @@
+echo "compiling"
+mvn clean package -DskipTests -q
+echo "compilation done"
+# path of the executables
+launch_xcsp=" java -cp .:parsers/target/choco-parsers-4.10.15-SNAPSHOT-jar-with-dependencies.jar org.chocosolver.parser.xcsp.ChocoXCSP"
+launch_dimacs=" java -cp .:parsers/target/choco-parsers-4.10.15-SNAPSHOT-jar-with-dependencies.jar org.chocosolver.parser.dimacs.ChocoDIMACS"
+currentDate=$(date +%Y-%m-%d_%H-%M-%S);  #
+commitId=$(git rev-parse HEAD)
+outFileXCSP="results/xcsp/xcsp-opt-restarts-${commitId}-${currentDate}.csv"  # filename of the results (with the date at the end of the file)
+outFileDIMACS="results/dimacs/dimacs-restarts-${commitId}-${currentDate}.csv"
+
+# each restart policy to try, in the format [policy,cutoff,offset,resetOnSolution]
+# for dynamic policies, the cutoff is the size of the window of recent conflicts
+declare -a restartPolicy=("[LUBY,500,50000,true]" "[GEOMETRIC,10,50000,true]" "[DYNAMIC_DEPTH,50,50000,true]" "[DYNAMIC_LBD,50,50000,true]")
+timeout="00h30m00s"  # timeout in seconds
+iter=1   # number of iterations to account for randomness
+nParallel=15  # number of parallel run (should be <= number of threads on the machine, but small enough to fit in memory)
+
+mkdir -p "results/xcsp" "results/dimacs"  # where the results will be written
+rm -f $outFileXCSP $outFileDIMACS  # delete filename of the results if it already existed (does not delete past results, unless their datetime is the same)
+# the solver must print only one line when it is finished, otherwise we won't get a CSV at the end
+# this is the header of the csv. This header needs to change depending on the solver / type of experiment that is being run
+# all rows need to be printed by the solver itself
+# the column "solutionsOverTime" is in the format (time;objective;nodes;failures;restarts)
+echo "instance,maxRuntime,variableSelection,valueSelection,restarts,solutionsOverTime,isOptimal,runtime,nodes,fails,restarts,memory,vars,varsWithoutView,constraints,args" >> $outFileXCSP
+echo "instance;status;solutions;buildingTime;totalTime;timeToBest;objective;nodes;backtracks;backjumps;fails;restarts;" >> $outFileDIMACS
+echo "writing inputs"
+# write all the configs into temporary files
+inputFileXCSP="inputFileRestartsXCSP"
+inputFileDIMACS="inputFileRestartsDIMACS"
+rm -f $inputFileXCSP $inputFileDIMACS  # delete previous temporary files if they existed
+for (( i=1; i<=$iter; i++ ))  # for each iteration
+do
+  for restart in "${restartPolicy[@]}"  # for each restart policy to try
+  do
+    # extracts the instances from the data folders
+    # write one line per instance containing its filename, along with the restart policy
+    find data/xcsp/cop23/ -type f | sed "s/$/;${restart}/"  >> $inputFileXCSP
+    find data/dimacs/ -type f | sed "s/$/;${restart}/"  >> $inputFileDIMACS
+  done
+done
+# at this point, the input files contain rows in the format
+# instance_filename;[restart_policy,cutoff,offset,resetOnSolution]
+echo "launching experiments in parallel"
+# XCSP: search with dom/wdeg, min value and last conflict, learning is disabled so DYNAMIC_LBD falls back to the failure depth
+cat $inputFileXCSP | parallel -j $nParallel --colsep ';' $launch_xcsp -f -varsel [DOMWDEG,2147483647] -lc 1 -restarts {2} -limit ${timeout} {1} >> $outFileXCSP
+# DIMACS: search declared by the parser, with signed clause learning
+cat $inputFileDIMACS | parallel -j $nParallel --colsep ';' $launch_dimacs -f -exp -restarts {2} -limit ${timeout} -lvl SILENT -csv {1} >> $outFileDIMACS
+# delete the temporary files
+echo "experiments have been run"
+rm -f $inputFileXCSP $inputFileDIMACS
@@ -0,0 +1,526 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.lp;
+
+import java.util.Arrays;
+
+/**
+ * A sparse LU factorization of the basis matrix of a {@link SparseLinearProgram},
+ * with product-form updates.
+ * <p>
+ * The basis is factorized by Gaussian elimination, the pivots being selected with Markowitz' criterion
+ * among the sparsest columns of the active submatrix, with a threshold to preserve stability.
+ * The elimination produces a sequence of column etas (the L part)
+ * and an upper triangular matrix, in pivot order (the U part).
+ * <p>
+ * Each basis change is recorded as an additional eta (product form of the inverse),
+ * until the basis is factorized again.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+final class LUFactorization {
+
+    /**
+     * Below this absolute value, a pivot is considered as null
+     */
+    private static final double SINGULAR = 1e-11;
+    /**
+     * Relative threshold to select a pivot
+     */
+    private static final double THRESHOLD = 0.01;
+    /**
+     * Below this absolute value, an entry is dropped
+     */
+    private static final double DROP = 1e-14;
+    /**
+     * Number of columns examined in the search of a pivot
+     */
+    private static final int SEARCH = 4;
+
+    private final int m;
+
+    // L etas: pivot row and entries
+    private int nL;
+    private int[] lPivot;
+    private int[] lStart;
+    private int[] lIdx;
+    private double[] lVal;
+
+    // U columns, in pivot order: pivot row, basis position, diagonal and off-diagonal entries
+    private final int[] uPivot;
+    private final int[] uPos;
+    private final double[] uDiag;
+    private final int[] uStart;
+    private int[] uIdx;
+    private double[] uVal;
+
+    // update etas: basis position, pivot and entries
+    private int nE;
+    private int[] ePos;
+    private double[] ePivot;
+    private int[] eStart;
+    private int[] eIdx;
+    private double[] eVal;
+
+    // active submatrix: entries by columns (basis positions), patterns by rows
+    private final int[][] cIdx;
+    private final double[][] cVal;
+    private final int[] cCnt;
+    private final int[][] rPat;
+    private final int[] rCnt;
+    // columns bucketed by number of entries
+    private final int[] bHead;
+    private final int[] bNext;
+    private final int[] bPrev;
+    private final int[] bCnt;
+    // U entries, as they are produced: basis position, row and value
+    private int nT;
+    private int[] tPos = new int[64];
+    private int[] tRow = new int[64];
+    private double[] tVal = new double[64];
+    // working structures
+    private final int[] slot;
+    private final int[] stepOf;
+    private final int[] rowPivot;
+
+    /**
+     * @param m number of rows of the basis
+     */
+    LUFactorization(int m) {
+        this.m = m;
+        this.lPivot = new int[16];
+        this.lStart = new int[17];
+        this.lIdx = new int[64];
+        this.lVal = new double[64];
+        this.uPivot = new int[m];
+        this.uPos = new int[m];
+        this.uDiag = new double[m];
+        this.uStart = new int[m + 1];
+        this.uIdx = new int[64];
+        this.uVal = new double[64];
+        this.ePos = new int[16];
+        this.ePivot = new double[16];
+        this.eStart = new int[17];
+        this.eIdx = new int[64];
+        this.eVal = new double[64];
+        this.cIdx = new int[m][];
+        this.cVal = new double[m][];
+        this.cCnt = new int[m];
+        this.rPat = new int[m][];
+        this.rCnt = new int[m];
+        this.bHead = new int[m + 1];
+        this.bNext = new int[m];
+        this.bPrev = new int[m];
+        this.bCnt = new int[m];
+        this.slot = new int[m];
+        Arrays.fill(slot, -1);
+        this.stepOf = new int[m];
+        this.rowPivot = new int[m];
+    }
+
+    /**
+     * @return the number of rows of the basis
+     */
+    int size() {
+        return m;
+    }
+
+    /**
+     * @return the number of updates since the last factorization
+     */
+    int updates() {
+        return nE;
+    }
+
+    /**
+     * Factorize the basis whose <i>k</i>th column is the column <i>head[k]</i>
+     * of the matrix <i>(A | -I)</i>, <i>A</i> being given in compressed sparse columns.
+     *
+     * @param head     basic columns, by basis position
+     * @param n        number of structural columns of <i>A</i>
+     * @param colStart start of each column of <i>A</i> in <i>rowIdx</i> and <i>vals</i>
+     * @param rowIdx   row indices of the nonzeros of <i>A</i>
+     * @param vals     values of the nonzeros of <i>A</i>
+     * @param singular an array of size <i>2m</i>, filled, if the basis is singular, with the <i>s</i>
+     *                 basis positions of the columns that could not be pivoted, followed by the <i>s</i> rows left
+     *                 without pivot
+     * @return <i>s</i>, the number of basis positions that could not be pivoted, 0 if the basis is not singular.
+     * In the latter case, the factorization is not usable.
+     */
+    int factorize(int[] head, int n, int[] colStart, int[] rowIdx, double[] vals, int[] singular) {
+        nL = 0;
+        lStart[0] = 0;
+        nE = 0;
+        eStart[0] = 0;
+        Arrays.fill(rowPivot, -1);
+        Arrays.fill(bHead, -1);
+        Arrays.fill(rCnt, 0);
+        nT = 0;
+        // load the active submatrix
+        for (int k = 0; k < m; k++) {
+            int j = head[k];
+            cCnt[k] = 0;
+            if (j >= n) {
+                addEntry(k, j - n, -1.);
+            } else {
+                for (int p = colStart[j]; p < colStart[j + 1]; p++) {
+                    addEntry(k, rowIdx[p], vals[p]);
+                }
+            }
+            link(k);
+        }
+        int nbSingular = 0;
+        int nU = 0;
+        while (nU + nbSingular < m) {
+            // select the pivot: Markowitz search over the sparsest columns, with threshold
+            int pc = -1;
+            int pt = -1;
+            long best = Long.MAX_VALUE;
+            int examined = 0;
+            for (int c = 0; c <= m && examined < SEARCH && best > 0; c++) {
+                for (int k = bHead[c], next; k >= 0 && examined < SEARCH && best > 0; k = next) {
+                    next = bNext[k];
+                    double max = 0.;
+                    for (int t = 0; t < c; t++) {
+                        max = Math.max(max, Math.abs(cVal[k][t]));
+                    }
+                    if (max < SINGULAR) {
+                        unlink(k);
+                        for (int t = 0; t < c; t++) {
+                            removeFromRow(cIdx[k][t], k);
+                        }
+                        singular[nbSingular++] = k;
+                        continue;
+                    }
+                    for (int t = 0; t < c; t++) {
+                        double v = Math.abs(cVal[k][t]);
+                        if (v >= THRESHOLD * max) {
+                            long mk = (long) (rCnt[cIdx[k][t]] - 1) * (c - 1);
+                            if (mk < best || mk == best && v > Math.abs(cVal[pc][pt])) {
+                                best = mk;
+                                pc = k;
+                                pt = t;
+                            }
+                        }
+                    }
+                    examined++;
+                }
+            }
+            if (pc == -1) {
+                // only singular columns were left
+                continue;
+            }
+            int piv = cIdx[pc][pt];
+            double diag = cVal[pc][pt];
+            unlink(pc);
+            // the L eta: the pivot column, scaled
+            int ql = lStart[nL];
+            int cnt = cCnt[pc];
+            ensureL(nL + 1, ql + cnt);
+            for (int t = 0; t < cnt; t++) {
+                int i = cIdx[pc][t];
+                removeFromRow(i, pc);
+                if (i != piv) {
+                    lIdx[ql] = i;
+                    lVal[ql++] = cVal[pc][t] / diag;
+                }
+            }
+            int from = lStart[nL];
+            if (ql > from) {
+                lPivot[nL] = piv;
+                lStart[++nL] = ql;
+            }
+            // the U row: the pivot row, eliminated from the other columns
+            int[] pat = rPat[piv];
+            for (int r = 0; r < rCnt[piv]; r++) {
+                int k = pat[r];
+                double u = removeFromColumn(k, piv);
+                ensureT(nT + 1);
+                tPos[nT] = k;
+                tRow[nT] = piv;
+                tVal[nT++] = u;
+                if (ql > from) {
+                    eliminate(k, u, from, ql);
+                }
+                unlink(k);
+                link(k);
+            }
+            rCnt[piv] = 0;
+            uPivot[nU] = piv;
+            uPos[nU] = pc;
+            uDiag[nU] = diag;
+            stepOf[pc] = nU;
+            rowPivot[piv] = nU++;
+        }
+        if (nbSingular > 0) {
+            // report the rows left without pivot, in place of the U part which is incomplete
+            int k = 0;
+            for (int i = 0; i < m; i++) {
+                if (rowPivot[i] < 0) {
+                    singular[nbSingular + k++] = i;
+                }
+            }
+            assert k == nbSingular;
+            return nbSingular;
+        }
+        // store U by columns, in pivot order
+        Arrays.fill(uStart, 0);
+        for (int t = 0; t < nT; t++) {
+            uStart[stepOf[tPos[t]] + 1]++;
+        }
+        for (int k = 0; k < m; k++) {
+            uStart[k + 1] += uStart[k];
+        }
+        ensureU(nT);
+        for (int k = 0; k < m; k++) {
+            cCnt[k] = uStart[k];
+        }
+        for (int t = 0; t < nT; t++) {
+            int p = cCnt[stepOf[tPos[t]]]++;
+            uIdx[p] = tRow[t];
+            uVal[p] = tVal[t];
+        }
+        return 0;
+    }
+
+    /**
+     * Subtract <i>u</i> times the pivot column, stored as the L eta in <i>[from, to)</i>, from the column <i>k</i>.
+     */
+    private void eliminate(int k, double u, int from, int to) {
+        int cnt = cCnt[k];
+        int[] idx = cIdx[k];
+        for (int t = 0; t < cnt; t++) {
+            slot[idx[t]] = t;
+        }
+        for (int p = from; p < to; p++) {
+            int i = lIdx[p];
+            double v = -lVal[p] * u;
+            int t = slot[i];
+            if (t >= 0) {
+                cVal[k][t] += v;
+            } else {
+                // fill-in
+                slot[i] = cCnt[k];
+                addEntry(k, i, v);
+                idx = cIdx[k];
+            }
+        }
+        for (int t = 0; t < cCnt[k]; t++) {
+            slot[idx[t]] = -1;
+        }
+    }
+
+    private void addEntry(int k, int i, double v) {
+        int c = cCnt[k];
+        if (cIdx[k] == null || cIdx[k].length == c) {
+            int size = cIdx[k] == null ? 4 : c << 1;
+            cIdx[k] = cIdx[k] == null ? new int[size] : Arrays.copyOf(cIdx[k], size);
+            cVal[k] = cVal[k] == null ? new double[size] : Arrays.copyOf(cVal[k], size);
+        }
+        cIdx[k][c] = i;
+        cVal[k][c] = v;
+        cCnt[k] = c + 1;
+        int r = rCnt[i];
+        if (rPat[i] == null || rPat[i].length == r) {
+            rPat[i] = rPat[i] == null ? new int[4] : Arrays.copyOf(rPat[i], r << 1);
+        }
+        rPat[i][r] = k;
+        rCnt[i] = r + 1;
+    }
+
+    private void removeFromRow(int i, int k) {
+        int[] pat = rPat[i];
+        int last = --rCnt[i];
+        for (int r = 0; r <= last; r++) {
+            if (pat[r] == k) {
+                pat[r] = pat[last];
+                return;
+            }
+        }
+    }
+
+    private double removeFromColumn(int k, int i) {
+        int last = --cCnt[k];
+        int[] idx = cIdx[k];
+        double[] val = cVal[k];
+        for (int t = 0; t <= last; t++) {
+            if (idx[t] == i) {
+                double v = val[t];
+                idx[t] = idx[last];
+                val[t] = val[last];
+                return v;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private void link(int k) {
+        int c = cCnt[k];
+        bPrev[k] = -1;
+        bNext[k] = bHead[c];
+        if (bHead[c] >= 0) {
+            bPrev[bHead[c]] = k;
+        }
+        bHead[c] = k;
+        bCnt[k] = c;
+    }
+
+    private void unlink(int k) {
+        if (bPrev[k] >= 0) {
+            bNext[bPrev[k]] = bNext[k];
+        } else {
+            bHead[bCnt[k]] = bNext[k];
+        }
+        if (bNext[k] >= 0) {
+            bPrev[bNext[k]] = bPrev[k];
+        }
+    }
+
+    private void ensureL(int etas, int entries) {
+        if (lPivot.length < etas) {
+            lPivot = Arrays.copyOf(lPivot, Math.max(etas, lPivot.length << 1));
+            lStart = Arrays.copyOf(lStart, lPivot.length + 1);
+        }
+        if (lIdx.length < entries) {
+            lIdx = Arrays.copyOf(lIdx, Math.max(entries, lIdx.length << 1));
+            lVal = Arrays.copyOf(lVal, lIdx.length);
+        }
+    }
+
+    private void ensureU(int entries) {
+        if (uIdx.length < entries) {
+            uIdx = Arrays.copyOf(uIdx, Math.max(entries, uIdx.length << 1));
+            uVal = Arrays.copyOf(uVal, uIdx.length);
+        }
+    }
+
+    private void ensureT(int entries) {
+        if (tPos.length < entries) {
+            int c = Math.max(entries, tPos.length << 1);
+            tPos = Arrays.copyOf(tPos, c);
+            tRow = Arrays.copyOf(tRow, c);
+            tVal = Arrays.copyOf(tVal, c);
+        }
+    }
+
+    private void ensureE(int etas, int entries) {
+        if (ePos.length < etas) {
+            ePos = Arrays.copyOf(ePos, Math.max(etas, ePos.length << 1));
+            ePivot = Arrays.copyOf(ePivot, ePos.length);
+            eStart = Arrays.copyOf(eStart, ePos.length + 1);
+        }
+        if (eIdx.length < entries) {
+            eIdx = Arrays.copyOf(eIdx, Math.max(entries, eIdx.length << 1));
+            eVal = Arrays.copyOf(eVal, eIdx.length);
+        }
+    }
+
+    /**
+     * Solve <i>B x = a</i>.
+     *
+     * @param a a dense vector indexed by rows, erased on return
+     * @param x the solution, a dense vector indexed by basis positions
+     */
+    void ftran(double[] a, double[] x) {
+        for (int e = 0; e < nL; e++) {
+            double v = a[lPivot[e]];
+            if (v != 0.) {
+                for (int p = lStart[e]; p < lStart[e + 1]; p++) {
+                    a[lIdx[p]] -= lVal[p] * v;
+                }
+            }
+        }
+        for (int k = m - 1; k >= 0; k--) {
+            int piv = uPivot[k];
+            double z = a[piv];
+            a[piv] = 0.;
+            if (z != 0.) {
+                z /= uDiag[k];
+                for (int p = uStart[k]; p < uStart[k + 1]; p++) {
+                    a[uIdx[p]] -= uVal[p] * z;
+                }
+            }
+            x[uPos[k]] = z;
+        }
+        for (int e = 0; e < nE; e++) {
+            int r = ePos[e];
+            double xr = x[r];
+            if (xr != 0.) {
+                xr /= ePivot[e];
+                x[r] = xr;
+                for (int p = eStart[e]; p < eStart[e + 1]; p++) {
+                    x[eIdx[p]] -= eVal[p] * xr;
+                }
+            }
+        }
+    }
+
+    /**
+     * Solve <i>y<sup>T</sup> B = c<sup>T</sup></i>.
+     *
+     * @param c a dense vector indexed by basis positions, erased on return
+     * @param y the solution, a dense vector indexed by rows
+     */
+    void btran(double[] c, double[] y) {
+        for (int e = nE - 1; e >= 0; e--) {
+            int r = ePos[e];
+            double s = c[r];
+            for (int p = eStart[e]; p < eStart[e + 1]; p++) {
+                s -= eVal[p] * c[eIdx[p]];
+            }
+            c[r] = s / ePivot[e];
+        }
+        for (int k = 0; k < m; k++) {
+            int pos = uPos[k];
+            double s = c[pos];
+            c[pos] = 0.;
+            for (int p = uStart[k]; p < uStart[k + 1]; p++) {
+                s -= uVal[p] * y[uIdx[p]];
+            }
+            y[uPivot[k]] = s / uDiag[k];
+        }
+        for (int e = nL - 1; e >= 0; e--) {
+            double s = 0.;
+            for (int p = lStart[e]; p < lStart[e + 1]; p++) {
+                s += lVal[p] * y[lIdx[p]];
+            }
+            y[lPivot[e]] -= s;
+        }
+    }
+
+    /**
+     * Record the replacement of the basic column at position <i>r</i>.
+     *
+     * @param r   basis position of the leaving column
+     * @param col the entering column, expressed in the current basis (that is, after {@link #ftran})
+     */
+    void update(int r, double[] col) {
+        int q = eStart[nE];
+        ensureE(nE + 1, q + m);
+        for (int i = 0; i < m; i++) {
+            if (i != r && Math.abs(col[i]) >= DROP) {
+                eIdx[q] = i;
+                eVal[q++] = col[i];
+            }
+        }
+        ePos[nE] = r;
+        ePivot[nE] = col[r];
+        eStart[++nE] = q;
+    }
+
+    /**
+     * @return an estimation of the number of nonzeros of the factorization and its updates
+     */
+    int nonzeros() {
+        return lStart[nL] + uStart[m] + m + eStart[nE];
+    }
+}
@@ -0,0 +1,1119 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.lp;
+
+import org.chocosolver.lp.LinearProgram.Status;
+import org.chocosolver.util.sort.ArraySort;
+import org.chocosolver.util.sort.IntComparator;
+
+import java.util.Arrays;
+
+/**
+ * <p>A sparse linear program, equipped with a revised Simplex method over bounded variables.</p>
+ * <p>Contrary to {@link LinearProgram}, which relies on a dense tableau rebuilt on each resolution,
+ * the constraint matrix is stored in sparse form and only the basis is factorized
+ * (see {@link LUFactorization}).
+ * The basis is kept from one resolution to the other, so that the linear program can be re-solved
+ * cheaply after small modifications:
+ * after a change of bounds, the previous basis remains dual feasible and the dual Simplex is applied,
+ * after a change of objective, the previous basis remains primal feasible and the primal Simplex is applied.
+ * The dual Simplex selects the leaving variable with Devex weights and applies a bound flipping ratio test.
+ * </p>
+ * <p>A linear program is declared by adding variables, with their bounds, then rows, with their bounds,
+ * and an objective function. Bounds may be infinite.
+ * <pre> {@code
+ *  SparseLinearProgram lp = new SparseLinearProgram();
+ *  int x = lp.makeVariable(0, Double.POSITIVE_INFINITY);
+ *  int y = lp.makeVariable(0, 10);
+ *  lp.addLeq(new int[]{x, y}, new double[]{4, 3}, 36);
+ *  lp.addLeq(new int[]{x, y}, new double[]{2, 3}, 48);
+ *  lp.setObjective(true, new int[]{x, y}, new double[]{5, 7});
+ *  lp.simplex();
+ *  lp.setBounds(y, 0, 5);
+ *  lp.simplex(); // warm start
+ *  }</pre>
+ * </p>
+ * Internally, each row <i>i</i> is given a logical variable <i>r<sub>i</sub> = a<sub>i</sub>x</i>
+ * bounded by the bounds of the row, and the objective function is minimized.
+ * <p>
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class SparseLinearProgram {
+
+    private static final int BASIC = 0;
+    private static final int AT_LB = 1;
+    private static final int AT_UB = 2;
+    private static final int FREE = 3;
+
+    /**
+     * Primal feasibility tolerance
+     */
+    private static final double PRIMAL_TOL = 1e-7;
+    /**
+     * Dual feasibility tolerance
+     */
+    private static final double DUAL_TOL = 1e-7;
+    /**
+     * Smallest pivot accepted in ratio tests
+     */
+    private static final double PIVOT_TOL = 1e-9;
+    /**
+     * Number of updates before factorizing the basis again
+     */
+    private static final int REFACTOR = 64;
+    /**
+     * Number of consecutive degenerate iterations before switching to Bland's rule
+     */
+    private static final int DEGENERATE = 50;
+
+    // number of structural variables
+    private int n;
+    // number of rows
+    private int m;
+    // rows, in compressed sparse rows
+    private int[] rowStart = new int[1];
+    private int[] rowCol = new int[16];
+    private double[] rowVal = new double[16];
+    // columns, in compressed sparse columns, built from the rows when needed
+    private int[] colStart;
+    private int[] colRow;
+    private double[] colVal;
+    private boolean dirty = true;
+    // position of each variable in the row being added, -1 if absent
+    private int[] slot = new int[0];
+    // bounds of the structural variables (first n) and of the rows (next m)
+    private double[] lo = new double[16];
+    private double[] up = new double[16];
+    // objective function, structural variables only, to minimize
+    private double[] cost = new double[16];
+    private boolean maximize;
+
+    // the basis
+    private int[] head;
+    private int[] state;
+    private double[] x;
+    private double[] d;
+    private boolean hasBasis;
+    private LUFactorization lu;
+    // set to true once lu holds the factors of the current basis, which survive a change of bounds
+    private boolean factored;
+
+    // working arrays
+    private double[] col;
+    private double[] row;
+    private double[] alpha;
+    private double[] y;
+    private double[] cB;
+    private int[] singular;
+    private double[] weight;
+    private int[] candidates;
+    private double[] ratio;
+    private ArraySort<Object> sorter;
+    private final IntComparator byRatio = (i, j) -> Double.compare(ratio[i], ratio[j]);
+
+    private Status status = Status.UNKNOWN;
+    private double z;
+    private long maxIterations = -1;
+    private long iterations;
+    private long totalIterations;
+    private int degenerate;
+
+    /**
+     * Create an empty sparse linear program.
+     */
+    public SparseLinearProgram() {
+    }
+
+    /**
+     * Declare a new variable.
+     *
+     * @param lb lower bound of the variable, may be {@link Double#NEGATIVE_INFINITY}
+     * @param ub upper bound of the variable, may be {@link Double#POSITIVE_INFINITY}
+     * @return the index of the variable
+     */
+    public int makeVariable(double lb, double ub) {
+        checkBounds(lb, ub);
+        ensureVars(n + m + 1);
+        if (m > 0) {
+            // shift the bounds of the rows
+            System.arraycopy(lo, n, lo, n + 1, m);
+            System.arraycopy(up, n, up, n + 1, m);
+            if (hasBasis) {
+                System.arraycopy(state, n, state, n + 1, m);
+                System.arraycopy(x, n, x, n + 1, m);
+                for (int i = 0; i < m; i++) {
+                    if (head[i] >= n) {
+                        head[i]++;
+                    }
+                }
+            }
+        }
+        lo[n] = lb;
+        up[n] = ub;
+        cost[n] = 0.;
+        if (hasBasis) {
+            state[n] = initialState(n);
+            x[n] = nonbasicValue(n);
+        }
+        dirty = true;
+        return n++;
+    }
+
+    /**
+     * Declare <i>k</i> new variables with the same bounds
+     *
+     * @param k  number of variables
+     * @param lb lower bound of the variables
+     * @param ub upper bound of the variables
+     * @return the index of the first variable
+     */
+    public int makeVariables(int k, double lb, double ub) {
+        int first = n;
+        for (int i = 0; i < k; i++) {
+            makeVariable(lb, ub);
+        }
+        return first;
+    }
+
+    /**
+     * Add the row <i>lb &le; &Sigma; coeffs[k].x[vars[k]] &le; ub</i>.
+     *
+     * @param vars   indices of the variables
+     * @param coeffs coefficients of the variables
+     * @param lb     lower bound of the row, may be {@link Double#NEGATIVE_INFINITY}
+     * @param ub     upper bound of the row, may be {@link Double#POSITIVE_INFINITY}
+     * @return the index of the row
+     */
+    public int addRow(int[] vars, double[] coeffs, double lb, double ub) {
+        if (vars.length != coeffs.length) {
+            throw new IllegalArgumentException("Variables and coefficients differ in size");
+        }
+        checkBounds(lb, ub);
+        int from = rowStart[m];
+        if (rowCol.length < from + vars.length) {
+            rowCol = Arrays.copyOf(rowCol, Math.max(from + vars.length, rowCol.length << 1));
+            rowVal = Arrays.copyOf(rowVal, rowCol.length);
+        }
+        if (slot.length < n) {
+            slot = new int[Math.max(n, slot.length << 1)];
+            Arrays.fill(slot, -1);
+        }
+        int k = from;
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] < 0 || vars[i] >= n) {
+                throw new IllegalArgumentException("Unknown variable " + vars[i]);
+            }
+            if (slot[vars[i]] >= 0) {
+                // the variable already appears in the row
+                rowVal[slot[vars[i]]] += coeffs[i];
+            } else {
+                slot[vars[i]] = k;
+                rowCol[k] = vars[i];
+                rowVal[k++] = coeffs[i];
+            }
+        }
+        // release the slots and remove null coefficients
+        int e = from;
+        for (int p = from; p < k; p++) {
+            slot[rowCol[p]] = -1;
+            if (rowVal[p] != 0.) {
+                rowCol[e] = rowCol[p];
+                rowVal[e++] = rowVal[p];
+            }
+        }
+        k = e;
+        if (rowStart.length < m + 2) {
+            rowStart = Arrays.copyOf(rowStart, (m + 2) << 1);
+        }
+        rowStart[m + 1] = k;
+        ensureVars(n + m + 1);
+        lo[n + m] = lb;
+        up[n + m] = ub;
+        if (hasBasis) {
+            // the logical variable of the new row is basic
+            head = Arrays.copyOf(head, m + 1);
+            head[m] = n + m;
+            state[n + m] = BASIC;
+            lu = null;
+        }
+        dirty = true;
+        return m++;
+    }
+
+    /**
+     * Add the row <i>&Sigma; coeffs[k].x[vars[k]] &le; b</i>.
+     *
+     * @return the index of the row
+     */
+    public int addLeq(int[] vars, double[] coeffs, double b) {
+        return addRow(vars, coeffs, Double.NEGATIVE_INFINITY, b);
+    }
+
+    /**
+     * Add the row <i>&Sigma; coeffs[k].x[vars[k]] &ge; b</i>.
+     *
+     * @return the index of the row
+     */
+    public int addGeq(int[] vars, double[] coeffs, double b) {
+        return addRow(vars, coeffs, b, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Add the row <i>&Sigma; coeffs[k].x[vars[k]] = b</i>.
+     *
+     * @return the index of the row
+     */
+    public int addEq(int[] vars, double[] coeffs, double b) {
+        return addRow(vars, coeffs, b, b);
+    }
+
+    /**
+     * Set the objective function to optimize.
+     * Variables not mentioned have a null coefficient.
+     *
+     * @param maximize set to <i>true</i> for maximization, <i>false</i> otherwise
+     * @param vars     indices of the variables
+     * @param coeffs   coefficients of the variables
+     */
+    public void setObjective(boolean maximize, int[] vars, double[] coeffs) {
+        this.maximize = maximize;
+        Arrays.fill(cost, 0, n, 0.);
+        for (int i = 0; i < vars.length; i++) {
+            cost[vars[i]] += maximize ? -coeffs[i] : coeffs[i];
+        }
+    }
+
+    /**
+     * Set the objective function to optimize
+     *
+     * @param maximize set to <i>true</i> for maximization, <i>false</i> otherwise
+     * @param coeffs   coefficients of the objective function, one per variable
+     */
+    public void setObjective(boolean maximize, double[] coeffs) {
+        if (coeffs.length != n) {
+            throw new IllegalArgumentException("" +
+                    "The number of coefficients in the objective function differs from " +
+                    "the number of variables declared.");
+        }
+        this.maximize = maximize;
+        for (int i = 0; i < n; i++) {
+            cost[i] = maximize ? -coeffs[i] : coeffs[i];
+        }
+    }
+
+    /**
+     * Modify the bounds of a variable.
+     * The current basis is kept, the next resolution starts from it.
+     *
+     * @param var index of the variable
+     * @param lb  new lower bound
+     * @param ub  new upper bound
+     */
+    public void setBounds(int var, double lb, double ub) {
+        checkBounds(lb, ub);
+        setBounds0(var, lb, ub);
+    }
+
+    /**
+     * Modify the bounds of a row.
+     * The current basis is kept, the next resolution starts from it.
+     *
+     * @param r  index of the row
+     * @param lb new lower bound
+     * @param ub new upper bound
+     */
+    public void setRowBounds(int r, double lb, double ub) {
+        checkBounds(lb, ub);
+        setBounds0(n + r, lb, ub);
+    }
+
+    private void setBounds0(int j, double lb, double ub) {
+        lo[j] = lb;
+        up[j] = ub;
+        if (hasBasis && state[j] != BASIC) {
+            if (state[j] == AT_LB && lb == Double.NEGATIVE_INFINITY
+                    || state[j] == AT_UB && ub == Double.POSITIVE_INFINITY
+                    || state[j] == FREE && (lb > Double.NEGATIVE_INFINITY || ub < Double.POSITIVE_INFINITY)) {
+                state[j] = initialState(j);
+            }
+            x[j] = nonbasicValue(j);
+        }
+    }
+
+    private static void checkBounds(double lb, double ub) {
+        if (lb > ub || lb == Double.POSITIVE_INFINITY || ub == Double.NEGATIVE_INFINITY
+                || Double.isNaN(lb) || Double.isNaN(ub)) {
+            throw new IllegalArgumentException("Invalid bounds [" + lb + ", " + ub + "]");
+        }
+    }
+
+    /**
+     * Limit the number of iterations of each resolution.
+     *
+     * @param limit maximum number of iterations, a negative value means no limit
+     */
+    public void setMaxIterations(long limit) {
+        this.maxIterations = limit;
+    }
+
+    /**
+     * Forget the current basis: the next resolution starts from scratch.
+     */
+    public void resetBasis() {
+        hasBasis = false;
+        lu = null;
+    }
+
+    private void ensureVars(int size) {
+        if (lo.length < size) {
+            int c = Math.max(size, lo.length << 1);
+            lo = Arrays.copyOf(lo, c);
+            up = Arrays.copyOf(up, c);
+            cost = Arrays.copyOf(cost, c);
+            if (hasBasis) {
+                state = Arrays.copyOf(state, c);
+                x = Arrays.copyOf(x, c);
+            }
+        }
+    }
+
+    private void buildColumns() {
+        int nnz = rowStart[m];
+        colStart = new int[n + 1];
+        colRow = new int[nnz];
+        colVal = new double[nnz];
+        for (int k = 0; k < nnz; k++) {
+            colStart[rowCol[k] + 1]++;
+        }
+        for (int j = 0; j < n; j++) {
+            colStart[j + 1] += colStart[j];
+        }
+        int[] fill = Arrays.copyOf(colStart, n);
+        for (int i = 0; i < m; i++) {
+            for (int k = rowStart[i]; k < rowStart[i + 1]; k++) {
+                int p = fill[rowCol[k]]++;
+                colRow[p] = i;
+                colVal[p] = rowVal[k];
+            }
+        }
+        dirty = false;
+    }
+
+    //***********************************************************************************
+    // RESOLUTION
+    //***********************************************************************************
+
+    /**
+     * Apply the revised Simplex algorithm on this linear program,
+     * starting from the basis of the previous resolution if any.
+     * <p>If the problem is feasible and bounded, the optimal solution is computed and values of the variables
+     * can be read calling {@link #value(int)}.
+     * </p>
+     *
+     * @return the resolution status, {@link Status#UNKNOWN} if the iteration limit is reached
+     */
+    public Status simplex() {
+        iterations = 0;
+        degenerate = 0;
+        if (dirty) {
+            buildColumns();
+            factored = false;
+        }
+        if (!hasBasis) {
+            initBasis();
+        }
+        allocate();
+        if (!factored) {
+            refactor();
+        }
+        computePrimal();
+        computeDuals(cost);
+        if (isDualFeasible()) {
+            status = dual();
+            if (status == Status.FEASIBLE) {
+                computeDuals(cost);
+                if (!isDualFeasible()) {
+                    status = primal();
+                }
+            }
+        } else {
+            status = primal();
+        }
+        totalIterations += iterations;
+        if (status == Status.FEASIBLE) {
+            z = 0.;
+            for (int j = 0; j < n; j++) {
+                z += cost[j] * x[j];
+            }
+            if (maximize) {
+                z = -z;
+            }
+        }
+        return status;
+    }
+
+    private void initBasis() {
+        int size = Math.max(lo.length, n + m);
+        head = new int[m];
+        state = new int[size];
+        x = new double[size];
+        for (int j = 0; j < n; j++) {
+            state[j] = initialState(j);
+            x[j] = nonbasicValue(j);
+        }
+        for (int i = 0; i < m; i++) {
+            head[i] = n + i;
+            state[n + i] = BASIC;
+        }
+        hasBasis = true;
+        lu = null;
+    }
+
+    private void allocate() {
+        if (lu == null || lu.size() != m) {
+            lu = new LUFactorization(m);
+            factored = false;
+            col = new double[m];
+            row = new double[m];
+            y = new double[m];
+            cB = new double[m];
+            singular = new int[2 * m];
+            weight = new double[m];
+        }
+        if (alpha == null || alpha.length < n + m) {
+            alpha = new double[n + m];
+            d = new double[n + m];
+            candidates = new int[n + m];
+            ratio = new double[n + m];
+            sorter = new ArraySort<>(n + m, false, true);
+        }
+    }
+
+    /**
+     * @return the state of the nonbasic variable <i>j</i> that makes its reduced cost feasible, if possible
+     */
+    private int initialState(int j) {
+        boolean finiteLB = lo[j] > Double.NEGATIVE_INFINITY;
+        boolean finiteUB = up[j] < Double.POSITIVE_INFINITY;
+        double c = j < n ? cost[j] : 0.;
+        if (c > 0. && finiteLB) {
+            return AT_LB;
+        } else if (c < 0. && finiteUB) {
+            return AT_UB;
+        } else if (finiteLB) {
+            return AT_LB;
+        } else if (finiteUB) {
+            return AT_UB;
+        }
+        return FREE;
+    }
+
+    private double nonbasicValue(int j) {
+        switch (state[j]) {
+            case AT_LB:
+                return lo[j];
+            case AT_UB:
+                return up[j];
+            default:
+                return 0.;
+        }
+    }
+
+    /**
+     * Factorize the basis, replacing the columns that make it singular by logical variables
+     */
+    private void refactor() {
+        int s = lu.factorize(head, n, colStart, colRow, colVal, singular);
+        while (s > 0) {
+            for (int k = 0; k < s; k++) {
+                int pos = singular[k];
+                int j = head[pos];
+                state[j] = initialState(j);
+                x[j] = nonbasicValue(j);
+                int r = singular[s + k];
+                head[pos] = n + r;
+                state[n + r] = BASIC;
+            }
+            s = lu.factorize(head, n, colStart, colRow, colVal, singular);
+        }
+        factored = true;
+    }
+
+    /**
+     * Compute the values of the basic variables from the values of the nonbasic ones.
+     */
+    private void computePrimal() {
+        Arrays.fill(row, 0.);
+        for (int j = 0; j < n; j++) {
+            if (state[j] != BASIC && x[j] != 0.) {
+                for (int p = colStart[j]; p < colStart[j + 1]; p++) {
+                    row[colRow[p]] -= colVal[p] * x[j];
+                }
+            }
+        }
+        for (int i = 0; i < m; i++) {
+            if (state[n + i] != BASIC) {
+                row[i] += x[n + i];
+            }
+        }
+        lu.ftran(row, col);
+        for (int i = 0; i < m; i++) {
+            x[head[i]] = col[i];
+        }
+    }
+
+    /**
+     * Compute the dual values and the reduced costs of the nonbasic variables.
+     *
+     * @param c costs of the basic variables, for structural variables
+     */
+    private void computeDuals(double[] c) {
+        for (int i = 0; i < m; i++) {
+            int j = head[i];
+            cB[i] = j < n ? c[j] : 0.;
+        }
+        lu.btran(cB, y);
+        pricing(c);
+    }
+
+    private void pricing(double[] c) {
+        for (int j = 0; j < n; j++) {
+            if (state[j] == BASIC) {
+                d[j] = 0.;
+            } else {
+                double s = c[j];
+                for (int p = colStart[j]; p < colStart[j + 1]; p++) {
+                    s -= y[colRow[p]] * colVal[p];
+                }
+                d[j] = s;
+            }
+        }
+        for (int i = 0; i < m; i++) {
+            d[n + i] = state[n + i] == BASIC ? 0. : y[i];
+        }
+    }
+
+    private boolean isFixed(int j) {
+        return lo[j] == up[j];
+    }
+
+    private boolean isDualFeasible() {
+        for (int j = 0; j < n + m; j++) {
+            if (dualInfeasibility(j) > DUAL_TOL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double dualInfeasibility(int j) {
+        if (isFixed(j)) {
+            return 0.;
+        }
+        switch (state[j]) {
+            case AT_LB:
+                return -d[j];
+            case AT_UB:
+                return d[j];
+            case FREE:
+                return Math.abs(d[j]);
+            default:
+                return 0.;
+        }
+    }
+
+    /**
+     * @return the violation of the bounds of <i>j</i>, negative when below its lower bound
+     */
+    private double primalInfeasibility(int j) {
+        if (x[j] < lo[j] - PRIMAL_TOL) {
+            return x[j] - lo[j];
+        } else if (x[j] > up[j] + PRIMAL_TOL) {
+            return x[j] - up[j];
+        }
+        return 0.;
+    }
+
+    /**
+     * Load the column of the variable <i>j</i> into <i>row</i> and express it in the current basis into <i>col</i>.
+     */
+    private void ftranColumn(int j) {
+        if (j < n) {
+            for (int p = colStart[j]; p < colStart[j + 1]; p++) {
+                row[colRow[p]] = colVal[p];
+            }
+        } else {
+            row[j - n] = -1.;
+        }
+        lu.ftran(row, col);
+    }
+
+    private double columnDot(int j, double[] v) {
+        if (j < n) {
+            double s = 0.;
+            for (int p = colStart[j]; p < colStart[j + 1]; p++) {
+                s += v[colRow[p]] * colVal[p];
+            }
+            return s;
+        }
+        return -v[j - n];
+    }
+
+    /**
+     * Replace the basic variable at position <i>r</i> by <i>q</i>, whose column is in <i>col</i>.
+     */
+    private void pivot(int r, int q) {
+        head[r] = q;
+        state[q] = BASIC;
+        if (lu.updates() >= REFACTOR || Math.abs(col[r]) < PIVOT_TOL) {
+            refactor();
+            computePrimal();
+        } else {
+            lu.update(r, col);
+        }
+    }
+
+    private boolean limitReached() {
+        return maxIterations >= 0 && iterations >= maxIterations;
+    }
+
+    /**
+     * The primal Simplex, phase 1 then phase 2.
+     * In phase 1, the sum of the infeasibilities of the basic variables is minimized.
+     */
+    private Status primal() {
+        double[] c1 = new double[n];
+        boolean phase1 = true;
+        while (true) {
+            if (limitReached()) {
+                return Status.UNKNOWN;
+            }
+            double[] c = cost;
+            if (phase1) {
+                boolean infeasible = false;
+                Arrays.fill(c1, 0.);
+                for (int i = 0; i < m; i++) {
+                    int j = head[i];
+                    double v = primalInfeasibility(j);
+                    if (v != 0.) {
+                        infeasible = true;
+                        if (j < n) {
+                            c1[j] = Math.signum(v);
+                        }
+                    }
+                }
+                if (!infeasible) {
+                    phase1 = false;
+                } else {
+                    // the cost of a logical variable is carried by the dual of its row
+                    for (int i = 0; i < m; i++) {
+                        int j = head[i];
+                        cB[i] = j < n ? c1[j] : Math.signum(primalInfeasibility(j));
+                    }
+                    lu.btran(cB, y);
+                    pricing(c1);
+                    c = null;
+                }
+            }
+            if (c != null) {
+                computeDuals(c);
+            }
+            // select the entering variable
+            boolean bland = degenerate > DEGENERATE;
+            int q = -1;
+            double best = 0.;
+            for (int j = 0; j < n + m; j++) {
+                if (state[j] != BASIC && !isFixed(j)) {
+                    double v = dualInfeasibility(j);
+                    if (v > DUAL_TOL && (q == -1 || !bland && v > best)) {
+                        q = j;
+                        best = v;
+                        if (bland) {
+                            break;
+                        }
+                    }
+                }
+            }
+            if (q == -1) {
+                if (phase1) {
+                    return Status.INFEASIBLE;
+                }
+                return Status.FEASIBLE;
+            }
+            iterations++;
+            double dir = d[q] < 0. ? 1. : -1.;
+            ftranColumn(q);
+            // ratio test
+            double t = up[q] - lo[q];
+            int r = -1;
+            double bound = 0.;
+            for (int i = 0; i < m; i++) {
+                double rate = -dir * col[i];
+                if (Math.abs(rate) < PIVOT_TOL) {
+                    continue;
+                }
+                int j = head[i];
+                double xi = x[j];
+                double ti;
+                double bi;
+                if (rate < 0.) {
+                    if (phase1 && xi < lo[j] - PRIMAL_TOL) {
+                        continue;
+                    }
+                    bi = phase1 && xi > up[j] + PRIMAL_TOL ? up[j] : lo[j];
+                    ti = (xi - bi) / -rate;
+                } else {
+                    if (phase1 && xi > up[j] + PRIMAL_TOL) {
+                        continue;
+                    }
+                    bi = phase1 && xi < lo[j] - PRIMAL_TOL ? lo[j] : up[j];
+                    ti = (bi - xi) / rate;
+                }
+                if (Double.isInfinite(bi)) {
+                    continue;
+                }
+                ti = Math.max(ti, 0.);
+                if (ti < t - 1e-12 || r >= 0 && ti <= t + 1e-12
+                        && (bland ? head[i] < head[r] : Math.abs(col[i]) > Math.abs(col[r]))) {
+                    t = ti;
+                    r = i;
+                    bound = bi;
+                }
+            }
+            if (Double.isInfinite(t)) {
+                return phase1 ? Status.UNKNOWN : Status.UNBOUNDED;
+            }
+            degenerate = t < 1e-12 ? degenerate + 1 : 0;
+            for (int i = 0; i < m; i++) {
+                x[head[i]] -= dir * col[i] * t;
+            }
+            x[q] += dir * t;
+            if (r == -1) {
+                // bound flip
+                state[q] = state[q] == AT_LB ? AT_UB : AT_LB;
+                x[q] = nonbasicValue(q);
+            } else {
+                int l = head[r];
+                x[l] = bound;
+                state[l] = bound == lo[l] ? AT_LB : AT_UB;
+                pivot(r, q);
+            }
+        }
+    }
+
+    /**
+     * The dual Simplex, assuming the current basis is dual feasible.
+     */
+    private Status dual() {
+        Arrays.fill(weight, 1.);
+        while (true) {
+            if (limitReached()) {
+                return Status.UNKNOWN;
+            }
+            // select the leaving variable, with Devex weights
+            int r = -1;
+            double best = 0.;
+            for (int i = 0; i < m; i++) {
+                double v = primalInfeasibility(head[i]);
+                if (v != 0. && v * v > best * weight[i]) {
+                    best = v * v / weight[i];
+                    r = i;
+                }
+            }
+            if (r == -1) {
+                return Status.FEASIBLE;
+            }
+            iterations++;
+            int l = head[r];
+            boolean toLB = x[l] < lo[l];
+            double s = toLB ? 1. : -1.;
+            // row r of the tableau
+            Arrays.fill(cB, 0.);
+            cB[r] = 1.;
+            lu.btran(cB, y);
+            computeRow();
+            int q = ratioTest(s, toLB ? lo[l] - x[l] : x[l] - up[l]);
+            if (q == -1) {
+                return Status.INFEASIBLE;
+            }
+            double thetaD = d[q] / alpha[q];
+            ftranColumn(q);
+            double ar = col[r];
+            for (int i = 0; i < m; i++) {
+                if (i != r && col[i] != 0.) {
+                    double ratio = col[i] / ar;
+                    weight[i] = Math.max(weight[i], ratio * ratio * weight[r]);
+                }
+            }
+            weight[r] = Math.max(weight[r] / (ar * ar), 1.);
+            double target = toLB ? lo[l] : up[l];
+            double thetaP = (x[l] - target) / col[r];
+            for (int i = 0; i < m; i++) {
+                x[head[i]] -= thetaP * col[i];
+            }
+            x[q] += thetaP;
+            x[l] = target;
+            state[l] = toLB ? AT_LB : AT_UB;
+            for (int j = 0; j < n + m; j++) {
+                if (alpha[j] != 0.) {
+                    d[j] -= thetaD * alpha[j];
+                }
+            }
+            d[q] = 0.;
+            d[l] = -thetaD;
+            int before = lu.updates();
+            pivot(r, q);
+            if (lu.updates() <= before) {
+                // the basis was factorized again
+                computeDuals(cost);
+            }
+            flipBounds();
+        }
+    }
+
+    /**
+     * Compute the row of the tableau into <i>alpha</i>, from the row of the inverse of the basis stored in <i>y</i>.
+     */
+    private void computeRow() {
+        Arrays.fill(alpha, 0, n + m, 0.);
+        for (int i = 0; i < m; i++) {
+            double yi = y[i];
+            if (yi != 0.) {
+                for (int k = rowStart[i]; k < rowStart[i + 1]; k++) {
+                    alpha[rowCol[k]] += yi * rowVal[k];
+                }
+                alpha[n + i] = -yi;
+            }
+        }
+        for (int j = 0; j < n + m; j++) {
+            if (state[j] == BASIC) {
+                alpha[j] = 0.;
+            }
+        }
+    }
+
+    /**
+     * The ratio test of the dual Simplex, with bound flipping and Harris' tolerances.
+     * Boxed variables whose reduced cost would change sign are passed over, and later moved to their other bound,
+     * as long as the primal infeasibility of the leaving variable is not compensated.
+     *
+     * @param s     direction of the leaving variable, 1 if it goes up to its lower bound, -1 otherwise
+     * @param slope primal infeasibility of the leaving variable
+     * @return the entering variable, or -1 if there is none
+     */
+    private int ratioTest(double s, double slope) {
+        int size = 0;
+        for (int j = 0; j < n + m; j++) {
+            if (alpha[j] != 0. && !isFixed(j) && eligible(j, s * alpha[j])) {
+                candidates[size++] = j;
+                ratio[j] = (Math.abs(d[j]) + DUAL_TOL) / Math.abs(alpha[j]);
+            }
+        }
+        sorter.sort(candidates, size, byRatio);
+        int k = 0;
+        while (k < size) {
+            // the variables that can enter at this step, while keeping the dual infeasibilities below the tolerance
+            double bound = ratio[candidates[k]];
+            int q = -1;
+            double decrease = 0.;
+            for (; k < size; k++) {
+                int j = candidates[k];
+                double a = Math.abs(alpha[j]);
+                if (Math.abs(d[j]) / a > bound) {
+                    break;
+                }
+                decrease += a * (up[j] - lo[j]);
+                if (q == -1 || a > Math.abs(alpha[q])) {
+                    q = j;
+                }
+            }
+            slope -= decrease;
+            if (slope < 0. || Double.isNaN(slope) || k == size) {
+                return q;
+            }
+            // otherwise, pass over them, they will be flipped
+        }
+        return -1;
+    }
+
+    private boolean eligible(int j, double sa) {
+        switch (state[j]) {
+            case AT_LB:
+                return sa < -PIVOT_TOL;
+            case AT_UB:
+                return sa > PIVOT_TOL;
+            case FREE:
+                return Math.abs(sa) > PIVOT_TOL;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Move the boxed nonbasic variables whose reduced cost has the wrong sign to their other bound,
+     * and update the basic variables accordingly.
+     */
+    private void flipBounds() {
+        boolean flipped = false;
+        for (int j = 0; j < n + m; j++) {
+            if (state[j] == AT_LB && d[j] < -DUAL_TOL && up[j] < Double.POSITIVE_INFINITY
+                    || state[j] == AT_UB && d[j] > DUAL_TOL && lo[j] > Double.NEGATIVE_INFINITY) {
+                state[j] = state[j] == AT_LB ? AT_UB : AT_LB;
+                flipped = true;
+            }
+        }
+        if (flipped) {
+            for (int j = 0; j < n + m; j++) {
+                if (state[j] != BASIC) {
+                    x[j] = nonbasicValue(j);
+                }
+            }
+            computePrimal();
+        }
+    }
+
+    //***********************************************************************************
+    // ACCESSORS
+    //***********************************************************************************
+
+    /**
+     * @return the number of variables
+     */
+    public int getNbVariables() {
+        return n;
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int getNbRows() {
+        return m;
+    }
+
+    /**
+     * @return the number of nonzeros of the constraint matrix
+     */
+    public int getNbNonzeros() {
+        return rowStart[m];
+    }
+
+    /**
+     * @return the status of the last resolution
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return <i>true</i> if the last resolution computed the (optimal) solution.
+     */
+    public boolean isFeasible() {
+        return status == Status.FEASIBLE;
+    }
+
+    /**
+     * @return the number of iterations of the last resolution
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return the number of iterations since the creation of this linear program
+     */
+    public long getTotalIterations() {
+        return totalIterations;
+    }
+
+    /**
+     * @param j index of a variable
+     * @return the lower bound of the variable
+     */
+    public double getLB(int j) {
+        return lo[j];
+    }
+
+    /**
+     * @param j index of a variable
+     * @return the upper bound of the variable
+     */
+    public double getUB(int j) {
+        return up[j];
+    }
+
+    /**
+     * Return the value of the <i>j</i>th variable in the last solution found.
+     *
+     * @param j index of the variable.
+     * @return the value assigned the <i>j</i>th variable, {@link Double#NaN} if no solution is known.
+     */
+    public double value(int j) {
+        return isFeasible() ? x[j] : Double.NaN;
+    }
+
+    /**
+     * @param r index of a row
+     * @return the activity of the row in the last solution found, {@link Double#NaN} if no solution is known.
+     */
+    public double activity(int r) {
+        return isFeasible() ? x[n + r] : Double.NaN;
+    }
+
+    /**
+     * Return the reduced cost of the <i>j</i>th variable in the last solution found,
+     * that is, the rate at which the objective function changes when the variable moves away from its bound.
+     *
+     * @param j index of the variable.
+     * @return the reduced cost of the variable, with respect to the direction of optimization
+     */
+    public double reducedCost(int j) {
+        if (!isFeasible()) {
+            return Double.NaN;
+        }
+        return maximize ? -d[j] : d[j];
+    }
+
+    /**
+     * @param r index of a row
+     * @return the dual value of the row in the last solution found, with respect to the direction of optimization
+     */
+    public double dual(int r) {
+        if (!isFeasible()) {
+            return Double.NaN;
+        }
+        return maximize ? -y[r] : y[r];
+    }
+
+    /**
+     * @param j index of a variable
+     * @return <i>true</i> if the variable is basic in the last solution found
+     */
+    public boolean isBasic(int j) {
+        return hasBasis && state[j] == BASIC;
+    }
+
+    /**
+     * Return the value of the objective function in the last solution found.
+     *
+     * @return the value of the objective function, {@link Double#NaN} if no solution is known.
+     */
+    public double objective() {
+        return isFeasible() ? z : Double.NaN;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SparseLinearProgram{%d variables, %d rows, %d nonzeros, %s}",
+                n, m, getNbNonzeros(), status);
+    }
+}
@@ -20,6 +20,11 @@ public abstract class AbstractEnvironment implements IEnvironment {
 
     private static final int SIZE = 128;
 
+    /**
+     * Minimum size for a bitset to be compressed
+     */
+    private static final int COMPRESSED_BITSET_SIZE = 1 << 16;
+
     protected int timestamp;
 
     /**
@@ -42,7 +47,8 @@ public abstract class AbstractEnvironment implements IEnvironment {
     }
 
     /**
-     * Factory pattern: new IStateBitSet objects are created by the environment
+     * Factory pattern: new IStateBitSet objects are created by the environment.
+     * Bitsets of at least 2<sup>16</sup> bits are compressed (see {@link RoaringBitSet}).
      *
      * @param size initial size of the IStateBitSet
      * @return IStateBitSet
@@ -53,6 +59,8 @@ public abstract class AbstractEnvironment implements IEnvironment {
             return new OneWordS32BitSet(this);
         } else if (size < 64) {
             return new OneWordS64BitSet(this);
+        } else if (size >= COMPRESSED_BITSET_SIZE) {
+            return new RoaringBitSet(this, size);
         } else {
             return new S64BitSet(this, size);
         }
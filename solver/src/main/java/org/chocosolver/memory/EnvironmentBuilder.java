@@ -40,6 +40,11 @@ public class EnvironmentBuilder {
      */
     private double loadfactor = EnvironmentTrailing.LOADFACTOR;
 
+    /**
+     * The number of world pops between two checks for shrinking the trails.
+     */
+    private int shrinkPeriod = EnvironmentTrailing.SHRINK_PERIOD;
+
     /**
      * Trail to consider to manage doubles
      */
@@ -93,6 +98,16 @@ public class EnvironmentBuilder {
         return this;
     }
 
+    /**
+     * The number of world pops between two checks for shrinking the trails after a deep excursion.
+     * @param period number of world pops, 0 to disable shrinking
+     * @return {@code this}
+     */
+    public EnvironmentBuilder setShrinkPeriod(int period){
+        shrinkPeriod = period;
+        return this;
+    }
+
 
     /**
      * Set the int trail.
@@ -175,6 +190,7 @@ public class EnvironmentBuilder {
         env.setDoubleTrail(dt);
         env.setOperationTrail(ot);
         env.setLongTrail(lt);
+        env.setShrinkPeriod(shrinkPeriod);
         return env;
     }
 
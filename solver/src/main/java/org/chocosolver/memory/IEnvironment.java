@@ -175,4 +175,35 @@ public interface IEnvironment  {
      * @return the timestamp
      */
     int getTimeStamp();
+
+    /**
+     * Returns an estimation of the memory retained by the trails of this environment.
+     * This is cheap to compute and can be called during search.
+     *
+     * @return the estimated size in bytes of the trails
+     */
+    default long getEstimatedMemory() {
+        return 0L;
+    }
+
+    /**
+     * @return the number of entries the trails of this environment can store without growing
+     */
+    default long getTrailCapacity() {
+        return 0L;
+    }
+
+    /**
+     * @return the number of entries currently stored in the trails of this environment
+     */
+    default long getTrailUsage() {
+        return 0L;
+    }
+
+    /**
+     * Release the capacity of the trails that is not needed by the entries currently stored.
+     * @see IStorage#shrink()
+     */
+    default void shrinkTrails() {
+    }
 }
@@ -53,5 +53,37 @@ public interface IStorage  {
 
     void worldCommit(int worldIndex);
 
+    /**
+     * Returns an estimation of the memory retained by this trail, that is, the size of its stacks.
+     * This is cheap to compute and can be called during search.
+     *
+     * @return the estimated size in bytes of this trail
+     */
+    default long getEstimatedMemory() {
+        return 0L;
+    }
+
+    /**
+     * @return the number of entries this trail can store without growing
+     */
+    default int allocated() {
+        return 0;
+    }
+
+    /**
+     * @return the number of entries currently stored in this trail
+     */
+    default int used() {
+        return 0;
+    }
+
+    /**
+     * Release the capacity of this trail that is not needed by the entries currently stored,
+     * keeping some room to grow again and never going below the initial capacity.
+     * This is typically called after a deep excursion in the search tree.
+     */
+    default void shrink() {
+    }
+
 }
 
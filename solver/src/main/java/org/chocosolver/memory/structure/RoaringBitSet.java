@@ -0,0 +1,837 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.structure;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateBitSet;
+
+import java.util.Arrays;
+
+/**
+ * A backtrackable compressed bitset, in the spirit of Roaring bitmaps:
+ * "Better bitmap performance with Roaring bitmaps", S. Chambi, D. Lemire, O. Kaser and R. Godin, 2016.
+ * <p>
+ * The universe is split into chunks of 2<sup>16</sup> bits. A chunk is stored in a container,
+ * which is either:
+ * <ul>
+ *     <li>absent, when the chunk is empty,</li>
+ *     <li>a sorted array of 16-bit values, when the chunk contains at most {@value #ARRAY_MAX} bits,</li>
+ *     <li>a bitmap of 1024 words otherwise.</li>
+ * </ul>
+ * Hence, the memory footprint depends on the number of bits set, not on the universe,
+ * and a full chunk is set or cleared without touching its bits.
+ * <p>
+ * Changes are trailed at the container level, in primitive arrays:
+ * an array container is copied the first time it is modified in a world,
+ * a bitmap container records the previous value of the modified words.
+ * Replacing a container (creation, conversion or removal) is trailed too.
+ * A single operation per world is saved in the environment.
+ * Nothing is trailed while the environment is in the initial world.
+ * <p>
+ * The cardinality is maintained incrementally.
+ * {@link #equals(Object)} and {@link #hashCode()} supports with any kind of
+ * {@link IStateBitSet} implementation but they must not be used in any
+ * performance sensitive context.
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class RoaringBitSet implements IStateBitSet {
+
+    /**
+     * Number of bits addressed by a chunk
+     */
+    private static final int CHUNK_BITS = 16;
+    /**
+     * Number of bits in a chunk
+     */
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    /**
+     * Mask to get the index of a bit in its chunk
+     */
+    private static final int LOW_MASK = CHUNK_SIZE - 1;
+    /**
+     * Number of chunks needed to address any positive integer
+     */
+    private static final int MAX_CHUNKS = 1 << (31 - CHUNK_BITS);
+    /**
+     * Number of words in a bitmap container
+     */
+    private static final int WORDS = CHUNK_SIZE >>> 6;
+    /**
+     * Maximum cardinality of an array container
+     */
+    private static final int ARRAY_MAX = 4096;
+    /**
+     * A bitmap container whose cardinality becomes lower than this is converted into an array container
+     */
+    private static final int BITMAP_MIN = ARRAY_MAX / 4;
+
+    /**
+     * The environment used to save operations
+     */
+    private final IEnvironment environment;
+    /**
+     * Containers, indexed by chunk, <i>null</i> for an empty chunk
+     */
+    private Container[] chunks;
+    /**
+     * Number of bits set
+     */
+    private int cardinality;
+
+    /**
+     * Trailed chunks
+     */
+    private int[] tChunk;
+    /**
+     * Trailed words, or -1 when a container is trailed
+     */
+    private int[] tWord;
+    /**
+     * Previous values of trailed words
+     */
+    private long[] tOld;
+    /**
+     * Previous containers
+     */
+    private Container[] tCont;
+    /**
+     * Number of trailed entries
+     */
+    private int top;
+    /**
+     * Number of trailed entries at the beginning of each world this was modified in
+     */
+    private int[] marks;
+    /**
+     * Number of marks
+     */
+    private int nMarks;
+    /**
+     * Last timestamp a mark was pushed in
+     */
+    private int stamp = -1;
+    /**
+     * Undo the entries trailed in the last world this was modified in
+     */
+    private final IOperation restore;
+
+    /**
+     * Creates a new compressed bit set. All bits are initially <code>false</code>.
+     *
+     * @param environment backtrackable environment
+     * @param nbits       the expected size of the bit set, only used to size internal structures.
+     */
+    public RoaringBitSet(IEnvironment environment, int nbits) {
+        if (nbits < 0) {
+            throw new NegativeArraySizeException("nbits < 0: " + nbits);
+        }
+        this.environment = environment;
+        this.chunks = new Container[(int) Math.max(1, ((long) nbits + LOW_MASK) >>> CHUNK_BITS)];
+        this.tChunk = new int[16];
+        this.tWord = new int[16];
+        this.tOld = new long[16];
+        this.tCont = new Container[16];
+        this.marks = new int[8];
+        this.restore = () -> {
+            int m = marks[--nMarks];
+            while (top > m) {
+                undo(--top);
+            }
+        };
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///// trailing /////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @return <i>true</i> if modifications have to be trailed
+     */
+    private boolean trailing() {
+        return environment.getWorldIndex() > 0;
+    }
+
+    /**
+     * Push a new entry on the trail, and a new mark if this is the first entry of the current world
+     */
+    private int push(int chunk, int word) {
+        int ts = environment.getTimeStamp();
+        if (stamp != ts) {
+            stamp = ts;
+            if (nMarks == marks.length) {
+                marks = Arrays.copyOf(marks, nMarks * 2);
+            }
+            marks[nMarks++] = top;
+            environment.save(restore);
+        }
+        if (top == tChunk.length) {
+            int nsize = top * 3 / 2 + 1;
+            tChunk = Arrays.copyOf(tChunk, nsize);
+            tWord = Arrays.copyOf(tWord, nsize);
+            tOld = Arrays.copyOf(tOld, nsize);
+            tCont = Arrays.copyOf(tCont, nsize);
+        }
+        tChunk[top] = chunk;
+        tWord[top] = word;
+        return top++;
+    }
+
+    private void undo(int e) {
+        int i = tChunk[e];
+        if (tWord[e] < 0) {
+            Container old = tCont[e];
+            tCont[e] = null;
+            cardinality += card(old) - card(chunks[i]);
+            chunks[i] = old;
+        } else {
+            BitmapContainer b = (BitmapContainer) chunks[i];
+            long old = tOld[e];
+            int d = Long.bitCount(old) - Long.bitCount(b.words[tWord[e]]);
+            b.words[tWord[e]] = old;
+            b.card += d;
+            cardinality += d;
+        }
+    }
+
+    private static int card(Container c) {
+        return c == null ? 0 : c.card;
+    }
+
+    /**
+     * Replace the container of chunk <i>i</i> by <i>c</i>
+     */
+    private void replace(int i, Container c) {
+        if (trailing()) {
+            int e = push(i, -1);
+            tCont[e] = chunks[i];
+            if (c != null) {
+                c.stamp = environment.getTimeStamp();
+            }
+        }
+        cardinality += card(c) - card(chunks[i]);
+        chunks[i] = c;
+    }
+
+    /**
+     * @return an array container of chunk <i>i</i> that can be modified in the current world
+     */
+    private ArrayContainer writable(int i, ArrayContainer a) {
+        if (trailing() && a.stamp != environment.getTimeStamp()) {
+            a = a.copy();
+            replace(i, a);
+        }
+        return a;
+    }
+
+    /**
+     * Set the word <i>w</i> of the bitmap container <i>b</i> of chunk <i>i</i> to <i>value</i>
+     */
+    private void setWord(int i, BitmapContainer b, int w, long value) {
+        long old = b.words[w];
+        if (old != value) {
+            if (trailing()) {
+                int e = push(i, w);
+                tOld[e] = old;
+            }
+            b.words[w] = value;
+            int d = Long.bitCount(value) - Long.bitCount(old);
+            b.card += d;
+            cardinality += d;
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///// containers management ////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    private static void requirePositiveIndex(final int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(
+                    "Positive index expected. Got " + index);
+        }
+    }
+
+    private static void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0)
+            throw new IndexOutOfBoundsException("fromIndex < 0: " + fromIndex);
+        if (toIndex < 0)
+            throw new IndexOutOfBoundsException("toIndex < 0: " + toIndex);
+        if (fromIndex > toIndex)
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + " > toIndex: " + toIndex);
+    }
+
+    private void ensureCapacity(int chunk) {
+        if (chunk >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(chunk + 1, Math.min(MAX_CHUNKS, chunks.length * 2)));
+        }
+    }
+
+    /**
+     * Turn the container of chunk <i>i</i> into a bitmap container, if not already done
+     */
+    private BitmapContainer toBitmap(int i) {
+        Container c = chunks[i];
+        if (c instanceof BitmapContainer) {
+            return (BitmapContainer) c;
+        }
+        BitmapContainer b = new BitmapContainer();
+        if (c != null) {
+            ArrayContainer a = (ArrayContainer) c;
+            for (int k = 0; k < a.card; k++) {
+                b.words[a.values[k] >>> 6] |= 1L << a.values[k];
+            }
+            b.card = a.card;
+        }
+        replace(i, b);
+        return b;
+    }
+
+    /**
+     * Remove the container of chunk <i>i</i> if empty,
+     * or convert it into an array container if it is a sparse bitmap container.
+     */
+    private void compact(int i) {
+        Container c = chunks[i];
+        if (c != null) {
+            if (c.card == 0) {
+                replace(i, null);
+            } else if (c.card < BITMAP_MIN && c instanceof BitmapContainer) {
+                BitmapContainer b = (BitmapContainer) c;
+                ArrayContainer a = new ArrayContainer(b.card);
+                for (int x = b.nextSet(0); x >= 0; x = x < LOW_MASK ? b.nextSet(x + 1) : -1) {
+                    a.values[a.card++] = (char) x;
+                }
+                replace(i, a);
+            }
+        }
+    }
+
+    /**
+     * Set the bits from <i>f</i> (inclusive) to <i>t</i> (exclusive) in chunk <i>i</i>
+     */
+    private void setInChunk(int i, int f, int t) {
+        Container c = chunks[i];
+        if (f == 0 && t == CHUNK_SIZE) {
+            if (c == null || c.card < CHUNK_SIZE) {
+                BitmapContainer b = new BitmapContainer();
+                Arrays.fill(b.words, -1L);
+                b.card = CHUNK_SIZE;
+                replace(i, b);
+            }
+        } else if (c instanceof BitmapContainer || card(c) + t - f > ARRAY_MAX) {
+            BitmapContainer b = toBitmap(i);
+            int wf = f >>> 6;
+            int wt = (t - 1) >>> 6;
+            long fm = -1L << f;
+            long tm = -1L >>> -t;
+            if (wf == wt) {
+                setWord(i, b, wf, b.words[wf] | (fm & tm));
+            } else {
+                setWord(i, b, wf, b.words[wf] | fm);
+                for (int w = wf + 1; w < wt; w++) {
+                    setWord(i, b, w, -1L);
+                }
+                setWord(i, b, wt, b.words[wt] | tm);
+            }
+        } else {
+            if (c == null) {
+                c = new ArrayContainer(t - f);
+                replace(i, c);
+            }
+            ArrayContainer a = writable(i, (ArrayContainer) c);
+            int before = a.card;
+            a.add(f, t);
+            cardinality += a.card - before;
+        }
+    }
+
+    /**
+     * Clear the bits from <i>f</i> (inclusive) to <i>t</i> (exclusive) in chunk <i>i</i>
+     */
+    private void clearInChunk(int i, int f, int t) {
+        Container c = chunks[i];
+        if (c == null) {
+            return;
+        }
+        if (f == 0 && t == CHUNK_SIZE) {
+            replace(i, null);
+        } else if (c instanceof BitmapContainer) {
+            BitmapContainer b = (BitmapContainer) c;
+            int wf = f >>> 6;
+            int wt = (t - 1) >>> 6;
+            long fm = -1L << f;
+            long tm = -1L >>> -t;
+            if (wf == wt) {
+                setWord(i, b, wf, b.words[wf] & ~(fm & tm));
+            } else {
+                setWord(i, b, wf, b.words[wf] & ~fm);
+                for (int w = wf + 1; w < wt; w++) {
+                    setWord(i, b, w, 0L);
+                }
+                setWord(i, b, wt, b.words[wt] & ~tm);
+            }
+            compact(i);
+        } else {
+            ArrayContainer a = (ArrayContainer) c;
+            int p = a.nextSet(f);
+            if (p >= 0 && p < t) {
+                a = writable(i, a);
+                int before = a.card;
+                a.remove(f, t);
+                cardinality += a.card - before;
+                compact(i);
+            }
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///// IStateBitSet /////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * @return the number of bits addressed by the chunks allocated so far.
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, (long) chunks.length << CHUNK_BITS);
+    }
+
+    /**
+     * @return the number of containers currently in use.
+     */
+    public int containers() {
+        int n = 0;
+        for (Container c : chunks) {
+            if (c != null) n++;
+        }
+        return n;
+    }
+
+    @Override
+    public void set(int bitIndex) {
+        requirePositiveIndex(bitIndex);
+        if (!get(bitIndex)) {
+            int i = bitIndex >>> CHUNK_BITS;
+            ensureCapacity(i);
+            int x = bitIndex & LOW_MASK;
+            setInChunk(i, x, x + 1);
+        }
+    }
+
+    @Override
+    public void clear(int bitIndex) {
+        requirePositiveIndex(bitIndex);
+        if (get(bitIndex)) {
+            int x = bitIndex & LOW_MASK;
+            clearInChunk(bitIndex >>> CHUNK_BITS, x, x + 1);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null) {
+                replace(i, null);
+            }
+        }
+    }
+
+    @Override
+    public void clear(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        int last = Math.min((toIndex - 1) >>> CHUNK_BITS, chunks.length - 1);
+        for (int i = fromIndex >>> CHUNK_BITS; i <= last; i++) {
+            int f = i == fromIndex >>> CHUNK_BITS ? fromIndex & LOW_MASK : 0;
+            int t = i == (toIndex - 1) >>> CHUNK_BITS ? ((toIndex - 1) & LOW_MASK) + 1 : CHUNK_SIZE;
+            clearInChunk(i, f, t);
+        }
+    }
+
+    @Override
+    public void set(int index, boolean value) {
+        if (value) {
+            set(index);
+        } else {
+            clear(index);
+        }
+    }
+
+    @Override
+    public void set(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        int last = (toIndex - 1) >>> CHUNK_BITS;
+        ensureCapacity(last);
+        for (int i = fromIndex >>> CHUNK_BITS; i <= last; i++) {
+            int f = i == fromIndex >>> CHUNK_BITS ? fromIndex & LOW_MASK : 0;
+            int t = i == last ? ((toIndex - 1) & LOW_MASK) + 1 : CHUNK_SIZE;
+            setInChunk(i, f, t);
+        }
+    }
+
+    @Override
+    public boolean get(int bitIndex) {
+        requirePositiveIndex(bitIndex);
+        int i = bitIndex >>> CHUNK_BITS;
+        return i < chunks.length && chunks[i] != null && chunks[i].get(bitIndex & LOW_MASK);
+    }
+
+    @Override
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        int i = fromIndex >>> CHUNK_BITS;
+        int x = fromIndex & LOW_MASK;
+        for (; i < chunks.length; i++, x = 0) {
+            if (chunks[i] != null) {
+                int n = chunks[i].nextSet(x);
+                if (n >= 0) {
+                    return (i << CHUNK_BITS) | n;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int nextClearBit(int fromIndex) {
+        if (fromIndex < 0) {
+            fromIndex = 0;
+        }
+        int i = fromIndex >>> CHUNK_BITS;
+        int x = fromIndex & LOW_MASK;
+        for (; i < chunks.length; i++, x = 0) {
+            if (chunks[i] == null) {
+                return (i << CHUNK_BITS) | x;
+            }
+            int n = chunks[i].nextClear(x);
+            if (n < CHUNK_SIZE) {
+                return (i << CHUNK_BITS) | n;
+            }
+        }
+        return Math.max(fromIndex, size());
+    }
+
+    @Override
+    public int prevSetBit(int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        int i = fromIndex >>> CHUNK_BITS;
+        int x = fromIndex & LOW_MASK;
+        if (i >= chunks.length) {
+            i = chunks.length - 1;
+            x = LOW_MASK;
+        }
+        for (; i >= 0; i--, x = LOW_MASK) {
+            if (chunks[i] != null) {
+                int p = chunks[i].prevSet(x);
+                if (p >= 0) {
+                    return (i << CHUNK_BITS) | p;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int prevClearBit(int fromIndex) {
+        if (fromIndex < 0) {
+            return -1;
+        }
+        int i = fromIndex >>> CHUNK_BITS;
+        if (i >= chunks.length) {
+            return fromIndex;
+        }
+        int x = fromIndex & LOW_MASK;
+        for (; i >= 0; i--, x = LOW_MASK) {
+            if (chunks[i] == null) {
+                return (i << CHUNK_BITS) | x;
+            }
+            int p = chunks[i].prevClear(x);
+            if (p >= 0) {
+                return (i << CHUNK_BITS) | p;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IStateBitSet)) {
+            return false;
+        }
+
+        final IStateBitSet that = (IStateBitSet) o;
+        // Fail fast.
+        if (this.cardinality() != that.cardinality()) {
+            return false;
+        }
+        // Same cardinality. Iterate over the bit sets. Those must be sets in 'that'
+        // as well.
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            if (!that.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            hashCode = hashCode * 31 + i;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder();
+        b.append('{');
+        int i = nextSetBit(0);
+        if (i != -1) {
+            b.append(i);
+            for (i = nextSetBit(i + 1); i >= 0; i = nextSetBit(i + 1)) {
+                b.append(", ").append(i);
+            }
+        }
+        b.append('}');
+        return b.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///// containers ///////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * A set of values in [0, 2<sup>16</sup>[
+     */
+    private abstract static class Container {
+        /**
+         * Number of values in the container
+         */
+        int card;
+        /**
+         * Timestamp of the world the container was created in
+         */
+        int stamp = -1;
+
+        abstract boolean get(int x);
+
+        /**
+         * @return the smallest value greater than or equal to <i>x</i>, or -1
+         */
+        abstract int nextSet(int x);
+
+        /**
+         * @return the greatest value smaller than or equal to <i>x</i>, or -1
+         */
+        abstract int prevSet(int x);
+
+        /**
+         * @return the smallest absent value greater than or equal to <i>x</i>, or {@link #CHUNK_SIZE}
+         */
+        abstract int nextClear(int x);
+
+        /**
+         * @return the greatest absent value smaller than or equal to <i>x</i>, or -1
+         */
+        abstract int prevClear(int x);
+    }
+
+    /**
+     * A sorted array of values
+     */
+    private static final class ArrayContainer extends Container {
+
+        char[] values;
+
+        ArrayContainer(int capacity) {
+            values = new char[Math.max(4, capacity)];
+        }
+
+        ArrayContainer copy() {
+            ArrayContainer a = new ArrayContainer(0);
+            a.values = Arrays.copyOf(values, Math.max(4, card));
+            a.card = card;
+            return a;
+        }
+
+        /**
+         * @return the position of the first value greater than or equal to <i>x</i>
+         */
+        int lowerBound(int x) {
+            int lo = 0, hi = card;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (values[mid] < x) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Add the values from <i>f</i> (inclusive) to <i>t</i> (exclusive)
+         */
+        void add(int f, int t) {
+            int p = lowerBound(f);
+            int q = lowerBound(t);
+            // values in [p, q[ are in [f, t[ and are replaced by the whole range
+            int ncard = card - (q - p) + (t - f);
+            if (ncard > values.length) {
+                values = Arrays.copyOf(values, Math.max(ncard, values.length * 2));
+            }
+            System.arraycopy(values, q, values, p + t - f, card - q);
+            for (int v = f; v < t; v++) {
+                values[p++] = (char) v;
+            }
+            card = ncard;
+        }
+
+        /**
+         * Remove the values from <i>f</i> (inclusive) to <i>t</i> (exclusive)
+         */
+        void remove(int f, int t) {
+            int p = lowerBound(f);
+            int q = lowerBound(t);
+            System.arraycopy(values, q, values, p, card - q);
+            card -= q - p;
+        }
+
+        @Override
+        boolean get(int x) {
+            int p = lowerBound(x);
+            return p < card && values[p] == x;
+        }
+
+        @Override
+        int nextSet(int x) {
+            int p = lowerBound(x);
+            return p < card ? values[p] : -1;
+        }
+
+        @Override
+        int prevSet(int x) {
+            int p = lowerBound(x + 1);
+            return p > 0 ? values[p - 1] : -1;
+        }
+
+        @Override
+        int nextClear(int x) {
+            int p = lowerBound(x);
+            while (p < card && values[p] == x) {
+                p++;
+                x++;
+            }
+            return x;
+        }
+
+        @Override
+        int prevClear(int x) {
+            int p = lowerBound(x + 1) - 1;
+            while (p >= 0 && values[p] == x) {
+                p--;
+                x--;
+            }
+            return x;
+        }
+    }
+
+    /**
+     * A bitmap of {@link #CHUNK_SIZE} bits
+     */
+    private static final class BitmapContainer extends Container {
+
+        final long[] words = new long[WORDS];
+
+        @Override
+        boolean get(int x) {
+            return (words[x >>> 6] & (1L << x)) != 0;
+        }
+
+        @Override
+        int nextSet(int x) {
+            int u = x >>> 6;
+            long word = words[u] & (-1L << x);
+            while (true) {
+                if (word != 0)
+                    return (u << 6) + Long.numberOfTrailingZeros(word);
+                if (++u == WORDS)
+                    return -1;
+                word = words[u];
+            }
+        }
+
+        @Override
+        int prevSet(int x) {
+            int u = x >>> 6;
+            long word = words[u] & (-1L >>> -(x + 1));
+            while (true) {
+                if (word != 0)
+                    return (u << 6) + 63 - Long.numberOfLeadingZeros(word);
+                if (u-- == 0)
+                    return -1;
+                word = words[u];
+            }
+        }
+
+        @Override
+        int nextClear(int x) {
+            int u = x >>> 6;
+            long word = ~words[u] & (-1L << x);
+            while (true) {
+                if (word != 0)
+                    return (u << 6) + Long.numberOfTrailingZeros(word);
+                if (++u == WORDS)
+                    return CHUNK_SIZE;
+                word = ~words[u];
+            }
+        }
+
+        @Override
+        int prevClear(int x) {
+            int u = x >>> 6;
+            long word = ~words[u] & (-1L >>> -(x + 1));
+            while (true) {
+                if (word != 0)
+                    return (u << 6) + 63 - Long.numberOfLeadingZeros(word);
+                if (u-- == 0)
+                    return -1;
+                word = ~words[u];
+            }
+        }
+    }
+}
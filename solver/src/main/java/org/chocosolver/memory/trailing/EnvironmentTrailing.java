@@ -40,6 +40,11 @@ public class EnvironmentTrailing extends AbstractEnvironment {
      */
     public static final double LOADFACTOR = 2;
 
+    /**
+     * The default number of world pops between two checks for shrinking the trails.
+     */
+    public static final int SHRINK_PERIOD = 1 << 12;
+
     //Contains all the {@link IStorage} trails for
     // storing different kinds of data.
 
@@ -58,6 +63,23 @@ public class EnvironmentTrailing extends AbstractEnvironment {
     private IStorage[] trails = new IStorage[0];
     private int trailSize = 0;
 
+    /**
+     * Number of world pops between two checks for shrinking the trails, 0 to disable shrinking.
+     */
+    private int shrinkPeriod = SHRINK_PERIOD;
+    /**
+     * Number of world pops since the last check.
+     */
+    private int pops;
+    /**
+     * Deepest world popped since the last check.
+     */
+    private int recentDepth;
+    /**
+     * Deepest world popped since the trails were last shrunk.
+     */
+    private int maxDepth;
+
     /**
      * {@inheritDoc}
      */
@@ -86,6 +108,77 @@ public class EnvironmentTrailing extends AbstractEnvironment {
         }
         currentWorld--;
         assert currentWorld>=0;
+        if (shrinkPeriod > 0) {
+            if (wi > recentDepth) {
+                recentDepth = wi;
+            }
+            if (++pops == shrinkPeriod) {
+                checkShrink();
+            }
+        }
+    }
+
+    /**
+     * Trails grow as soon as needed but, by hysteresis, they are shrunk only when a whole period of
+     * search remained four times shallower than the deepest excursion since the last shrinking.
+     */
+    private void checkShrink() {
+        if (recentDepth > maxDepth) {
+            maxDepth = recentDepth;
+        }
+        if (recentDepth << 2 < maxDepth) {
+            shrinkTrails();
+            maxDepth = recentDepth;
+        }
+        pops = 0;
+        recentDepth = 0;
+    }
+
+    /**
+     * Set the number of world pops between two checks for shrinking the trails.
+     *
+     * @param period a number of world pops, 0 to disable shrinking
+     */
+    public void setShrinkPeriod(int period) {
+        if (period < 0) {
+            throw new IllegalArgumentException("The shrink period should be positive or null");
+        }
+        this.shrinkPeriod = period;
+        this.pops = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shrinkTrails() {
+        for (int i = 0; i < trailSize; i++) {
+            trails[i].shrink();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTrailCapacity() {
+        long n = 0L;
+        for (int i = 0; i < trailSize; i++) {
+            n += trails[i].allocated();
+        }
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTrailUsage() {
+        long n = 0L;
+        for (int i = 0; i < trailSize; i++) {
+            n += trails[i].used();
+        }
+        return n;
     }
 
     /**
@@ -104,6 +197,18 @@ public class EnvironmentTrailing extends AbstractEnvironment {
         currentWorld--;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getEstimatedMemory() {
+        long s = 0L;
+        for (int i = 0; i < trailSize; i++) {
+            s += trails[i].getEstimatedMemory();
+        }
+        return s;
+    }
+
     /**
      * {@inheritDoc}
      */
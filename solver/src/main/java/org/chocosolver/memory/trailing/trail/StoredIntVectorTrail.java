@@ -13,6 +13,10 @@ import org.chocosolver.memory.IStorage;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.memory.trailing.StoredIntVector;
 
+import java.util.Arrays;
+
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 
 /**
  * Implements a trail with the history of all the stored search vectors.
@@ -30,6 +34,11 @@ public class StoredIntVectorTrail implements IStorage {
      */
     private final double loadfactor;
 
+    /**
+     * Initial capacity, kept when shrinking
+     */
+    private final int initialCapacity;
+
     /**
      * All the stored search vectors.
      */
@@ -87,6 +96,7 @@ public class StoredIntVectorTrail implements IStorage {
         this.stampStack = new int[nUpdates];
         this.worldStartLevels = new int[nWorlds];
         this.loadfactor = loadfactor;
+        this.initialCapacity = nUpdates;
     }
 
 
@@ -193,4 +203,34 @@ public class StoredIntVectorTrail implements IStorage {
         }
         currentLevel = writeIdx;
     }
+
+    @Override
+    public int allocated() {
+        return vectorStack.length;
+    }
+
+    @Override
+    public int used() {
+        return currentLevel;
+    }
+
+    @Override
+    public void shrink() {
+        final int newCapacity = Math.max(initialCapacity, currentLevel << 1);
+        if (newCapacity < vectorStack.length) {
+            vectorStack = Arrays.copyOf(vectorStack, newCapacity);
+            indexStack = Arrays.copyOf(indexStack, newCapacity);
+            valueStack = Arrays.copyOf(valueStack, newCapacity);
+            stampStack = Arrays.copyOf(stampStack, newCapacity);
+        }
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return sizeOf(vectorStack)
+                + sizeOf(indexStack)
+                + sizeOf(valueStack)
+                + sizeOf(stampStack)
+                + sizeOf(worldStartLevels);
+    }
 }
@@ -13,8 +13,6 @@ package org.chocosolver.memory.trailing.trail.chunck;
 import org.chocosolver.memory.trailing.StoredLong;
 import org.chocosolver.memory.trailing.trail.IStoredLongTrail;
 
-import java.util.Arrays;
-
 /**
  * A trail for integers.
  *
@@ -26,11 +24,6 @@ public class ChunckedLongTrail extends ChunckedTrail<LongWorld> implements IStor
 
     private final int ws;
 
-    /**
-     * Load factor
-     */
-    private final double loadfactor;
-
     /**
      * Constructs a trail with predefined size and loadfactor
      * @param ws the initial world size
@@ -38,24 +31,14 @@ public class ChunckedLongTrail extends ChunckedTrail<LongWorld> implements IStor
      * @param loadfactor how to resize world
      */
     public ChunckedLongTrail(int ws, int nbWorlds, double loadfactor) {
-        worlds = new LongWorld[nbWorlds];
+        super(new LongWorld[nbWorlds], loadfactor);
         this.ws = ws;
-        this.loadfactor = loadfactor;
-        worlds[0] = current = new LongWorld(ws, loadfactor);
+        worlds[0] = current = make();
     }
 
     @Override
-    public void worldPush(int worldIndex) {
-        if (worlds[worldIndex] == null) {
-            current = new LongWorld(ws, loadfactor);
-            worlds[worldIndex] = current;
-        } else {
-            current = worlds[worldIndex];
-            current.clear();
-        }
-        if (worldIndex == worlds.length - 1) {
-            worlds = Arrays.copyOf(worlds, (int) (worlds.length * loadfactor));
-        }
+    protected LongWorld make() {
+        return new LongWorld(ws, loadfactor);
     }
 
     @Override
@@ -13,8 +13,6 @@ package org.chocosolver.memory.trailing.trail.chunck;
 import org.chocosolver.memory.structure.IOperation;
 import org.chocosolver.memory.trailing.trail.IOperationTrail;
 
-import java.util.Arrays;
-
 /**
  * @author Fabien Hermenier
  * @author Charles Prud'homme
@@ -24,11 +22,6 @@ public class ChunckedOperationTrail extends ChunckedTrail<OperationWorld> implem
 
     private final int ws;
 
-    /**
-     * Load factor
-     */
-    private final double loadfactor;
-
     /**
      * Constructs a trail with predefined size and loadfactor
      * @param ws the initial world size
@@ -36,24 +29,14 @@ public class ChunckedOperationTrail extends ChunckedTrail<OperationWorld> implem
      * @param loadfactor how to resize world
      */
     public ChunckedOperationTrail(int ws, int nbWorlds, double loadfactor) {
-            worlds = new OperationWorld[nbWorlds];
-            this.ws = ws;
-            this.loadfactor = loadfactor;
-            worlds[0] = current = new OperationWorld(ws, loadfactor);
+        super(new OperationWorld[nbWorlds], loadfactor);
+        this.ws = ws;
+        worlds[0] = current = make();
     }
 
     @Override
-    public void worldPush(int worldIndex) {
-        if (worlds[worldIndex] == null) {
-            current = new OperationWorld(ws, loadfactor);
-            worlds[worldIndex] = current;
-        } else {
-            current = worlds[worldIndex];
-            current.clear();
-        }
-        if (worldIndex == worlds.length - 1) {
-            worlds = Arrays.copyOf(worlds, (int) (worlds.length * loadfactor));
-        }
+    protected OperationWorld make() {
+        return new OperationWorld(ws, loadfactor);
     }
 
     @Override
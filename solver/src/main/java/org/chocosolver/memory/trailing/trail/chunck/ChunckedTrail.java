@@ -10,6 +10,9 @@
 package org.chocosolver.memory.trailing.trail.chunck;
 
 import org.chocosolver.memory.IStorage;
+import org.chocosolver.util.tools.MemoryUtils;
+
+import java.util.Arrays;
 
 /**
  * An abstract segmented trail.
@@ -19,6 +22,11 @@ import org.chocosolver.memory.IStorage;
  */
 public abstract class ChunckedTrail<W extends World> implements IStorage{
 
+    /**
+     * Maximum number of released worlds kept for reuse.
+     */
+    private static final int POOL_SIZE = 8;
+
     /**
      * The worlds.
      */
@@ -29,6 +37,72 @@ public abstract class ChunckedTrail<W extends World> implements IStorage{
      */
     protected W current;
 
+    /**
+     * Index of the current world.
+     */
+    protected int index;
+
+    /**
+     * Load factor
+     */
+    protected final double loadfactor;
+
+    /**
+     * Initial number of worlds, kept when shrinking.
+     */
+    private final int initialWorlds;
+
+    /**
+     * Worlds released on {@link #shrink()}, ready to be reused.
+     */
+    private final W[] pool;
+
+    /**
+     * Number of worlds in {@link #pool}.
+     */
+    private int poolSize;
+
+    /**
+     * @param worlds     the initial (empty) array of worlds
+     * @param loadfactor how to resize the array of worlds
+     */
+    protected ChunckedTrail(W[] worlds, double loadfactor) {
+        this.worlds = worlds;
+        this.loadfactor = loadfactor;
+        this.initialWorlds = worlds.length;
+        this.pool = Arrays.copyOf(worlds, POOL_SIZE);
+    }
+
+    /**
+     * @return a new empty world
+     */
+    protected abstract W make();
+
+    /**
+     * Moving up to the next world.
+     * A world already allocated at this index, or else a pooled one, is reused.
+     *
+     * @param worldIndex current world index
+     */
+    @Override
+    public void worldPush(int worldIndex) {
+        if (worlds[worldIndex] == null) {
+            if (poolSize > 0) {
+                current = pool[--poolSize];
+                pool[poolSize] = null;
+            } else {
+                current = make();
+            }
+            worlds[worldIndex] = current;
+        } else {
+            current = worlds[worldIndex];
+            current.clear();
+        }
+        index = worldIndex;
+        if (worldIndex == worlds.length - 1) {
+            worlds = Arrays.copyOf(worlds, (int) (worlds.length * loadfactor));
+        }
+    }
 
     /**
      * Moving down to the previous world.
@@ -38,6 +112,8 @@ public abstract class ChunckedTrail<W extends World> implements IStorage{
     @Override
     public void worldPop(int worldIndex) {
         current.revert();
+        current.clear();
+        index = worldIndex - 1;
         if (worldIndex > 0) {
             current = worlds[worldIndex - 1];
         }else {
@@ -51,10 +127,11 @@ public abstract class ChunckedTrail<W extends World> implements IStorage{
     }
 
     /**
-     * Returns the allocated trail size.
+     * Returns the allocated trail size, pooled worlds included.
      *
      * @return a positive number
      */
+    @Override
     public int allocated() {
         int n = 0;
         for (World w : worlds) {
@@ -62,7 +139,59 @@ public abstract class ChunckedTrail<W extends World> implements IStorage{
                 n += w.allocated();
             }
         }
+        for (int i = 0; i < poolSize; i++) {
+            n += pool[i].allocated();
+        }
         return n;
     }
 
-}
\ No newline at end of file
+    @Override
+    public int used() {
+        int n = 0;
+        for (int i = 0; i <= index; i++) {
+            n += worlds[i].used();
+        }
+        return n;
+    }
+
+    /**
+     * Release the worlds above the current one, keeping a few of them in a pool,
+     * and shrink the remaining ones.
+     */
+    @Override
+    public void shrink() {
+        for (int i = index + 1; i < worlds.length; i++) {
+            W w = worlds[i];
+            if (w != null) {
+                worlds[i] = null;
+                if (poolSize < POOL_SIZE) {
+                    w.clear();
+                    w.shrink();
+                    pool[poolSize++] = w;
+                }
+            }
+        }
+        for (int i = 0; i <= index; i++) {
+            worlds[i].shrink();
+        }
+        int keep = Math.max(initialWorlds, (index + 1) << 1);
+        if (keep < worlds.length) {
+            worlds = Arrays.copyOf(worlds, keep);
+        }
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        long s = MemoryUtils.sizeOf(worlds) + MemoryUtils.sizeOf(pool);
+        for (World w : worlds) {
+            if (w != null) {
+                s += w.getEstimatedMemory();
+            }
+        }
+        for (int i = 0; i < poolSize; i++) {
+            s += pool[i].getEstimatedMemory();
+        }
+        return s;
+    }
+
+}
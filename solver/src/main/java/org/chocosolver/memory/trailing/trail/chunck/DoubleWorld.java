@@ -14,6 +14,8 @@ import org.chocosolver.memory.trailing.StoredDouble;
 
 import java.util.Arrays;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 /**
  * A world devoted to integers.
  *
@@ -101,4 +103,30 @@ public class DoubleWorld implements World {
     public int allocated() {
         return stampStack == null ? 0 : stampStack.length;
     }
+
+    @Override
+    public void shrink() {
+        if (stampStack != null) {
+            if (now == 0) {
+                // lazily allocated again on next modification
+                valueStack = null;
+                stampStack = null;
+                variableStack = null;
+            } else {
+                int newCapacity = Math.max(defaultSize, now << 1);
+                if (newCapacity < stampStack.length) {
+                    valueStack = Arrays.copyOf(valueStack, newCapacity);
+                    variableStack = Arrays.copyOf(variableStack, newCapacity);
+                    stampStack = Arrays.copyOf(stampStack, newCapacity);
+                }
+            }
+        }
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return sizeOf(variableStack)
+                + sizeOf(valueStack)
+                + sizeOf(stampStack);
+    }
 }
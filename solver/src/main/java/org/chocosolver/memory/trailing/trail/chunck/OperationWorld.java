@@ -14,6 +14,8 @@ import org.chocosolver.memory.structure.IOperation;
 
 import java.util.Arrays;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 /**
  * @author Fabien Hermenier
  * @author Charles Prud'homme
@@ -29,10 +31,13 @@ public class OperationWorld implements World {
 
     private int now;
 
+    private final int defaultSize;
+
     private final double loadfactor;
 
     public OperationWorld(int defaultSize, double loadfactor) {
         now = 0;
+        this.defaultSize = defaultSize;
         this.loadfactor = loadfactor;
         variableStack = new IOperation[defaultSize];
     }
@@ -72,4 +77,17 @@ public class OperationWorld implements World {
     public int used() {
         return now;
     }
+
+    @Override
+    public void shrink() {
+        int newCapacity = Math.max(defaultSize, now << 1);
+        if (newCapacity < variableStack.length) {
+            variableStack = Arrays.copyOf(variableStack, newCapacity);
+        }
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return sizeOf(variableStack);
+    }
 }
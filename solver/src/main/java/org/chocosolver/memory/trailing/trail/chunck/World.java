@@ -40,4 +40,16 @@ public interface World {
      * @return a positive number
      */
     int allocated();
+
+    /**
+     * Release the capacity of this world beyond twice its used size, keeping at least its default size.
+     */
+    void shrink();
+
+    /**
+     * Returns an estimation of the memory retained by this world.
+     *
+     * @return the estimated size in bytes of the stacks of this world
+     */
+    long getEstimatedMemory();
 }
\ No newline at end of file
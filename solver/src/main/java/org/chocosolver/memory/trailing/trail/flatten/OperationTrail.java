@@ -14,6 +14,8 @@ import org.chocosolver.memory.trailing.trail.IOperationTrail;
 
 import java.util.Arrays;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 /**
  * Created by IntelliJ IDEA.
  * User: chameau
@@ -26,6 +28,11 @@ public class OperationTrail implements IOperationTrail {
      */
     private final double loadfactor;
 
+    /**
+     * Initial capacity, kept when shrinking
+     */
+    private final int initialCapacity;
+
     /**
      * Stack of values (former values that need be restored upon backtracking).
      */
@@ -55,6 +62,7 @@ public class OperationTrail implements IOperationTrail {
         valueStack = new IOperation[nUpdates];
         worldStartLevels = new int[nWorlds];
         this.loadfactor = loadfactor;
+        this.initialCapacity = nUpdates;
     }
 
 
@@ -116,4 +124,28 @@ public class OperationTrail implements IOperationTrail {
             worldStartLevels[t]++;
         }
     }
+
+    @Override
+    public int allocated() {
+        return valueStack.length;
+    }
+
+    @Override
+    public int used() {
+        return currentLevel;
+    }
+
+    @Override
+    public void shrink() {
+        final int newCapacity = Math.max(initialCapacity, currentLevel << 1);
+        if (newCapacity < valueStack.length) {
+            valueStack = Arrays.copyOf(valueStack, newCapacity);
+        }
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return sizeOf(valueStack)
+                + sizeOf(worldStartLevels);
+    }
 }
@@ -14,6 +14,8 @@ import org.chocosolver.memory.trailing.trail.IStoredIntTrail;
 
 import java.util.Arrays;
 
+import static org.chocosolver.util.tools.MemoryUtils.sizeOf;
+
 
 public class StoredIntTrail implements IStoredIntTrail {
 
@@ -22,6 +24,11 @@ public class StoredIntTrail implements IStoredIntTrail {
      */
     private final double loadfactor;
 
+    /**
+     * Initial capacity, kept when shrinking
+     */
+    private final int initialCapacity;
+
     /**
      * Stack of backtrackable search variables.
      */
@@ -67,6 +74,7 @@ public class StoredIntTrail implements IStoredIntTrail {
         stampStack = new int[nUpdates];
         worldStartLevels = new int[nWorlds];
         this.loadfactor = loadfactor;
+        this.initialCapacity = nUpdates;
     }
 
 
@@ -162,4 +170,32 @@ public class StoredIntTrail implements IStoredIntTrail {
         System.arraycopy(stampStack, 0, tmp3, 0, stampStack.length);
         stampStack = tmp3;
     }
+
+    @Override
+    public int allocated() {
+        return variableStack.length;
+    }
+
+    @Override
+    public int used() {
+        return currentLevel;
+    }
+
+    @Override
+    public void shrink() {
+        final int newCapacity = Math.max(initialCapacity, currentLevel << 1);
+        if (newCapacity < variableStack.length) {
+            variableStack = Arrays.copyOf(variableStack, newCapacity);
+            valueStack = Arrays.copyOf(valueStack, newCapacity);
+            stampStack = Arrays.copyOf(stampStack, newCapacity);
+        }
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return sizeOf(variableStack)
+                + sizeOf(valueStack)
+                + sizeOf(stampStack)
+                + sizeOf(worldStartLevels);
+    }
 }
@@ -15,6 +15,7 @@ import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.hash.TIntObjectHashMap;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.IntHeap;
+import org.chocosolver.util.tools.MemoryUtils;
 
 import java.util.*;
 
@@ -739,6 +740,24 @@ public class MiniSat implements SatFactory, Dimacs {
     }
 
 
+    /**
+     * Returns an estimation of the memory retained by the clauses of this solver,
+     * that is, the clauses, their literals and their two watchers.
+     *
+     * @return the estimated size in bytes of the clauses
+     */
+    public long getEstimatedMemory() {
+        return estimatedMemory(clauses) + estimatedMemory(learnts);
+    }
+
+    static long estimatedMemory(List<Clause> cls) {
+        long s = MemoryUtils.sizeOfArray(cls.size(), MemoryUtils.REFERENCE);
+        for (int i = 0; i < cls.size(); i++) {
+            s += cls.get(i).getEstimatedMemory();
+        }
+        return s;
+    }
+
     boolean withinBudget() {
         return !asynch_interrupt &&
                 (conflict_budget < 0 || conflicts < conflict_budget) &&
@@ -923,6 +942,16 @@ public class MiniSat implements SatFactory, Dimacs {
             return learnt;
         }
 
+        /**
+         * @return the estimated size in bytes of this clause and of its two watchers
+         */
+        long getEstimatedMemory() {
+            // header, literals, flag and activity, then two watchers (header, clause, blocker)
+            return MemoryUtils.align(MemoryUtils.OBJECT_HEADER + MemoryUtils.REFERENCE + 1 + 8)
+                    + MemoryUtils.sizeOf(literals_)
+                    + 2 * MemoryUtils.align(MemoryUtils.OBJECT_HEADER + MemoryUtils.REFERENCE + 4 + MemoryUtils.REFERENCE);
+        }
+
 
         public int _g(int i) {
             return literals_[i];
@@ -113,6 +113,11 @@ public class SatDecorator extends MiniSat {
         dynClauses.remove(ci);
     }
 
+    @Override
+    public long getEstimatedMemory() {
+        return super.getEstimatedMemory() + estimatedMemory(dynClauses);
+    }
+
     private void dynUncheckedEnqueue(int l) {
         touched_variables_.add(l);
     }
@@ -25,10 +25,13 @@ import org.chocosolver.solver.objective.IObjectiveManager;
 import org.chocosolver.solver.objective.ObjectiveFactory;
 import org.chocosolver.solver.propagation.PropagationEngine;
 import org.chocosolver.solver.variables.*;
+import org.chocosolver.solver.variables.impl.PropagatorIncidence;
 import org.chocosolver.util.tools.ArrayUtils;
 import org.chocosolver.util.tools.VariableUtils;
 import org.ehcache.sizeof.SizeOf;
+import org.ehcache.sizeof.filters.SizeOfFilter;
 
+import java.lang.reflect.Field;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -164,7 +167,12 @@ public class Model implements IModel {
     /**
      * Enable attaching hooks to a model.
      */
-    private final Map<String, Object> hooks;
+    private Map<String, Object> hooks;
+
+    /**
+     * Compact storage of the propagators of the variables, built on propagation engine initialization
+     */
+    private final PropagatorIncidence incidence;
 
     /**
      * Resolution policy (sat/min/max)
@@ -201,6 +209,7 @@ public class Model implements IModel {
         this.cachedConstants = new TIntObjectHashMap<>(16, 1.5f, Integer.MAX_VALUE);
         this.objective = null;
         this.hooks = new HashMap<>();
+        this.incidence = new PropagatorIncidence();
         this.settings = settings;
         this.solver = settings.initSolver(this);
     }
@@ -669,6 +678,16 @@ public class Model implements IModel {
         return this.settings;
     }
 
+    /**
+     * Return the compact storage of the propagators of the variables of this model.
+     * It is filled on propagation engine initialization.
+     *
+     * @return a {@link PropagatorIncidence}
+     */
+    public PropagatorIncidence getPropagatorIncidence() {
+        return incidence;
+    }
+
     /**
      * Return an analyser for the Model
      *
@@ -687,10 +706,91 @@ public class Model implements IModel {
      * @implNote this is based on : <a href="https://github.com/ehcache/sizeof">SizeOf</a>
      */
     public long getEstimatedMemory() throws UnsupportedOperationException{
-        SizeOf sizeOf = SizeOf.newInstance();
+        // lambdas are hidden classes on recent JVMs, whose fields cannot be introspected
+        SizeOf sizeOf = SizeOf.newInstance(new SizeOfFilter() {
+            @Override
+            public Collection<Field> filterFields(Class<?> klazz, Collection<Field> fields) {
+                return fields;
+            }
+
+            @Override
+            public boolean filterClass(Class<?> klazz) {
+                return !klazz.getName().contains("$$Lambda");
+            }
+        });
         return sizeOf.deepSizeOf(this);
     }
 
+    /**
+     * Compact this model, once it is built and, ideally, once the initial propagation is done.
+     * <p>
+     * The lists of variables and constraints are trimmed to their exact size, the cache of constants is compacted,
+     * data only useful while modelling is dropped (such as the free constraints tracked for
+     * {@link Settings#checkDeclaredConstraints()} and the {@link ModelAnalyser})
+     * and, if the propagation engine is initialized, the propagators of the variables are packed again
+     * (see {@link PropagatorIncidence}).
+     * <p>
+     * The model remains fully usable: variables and constraints can still be added,
+     * at the cost of growing the lists again.
+     *
+     * @see #freeze(boolean)
+     */
+    public void freeze() {
+        freeze(false);
+    }
+
+    /**
+     * Compact this model, see {@link #freeze()}.
+     * When <i>report</i> is set to <i>true</i>, the memory footprint of this model
+     * is estimated before and after compaction and printed in the solver's logger.
+     *
+     * @param report set to <i>true</i> to print the memory footprint before and after compaction
+     * @throws UnsupportedOperationException if <i>report</i> is set to <i>true</i>
+     *                                       and the memory footprint cannot be estimated
+     * @see #getEstimatedMemory()
+     */
+    public void freeze(boolean report) throws UnsupportedOperationException {
+        long before = report ? getEstimatedMemory() : 0L;
+        vars = Arrays.copyOf(vars, vIdx);
+        cstrs = Arrays.copyOf(cstrs, cIdx);
+        cachedConstants.compact();
+        hooks.remove("cinstances");
+        hooks = new HashMap<>(hooks);
+        modelAnalyser = null;
+        if (solver.getEngine().isInitialized()) {
+            incidence.pack(getVars());
+        }
+        if (report) {
+            long after = getEstimatedMemory();
+            solver.log().printf("%s frozen: %d bytes -> %d bytes (%d bytes released)%n",
+                    name, before, after, before - after);
+        }
+    }
+
+    /**
+     * Return a deep copy of this model, in the very same state.
+     * <p>
+     * Variables, constraints, propagators, the backtracking environment and the solver
+     * (including its search strategy and monitors) are duplicated, so that the copy can be solved
+     * independently of this model, for instance in another thread or a {@link ParallelPortfolio}.
+     * Copying a built model is usually much faster than building it again.
+     * Immutable data, such as {@link org.chocosolver.solver.constraints.extension.Tuples},
+     * automata, singletons and the {@link Settings}, are shared between this model and its copy.
+     * <p>
+     * Variables and constraints of the copy are found with {@link #getVars()} and {@link #getCstrs()}:
+     * they are in the same order and have the same IDs as in this model.
+     * <p>
+     * Any object reachable from this model is copied, including the ones captured by lambdas,
+     * such as the ones given to {@link Solver#plugMonitor(org.chocosolver.solver.search.loop.monitors.ISearchMonitor)}.
+     * So, the copy is better done once the model is built but before plugging user-defined monitors.
+     *
+     * @return a copy of this model
+     * @throws UnsupportedOperationException if the JVM does not allow the copy or if an object cannot be copied
+     */
+    public Model copy() throws UnsupportedOperationException {
+        return ModelCloner.copy(this);
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     /////////////////////////////////////// SETTERS ////////////////////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -918,7 +1018,7 @@ public class Model implements IModel {
         boolean dynAdd = engine.isInitialized();
         // then prepare storage of the constraints
         if (cIdx + cs.length >= cstrs.length) {
-            int nsize = cstrs.length;
+            int nsize = Math.max(1, cstrs.length);
             while (cIdx + cs.length >= nsize) {
                 nsize *= 3 / 2 + 1;
             }
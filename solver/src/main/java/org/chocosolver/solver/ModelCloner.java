@@ -0,0 +1,566 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import gnu.trove.impl.hash.TObjectHash;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.nary.automata.FA.IAutomaton;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Deep copy of a {@link Model}, see {@link Model#copy()}.
+ * <p>
+ * The object graph reachable from the model (variables, constraints, propagators,
+ * environment and its trails, solver, search strategy...) is copied field by field,
+ * without calling any constructor, so that the copy is in the very same state as the original.
+ * Objects that are known to be immutable are shared: strings, boxed primitives, enums, classes,
+ * {@link Tuples}, {@link IAutomaton}s and objects referenced by static fields
+ * (like {@link Cause#Null}). The {@link Settings} are shared too.
+ * <p>
+ * Collections and maps of the JDK are rebuilt through their API once all other objects are copied,
+ * so that hash-based ones are consistent with the copied keys.
+ * Lambdas are instantiated again with copies of their captured arguments.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+final class ModelCloner {
+
+    /**
+     * Instance of <i>sun.misc.Unsafe</i>, to allocate objects without calling their constructor
+     */
+    private static final Object UNSAFE;
+    /**
+     * The <i>allocateInstance</i> method of <i>sun.misc.Unsafe</i>
+     */
+    private static final Method ALLOCATE;
+    /**
+     * How instances of a class are copied
+     */
+    private static final ClassValue<Kind> KINDS = new ClassValue<Kind>() {
+        @Override
+        protected Kind computeValue(Class<?> type) {
+            return new Kind(type);
+        }
+    };
+
+    static {
+        Object unsafe = null;
+        Method allocate = null;
+        try {
+            Class<?> clazz = Class.forName("sun.misc.Unsafe");
+            Field f = clazz.getDeclaredField("theUnsafe");
+            f.setAccessible(true);
+            unsafe = f.get(null);
+            allocate = clazz.getMethod("allocateInstance", Class.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // copy not supported
+        }
+        UNSAFE = unsafe;
+        ALLOCATE = allocate;
+    }
+
+    /**
+     * Map each object met to its copy (possibly itself)
+     */
+    private final IdentityHashMap<Object, Object> copies = new IdentityHashMap<>();
+    /**
+     * Pairs of original and copied objects whose fields remain to be copied
+     */
+    private final ArrayDeque<Object> toFill = new ArrayDeque<>();
+    /**
+     * Operations to run once all fields are copied
+     */
+    private final List<Runnable> deferred = new ArrayList<>();
+
+    /**
+     * Copy a model.
+     *
+     * @param model the model to copy
+     * @return a deep copy of <i>model</i>
+     * @throws UnsupportedOperationException if an object of the model cannot be copied
+     */
+    static Model copy(Model model) throws UnsupportedOperationException {
+        if (ALLOCATE == null) {
+            throw new UnsupportedOperationException("Model copy is not supported on this JVM");
+        }
+        ModelCloner cloner = new ModelCloner();
+        cloner.copies.put(model.getSettings(), model.getSettings());
+        Model copy = (Model) cloner.copyOf(model);
+        cloner.complete();
+        return copy;
+    }
+
+    private ModelCloner() {
+    }
+
+    /**
+     * Return the copy of <i>o</i>, creating it if needed.
+     * The fields of a created object are not copied yet, but they will be on {@link #complete()}.
+     */
+    private Object copyOf(Object o) {
+        if (o == null) {
+            return null;
+        }
+        Object c = copies.get(o);
+        if (c != null) {
+            return c;
+        }
+        Class<?> clazz = o.getClass();
+        Kind k = KINDS.get(clazz);
+        switch (k.isSingleton(o) ? Kind.SHARED : k.type) {
+            case Kind.SHARED:
+                c = o;
+                copies.put(o, c);
+                break;
+            case Kind.PRIMITIVE_ARRAY:
+                c = copyPrimitiveArray(o, clazz);
+                copies.put(o, c);
+                break;
+            case Kind.ARRAY:
+                c = copyArray((Object[]) o, clazz);
+                break;
+            case Kind.JDK:
+                c = copyJDK(o, clazz);
+                break;
+            case Kind.LAMBDA:
+                c = copyLambda(o, k);
+                break;
+            case Kind.COLLECTION:
+                c = copyCollection(o, clazz);
+                copies.put(o, c);
+                toFill.add(o);
+                toFill.add(c);
+                break;
+            default:
+                c = allocate(clazz);
+                copies.put(o, c);
+                toFill.add(o);
+                toFill.add(c);
+                break;
+        }
+        return c;
+    }
+
+    /**
+     * Copy the fields of all created objects, then run deferred operations.
+     */
+    private void complete() {
+        do {
+            while (!toFill.isEmpty()) {
+                Object o = toFill.poll();
+                fill(o, toFill.poll());
+            }
+            List<Runnable> ops = new ArrayList<>(deferred);
+            deferred.clear();
+            ops.forEach(Runnable::run);
+        } while (!toFill.isEmpty() || !deferred.isEmpty());
+    }
+
+    private static boolean isJDK(Class<?> clazz) {
+        String name = clazz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.")
+                || name.startsWith("jdk.") || name.startsWith("sun.") || name.startsWith("com.sun.");
+    }
+
+    private static Object copyPrimitiveArray(Object o, Class<?> clazz) {
+        int n = Array.getLength(o);
+        Object c = Array.newInstance(clazz.getComponentType(), n);
+        //noinspection SuspiciousSystemArraycopy
+        System.arraycopy(o, 0, c, 0, n);
+        return c;
+    }
+
+    private Object[] copyArray(Object[] a, Class<?> clazz) {
+        Object[] b = (Object[]) Array.newInstance(clazz.getComponentType(), a.length);
+        copies.put(a, b);
+        for (int i = 0; i < a.length; i++) {
+            b[i] = copyOf(a[i]);
+        }
+        return b;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object copyJDK(Object o, Class<?> clazz) {
+        Object c;
+        if (o instanceof EnumSet) {
+            c = ((EnumSet) o).clone();
+            copies.put(o, c);
+        } else if (o instanceof BitSet) {
+            c = ((BitSet) o).clone();
+            copies.put(o, c);
+        } else if (o instanceof Map) {
+            Map m = (Map) o;
+            Map n;
+            if (o instanceof EnumMap) {
+                n = new EnumMap((EnumMap) o);
+                n.clear();
+            } else if (o instanceof SortedMap) {
+                n = new TreeMap((Comparator) copyOf(((SortedMap) o).comparator()));
+            } else {
+                n = (Map) instantiate(clazz, o instanceof IdentityHashMap ? IdentityHashMap.class : LinkedHashMap.class);
+            }
+            copies.put(o, n);
+            Object[] kv = new Object[m.size() * 2];
+            int i = 0;
+            for (Object e : m.entrySet()) {
+                kv[i++] = copyOf(((Map.Entry) e).getKey());
+                kv[i++] = copyOf(((Map.Entry) e).getValue());
+            }
+            Map fn = n;
+            deferred.add(() -> {
+                for (int j = 0; j < kv.length; j += 2) {
+                    fn.put(kv[j], kv[j + 1]);
+                }
+            });
+            c = n;
+        } else if (o instanceof Collection) {
+            Collection l;
+            if (o instanceof SortedSet) {
+                l = new TreeSet((Comparator) copyOf(((SortedSet) o).comparator()));
+            } else if (o instanceof PriorityQueue) {
+                l = new PriorityQueue(Math.max(1, ((PriorityQueue) o).size()),
+                        (Comparator) copyOf(((PriorityQueue) o).comparator()));
+            } else {
+                l = (Collection) instantiate(clazz, o instanceof Set ? LinkedHashSet.class :
+                        o instanceof Queue ? ArrayDeque.class : ArrayList.class);
+            }
+            copies.put(o, l);
+            Object[] es = ((Collection) o).toArray();
+            for (int i = 0; i < es.length; i++) {
+                es[i] = copyOf(es[i]);
+            }
+            Collection fl = l;
+            deferred.add(() -> fl.addAll(Arrays.asList(es)));
+            c = l;
+        } else if (o instanceof AtomicInteger) {
+            c = new AtomicInteger(((AtomicInteger) o).get());
+            copies.put(o, c);
+        } else if (o instanceof AtomicLong) {
+            c = new AtomicLong(((AtomicLong) o).get());
+            copies.put(o, c);
+        } else if (o instanceof AtomicBoolean) {
+            c = new AtomicBoolean(((AtomicBoolean) o).get());
+            copies.put(o, c);
+        } else if (o instanceof AtomicReference) {
+            AtomicReference r = new AtomicReference();
+            copies.put(o, r);
+            r.set(copyOf(((AtomicReference) o).get()));
+            c = r;
+        } else if (o instanceof Serializable) {
+            c = serialize(o);
+            copies.put(o, c);
+        } else {
+            // streams, threads, loggers...
+            c = o;
+            copies.put(o, c);
+        }
+        return c;
+    }
+
+    /**
+     * Create an empty instance of <i>clazz</i>, or of <i>fallback</i>
+     * when <i>clazz</i> has no accessible no-arg constructor (e.g., unmodifiable collections).
+     */
+    private static Object instantiate(Class<?> clazz, Class<?> fallback) {
+        try {
+            return clazz.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            try {
+                return fallback.getConstructor().newInstance();
+            } catch (ReflectiveOperationException ex) {
+                throw new UnsupportedOperationException(ex);
+            }
+        }
+    }
+
+    private static Object serialize(Object o) {
+        try {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(o);
+            }
+            try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+                return ois.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new UnsupportedOperationException("Cannot copy an instance of " + o.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * A lambda is instantiated again through its constructor, with copies of the captured arguments.
+     */
+    private Object copyLambda(Object o, Kind k) {
+        try {
+            Object[] args = new Object[k.fields.length];
+            for (int i = 0; i < args.length; i++) {
+                Object v = k.fields[i].get(o);
+                args[i] = k.types[i] == Kind.OBJECT ? copyOf(v) : v;
+            }
+            Object c = copies.get(o);
+            if (c == null) {
+                c = k.constructor.newInstance(args);
+                copies.put(o, c);
+            }
+            return c;
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Cannot copy lambda " + o.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * A sub-class of a JDK collection: the inherited part is copied by cloning,
+     * elements are replaced by their copies once all fields are copied.
+     */
+    private Object copyCollection(Object o, Class<?> clazz) {
+        try {
+            Collection<?> l = (Collection<?>) clazz.getMethod("clone").invoke(o);
+            Object[] es = l.toArray();
+            l.clear();
+            for (int i = 0; i < es.length; i++) {
+                es[i] = copyOf(es[i]);
+            }
+            //noinspection unchecked
+            deferred.add(() -> ((Collection<Object>) l).addAll(Arrays.asList(es)));
+            return l;
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new UnsupportedOperationException("Cannot copy an instance of " + clazz.getName(), e);
+        }
+    }
+
+    private static Object allocate(Class<?> clazz) {
+        try {
+            return ALLOCATE.invoke(UNSAFE, clazz);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Cannot copy an instance of " + clazz.getName(), e);
+        }
+    }
+
+    /**
+     * Copy the fields of <i>o</i> into <i>c</i>.
+     */
+    private void fill(Object o, Object c) {
+        Kind k = KINDS.get(o.getClass());
+        Field[] fs = k.fields;
+        try {
+            for (int i = 0; i < fs.length; i++) {
+                Field f = fs[i];
+                switch (k.types[i]) {
+                    case Kind.OBJECT:
+                        f.set(c, copyOf(f.get(o)));
+                        break;
+                    case Kind.INT:
+                        f.setInt(c, f.getInt(o));
+                        break;
+                    case Kind.BOOLEAN:
+                        f.setBoolean(c, f.getBoolean(o));
+                        break;
+                    case Kind.LONG:
+                        f.setLong(c, f.getLong(o));
+                        break;
+                    case Kind.DOUBLE:
+                        f.setDouble(c, f.getDouble(o));
+                        break;
+                    default:
+                        f.set(c, f.get(o));
+                        break;
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new UnsupportedOperationException("Cannot copy an instance of " + o.getClass().getName(), e);
+        }
+        if (c instanceof TObjectHash) {
+            // the hash codes of the copied keys may differ
+            deferred.add(((TObjectHash<?>) c)::compact);
+        }
+    }
+
+    /**
+     * How instances of a class are copied
+     */
+    private static final class Kind {
+        // types of instances
+        static final int SHARED = 0;
+        static final int PRIMITIVE_ARRAY = 1;
+        static final int ARRAY = 2;
+        static final int JDK = 3;
+        static final int LAMBDA = 4;
+        static final int COLLECTION = 5;
+        // types of instances, and of fields
+        static final int OBJECT = 6;
+        // types of fields
+        static final int INT = 7;
+        static final int BOOLEAN = 8;
+        static final int LONG = 9;
+        static final int DOUBLE = 10;
+        static final int OTHER = 11;
+
+        final int type;
+        /**
+         * Instance fields, or captured arguments of a lambda
+         */
+        Field[] fields;
+        /**
+         * Types of the fields
+         */
+        int[] types;
+        /**
+         * Constructor of a lambda
+         */
+        Constructor<?> constructor;
+        /**
+         * Instances referenced by static fields, they are shared
+         */
+        Object[] singletons = new Object[0];
+
+        Kind(Class<?> clazz) {
+            if (isImmutable(clazz)) {
+                type = SHARED;
+            } else if (clazz.isArray()) {
+                type = clazz.getComponentType().isPrimitive() ? PRIMITIVE_ARRAY : ARRAY;
+            } else if (isJDK(clazz)) {
+                type = JDK;
+            } else if (clazz.isSynthetic() && clazz.getName().contains("$$Lambda")) {
+                fields = clazz.getDeclaredFields();
+                // captured arguments are stored in fields arg$1, arg$2, ... in the order of the constructor parameters
+                Arrays.sort(fields, Comparator.comparingInt(f -> Integer.parseInt(f.getName().substring(f.getName().indexOf('$') + 1))));
+                if (fields.length == 0) {
+                    // captures nothing, can be shared
+                    type = SHARED;
+                } else {
+                    type = LAMBDA;
+                    try {
+                        constructor = clazz.getDeclaredConstructors()[0];
+                        constructor.setAccessible(true);
+                        for (Field f : fields) {
+                            f.setAccessible(true);
+                        }
+                    } catch (RuntimeException e) {
+                        throw new UnsupportedOperationException("Cannot copy lambda " + clazz.getName(), e);
+                    }
+                    types();
+                }
+            } else if (Collection.class.isAssignableFrom(clazz)) {
+                type = COLLECTION;
+                fields = instanceFields(clazz);
+                types();
+            } else if (Map.class.isAssignableFrom(clazz)) {
+                throw new UnsupportedOperationException("Cannot copy an instance of " + clazz.getName());
+            } else {
+                type = OBJECT;
+                fields = instanceFields(clazz);
+                types();
+            }
+            if (type != SHARED && !clazz.isArray() && !isJDK(clazz)) {
+                List<Object> list = new ArrayList<>();
+                statics(clazz, clazz, list, new HashSet<>());
+                singletons = list.toArray();
+            }
+        }
+
+        boolean isSingleton(Object o) {
+            for (int i = 0; i < singletons.length; i++) {
+                if (singletons[i] == o) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Collect the instances of <i>clazz</i> referenced by static fields of <i>k</i>,
+         * of its super-classes, interfaces and enclosing classes.
+         * Objects referenced by static fields are singletons or constants.
+         */
+        private static void statics(Class<?> clazz, Class<?> k, List<Object> list, Set<Class<?>> scanned) {
+            if (k == null || isJDK(k) || !scanned.add(k)) {
+                return;
+            }
+            for (Field f : k.getDeclaredFields()) {
+                if (Modifier.isStatic(f.getModifiers()) && f.getType().isAssignableFrom(clazz)) {
+                    try {
+                        f.setAccessible(true);
+                        Object v = f.get(null);
+                        if (v != null && v.getClass() == clazz) {
+                            list.add(v);
+                        }
+                    } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                        // ignore this field
+                    }
+                }
+            }
+            statics(clazz, k.getSuperclass(), list, scanned);
+            for (Class<?> i : k.getInterfaces()) {
+                statics(clazz, i, list, scanned);
+            }
+            statics(clazz, k.getEnclosingClass(), list, scanned);
+        }
+
+        private void types() {
+            types = new int[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                Class<?> t = fields[i].getType();
+                types[i] = !t.isPrimitive() ? OBJECT :
+                        t == int.class ? INT :
+                                t == boolean.class ? BOOLEAN :
+                                        t == long.class ? LONG :
+                                                t == double.class ? DOUBLE : OTHER;
+            }
+        }
+
+        private static boolean isImmutable(Class<?> clazz) {
+            return clazz == String.class
+                    || clazz == Integer.class || clazz == Long.class || clazz == Double.class || clazz == Float.class
+                    || clazz == Short.class || clazz == Byte.class || clazz == Boolean.class || clazz == Character.class
+                    || clazz == BigInteger.class || clazz == BigDecimal.class
+                    || Enum.class.isAssignableFrom(clazz)
+                    || clazz == Class.class
+                    || Tuples.class.isAssignableFrom(clazz)
+                    || IAutomaton.class.isAssignableFrom(clazz)
+                    || clazz.getName().startsWith("dk.brics.automaton.");
+        }
+
+        /**
+         * @return the instance fields of <i>clazz</i> and of its super-classes, up to the first class of the JDK
+         */
+        private static Field[] instanceFields(Class<?> clazz) {
+            List<Field> list = new ArrayList<>();
+            for (Class<?> k = clazz; k != null && !isJDK(k); k = k.getSuperclass()) {
+                for (Field f : k.getDeclaredFields()) {
+                    if (!Modifier.isStatic(f.getModifiers())) {
+                        f.setAccessible(true);
+                        list.add(f);
+                    }
+                }
+            }
+            return list.toArray(new Field[0]);
+        }
+    }
+}
@@ -247,6 +247,27 @@ public class ParallelPortfolio {
         this.reliableness.put(model, reliable);
     }
 
+    /**
+     * Adds <i>model</i> and <i>n</i> copies of it to the list of models to run in parallel.
+     * Copies are obtained with {@link Model#copy()}, which avoids building the same model several times.
+     * All these models are considered as reliable.
+     * <p>
+     * <b>Important:</b> <i>model</i> has to be fully built, with its objective declared if any,
+     * and not solved yet.
+     * </p>
+     *
+     * @param model a model to add
+     * @param n     number of copies of <i>model</i> to add
+     * @throws UnsupportedOperationException if <i>model</i> cannot be copied
+     * @see Model#copy()
+     */
+    public void addModelAndCopies(Model model, int n) throws UnsupportedOperationException {
+        addModel(model);
+        for (int i = 0; i < n; i++) {
+            addModel(model.copy());
+        }
+    }
+
     /**
      * Run the solve() instruction of every model of the portfolio in parallel.
      *
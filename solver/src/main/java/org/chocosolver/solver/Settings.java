@@ -44,14 +44,22 @@ public class Settings {
 
     private int maxDomSizeForEnumerated = 1 << 16;
 
+    private int minDomSizeForSparseSet = Integer.MAX_VALUE;
+
+    private int minDomSizeForRangeSet = Integer.MAX_VALUE;
+
     private int minCardForSumDecomposition = 50;
 
     private boolean enableTableSubstitution = true;
 
     private int maxTupleSizeForSubstitution = 10_000;
 
+    private int minTuplesForTableCompression = 100_000;
+
     private boolean sortPropagatorActivationWRTPriority = true;
 
+    private boolean enableBatchedNotification = true;
+
     private int maxPropagatorPriority = PropagatorPriority.VERY_SLOW.getValue();
 
     private Consumer<Model> defaultSearch = m -> BlackBoxConfigurator.init().make(m);
@@ -62,6 +70,10 @@ public class Settings {
 
     private IntPredicate enableIncrementalityOnBoolSum = i -> i > 10;
 
+    private IntPredicate enableIncrementalityOnSum = i -> i > 100;
+
+    private IntPredicate enableWatchedLiteralsOnPseudoBoolean = i -> i > 100;
+
     private boolean enableSAT = false;
 
     private boolean swapOnPassivate = true;
@@ -229,6 +241,56 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return minimum domain size threshold for an enumerated integer variable to be based on a sparse set
+     * instead of a bitset
+     */
+    public int getMinDomSizeForSparseSet() {
+        return minDomSizeForSparseSet;
+    }
+
+    /**
+     * Define the minimum domain size for an enumerated integer variable to be based on a sparse set
+     * instead of a bitset.
+     * A sparse set removes and restores values in constant time, but looking for the next or previous value
+     * is slower than with a bitset.
+     * Default value is {@link Integer#MAX_VALUE}, that is, enumerated domains are always based on bitsets.
+     *
+     * @param minDomSizeForSparseSet domain size threshold
+     * @return the current instance
+     * @see #getMaxDomSizeForEnumerated()
+     */
+    public Settings setMinDomSizeForSparseSet(int minDomSizeForSparseSet) {
+        this.minDomSizeForSparseSet = minDomSizeForSparseSet;
+        return this;
+    }
+
+    /**
+     * @return minimum range threshold for an enumerated integer variable to be based on a list of ranges
+     * instead of a bitset or a sparse set
+     */
+    public int getMinDomSizeForRangeSet() {
+        return minDomSizeForRangeSet;
+    }
+
+    /**
+     * Define the minimum range (that is, <i>ub - lb + 1</i>) for an integer variable to be based on a list of ranges
+     * instead of a bitset or a sparse set.
+     * The memory footprint of a list of ranges is proportional to the number of ranges, not to the range of the domain.
+     * Moreover, an integer variable created without specifying its kind of domain is enumerated, and not bounded,
+     * when its domain size is greater than or equal to this threshold.
+     * Default value is {@link Integer#MAX_VALUE}, that is, lists of ranges are never used.
+     *
+     * @param minDomSizeForRangeSet range threshold
+     * @return the current instance
+     * @see #getMaxDomSizeForEnumerated()
+     * @see #getMinDomSizeForSparseSet()
+     */
+    public Settings setMinDomSizeForRangeSet(int minDomSizeForRangeSet) {
+        this.minDomSizeForRangeSet = minDomSizeForRangeSet;
+        return this;
+    }
+
     /**
      * @return minimum number of cardinality threshold to a sum constraint to be decomposed
      */
@@ -289,6 +351,28 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return minimum number of allowed tuples of a table constraint to look for a compressed representation
+     */
+    public int getMinTuplesForTableCompression() {
+        return minTuplesForTableCompression;
+    }
+
+    /**
+     * Define the minimum number of allowed tuples of a table constraint to look for a compressed representation,
+     * that is, a short table, a hybrid table or an MDD.
+     * Only checked when no algorithm is specified on table creation.
+     * Set to {@link Integer#MAX_VALUE} to disable the analysis.
+     *
+     * @param minTuplesForTableCompression number of tuples threshold
+     * @return the current instance
+     * @see org.chocosolver.solver.constraints.extension.TuplesCompression
+     */
+    public Settings setMinTuplesForTableCompression(int minTuplesForTableCompression) {
+        this.minTuplesForTableCompression = minTuplesForTableCompression;
+        return this;
+    }
+
 
     /**
      * @return {@code true} if propagators are sorted wrt their priority on initial activation.
@@ -310,6 +394,32 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @return {@code true} if events on variables already scheduled in the
+     * {@link org.chocosolver.solver.propagation.PropagationEngine} are merged directly into the variables.
+     */
+    public boolean enableBatchedNotification() {
+        return enableBatchedNotification;
+    }
+
+    /**
+     * Set whether events on variables already scheduled in the
+     * {@link org.chocosolver.solver.propagation.PropagationEngine} are merged directly into the variables.
+     * In that case, a propagator that modifies a variable many times in one filtering pass
+     * only reaches the engine on the first modification, the related propagators being scheduled once
+     * the pass is over.
+     * This is automatically disabled when the engine observes modifications
+     * (see {@link org.chocosolver.solver.propagation.PropagationEngineObserver}
+     * or {@link org.chocosolver.solver.propagation.PropagationInsight}).
+     *
+     * @param enableBatchedNotification {@code true} to merge events of scheduled variables
+     * @return the current instance
+     */
+    public Settings setEnableBatchedNotification(boolean enableBatchedNotification) {
+        this.enableBatchedNotification = enableBatchedNotification;
+        return this;
+    }
+
 
     /**
      * @return the maximum priority any propagators can have (default is 7)
@@ -413,6 +523,50 @@ public class Settings {
         return this;
     }
 
+    /**
+     * @param nbvars number of variables in the constraint
+     * @return {@code true} if the incrementality is enabled on integer sum and scalar product,
+     * based on the number of variables involved.
+     */
+    public boolean enableIncrementalityOnSum(int nbvars) {
+        return enableIncrementalityOnSum.test(nbvars);
+    }
+
+    /**
+     * Define the predicate to choose incremental integer sum and scalar product, based on number variables declared.
+     * Note that sums and scalar products larger than {@link #getMinCardForSumDecomposition()} are first decomposed.
+     *
+     * @param enableIncrementalityOnSum predicate to pick declare sum or scalar product
+     * @return the current instance
+     */
+    public Settings setEnableIncrementalityOnSum(IntPredicate enableIncrementalityOnSum) {
+        this.enableIncrementalityOnSum = enableIncrementalityOnSum;
+        return this;
+    }
+
+    /**
+     * @param nbvars number of variables in the constraint
+     * @return {@code true} if watched literals are used for pseudo-boolean and cardinality constraints,
+     * based on the number of variables involved.
+     */
+    public boolean enableWatchedLiteralsOnPseudoBoolean(int nbvars) {
+        return enableWatchedLiteralsOnPseudoBoolean.test(nbvars);
+    }
+
+    /**
+     * Define the predicate to choose watched literals for inequalities over boolean variables
+     * compared to a constant, based on number variables declared.
+     * Such constraints are then not decomposed, whatever {@link #getMinCardForSumDecomposition()} is,
+     * and watched literals are only used when few literals have to be watched.
+     *
+     * @param enableWatchedLiteralsOnPseudoBoolean predicate to pick declare pseudo-boolean constraint
+     * @return the current instance
+     */
+    public Settings setEnableWatchedLiteralsOnPseudoBoolean(IntPredicate enableWatchedLiteralsOnPseudoBoolean) {
+        this.enableWatchedLiteralsOnPseudoBoolean = enableWatchedLiteralsOnPseudoBoolean;
+        return this;
+    }
+
     /**
      * @return <i>true</i> when an underlying SAT solver is used to manage clauses declared through {@link ISatFactory},
      * <i>false</i> when clauses are managed with CSP constraints only.
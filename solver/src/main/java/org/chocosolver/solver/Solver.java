@@ -11,6 +11,7 @@ package org.chocosolver.solver;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.InvalidSolutionException;
 import org.chocosolver.solver.exception.SolverException;
@@ -309,7 +310,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         boolean newSolutionFound = searchLoop();
         // close
         searchMonitors.beforeClose();
-        closeSearch();
+        closeSearch(newSolutionFound);
         searchMonitors.afterClose();
         // restoration
         return newSolutionFound;
@@ -608,11 +609,17 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      * Close the search:
      * - set satisfaction
      * - update statistics
+     *
+     * @param paused set to <i>true</i> when the search is paused on a new solution,
+     *               memory measures are then not updated, since it would be too costly when enumerating solutions
      */
-    private void closeSearch() {
+    private void closeSearch(boolean paused) {
         if (mMeasures.getSearchState() == SearchState.RUNNING) {
             mMeasures.setSearchState(SearchState.TERMINATED);
         }
+        if (!paused) {
+            updateMemoryMeasures();
+        }
         feasible = FALSE;
         if (mMeasures.getSolutionCount() > 0) {
             feasible = TRUE;
@@ -1049,6 +1056,26 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         return mMeasures;
     }
 
+    /**
+     * Estimates the memory currently retained by the trails of the environment
+     * and by the data structures owned by the propagators, and records it in the measures.
+     * This is cheap enough to be called periodically during search.
+     *
+     * @see IMeasures#getTrailMemory()
+     * @see IMeasures#getPropagatorMemory()
+     */
+    public void updateMemoryMeasures() {
+        long props = 0L;
+        Constraint[] cstrs = mModel.getCstrs();
+        for (int i = 0; i < cstrs.length; i++) {
+            Propagator<?>[] ps = cstrs[i].getPropagators();
+            for (int j = 0; j < ps.length; j++) {
+                props += ps[j].getEstimatedMemory();
+            }
+        }
+        mMeasures.updateMemory(mModel.getEnvironment().getEstimatedMemory(), props);
+    }
+
     /**
      * Return the events observer plugged into {@code this}.
      *
@@ -1525,6 +1552,21 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         return getDecisionPath().size();
     }
 
+    @Override
+    public long getTrailMemory() {
+        return getMeasures().getTrailMemory();
+    }
+
+    @Override
+    public long getPropagatorMemory() {
+        return getMeasures().getPropagatorMemory();
+    }
+
+    @Override
+    public long getPeakMemory() {
+        return getMeasures().getPeakMemory();
+    }
+
     @Override
     public boolean hasObjective() {
         return getMeasures().hasObjective();
@@ -161,6 +161,27 @@ public class Arithmetic extends Constraint {
 		}
 	}
 
+	/**
+	 * @return the variables of this constraint, in the order they were declared
+	 */
+	public IntVar[] getVariables() {
+		return vars;
+	}
+
+	/**
+	 * @return the two operators of this constraint, the second one is {@link Operator#NONE} when there is one variable
+	 */
+	public Operator[] getOperators() {
+		return new Operator[]{op1, op2};
+	}
+
+	/**
+	 * @return the constant of this constraint
+	 */
+	public int getConstant() {
+		return cste;
+	}
+
 	@Override
 	public Constraint makeOpposite(){
 		Model model = vars[0].getModel();
@@ -93,6 +93,8 @@ public class ConstraintsName {
 
     public static final String LEX = "LEX";
 
+    public static final String LINEAR_RELAXATION = "LINEAR_RELAXATION";
+
     public static final String MDDC = "MDDC";
 
     public static final String MULTICOSTREGULAR = "MULTICOSTREGULAR";
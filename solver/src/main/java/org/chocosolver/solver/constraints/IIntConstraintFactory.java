@@ -17,9 +17,11 @@ import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.binary.*;
 import org.chocosolver.solver.constraints.binary.element.ElementFactory;
 import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.extension.TuplesCompression;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.constraints.extension.binary.*;
 import org.chocosolver.solver.constraints.extension.hybrid.HybridTuples;
+import org.chocosolver.solver.constraints.extension.hybrid.PropCompactHybridTable;
 import org.chocosolver.solver.constraints.extension.hybrid.PropHybridTable;
 import org.chocosolver.solver.constraints.extension.nary.*;
 import org.chocosolver.solver.constraints.nary.PropDiffN;
@@ -1835,6 +1837,22 @@ public interface IIntConstraintFactory extends ISelf<Model> {
         return new Constraint(ConstraintsName.LEX, new PropLex(vars1, vars2, false));
     }
 
+    /**
+     * Creates a constraint that maintains the linear relaxation of the linear constraints
+     * (sums, scalar products and binary arithmetic constraints) posted so far in the model,
+     * along with its objective variable if any.
+     * The relaxation is re-optimized with the dual simplex on bound changes,
+     * it fails when infeasible, bounds the objective variable
+     * and tightens the bounds of the other variables thanks to the reduced costs.
+     * <p>
+     * It is a redundant constraint, to be created once the model, and its objective, are declared.
+     *
+     * @see IntLinCombFactory#linearRelaxation(Model)
+     */
+    default Constraint linearRelaxation() {
+        return IntLinCombFactory.linearRelaxation(ref());
+    }
+
     /**
      * Creates an Argmax constraint.
      * z is the index of the maximum value of the collection of domain variables vars.
@@ -1906,12 +1924,14 @@ public interface IIntConstraintFactory extends ISelf<Model> {
     /**
      * Create a constraint where solutions (tuples) are encoded by a multi-valued decision diagram.
      * The order of the variables in vars is important and must refer to the MDD.
+     * The MDD can also be built from an automaton, see
+     * {@link MultivaluedDecisionDiagram#MultivaluedDecisionDiagram(IntVar[], IAutomaton)}.
      *
      * @param vars the array of variables
      * @param MDD  the multi-valued decision diagram encoding solutions
      */
     default Constraint mddc(IntVar[] vars, MultivaluedDecisionDiagram MDD) {
-        return new Constraint(ConstraintsName.MDDC, new PropLargeMDDC(MDD, vars));
+        return new Constraint(ConstraintsName.MDDC, new PropCompactMDD(MDD, vars));
     }
 
     /**
@@ -2401,12 +2421,31 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      * Creates a table constraint specifying that the sequence of variables vars must belong to the list of tuples
      * (or must NOT belong in case of infeasible tuples)
      * <p>
-     * Default configuration with GACSTR+ algorithm for feasible tuples and GAC3rm otherwise
+     * Default configuration with GACSTR+ algorithm for feasible tuples and GAC3rm otherwise.
+     * <p>
+     * When there are at least {@link org.chocosolver.solver.Settings#getMinTuplesForTableCompression()} allowed tuples,
+     * they are analyzed and, if they are compressible enough, a short table, a hybrid table or an MDD is posted instead
+     * (see {@link TuplesCompression}).
      *
      * @param vars   variables forming the tuples
      * @param tuples the relation between the variables (list of allowed/forbidden tuples)
      */
     default Constraint table(IntVar[] vars, Tuples tuples) {
+        if (tuples.isFeasible() && !tuples.allowUniversalValue()
+                && tuples.nbTuples() >= ref().getSettings().getMinTuplesForTableCompression()) {
+            IntVar[] uvars = (IntVar[]) variableUniqueness(vars)[0];
+            TuplesCompression compression = TuplesCompression.analyze(uvars, tuples);
+            switch (compression.getRepresentation()) {
+                case SHORT_TABLE:
+                    return table(uvars, compression.getShortTuples(), "CT+");
+                case HYBRID_TABLE:
+                    return table(uvars, compression.getHybridTuples());
+                case MDD:
+                    return new Constraint(ConstraintsName.TABLE, new PropCompactMDD(compression.getMDD(), uvars));
+                default:
+                    break;
+            }
+        }
         String algo = "GAC3rm";
         if (tuples.isFeasible()) {
             //noinspection OptionalGetWithoutIsPresent
@@ -2484,7 +2523,7 @@ public interface IIntConstraintFactory extends ISelf<Model> {
             }
             break;
             case "MDD+":
-                p = new PropLargeMDDC(new MultivaluedDecisionDiagram(vars, tuples), vars);
+                p = new PropCompactMDD(new MultivaluedDecisionDiagram(vars, tuples), vars);
                 break;
             case "FC":
                 p = new PropLargeFC(vars, tuples);
@@ -2532,10 +2571,19 @@ public interface IIntConstraintFactory extends ISelf<Model> {
      * @param vars    scope of the constraint
      * @param htuples hybrid tuples
      * @return a hybrid table constraint
-     * @implNote The filtering algorithm is an adaptation of STR2 to expressions.
+     * @implNote When each variable is involved in at most one expression per tuple (basic smart tuples)
+     * and domains span less than 512 values, the filtering algorithm is an adaptation of Compact-Table
+     * to basic smart tables. Otherwise, it is an adaptation of STR2 to expressions.
      */
     default Constraint table(IntVar[] vars, HybridTuples htuples) {
         assert vars.length == htuples.arity();
+        boolean compact = htuples.isBasic();
+        for (int i = 0; i < vars.length && compact; i++) {
+            compact = vars[i].getUB() - vars[i].getLB() < 512;
+        }
+        if (compact) {
+            return new Constraint(ConstraintsName.TABLE, new PropCompactHybridTable(vars, htuples));
+        }
         return new Constraint(ConstraintsName.TABLE, new PropHybridTable(vars, htuples));
     }
 
@@ -517,6 +517,7 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
             model.getEnvironment().save(operations[ACTIVE]);
             //TODO: update var mask back
             model.getSolver().getEngine().deactivatePropagator(this);
+            model.getSolver().getEngine().onPropagatorPassivation(this);
             if (swapOnPassivate) {
                 for (int i = 0; i < vars.length; i++) {
                     if (!vars[i].isInstantiated()) {
@@ -732,6 +733,18 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
         return priority;
     }
 
+    /**
+     * Returns an estimation of the memory retained by the data structures this propagator owns,
+     * such as the supports of a table or the clauses of a store.
+     * Variables and backtrackable objects registered in the environment are not counted.
+     * It should be cheap enough to be called during search.
+     *
+     * @return the estimated size in bytes of the owned data structures, 0 by default
+     */
+    public long getEstimatedMemory() {
+        return 0L;
+    }
+
     /**
      * @return true iff this propagator is stateless: its initial propagation has not been performed yet
      */
@@ -18,7 +18,6 @@ import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
-import org.chocosolver.util.procedure.IntProcedure;
 
 /**
  * X + Y = C
@@ -37,8 +36,6 @@ public final class PropEqualXY_C extends Propagator<IntVar> {
     // incremental filtering of enumerated domains
     private boolean bothEnumerated;
     private IIntDeltaMonitor[] idms;
-    private IntProcedure rem_proc;
-    private int indexToFilter;
 
     public PropEqualXY_C(IntVar[] vars, int c) {
         super(vars, PropagatorPriority.BINARY, true);
@@ -50,7 +47,6 @@ public final class PropEqualXY_C extends Propagator<IntVar> {
             idms = new IIntDeltaMonitor[2];
             idms[0] = vars[0].monitorDelta(this);
             idms[1] = vars[1].monitorDelta(this);
-            rem_proc = i -> vars[indexToFilter].removeValue(cste - i, this);
         }
     }
 
@@ -88,8 +84,12 @@ public final class PropEqualXY_C extends Propagator<IntVar> {
     public void propagate(int varIdx, int mask) throws ContradictionException {
         updateBounds();
         if (bothEnumerated) {
-            indexToFilter = 1 - varIdx;
-            idms[varIdx].forEachRemVal(rem_proc);
+            IIntDeltaMonitor idm = idms[varIdx];
+            IntVar toFilter = vars[1 - varIdx];
+            idm.freeze();
+            while (idm.hasNextRemVal()) {
+                toFilter.removeValue(cste - idm.nextRemVal(), this);
+            }
         }
     }
 
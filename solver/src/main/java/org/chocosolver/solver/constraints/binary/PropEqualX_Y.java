@@ -17,7 +17,6 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
-import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.tools.ArrayUtils;
 
 /**
@@ -36,8 +35,6 @@ public final class PropEqualX_Y extends Propagator<IntVar> {
     // enumerated domains
     private boolean bothEnumerated;
     private IIntDeltaMonitor[] idms;
-    private IntProcedure rem_proc;
-    private int indexToFilter;
 
     public PropEqualX_Y(IntVar x, IntVar y) {
         super(ArrayUtils.toArray(x, y), PropagatorPriority.BINARY, true);
@@ -48,7 +45,6 @@ public final class PropEqualX_Y extends Propagator<IntVar> {
             idms = new IIntDeltaMonitor[2];
             idms[0] = vars[0].monitorDelta(this);
             idms[1] = vars[1].monitorDelta(this);
-            rem_proc = i -> vars[indexToFilter].removeValue(i, this);
         }
     }
 
@@ -93,8 +89,12 @@ public final class PropEqualX_Y extends Propagator<IntVar> {
     public void propagate(int varIdx, int mask) throws ContradictionException {
         updateBounds();
         if (bothEnumerated && (!x.isInstantiated() || !y.isInstantiated())) {
-            indexToFilter = 1 - varIdx;
-            idms[varIdx].forEachRemVal(rem_proc);
+            IIntDeltaMonitor idm = idms[varIdx];
+            IntVar toFilter = vars[1 - varIdx];
+            idm.freeze();
+            while (idm.hasNextRemVal()) {
+                toFilter.removeValue(idm.nextRemVal(), this);
+            }
         }
     }
 
@@ -18,7 +18,6 @@ import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.solver.variables.events.IntEventType;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
-import org.chocosolver.util.procedure.IntProcedure;
 
 /**
  * X = Y + C
@@ -38,9 +37,6 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
     // incremental filtering of enumerated domains
     private boolean bothEnumerated;
     private IIntDeltaMonitor[] idms;
-    private IntProcedure rem_proc;
-    private int indexToFilter;
-    private int offSet;
 
     public PropEqualX_YC(IntVar[] vars, int c) {
         super(vars, PropagatorPriority.BINARY, true);
@@ -52,7 +48,6 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
             idms = new IIntDeltaMonitor[2];
             idms[0] = vars[0].monitorDelta(this);
             idms[1] = vars[1].monitorDelta(this);
-            rem_proc = i -> vars[indexToFilter].removeValue(i + offSet, this);
         }
     }
 
@@ -90,14 +85,13 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
     public void propagate(int varIdx, int mask) throws ContradictionException {
         updateBounds();
         if (bothEnumerated && (!x.isInstantiated() || !y.isInstantiated())) {
-            if (varIdx == 0) {
-                indexToFilter = 1;
-                offSet = -cste;
-            } else {
-                indexToFilter = 0;
-                offSet = cste;
+            IIntDeltaMonitor idm = idms[varIdx];
+            IntVar toFilter = vars[1 - varIdx];
+            int offSet = varIdx == 0 ? -cste : cste;
+            idm.freeze();
+            while (idm.hasNextRemVal()) {
+                toFilter.removeValue(idm.nextRemVal() + offSet, this);
             }
-            idms[varIdx].forEachRemVal(rem_proc);
         }
     }
 
@@ -0,0 +1,374 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.constraints.extension.hybrid.HybridTuples;
+import org.chocosolver.solver.constraints.extension.hybrid.ISupportable;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * An analyzer of the structure of a set of allowed tuples, which looks for a more compact representation:
+ * <ul>
+ *     <li>a short table, where tuples that only differ on a variable and cover its entire domain
+ *     are merged into a tuple with a universal value,</li>
+ *     <li>a hybrid table, where tuples that only differ on a variable are merged into a Cartesian product block,
+ *     that is, a tuple made of sets of values,</li>
+ *     <li>a multivalued decision diagram, where common prefixes and suffixes are shared.</li>
+ * </ul>
+ * The size of each representation is the number of cells it needs to store,
+ * an edge of the MDD counts for two cells (a value and a target node).
+ * The smallest one is selected, as long as it is at least {@link #MIN_RATIO} times smaller than the table.
+ * <br/>
+ * The tuples are compressed greedily, variable by variable, until no more tuples can be merged.
+ * Tuples that are not valid wrt the current domains are ignored.
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public final class TuplesCompression {
+
+    /**
+     * The representations of a set of tuples
+     */
+    public enum Representation {
+        /**
+         * Tuples are listed (no compression)
+         */
+        TABLE,
+        /**
+         * Short tuples, that is, tuples with universal value
+         */
+        SHORT_TABLE,
+        /**
+         * Hybrid tuples made of sets of values
+         */
+        HYBRID_TABLE,
+        /**
+         * Multivalued decision diagram
+         */
+        MDD
+    }
+
+    /**
+     * Minimal ratio between the size of the table and the size of a compressed representation
+     * for the latter to be selected
+     */
+    public static final double MIN_RATIO = 2.;
+
+    private final IntVar[] vars;
+    private final Tuples tuples;
+    private final long[] sizes = new long[Representation.values().length];
+    private final Representation representation;
+    /**
+     * For each variable, the sets of values referred to by the blocks.
+     * The first ones are the singletons, in increasing order of the values, then comes the domain.
+     */
+    private final List<int[]>[] sets;
+    private final List<HashMap<TIntArrayList, Integer>> index;
+    private final List<int[]> shorts;
+    private final List<int[]> blocks;
+    private final MultivaluedDecisionDiagram mdd;
+
+    @SuppressWarnings("unchecked")
+    private TuplesCompression(IntVar[] vars, Tuples tuples) {
+        this.vars = vars;
+        this.tuples = tuples;
+        this.sets = new List[vars.length];
+        this.index = new ArrayList<>();
+        int[][] ids = new int[vars.length][];
+        for (int i = 0; i < vars.length; i++) {
+            sets[i] = new ArrayList<>();
+            index.add(new HashMap<>());
+            ids[i] = new int[vars[i].getUB() - vars[i].getLB() + 1];
+            int[] domain = new int[vars[i].getDomainSize()];
+            for (int v = vars[i].getLB(), k = 0; v <= vars[i].getUB(); v = vars[i].nextValue(v), k++) {
+                ids[i][v - vars[i].getLB()] = k;
+                sets[i].add(new int[]{v});
+                domain[k] = v;
+            }
+            sets[i].add(domain);
+        }
+        HashSet<Block> unique = new HashSet<>();
+        List<int[]> init = new ArrayList<>();
+        top:
+        for (int t = 0; t < tuples.nbTuples(); t++) {
+            int[] tuple = tuples.get(t);
+            int[] block = new int[vars.length];
+            for (int i = 0; i < vars.length; i++) {
+                if (!vars[i].contains(tuple[i])) {
+                    continue top;
+                }
+                block[i] = ids[i][tuple[i] - vars[i].getLB()];
+            }
+            if (unique.add(new Block(block, -1))) {
+                init.add(block);
+            }
+        }
+        unique.clear();
+        this.shorts = compress(init, true);
+        // the short blocks are Cartesian blocks too
+        this.blocks = compress(shorts, false);
+        this.mdd = new MultivaluedDecisionDiagram(vars, tuples);
+        sizes[Representation.TABLE.ordinal()] = (long) init.size() * vars.length;
+        sizes[Representation.SHORT_TABLE.ordinal()] = (long) shorts.size() * vars.length;
+        for (int[] block : blocks) {
+            for (int i = 0; i < vars.length; i++) {
+                sizes[Representation.HYBRID_TABLE.ordinal()] += isFull(i, block[i]) ? 1 : sets[i].get(block[i]).length;
+            }
+        }
+        for (int c : mdd.getDiagram()) {
+            if (c != MultivaluedDecisionDiagram.EMPTY) {
+                sizes[Representation.MDD.ordinal()] += 2;
+            }
+        }
+        Representation best = Representation.TABLE;
+        for (Representation r : Representation.values()) {
+            if (sizes[r.ordinal()] < sizes[best.ordinal()]) {
+                best = r;
+            }
+        }
+        if (sizes[best.ordinal()] * MIN_RATIO > sizes[Representation.TABLE.ordinal()]) {
+            best = Representation.TABLE;
+        }
+        this.representation = best;
+    }
+
+    /**
+     * Analyze the allowed tuples of a table constraint.
+     *
+     * @param vars   scope of the table constraint
+     * @param tuples allowed tuples, without universal value
+     * @return the result of the analysis
+     */
+    public static TuplesCompression analyze(IntVar[] vars, Tuples tuples) {
+        if (!tuples.isFeasible() || tuples.allowUniversalValue()) {
+            throw new IllegalArgumentException("Only allowed tuples without universal value can be compressed");
+        }
+        return new TuplesCompression(vars, tuples);
+    }
+
+    /**
+     * @param i  index of a variable
+     * @param id index of a set of values of the variable <i>i</i>
+     * @return <i>true</i> if the set is the domain of the variable <i>i</i>
+     */
+    private boolean isFull(int i, int id) {
+        return id == vars[i].getDomainSize();
+    }
+
+    /**
+     * Merge greedily the blocks that only differ on one variable
+     *
+     * @param blocks   blocks to merge
+     * @param fullOnly set to <i>true</i> to only merge blocks when the union covers the domain
+     * @return merged blocks
+     */
+    private List<int[]> compress(List<int[]> blocks, boolean fullOnly) {
+        // merging twice in a row on the same variable is useless,
+        // so stop when the other variables have been tried since the last merge
+        for (int i = 0, fruitless = 0; fruitless < vars.length - 1; i = (i + 1) % vars.length) {
+            int nb = blocks.size();
+            blocks = merge(blocks, i, fullOnly);
+            fruitless = blocks.size() < nb ? 0 : fruitless + 1;
+        }
+        return blocks;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<int[]> merge(List<int[]> blocks, int i, boolean fullOnly) {
+        // a group is either a block or a list of blocks
+        HashMap<Block, Object> groups = new HashMap<>();
+        List<Block> order = new ArrayList<>();
+        for (int[] block : blocks) {
+            Block key = new Block(block, i);
+            Object group = groups.putIfAbsent(key, block);
+            if (group == null) {
+                order.add(key);
+            } else if (group instanceof int[]) {
+                List<int[]> list = new ArrayList<>();
+                list.add((int[]) group);
+                list.add(block);
+                groups.put(key, list);
+            } else {
+                ((List<int[]>) group).add(block);
+            }
+        }
+        int full = vars[i].getDomainSize();
+        List<int[]> result = new ArrayList<>();
+        for (Block key : order) {
+            Object g = groups.get(key);
+            if (g instanceof int[]) {
+                result.add((int[]) g);
+                continue;
+            }
+            List<int[]> group = (List<int[]>) g;
+            // the blocks of a group are disjoint on the variable i
+            int size = 0;
+            for (int[] block : group) {
+                size += sets[i].get(block[i]).length;
+            }
+            if (fullOnly && size < full) {
+                result.addAll(group);
+                continue;
+            }
+            int[] block = group.get(0).clone();
+            if (size == full) {
+                block[i] = full;
+            } else {
+                int[] values = new int[size];
+                int k = 0;
+                for (int[] b : group) {
+                    int[] set = sets[i].get(b[i]);
+                    System.arraycopy(set, 0, values, k, set.length);
+                    k += set.length;
+                }
+                Arrays.sort(values);
+                Integer id = index.get(i).putIfAbsent(TIntArrayList.wrap(values), sets[i].size());
+                if (id == null) {
+                    id = sets[i].size();
+                    sets[i].add(values);
+                }
+                block[i] = id;
+            }
+            result.add(block);
+        }
+        return result;
+    }
+
+    /**
+     * @return the selected representation
+     */
+    public Representation getRepresentation() {
+        return representation;
+    }
+
+    /**
+     * @param r a representation
+     * @return the number of cells needed to store the tuples in the representation <i>r</i>
+     */
+    public long getSize(Representation r) {
+        return sizes[r.ordinal()];
+    }
+
+    /**
+     * @return the ratio between the size of the table and the size of the selected representation
+     */
+    public double getCompressionRatio() {
+        return sizes[Representation.TABLE.ordinal()] / (double) Math.max(1, sizes[representation.ordinal()]);
+    }
+
+    /**
+     * @return the short tuples, the universal value is smaller than any value of the domains
+     */
+    public Tuples getShortTuples() {
+        int star = Integer.MAX_VALUE;
+        for (IntVar var : vars) {
+            star = Math.min(star, var.getLB() - 1);
+        }
+        Tuples st = new Tuples(true);
+        st.setUniversalValue(star);
+        for (int[] block : shorts) {
+            int[] tuple = new int[vars.length];
+            for (int i = 0; i < vars.length; i++) {
+                tuple[i] = isFull(i, block[i]) ? star : sets[i].get(block[i])[0];
+            }
+            st.add(tuple);
+        }
+        return st;
+    }
+
+    /**
+     * @return the hybrid tuples, made of Cartesian product blocks
+     */
+    public HybridTuples getHybridTuples() {
+        HybridTuples ht = new HybridTuples();
+        for (int[] block : blocks) {
+            ISupportable[] tuple = new ISupportable[vars.length];
+            for (int i = 0; i < vars.length; i++) {
+                int[] set = sets[i].get(block[i]);
+                if (isFull(i, block[i])) {
+                    tuple[i] = HybridTuples.any();
+                } else if (set.length == 1) {
+                    tuple[i] = HybridTuples.eq(set[0]);
+                } else {
+                    tuple[i] = HybridTuples.in(set);
+                }
+            }
+            ht.add(tuple);
+        }
+        return ht;
+    }
+
+    /**
+     * @return the multivalued decision diagram
+     */
+    public MultivaluedDecisionDiagram getMDD() {
+        return mdd;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder st = new StringBuilder();
+        st.append(tuples.nbTuples()).append(" tuples of arity ").append(vars.length).append(':');
+        for (Representation r : Representation.values()) {
+            st.append(' ').append(r).append('=').append(sizes[r.ordinal()]);
+        }
+        st.append(String.format(" -> %s (ratio: %.1f)", representation, getCompressionRatio()));
+        return st.toString();
+    }
+
+    /**
+     * A block seen from all variables but one, for hashing purpose
+     */
+    private static final class Block {
+        private final int[] ids;
+        private final int skip;
+        private final int hash;
+
+        private Block(int[] ids, int skip) {
+            this.ids = ids;
+            this.skip = skip;
+            int h = 1;
+            for (int i = 0; i < ids.length; i++) {
+                if (i != skip) {
+                    h = 31 * h + ids[i];
+                }
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Block)) {
+                return false;
+            }
+            int[] other = ((Block) o).ids;
+            for (int i = 0; i < ids.length; i++) {
+                if (i != skip && ids[i] != other[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -157,6 +157,21 @@ public class HybridTuples {
         return hybridTuples.size();
     }
 
+    /**
+     * @return <i>true</i> if, in each tuple, each variable is involved in at most one expression,
+     * that is, all tuples are basic smart tuples.
+     */
+    public boolean isBasic() {
+        for (ISupportable[] tuple : hybridTuples) {
+            for (ISupportable exp : tuple) {
+                if (exp instanceof ISupportable.Many && ((ISupportable.Many) exp).exps.size() > 1) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     //////////////////////// DSL ////////////////////////
 
     /**
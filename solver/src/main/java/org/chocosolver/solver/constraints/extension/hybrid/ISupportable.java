@@ -291,6 +291,16 @@ public interface ISupportable {
             this.is = indices;
         }
 
+        /**
+         * @param vs    STR variables, declared on the table constraint
+         * @param idx   index of a variable of this expression in {@code vs}
+         * @param value a value of the variable at position <code>idx</code>
+         * @return <i>true</i> if this expression can be satisfied
+         * when the variable at position <code>idx</code> is assigned to <code>value</code>,
+         * for the current domain of the other variable.
+         */
+        abstract boolean satisfiable(ASupport[] vs, int idx, int value);
+
     }
 
     /**
@@ -311,10 +321,11 @@ public interface ISupportable {
 
         @Override
         public boolean satisfiable(ASupport[] vs, int idx) {
-            int j = is[1], c = cste;
+            // col(j) = col(idx) + c
+            int j = is[1], c = -cste;
             if (idx == is[1]) {
                 j = is[0];
-                c = -cste;
+                c = cste;
             }
             int sm = idx, la = j;
             // look for the smallest domain to iterate on
@@ -334,10 +345,11 @@ public interface ISupportable {
 
         @Override
         public void support(ASupport[] vs, int idx) {
-            int j = is[1], c = cste;
+            // col(j) = col(idx) + c
+            int j = is[1], c = -cste;
             if (idx == is[1]) {
                 j = is[0];
-                c = -cste;
+                c = cste;
             }
             int sm = idx, la = j, de = 0;
             // look for the smallest domain to iterate on
@@ -354,6 +366,15 @@ public interface ISupportable {
                 }
             }
         }
+
+        @Override
+        boolean satisfiable(ASupport[] vs, int idx, int value) {
+            if (idx == is[0]) {
+                return vs[is[1]].getVar().contains(value - cste);
+            } else {
+                return vs[is[0]].getVar().contains(value + cste);
+            }
+        }
     }
 
     /**
@@ -404,6 +425,15 @@ public interface ISupportable {
                 vs[idx].supportAll();
             }
         }
+
+        @Override
+        boolean satisfiable(ASupport[] vs, int idx, int value) {
+            if (idx == is[0]) {
+                return !vs[is[1]].getVar().isInstantiatedTo(value - cste);
+            } else {
+                return !vs[is[0]].getVar().isInstantiatedTo(value + cste);
+            }
+        }
     }
 
     /**
@@ -453,6 +483,15 @@ public interface ISupportable {
                 }
             }
         }
+
+        @Override
+        boolean satisfiable(ASupport[] vs, int idx, int value) {
+            if (idx == is[0]) {
+                return value >= vs[is[1]].getVar().getLB() + cste;
+            } else {
+                return vs[is[0]].getVar().getUB() >= value + cste;
+            }
+        }
     }
 
     /**
@@ -501,6 +540,15 @@ public interface ISupportable {
                 }
             }
         }
+
+        @Override
+        boolean satisfiable(ASupport[] vs, int idx, int value) {
+            if (idx == is[0]) {
+                return value <= vs[is[1]].getVar().getUB() + cste;
+            } else {
+                return vs[is[0]].getVar().getLB() <= value + cste;
+            }
+        }
     }
 
     /**
@@ -0,0 +1,382 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.hybrid;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.extension.nary.PropCompactTable.RSparseBitSet;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.MemoryUtils;
+
+import java.util.Arrays;
+
+/**
+ * This class implements the filtering algorithm from:
+ * "Extending Compact-Table to Basic Smart Tables",
+ * H. Verhaeghe and C. Lecoutre and Y. Deville and P. Schauss, CP-17.
+ * It deals with basic smart/hybrid tuples, that is, tuples where each variable is involved
+ * in at most one expression (see {@link HybridTuples#isBasic()}).
+ * <br/>
+ * Unary expressions are compiled into the supports of Compact-Table:
+ * a tuple supports a value if the expression on the column accepts it.
+ * A column involved in a binary expression is seen as a universal value by the supports,
+ * the binary expressions are then checked on the tuples that are still valid,
+ * and on each value that is not supported by a tuple without binary expression on its column.
+ * The supports of a variable are updated incrementally from the removed values
+ * as long as its columns only contain values and universal values.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class PropCompactHybridTable extends Propagator<IntVar> {
+
+    private final ISupportable[][] table;
+    private final RSparseBitSet currTable;
+    /**
+     * Tuples that support each value
+     */
+    private final long[][][] supports;
+    /**
+     * Tuples that explicitly support each value, <i>null</i> when the supports of a variable
+     * cannot be updated from the removed values
+     */
+    private final long[][][] inc_supports;
+    private final int[][] residues;
+    private final int[] offset;
+    /**
+     * Tuples with at least one binary expression
+     */
+    private final long[] binTuples;
+    /**
+     * For each variable, the tuples with a binary expression on its column, <i>null</i> if none
+     */
+    private final long[][] binOn;
+    /**
+     * For each tuple with a binary expression, the binary expression on each column, <i>null</i> otherwise
+     */
+    private final ISupportable.Nary[][] rels;
+    private final ASupport[] svars;
+    private final IIntDeltaMonitor[] monitors;
+    private final long[] tmp;
+
+    /**
+     * Create a propagator for table constraint with basic smart tuples.
+     *
+     * @param vars    scope
+     * @param htuples basic hybrid tuples
+     * @throws SolverException if the tuples are not basic
+     */
+    public PropCompactHybridTable(IntVar[] vars, HybridTuples htuples) {
+        super(vars, PropagatorPriority.QUADRATIC, true);
+        if (!htuples.isBasic()) {
+            throw new SolverException("PropCompactHybridTable only deals with basic smart tuples");
+        }
+        this.table = htuples.toArray();
+        int n = vars.length;
+        this.currTable = new RSparseBitSet(model.getEnvironment(), Math.max(1, table.length));
+        int nw = currTable.words.length;
+        this.offset = new int[n];
+        this.supports = new long[n][][];
+        this.inc_supports = new long[n][][];
+        this.residues = new int[n][];
+        this.binTuples = new long[nw];
+        this.binOn = new long[n][];
+        this.rels = new ISupportable.Nary[table.length][];
+        this.svars = new ASupport[n];
+        for (int i = 0; i < n; i++) {
+            offset[i] = vars[i].getLB();
+            supports[i] = new long[vars[i].getUB() - offset[i] + 1][nw];
+            inc_supports[i] = new long[supports[i].length][nw];
+            residues[i] = new int[supports[i].length];
+            svars[i] = new Collector();
+            svars[i].setVar(vars[i]);
+        }
+        computeSupports();
+        this.monitors = new IIntDeltaMonitor[n];
+        for (int i = 0; i < n; i++) {
+            monitors[i] = vars[i].monitorDelta(this);
+        }
+        this.tmp = new long[nw];
+    }
+
+    private void computeSupports() {
+        for (int t = 0; t < table.length; t++) {
+            int w = t >>> 6;
+            long bit = Long.MIN_VALUE >>> t;
+            for (int i = 0; i < vars.length; i++) {
+                ISupportable exp = table[t][i];
+                if (exp instanceof ISupportable.Many) {
+                    exp = ((ISupportable.Many) exp).exps.get(0);
+                }
+                Collector col = (Collector) svars[i];
+                col.set(i, w, bit);
+                if (exp instanceof ISupportable.Nary) {
+                    // seen as a universal value
+                    col.supportAll();
+                    if (rels[t] == null) {
+                        rels[t] = new ISupportable.Nary[vars.length];
+                    }
+                    rels[t][i] = (ISupportable.Nary) exp;
+                    binTuples[w] |= bit;
+                    if (binOn[i] == null) {
+                        binOn[i] = new long[binTuples.length];
+                    }
+                    binOn[i][w] |= bit;
+                } else if (exp instanceof ISupportable.UnAny) {
+                    col.supportAll();
+                } else {
+                    if (exp instanceof ISupportable.UnEqXC) {
+                        int v = ((ISupportable.UnEqXC) exp).anInt;
+                        if (inc_supports[i] != null && vars[i].contains(v)) {
+                            inc_supports[i][v - offset[i]][w] |= bit;
+                        }
+                    } else {
+                        // the supports cannot be updated from the removed values
+                        inc_supports[i] = null;
+                    }
+                    ((ISupportable.Unary) exp).support(col);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            for (int i = 0; i < vars.length; i++) {
+                resetMask(i);
+                currTable.intersectWithMask();
+            }
+            for (int i = 0; i < vars.length; i++) {
+                monitors[i].startMonitoring();
+            }
+        }
+        filterTuples();
+        filterDomains();
+    }
+
+    @Override
+    public void propagate(int vIdx, int mask) throws ContradictionException {
+        if (inc_supports[vIdx] != null && vars[vIdx].getDomainSize() > monitors[vIdx].sizeApproximation()) {
+            currTable.clearMask();
+            IIntDeltaMonitor monitor = monitors[vIdx];
+            long[][] sups = inc_supports[vIdx];
+            int off = offset[vIdx];
+            monitor.freeze();
+            while (monitor.hasNextRemVal()) {
+                currTable.addToMask(sups[monitor.nextRemVal() - off]);
+            }
+            currTable.reverseMask();
+        } else {
+            resetMask(vIdx);
+        }
+        currTable.intersectWithMask();
+        if (currTable.isEmpty()) { // fail as soon as possible
+            fails();
+        }
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    /**
+     * Set the mask to the tuples that support a value of the variable <i>i</i>
+     *
+     * @param i index of a variable
+     */
+    private void resetMask(int i) {
+        currTable.clearMask();
+        int ub = vars[i].getUB();
+        for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+            currTable.addToMask(supports[i][v - offset[i]]);
+        }
+    }
+
+    /**
+     * Remove the tuples with a binary expression that cannot be satisfied anymore
+     */
+    private void filterTuples() {
+        boolean removed = false;
+        for (int w = 0; w < binTuples.length; w++) {
+            long b = currTable.words[w].get() & binTuples[w];
+            while (b != 0L) {
+                int k = Long.numberOfLeadingZeros(b);
+                long bit = Long.MIN_VALUE >>> k;
+                b &= ~bit;
+                ISupportable.Nary[] rel = rels[(w << 6) + k];
+                for (int i = 0; i < rel.length; i++) {
+                    // each expression is checked once
+                    if (rel[i] != null && rel[i].is[0] == i && !rel[i].satisfiable(svars, i)) {
+                        tmp[w] |= bit;
+                        removed = true;
+                        break;
+                    }
+                }
+            }
+        }
+        if (removed) {
+            currTable.clearMask();
+            currTable.addToMask(tmp);
+            currTable.reverseMask();
+            currTable.intersectWithMask();
+            Arrays.fill(tmp, 0L);
+        }
+    }
+
+    private void filterDomains() throws ContradictionException {
+        if (currTable.isEmpty()) {
+            fails();
+        }
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i].hasEnumeratedDomain()) {
+                int ub = vars[i].getUB();
+                for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+                    if (!isSupported(i, v)) {
+                        vars[i].removeValue(v, this);
+                    }
+                }
+            } else {
+                int lb = vars[i].getLB();
+                int ub = vars[i].getUB();
+                while (lb <= ub && !isSupported(i, lb)) {
+                    lb++;
+                }
+                vars[i].updateLowerBound(lb, this);
+                while (ub > lb && !isSupported(i, ub)) {
+                    ub--;
+                }
+                vars[i].updateUpperBound(ub, this);
+            }
+        }
+    }
+
+    /**
+     * @param i index of a variable
+     * @param v a value of the variable <i>i</i>
+     * @return <i>true</i> if a valid tuple supports <i>v</i>
+     */
+    private boolean isSupported(int i, int v) {
+        long[] sup = supports[i][v - offset[i]];
+        int r = residues[i][v - offset[i]];
+        long[] bin = binOn[i];
+        if (bin == null) {
+            if ((currTable.words[r].get() & sup[r]) == 0L) {
+                r = currTable.intersectIndex(sup);
+                if (r == -1) {
+                    return false;
+                }
+                residues[i][v - offset[i]] = r;
+            }
+            return true;
+        }
+        if ((currTable.words[r].get() & sup[r] & ~bin[r]) != 0L) {
+            return true;
+        }
+        for (int w = 0; w < sup.length; w++) {
+            long m = currTable.words[w].get() & sup[w];
+            if ((m & ~bin[w]) != 0L) {
+                residues[i][v - offset[i]] = w;
+                return true;
+            }
+            // the tuples with a binary expression on the column i
+            while (m != 0L) {
+                int k = Long.numberOfLeadingZeros(m);
+                m &= ~(Long.MIN_VALUE >>> k);
+                if (rels[(w << 6) + k][i].satisfiable(svars, i, v)) {
+                    residues[i][v - offset[i]] = w;
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (!isCompletelyInstantiated()) {
+            return ESat.UNDEFINED;
+        }
+        Arrays.fill(tmp, -1L);
+        for (int i = 0; i < vars.length; i++) {
+            int v = vars[i].getValue() - offset[i];
+            if (v < 0 || v >= supports[i].length) {
+                return ESat.FALSE;
+            }
+            for (int w = 0; w < tmp.length; w++) {
+                tmp[w] &= supports[i][v][w];
+            }
+        }
+        boolean found = false;
+        for (int w = 0; w < tmp.length && !found; w++) {
+            long m = tmp[w];
+            while (m != 0L && !found) {
+                int k = Long.numberOfLeadingZeros(m);
+                m &= ~(Long.MIN_VALUE >>> k);
+                ISupportable.Nary[] rel = rels[(w << 6) + k];
+                found = true;
+                for (int i = 0; rel != null && i < rel.length && found; i++) {
+                    found = rel[i] == null || rel[i].satisfiable(svars, i, vars[i].getValue());
+                }
+            }
+        }
+        Arrays.fill(tmp, 0L);
+        return ESat.eval(found);
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return MemoryUtils.sizeOf(supports)
+                + MemoryUtils.sizeOf(inc_supports)
+                + MemoryUtils.sizeOf(residues)
+                + MemoryUtils.sizeOf(offset)
+                + currTable.getEstimatedMemory();
+    }
+
+    @Override
+    public String toString() {
+        return "CT hybrid table constraint with " + vars.length + " vars and " + table.length + " tuples";
+    }
+
+    /**
+     * Records the values supported by an expression, for a given tuple
+     */
+    private final class Collector extends ASupport {
+        private int i;
+        private int w;
+        private long bit;
+
+        void set(int i, int w, long bit) {
+            this.i = i;
+            this.w = w;
+            this.bit = bit;
+        }
+
+        @Override
+        void support(int value) {
+            value -= PropCompactHybridTable.this.offset[i];
+            // expressions may refer to values out of the domain
+            if (value >= 0 && value < supports[i].length) {
+                supports[i][value][w] |= bit;
+            }
+        }
+
+        @Override
+        void supportAll() {
+            int ub = getVar().getUB();
+            for (int v = getVar().getLB(); v <= ub; v = getVar().nextValue(v)) {
+                support(v);
+            }
+        }
+    }
+}
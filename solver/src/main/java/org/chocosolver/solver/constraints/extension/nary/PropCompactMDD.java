@@ -0,0 +1,573 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
+import org.chocosolver.util.tools.MemoryUtils;
+
+import java.util.Arrays;
+
+/**
+ * Propagator maintaining GAC on a constraint whose solutions are encoded by a multi-valued decision diagram.
+ * <br/>
+ * The edges of each layer are stored in a reversible sparse bit-set, as Compact-Table does for tuples.
+ * The edges of a layer are sorted by source node, so that the outgoing edges of a node are contiguous.
+ * On value removals, the edges labeled by the removed values are deleted from the delta of the variable.
+ * Then, the nodes without outgoing edges are deleted bottom-up, and the nodes without incoming edges
+ * are deleted top-down, by only visiting the extremities of the deleted edges.
+ * A value is supported as long as one of its edges remains, which is checked with residues.
+ * <br/>
+ * Based on "Compact-MDD: Efficiently Filtering (s)MDD Constraints with Reversible Sparse Bit-sets" </br>
+ * H. Verhaeghe, C. Lecoutre and P. Schaus
+ * <p>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class PropCompactMDD extends Propagator<IntVar> {
+
+    /**
+     * The MDD, only for checker
+     */
+    private final MultivaluedDecisionDiagram MDD;
+    /**
+     * Number of layers, that is the number of variables
+     */
+    private final int n;
+    /**
+     * For each layer, the source node of each edge
+     */
+    private final int[][] src;
+    /**
+     * For each layer, the destination node of each edge
+     */
+    private final int[][] dst;
+    /**
+     * For each layer, the outgoing edges of node u are in [start[l][u], start[l][u+1])
+     */
+    private final int[][] start;
+    /**
+     * For each layer l, the incoming edges of node w of layer l+1 are
+     * inEdges[l][inStart[l][w]], ..., inEdges[l][inStart[l][w+1] - 1]
+     */
+    private final int[][] inStart;
+    private final int[][] inEdges;
+    /**
+     * For each layer, the current edges
+     */
+    private final PropCompactTable.RSparseBitSet[] currEdges;
+    /**
+     * For each layer and each value, the edges labeled by the value
+     */
+    private final long[][][] supports;
+    private final int[][] residues;
+    private final int[] offset;
+    private final IIntDeltaMonitor[] monitors;
+    /**
+     * For each layer, the edges deleted since the last call to {@link #propagate(int)}
+     */
+    private final long[][] deleted;
+    /**
+     * Edges to delete in a layer, in the words [lo, hi]
+     */
+    private final long[] toDelete;
+    private int lo = Integer.MAX_VALUE, hi = -1;
+    /**
+     * For each layer, the nodes already visited in the current pass
+     */
+    private final int[][] seen;
+    private int stamp;
+    /**
+     * Layers in which an edge was deleted
+     */
+    private final boolean[] touched;
+
+    /**
+     * Create a propagator maintaining GAC based on a MDD.
+     * The MDD can be shared between multiple propagators, no copy is achieved.
+     *
+     * @param MDD  Multi-valued Decision Diagram, stores the solutions
+     * @param VARS the related variables -- the order is important, and need to match the MDD.
+     */
+    public PropCompactMDD(MultivaluedDecisionDiagram MDD, IntVar... VARS) {
+        super(VARS, PropagatorPriority.QUADRATIC, true);
+        this.MDD = MDD;
+        this.n = vars.length;
+        this.src = new int[n][];
+        this.dst = new int[n][];
+        this.start = new int[n][];
+        this.inStart = new int[n][];
+        this.inEdges = new int[n][];
+        this.currEdges = new PropCompactTable.RSparseBitSet[n];
+        this.supports = new long[n][][];
+        this.residues = new int[n][];
+        this.offset = new int[n];
+        this.monitors = new IIntDeltaMonitor[n];
+        this.deleted = new long[n][];
+        this.seen = new int[n + 1][];
+        this.touched = new boolean[n];
+        int maxWords = build();
+        this.toDelete = new long[maxWords];
+        for (int i = 0; i < n; i++) {
+            monitors[i] = vars[i].monitorDelta(this);
+        }
+    }
+
+    //***********************************************************************************
+    // INITIALIZATION
+    //***********************************************************************************
+
+    /**
+     * Extract the edges of the MDD that are labeled by a value of the domains and that lie on
+     * a path from the root to the terminal node.
+     *
+     * @return the largest number of words needed to store the edges of a layer
+     */
+    private int build() {
+        int[] diag = MDD.getDiagram();
+        // nodes are identified by their position in the diagram
+        TIntIntHashMap ids = new TIntIntHashMap(16, .5f, -1, -1);
+        TIntArrayList[] nodes = new TIntArrayList[n + 1];
+        TIntArrayList[] esrc = new TIntArrayList[n];
+        TIntArrayList[] eval = new TIntArrayList[n];
+        TIntArrayList[] edst = new TIntArrayList[n];
+        nodes[0] = new TIntArrayList();
+        nodes[0].add(0);
+        nodes[n] = new TIntArrayList();
+        nodes[n].add(MultivaluedDecisionDiagram.TERMINAL);
+        for (int l = 0; l < n; l++) {
+            if (l + 1 < n) {
+                nodes[l + 1] = new TIntArrayList();
+            }
+            esrc[l] = new TIntArrayList();
+            eval[l] = new TIntArrayList();
+            edst[l] = new TIntArrayList();
+            int size = MDD.getNodeSize(l);
+            for (int u = 0; u < nodes[l].size(); u++) {
+                int p = nodes[l].getQuick(u);
+                for (int j = 0; j < size && p + j < diag.length; j++) {
+                    int c = diag[p + j];
+                    int v = MDD.getOffset(l) + j;
+                    if (c == MultivaluedDecisionDiagram.EMPTY || !vars[l].contains(v)
+                            || (c == MultivaluedDecisionDiagram.TERMINAL) != (l + 1 == n)) {
+                        continue;
+                    }
+                    int w = 0;
+                    if (l + 1 < n) {
+                        w = ids.get(c);
+                        if (w == -1) {
+                            w = nodes[l + 1].size();
+                            ids.put(c, w);
+                            nodes[l + 1].add(c);
+                        }
+                    }
+                    esrc[l].add(u);
+                    eval[l].add(v);
+                    edst[l].add(w);
+                }
+            }
+        }
+        // keep the nodes that can reach the terminal node ...
+        boolean[][] alive = new boolean[n + 1][];
+        alive[n] = new boolean[]{true};
+        for (int l = n - 1; l >= 0; l--) {
+            alive[l] = new boolean[nodes[l].size()];
+            for (int e = 0; e < esrc[l].size(); e++) {
+                if (alive[l + 1][edst[l].getQuick(e)]) {
+                    alive[l][esrc[l].getQuick(e)] = true;
+                }
+            }
+        }
+        // ... and that are reached from the root node, then renumber them
+        int[][] rename = new int[n + 1][];
+        rename[0] = new int[]{alive[0][0] ? 0 : -1};
+        int maxWords = 0;
+        for (int l = 0; l < n; l++) {
+            rename[l + 1] = new int[alive[l + 1].length];
+            Arrays.fill(rename[l + 1], -1);
+            int nbNodes = 0, nbNexts = 0, nbEdges = 0;
+            for (int u = 0; u < rename[l].length; u++) {
+                if (rename[l][u] > -1) {
+                    nbNodes++;
+                }
+            }
+            for (int e = 0; e < esrc[l].size(); e++) {
+                int w = edst[l].getQuick(e);
+                if (rename[l][esrc[l].getQuick(e)] > -1 && alive[l + 1][w]) {
+                    rename[l + 1][w] = 0;
+                    nbEdges++;
+                }
+            }
+            // the order of the nodes is kept, so are the edges of the next layer sorted by source node
+            for (int w = 0; w < rename[l + 1].length; w++) {
+                if (rename[l + 1][w] == 0) {
+                    rename[l + 1][w] = nbNexts++;
+                }
+            }
+            src[l] = new int[nbEdges];
+            dst[l] = new int[nbEdges];
+            start[l] = new int[nbNodes + 1];
+            inStart[l] = new int[nbNexts + 1];
+            inEdges[l] = new int[nbEdges];
+            seen[l] = new int[nbNodes];
+            currEdges[l] = new PropCompactTable.RSparseBitSet(model.getEnvironment(), nbEdges);
+            int nbWords = currEdges[l].words.length;
+            maxWords = Math.max(maxWords, nbWords);
+            deleted[l] = new long[nbWords];
+            int lb = vars[l].getLB();
+            int ub = vars[l].getUB();
+            offset[l] = lb;
+            supports[l] = new long[ub - lb + 1][nbWords];
+            residues[l] = new int[ub - lb + 1];
+            // edges are already sorted by source node
+            int k = 0;
+            for (int e = 0; e < esrc[l].size(); e++) {
+                int u = rename[l][esrc[l].getQuick(e)];
+                int w = edst[l].getQuick(e);
+                if (u > -1 && alive[l + 1][w]) {
+                    src[l][k] = u;
+                    dst[l][k] = rename[l + 1][w];
+                    start[l][u + 1]++;
+                    inStart[l][dst[l][k] + 1]++;
+                    supports[l][eval[l].getQuick(e) - lb][k >>> 6] |= Long.MIN_VALUE >>> k;
+                    k++;
+                }
+            }
+            for (int u = 0; u < nbNodes; u++) {
+                start[l][u + 1] += start[l][u];
+            }
+            for (int w = 0; w < nbNexts; w++) {
+                inStart[l][w + 1] += inStart[l][w];
+            }
+            int[] pos = Arrays.copyOf(inStart[l], nbNexts);
+            for (int e = 0; e < nbEdges; e++) {
+                inEdges[l][pos[dst[l][e]]++] = e;
+            }
+            if ((nbEdges & 63) != 0) {
+                // clear the bits that do not refer to an edge
+                currEdges[l].words[nbWords - 1].set(-1L << (64 - (nbEdges & 63)));
+            }
+        }
+        seen[n] = new int[1];
+        return maxWords;
+    }
+
+    //***********************************************************************************
+    // FILTERING
+    //***********************************************************************************
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            for (int l = 0; l < n; l++) {
+                currEdges[l].clearMask();
+                int ub = vars[l].getUB();
+                for (int v = vars[l].getLB(); v <= ub; v = vars[l].nextValue(v)) {
+                    currEdges[l].addToMask(supports[l][v - offset[l]]);
+                }
+                currEdges[l].intersectWithMask(deleted[l]);
+                touched[l] = true;
+            }
+            for (int i = 0; i < n; i++) {
+                monitors[i].startMonitoring();
+            }
+        }
+        nextStamp();
+        for (int l = n - 1; l > 0; l--) {
+            deleteUpward(l);
+        }
+        nextStamp();
+        for (int l = 0; l < n; l++) {
+            deleteDownward(l);
+        }
+        filterDomains();
+    }
+
+    /**
+     * Start a new pass, that is, no node has been visited yet
+     */
+    private void nextStamp() {
+        if (++stamp == Integer.MAX_VALUE) {
+            for (int l = 0; l <= n; l++) {
+                Arrays.fill(seen[l], 0);
+            }
+            stamp = 1;
+        }
+    }
+
+    @Override
+    public void propagate(int vIdx, int mask) throws ContradictionException {
+        PropCompactTable.RSparseBitSet edges = currEdges[vIdx];
+        edges.clearMask();
+        if (vars[vIdx].getDomainSize() > monitors[vIdx].sizeApproximation()) {
+            IIntDeltaMonitor monitor = monitors[vIdx];
+            long[][] sups = supports[vIdx];
+            int off = offset[vIdx];
+            monitor.freeze();
+            while (monitor.hasNextRemVal()) {
+                edges.addToMask(sups[monitor.nextRemVal() - off]);
+            }
+            edges.reverseMask();
+        } else {
+            int ub = vars[vIdx].getUB();
+            for (int v = vars[vIdx].getLB(); v <= ub; v = vars[vIdx].nextValue(v)) {
+                edges.addToMask(supports[vIdx][v - offset[vIdx]]);
+            }
+        }
+        edges.intersectWithMask(deleted[vIdx]);
+        if (edges.isEmpty()) { // fail as soon as possible
+            fails();
+        }
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    /**
+     * Delete the incoming edges of the nodes of layer <i>l</i> which have lost all their outgoing edges.
+     *
+     * @param l a layer, greater than 0
+     */
+    private void deleteUpward(int l) {
+        long[] del = deleted[l];
+        IStateLong[] words = currEdges[l].words;
+        boolean any = false;
+        for (int i = 0; i < del.length; i++) {
+            long bits = del[i];
+            while (bits != 0L) {
+                int b = Long.numberOfLeadingZeros(bits);
+                bits &= ~(Long.MIN_VALUE >>> b);
+                int u = src[l][(i << 6) + b];
+                if (seen[l][u] != stamp) {
+                    seen[l][u] = stamp;
+                    if (!intersects(words, start[l][u], start[l][u + 1])) {
+                        for (int k = inStart[l - 1][u]; k < inStart[l - 1][u + 1]; k++) {
+                            toDelete(inEdges[l - 1][k]);
+                        }
+                        any = true;
+                    }
+                }
+            }
+        }
+        if (any) {
+            delete(l - 1);
+        }
+    }
+
+    /**
+     * Delete the outgoing edges of the nodes of layer <i>l + 1</i> which have lost all their incoming edges,
+     * then clear the edges deleted in layer <i>l</i>.
+     *
+     * @param l a layer
+     */
+    private void deleteDownward(int l) {
+        long[] del = deleted[l];
+        IStateLong[] words = currEdges[l].words;
+        boolean any = false;
+        for (int i = 0; i < del.length; i++) {
+            long bits = del[i];
+            if (bits == 0L) {
+                continue;
+            }
+            del[i] = 0L;
+            touched[l] = true;
+            while (bits != 0L && l + 1 < n) {
+                int b = Long.numberOfLeadingZeros(bits);
+                bits &= ~(Long.MIN_VALUE >>> b);
+                int w = dst[l][(i << 6) + b];
+                if (seen[l + 1][w] != stamp) {
+                    seen[l + 1][w] = stamp;
+                    if (!hasIncomingEdge(words, l, w)) {
+                        toDelete(start[l + 1][w], start[l + 1][w + 1]);
+                        any = true;
+                    }
+                }
+            }
+        }
+        if (any) {
+            delete(l + 1);
+        }
+    }
+
+    /**
+     * Delete the edges stored in {@link #toDelete} from layer <i>l</i>, then clear {@link #toDelete}.
+     * The edges are deleted word by word: a word which becomes empty remains in the sparse index
+     * until the next intersection with a mask.
+     *
+     * @param l a layer
+     */
+    private void delete(int l) {
+        IStateLong[] words = currEdges[l].words;
+        for (int i = lo; i <= hi; i++) {
+            long d = toDelete[i];
+            if (d != 0L) {
+                toDelete[i] = 0L;
+                long o = words[i].get();
+                if ((o & d) != 0L) {
+                    words[i].set(o & ~d);
+                    deleted[l][i] |= o & d;
+                }
+            }
+        }
+        lo = Integer.MAX_VALUE;
+        hi = -1;
+    }
+
+    private void toDelete(int e) {
+        int i = e >>> 6;
+        toDelete[i] |= Long.MIN_VALUE >>> e;
+        lo = Math.min(lo, i);
+        hi = Math.max(hi, i);
+    }
+
+    /**
+     * Add the edges in [from, to) to {@link #toDelete}
+     */
+    private void toDelete(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int wf = from >>> 6;
+        int wt = (to - 1) >>> 6;
+        long first = -1L >>> from;
+        long last = -1L << (63 - ((to - 1) & 63));
+        if (wf == wt) {
+            toDelete[wf] |= first & last;
+        } else {
+            toDelete[wf] |= first;
+            for (int i = wf + 1; i < wt; i++) {
+                toDelete[i] = -1L;
+            }
+            toDelete[wt] |= last;
+        }
+        lo = Math.min(lo, wf);
+        hi = Math.max(hi, wt);
+    }
+
+    private boolean hasIncomingEdge(IStateLong[] words, int l, int w) {
+        for (int k = inStart[l][w]; k < inStart[l][w + 1]; k++) {
+            int e = inEdges[l][k];
+            if ((words[e >>> 6].get() & (Long.MIN_VALUE >>> e)) != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return <i>true</i> if one of the bits in [from, to) is set in <i>words</i>
+     */
+    private static boolean intersects(IStateLong[] words, int from, int to) {
+        if (from >= to) {
+            return false;
+        }
+        int wf = from >>> 6;
+        int wt = (to - 1) >>> 6;
+        long first = -1L >>> from;
+        long last = -1L << (63 - ((to - 1) & 63));
+        if (wf == wt) {
+            return (words[wf].get() & first & last) != 0L;
+        }
+        if ((words[wf].get() & first) != 0L) {
+            return true;
+        }
+        for (int i = wf + 1; i < wt; i++) {
+            if (words[i].get() != 0L) {
+                return true;
+            }
+        }
+        return (words[wt].get() & last) != 0L;
+    }
+
+    private void filterDomains() throws ContradictionException {
+        for (int l = 0; l < n; l++) {
+            if (touched[l]) {
+                touched[l] = false;
+                if (currEdges[l].isEmpty()) {
+                    fails();
+                }
+                if (vars[l].hasEnumeratedDomain()) {
+                    enumFilter(l);
+                } else {
+                    boundFilter(l);
+                }
+            }
+        }
+    }
+
+    private boolean isSupported(int l, int v) {
+        int index = residues[l][v - offset[l]];
+        if ((currEdges[l].words[index].get() & supports[l][v - offset[l]][index]) == 0L) {
+            index = currEdges[l].intersectIndex(supports[l][v - offset[l]]);
+            if (index == -1) {
+                return false;
+            }
+            residues[l][v - offset[l]] = index;
+        }
+        return true;
+    }
+
+    private void boundFilter(int l) throws ContradictionException {
+        int lb = vars[l].getLB();
+        int ub = vars[l].getUB();
+        while (lb <= ub && !isSupported(l, lb)) {
+            lb++;
+        }
+        vars[l].updateLowerBound(lb, this);
+        while (ub >= lb && !isSupported(l, ub)) {
+            ub--;
+        }
+        vars[l].updateUpperBound(ub, this);
+    }
+
+    private void enumFilter(int l) throws ContradictionException {
+        int ub = vars[l].getUB();
+        for (int v = vars[l].getLB(); v <= ub; v = vars[l].nextValue(v)) {
+            if (!isSupported(l, v)) {
+                vars[l].removeValue(v, this);
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (isCompletelyInstantiated()) {
+            int[] path = new int[n];
+            for (int i = 0; i < n; i++) {
+                path[i] = vars[i].getValue();
+            }
+            return ESat.eval(MDD.exists(path));
+        }
+        return ESat.UNDEFINED;
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        long mem = MemoryUtils.sizeOf(supports)
+                + MemoryUtils.sizeOf(residues)
+                + MemoryUtils.sizeOf(src)
+                + MemoryUtils.sizeOf(dst)
+                + MemoryUtils.sizeOf(start)
+                + MemoryUtils.sizeOf(inStart)
+                + MemoryUtils.sizeOf(inEdges);
+        for (int l = 0; l < n; l++) {
+            mem += currEdges[l].getEstimatedMemory();
+        }
+        return mem;
+    }
+}
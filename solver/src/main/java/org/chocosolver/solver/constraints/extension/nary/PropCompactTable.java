@@ -20,7 +20,7 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
-import org.chocosolver.util.procedure.UnaryIntProcedure;
+import org.chocosolver.util.tools.MemoryUtils;
 
 /**
  * Propagator for table constraint based on "Compact-Table: Efficiently Filtering Table Constraints
@@ -42,7 +42,6 @@ public class PropCompactTable extends Propagator<IntVar> {
     int[][] residues;
     protected int[] offset;
     protected IIntDeltaMonitor[] monitors;
-    private final UnaryIntProcedure<Integer> onValRem;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -63,30 +62,18 @@ public class PropCompactTable extends Propagator<IntVar> {
         for (int i = 0; i < vars.length; i++) {
             monitors[i] = vars[i].monitorDelta(this);
         }
-        onValRem = makeProcedure();
     }
 
     //***********************************************************************************
     // INITIALIZATION
     //***********************************************************************************
 
-    protected UnaryIntProcedure<Integer> makeProcedure() {
-        //noinspection Convert2Diamond
-        return new UnaryIntProcedure<Integer>() {
-            int var, off;
-
-            @Override
-            public UnaryIntProcedure<Integer> set(Integer o) {
-                var = o;
-                off = offset[var];
-                return this;
-            }
-
-            @Override
-            public void execute(int i) {
-                currTable.addToMask((supports[var][i - off]));
-            }
-        };
+    /**
+     * @param vIdx index of a variable
+     * @return the supports to add to the mask for each value removed from <i>vars[vIdx]</i>
+     */
+    protected long[][] removedSupports(int vIdx) {
+        return supports[vIdx];
     }
 
     protected void computeSupports(Tuples tuples) {
@@ -149,7 +136,13 @@ public class PropCompactTable extends Propagator<IntVar> {
     public void propagate(int vIdx, int mask) throws ContradictionException {
         currTable.clearMask();
         if (vars[vIdx].getDomainSize() > monitors[vIdx].sizeApproximation()) {
-            monitors[vIdx].forEachRemVal(onValRem.set(vIdx));
+            IIntDeltaMonitor monitor = monitors[vIdx];
+            long[][] sups = removedSupports(vIdx);
+            int off = offset[vIdx];
+            monitor.freeze();
+            while (monitor.hasNextRemVal()) {
+                currTable.addToMask(sups[monitor.nextRemVal() - off]);
+            }
             currTable.reverseMask();
         } else {
             int ub = vars[vIdx].getUB();
@@ -164,6 +157,14 @@ public class PropCompactTable extends Propagator<IntVar> {
         forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
     }
 
+    @Override
+    public long getEstimatedMemory() {
+        return MemoryUtils.sizeOf(supports)
+                + MemoryUtils.sizeOf(residues)
+                + MemoryUtils.sizeOf(offset)
+                + currTable.getEstimatedMemory();
+    }
+
     private void filterDomains() throws ContradictionException {
         if (currTable.isEmpty()) {// to keep as we skip instantiated vars
             fails();
@@ -237,13 +238,16 @@ public class PropCompactTable extends Propagator<IntVar> {
 // RSparseBitSet
 //***********************************************************************************
 
-    protected static class RSparseBitSet {
-        protected IStateLong[] words;
+    /**
+     * A reversible sparse bitset, with one bit per tuple
+     */
+    public static class RSparseBitSet {
+        public final IStateLong[] words;
         private final int[] index;
         private final IStateInt limit;
         private final long[] mask;
 
-        protected RSparseBitSet(IEnvironment environment, int nbBits) {
+        public RSparseBitSet(IEnvironment environment, int nbBits) {
             int nw = nbBits / 64;
             if (nw * 64 < nbBits) nw++;
             index = new int[nw];
@@ -256,32 +260,43 @@ public class PropCompactTable extends Propagator<IntVar> {
             }
         }
 
-        private boolean isEmpty() {
+        public boolean isEmpty() {
             return limit.get() == -1;
         }
 
-        protected void clearMask() {
+        /**
+         * @return the estimated size in bytes of this bitset, backtrackable words included
+         */
+        public long getEstimatedMemory() {
+            // a backtrackable long: header, value, timestamp and environment
+            long word = MemoryUtils.align(MemoryUtils.OBJECT_HEADER + 8 + 4 + MemoryUtils.REFERENCE);
+            return MemoryUtils.sizeOf(words) + words.length * word
+                    + MemoryUtils.sizeOf(index)
+                    + MemoryUtils.sizeOf(mask);
+        }
+
+        public void clearMask() {
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
                 mask[offset] = 0L;
             }
         }
 
-        protected void reverseMask() {
+        public void reverseMask() {
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
                 mask[offset] = ~mask[offset];
             }
         }
 
-        protected void addToMask(long[] wordsToAdd) {
+        public void addToMask(long[] wordsToAdd) {
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
                 mask[offset] = mask[offset] | wordsToAdd[offset];
             }
         }
 
-        private void intersectWithMask() {
+        public void intersectWithMask() {
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
                 long w = words[offset].get() & mask[offset];
@@ -296,7 +311,30 @@ public class PropCompactTable extends Propagator<IntVar> {
             }
         }
 
-        private int intersectIndex(long[] m) {
+        /**
+         * Intersect the bitset with the mask and add the bits that are cleared to <i>cleared</i>.
+         * Empty words are removed from the index, even if they were already empty.
+         *
+         * @param cleared words to which the cleared bits are added
+         */
+        void intersectWithMask(long[] cleared) {
+            for (int i = limit.get(); i >= 0; i--) {
+                int offset = index[i];
+                long o = words[offset].get();
+                long w = o & mask[offset];
+                if (o != w) {
+                    cleared[offset] |= o & ~w;
+                    words[offset].set(w);
+                }
+                if (w == 0L) {
+                    index[i] = index[limit.get()];
+                    index[limit.get()] = offset;
+                    limit.add(-1);
+                }
+            }
+        }
+
+        public int intersectIndex(long[] m) {
             for (int i = limit.get(); i >= 0; i--) {
                 int offset = index[i];
                 if ((words[offset].get() & m[offset]) != 0L) {
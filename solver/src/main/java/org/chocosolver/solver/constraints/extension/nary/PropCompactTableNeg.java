@@ -0,0 +1,198 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension.nary;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.extension.nary.PropCompactTable.RSparseBitSet;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.MemoryUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Propagator for table constraint based on
+ * "Extending Compact-Table to Negative and Short Tables",
+ * H. Verhaeghe and C. Lecoutre and P. Schaus, AAAI-17.
+ * Only for infeasible Tuples
+ * <br/>
+ * The bitset stores the forbidden tuples that are still valid.
+ * A value is not supported when the number of valid forbidden tuples it appears in
+ * is equal to the number of combinations of values of the other variables.
+ * No value of a variable is checked as long as this number is greater than the number of valid forbidden tuples.
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class PropCompactTableNeg extends Propagator<IntVar> {
+
+    private final Tuples tuples; // only for checker
+    private final RSparseBitSet currTable;
+    private final long[][][] conflicts;
+    private final int[] offset;
+    private final IIntDeltaMonitor[] monitors;
+
+    /**
+     * Create a propagator for table constraint Only for infeasible Tuples
+     *
+     * @param vars   scope, without duplicates
+     * @param tuples list of infeasible tuples
+     */
+    public PropCompactTableNeg(IntVar[] vars, Tuples tuples) {
+        super(vars, PropagatorPriority.QUADRATIC, true);
+        this.tuples = tuples;
+        // a forbidden tuple must be counted once
+        List<int[]> valids = new ArrayList<>();
+        HashSet<TIntArrayList> unique = new HashSet<>();
+        top:
+        for (int ti = 0; ti < tuples.nbTuples(); ti++) {
+            int[] tuple = tuples.get(ti);
+            for (int i = 0; i < tuple.length; i++) {
+                if (!vars[i].contains(tuple[i])) {
+                    continue top;
+                }
+            }
+            if (unique.add(TIntArrayList.wrap(tuple))) {
+                valids.add(tuple);
+            }
+        }
+        this.currTable = new RSparseBitSet(model.getEnvironment(), valids.size());
+        int n = vars.length;
+        this.offset = new int[n];
+        this.conflicts = new long[n][][];
+        for (int i = 0; i < n; i++) {
+            offset[i] = vars[i].getLB();
+            conflicts[i] = new long[vars[i].getUB() - offset[i] + 1][currTable.words.length];
+        }
+        for (int t = 0; t < valids.size(); t++) {
+            int[] tuple = valids.get(t);
+            for (int i = 0; i < n; i++) {
+                conflicts[i][tuple[i] - offset[i]][t >>> 6] |= Long.MIN_VALUE >>> t;
+            }
+        }
+        this.monitors = new IIntDeltaMonitor[n];
+        for (int i = 0; i < n; i++) {
+            monitors[i] = vars[i].monitorDelta(this);
+        }
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            for (int i = 0; i < vars.length; i++) {
+                resetMask(i);
+                currTable.intersectWithMask();
+            }
+            for (int i = 0; i < vars.length; i++) {
+                monitors[i].startMonitoring();
+            }
+        }
+        filterDomains();
+    }
+
+    @Override
+    public void propagate(int vIdx, int mask) throws ContradictionException {
+        if (vars[vIdx].getDomainSize() > monitors[vIdx].sizeApproximation()) {
+            currTable.clearMask();
+            IIntDeltaMonitor monitor = monitors[vIdx];
+            long[][] sups = conflicts[vIdx];
+            int off = offset[vIdx];
+            monitor.freeze();
+            while (monitor.hasNextRemVal()) {
+                currTable.addToMask(sups[monitor.nextRemVal() - off]);
+            }
+            currTable.reverseMask();
+        } else {
+            resetMask(vIdx);
+        }
+        currTable.intersectWithMask();
+        forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+    }
+
+    /**
+     * Set the mask to the forbidden tuples that involve a value of the variable <i>i</i>
+     *
+     * @param i index of a variable
+     */
+    private void resetMask(int i) {
+        currTable.clearMask();
+        int ub = vars[i].getUB();
+        for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+            currTable.addToMask(conflicts[i][v - offset[i]]);
+        }
+    }
+
+    private void filterDomains() throws ContradictionException {
+        int count = currTable.cardinality();
+        for (int i = 0; i < vars.length; i++) {
+            if (count == 0) {
+                // no more forbidden tuple can be matched
+                setPassive();
+                return;
+            }
+            // the number of combinations of values of the other variables, up to 'count + 1'
+            long combs = 1;
+            for (int j = 0; j < vars.length && combs <= count; j++) {
+                if (j != i) {
+                    combs *= vars[j].getDomainSize();
+                }
+            }
+            if (combs > count) {
+                continue;
+            }
+            boolean modified = false;
+            if (vars[i].hasEnumeratedDomain()) {
+                int ub = vars[i].getUB();
+                for (int v = vars[i].getLB(); v <= ub; v = vars[i].nextValue(v)) {
+                    if (currTable.intersectCount(conflicts[i][v - offset[i]]) == combs) {
+                        modified |= vars[i].removeValue(v, this);
+                    }
+                }
+            } else {
+                int lb = vars[i].getLB();
+                int ub = vars[i].getUB();
+                while (lb <= ub && currTable.intersectCount(conflicts[i][lb - offset[i]]) == combs) {
+                    lb++;
+                }
+                modified = vars[i].updateLowerBound(lb, this);
+                while (ub > lb && currTable.intersectCount(conflicts[i][ub - offset[i]]) == combs) {
+                    ub--;
+                }
+                modified |= vars[i].updateUpperBound(ub, this);
+            }
+            if (modified) {
+                // the tuples with a removed value are not valid anymore
+                resetMask(i);
+                currTable.intersectWithMask();
+                count = currTable.cardinality();
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        return tuples.check(vars);
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return MemoryUtils.sizeOf(conflicts)
+                + MemoryUtils.sizeOf(offset)
+                + currTable.getEstimatedMemory();
+    }
+}
@@ -18,6 +18,7 @@ import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.StoredSparseSet;
 import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
+import org.chocosolver.util.tools.MemoryUtils;
 
 /**
  * Implementation based on "Maintaining GAC on adhoc r-ary constraints", Cheng and Yap, CP12.
@@ -57,6 +58,11 @@ public class PropLargeMDDC extends Propagator<IntVar> {
         mddc();
     }
 
+    @Override
+    public long getEstimatedMemory() {
+        return MemoryUtils.sizeOf(MDD.getDiagram());
+    }
+
     @Override
     public ESat isEntailed() {
         if (isCompletelyInstantiated()) {
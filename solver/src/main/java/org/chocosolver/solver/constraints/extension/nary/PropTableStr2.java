@@ -21,6 +21,7 @@ import org.chocosolver.util.ESat;
 import org.chocosolver.util.objects.setDataStructures.ISet;
 import org.chocosolver.util.objects.setDataStructures.SetFactory;
 import org.chocosolver.util.objects.setDataStructures.SetType;
+import org.chocosolver.util.tools.MemoryUtils;
 
 import java.util.ArrayList;
 import java.util.BitSet;
@@ -108,6 +109,16 @@ public class PropTableStr2 extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public long getEstimatedMemory() {
+        long s = MemoryUtils.sizeOf(table);
+        for (Str2_var v : str2vars) {
+            // supported values are stored in a bitset, one bit per value
+            s += MemoryUtils.sizeOfArray((v.ac.size() + 63) >>> 6, 8);
+        }
+        return s;
+    }
+
     @Override
     public String toString() {
         return "STR2 table constraint with " + vars.length + "vars and " + table.length + "tuples";
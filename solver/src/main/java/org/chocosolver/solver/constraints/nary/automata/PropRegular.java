@@ -24,7 +24,6 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.ESat;
-import org.chocosolver.util.procedure.UnaryIntProcedure;
 import org.jgrapht.graph.DirectedMultigraph;
 
 import java.util.ArrayList;
@@ -41,7 +40,6 @@ public class PropRegular extends Propagator<IntVar> {
 
     private final StoredDirectedMultiGraph graph;
     private final IAutomaton automaton;
-    private final RemProc rem_proc;
     private final IIntDeltaMonitor[] idms;
 
     public PropRegular(IntVar[] variables, IAutomaton automaton) {
@@ -51,7 +49,6 @@ public class PropRegular extends Propagator<IntVar> {
             idms[i] = this.vars[i].monitorDelta(this);
             idms[i].startMonitoring();
         }
-        rem_proc = new RemProc(this);
         this.automaton = automaton;
         graph = initGraph(model.getEnvironment(), vars, automaton);
     }
@@ -60,7 +57,7 @@ public class PropRegular extends Propagator<IntVar> {
     public void propagate(int evtmask) throws ContradictionException {
         assert evtmask == PropagatorEventType.FULL_PROPAGATION.getMask();
         for (int i = 0; i < idms.length; i++) {
-            idms[i].forEachRemVal(rem_proc.set(i));
+            clearRemovedSupports(i);
             for (int j = vars[i].getLB(); j <= vars[i].getUB(); j = vars[i].nextValue(j)) {
                 if (!graph.hasSupport(i, j)) {
                     vars[i].removeValue(j, this);
@@ -71,7 +68,15 @@ public class PropRegular extends Propagator<IntVar> {
 
     @Override
     public void propagate(int varIdx, int mask) throws ContradictionException {
-        idms[varIdx].forEachRemVal(rem_proc.set(varIdx));
+        clearRemovedSupports(varIdx);
+    }
+
+    private void clearRemovedSupports(int idxVar) throws ContradictionException {
+        IIntDeltaMonitor idm = idms[idxVar];
+        idm.freeze();
+        while (idm.hasNextRemVal()) {
+            graph.clearSupports(idxVar, idm.nextRemVal(), this);
+        }
     }
 
     @Override
@@ -88,27 +93,6 @@ public class PropRegular extends Propagator<IntVar> {
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
-    private static class RemProc implements UnaryIntProcedure<Integer> {
-
-        private final PropRegular p;
-        private int idxVar;
-
-        public RemProc(PropRegular p) {
-            this.p = p;
-        }
-
-        @Override
-        public UnaryIntProcedure<Integer> set(Integer idxVar) {
-            this.idxVar = idxVar;
-            return this;
-        }
-
-        @Override
-        public void execute(int i) throws ContradictionException {
-            p.graph.clearSupports(idxVar, i, p);
-        }
-    }
-
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder(32);
@@ -16,7 +16,6 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.util.ESat;
-import org.chocosolver.util.procedure.UnaryIntProcedure;
 import org.chocosolver.util.tools.ArrayUtils;
 
 import java.util.Arrays;
@@ -36,7 +35,6 @@ public class PropInverseChannelAC extends Propagator<IntVar> {
     private final int n;
     private final IntVar[] X;
     private final IntVar[] Y;
-    private final RemProc rem_proc;
     private final IIntDeltaMonitor[] idms;
     private final ICause cause;
 
@@ -52,7 +50,6 @@ public class PropInverseChannelAC extends Propagator<IntVar> {
         n = Y.length;
         this.minX = minX;
         this.minY = minY;
-        rem_proc = new RemProc();
         this.idms = new IIntDeltaMonitor[this.vars.length];
         for (int i = 0; i < vars.length; i++) {
             idms[i] = this.vars[i].monitorDelta(this);
@@ -77,7 +74,16 @@ public class PropInverseChannelAC extends Propagator<IntVar> {
 
     @Override
     public void propagate(int varIdx, int mask) throws ContradictionException {
-        idms[varIdx].forEachRemVal(rem_proc.set(varIdx));
+        IIntDeltaMonitor idm = idms[varIdx];
+        idm.freeze();
+        while (idm.hasNextRemVal()) {
+            int val = idm.nextRemVal();
+            if (varIdx < n) {
+                Y[val - minX].removeValue(varIdx + minY, cause);
+            } else {
+                X[val - minY].removeValue(varIdx - n + minX, cause);
+            }
+        }
     }
 
     private void enumeratedFilteringOfX(int var) throws ContradictionException {
@@ -102,25 +108,6 @@ public class PropInverseChannelAC extends Propagator<IntVar> {
         }
     }
 
-    private class RemProc implements UnaryIntProcedure<Integer> {
-        private int var;
-
-        @Override
-        public UnaryIntProcedure<Integer> set(Integer idxVar) {
-            this.var = idxVar;
-            return this;
-        }
-
-        @Override
-        public void execute(int val) throws ContradictionException {
-            if (var < n) {
-                Y[val - minX].removeValue(var + minY, cause);
-            } else {
-                X[val - minY].removeValue(var - n + minX, cause);
-            }
-        }
-    }
-
     @Override
     public ESat isEntailed() {
         boolean allInst = true;
@@ -27,6 +27,7 @@ import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeS
 import org.chocosolver.util.objects.tree.Interval;
 import org.chocosolver.util.objects.tree.IntervalTree;
 import org.chocosolver.util.tools.ArrayUtils;
+import org.chocosolver.util.tools.MemoryUtils;
 
 import java.util.*;
 import java.util.stream.Stream;
@@ -262,31 +263,40 @@ public class ClauseStore extends Propagator<IntVar> {
      * the current branch.
      */
     private void reduceDB() {
+        if (learnts.size() >= nbMaxLearnts) {
+            reduce();
+        }
+    }
+
+    /**
+     * Remove the least active learnt signed clauses, whatever the number of learnt clauses is.
+     * Locked clauses are kept.
+     * This can be called between two search steps to free memory.
+     */
+    public void reduce() {
         int size = learnts.size();
-        if (size >= nbMaxLearnts) {
-            learnts.sort(Comparator.comparingDouble(c -> -c.activity));
-            long to = Math.round(ratio * size);
-            for (int i = size - 1; i >= to; i--) {
-                SignedClause ng = learnts.get(i);
-                if (ng.isNotLocked() && ng != last) {
-                    remove(i);
-                }
-            }
-            if (size > learnts.size() && model.getSettings().warnUser()) {
-                model.getSolver().log().white().printf("Reduce DB: %d -> %d%n", size, learnts.size());
+        learnts.sort(Comparator.comparingDouble(c -> -c.activity));
+        long to = Math.round(ratio * size);
+        for (int i = size - 1; i >= to; i--) {
+            SignedClause ng = learnts.get(i);
+            if (ng.isNotLocked() && ng != last) {
+                remove(i);
             }
-            for (IntervalTree<Container> t : watches.values()) {
-                Stack<Container> del = new Stack<>();
-                for (Container c : t) {
-                    c.watchers.removeIf(w -> !w.c.isConnected());
-                    if(c.watchers.isEmpty()){
-                        del.push(c);
-                    }
-                }
-                while(!del.isEmpty()){
-                    t.delete(del.pop());
+        }
+        if (size > learnts.size() && model.getSettings().warnUser()) {
+            model.getSolver().log().white().printf("Reduce DB: %d -> %d%n", size, learnts.size());
+        }
+        for (IntervalTree<Container> t : watches.values()) {
+            Stack<Container> del = new Stack<>();
+            for (Container c : t) {
+                c.watchers.removeIf(w -> !w.c.isConnected());
+                if(c.watchers.isEmpty()){
+                    del.push(c);
                 }
             }
+            while(!del.isEmpty()){
+                t.delete(del.pop());
+            }
         }
     }
 
@@ -305,6 +315,18 @@ public class ClauseStore extends Propagator<IntVar> {
     }
 
 
+    @Override
+    public long getEstimatedMemory() {
+        long s = MemoryUtils.sizeOfArray(clauses.size() + learnts.size(), MemoryUtils.REFERENCE);
+        for (int i = 0; i < clauses.size(); i++) {
+            s += clauses.get(i).getEstimatedMemory();
+        }
+        for (int i = 0; i < learnts.size(); i++) {
+            s += learnts.get(i).getEstimatedMemory();
+        }
+        return s;
+    }
+
     public void printStatistics() {
         learnts.sort(Comparator.comparingInt(c -> -c.rawActivity));
         model.getSolver().log().white().print("Top ten clauses:\n");
@@ -501,6 +523,10 @@ public class ClauseStore extends Propagator<IntVar> {
     public class SignedClause extends Propagator<IntVar> {
 
         static final short LOCK = 4;
+        /**
+         * Rough size in bytes of a signed clause, as a propagator, literals excluded
+         */
+        private static final int SHELL_SIZE = 128;
         /**
          * Free mask
          */
@@ -747,6 +773,16 @@ public class ClauseStore extends Propagator<IntVar> {
             return count;
         }
 
+        @Override
+        public long getEstimatedMemory() {
+            // the clause itself, its literals and two watchers (header, position and clause)
+            return SHELL_SIZE
+                    + MemoryUtils.sizeOf(mvars)
+                    + MemoryUtils.sizeOf(bounds)
+                    + MemoryUtils.sizeOf(pos)
+                    + 2 * MemoryUtils.align(MemoryUtils.OBJECT_HEADER + 4 + MemoryUtils.REFERENCE);
+        }
+
         boolean isNotLocked() {
             return state != 4;
         }
@@ -96,6 +96,11 @@ public class PropSat extends Propagator<Variable> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public long getEstimatedMemory() {
+        return sat_.getEstimatedMemory();
+    }
+
     /**
      * @return the underlying SAT solver
      */
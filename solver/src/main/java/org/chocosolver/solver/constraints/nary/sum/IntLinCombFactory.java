@@ -11,15 +11,23 @@ package org.chocosolver.solver.constraints.nary.sum;
 
 import gnu.trove.map.hash.TIntIntHashMap;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.constraints.Arithmetic;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.extension.TuplesFactory;
 import org.chocosolver.solver.constraints.ternary.PropXplusYeqZ;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.tools.VariableUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * A factory to reduce and detect specific cases related to integer linear combinations.
@@ -68,7 +76,8 @@ public class IntLinCombFactory {
                                     int minCardForDecomposition) {
         // 0. normalize data
         Model model = SCALAR.getModel();
-        if (VARS.length > minCardForDecomposition) {
+        if (VARS.length > minCardForDecomposition
+                && !isPseudoBoolean(VARS, OPERATOR, VariableUtils.isConstant(SCALAR))) {
             int k = VARS.length;
             int d1 = (int) Math.sqrt(k);
             int d2 = k / d1 + (k % d1 == 0?0:1);
@@ -190,6 +199,10 @@ public class IntLinCombFactory {
         isLong |= RESULT < Integer.MIN_VALUE || RESULT > Integer.MAX_VALUE;
         isLong |= RESULT - slb < Integer.MIN_VALUE || RESULT - slb > Integer.MAX_VALUE
                 || sub - RESULT < Integer.MIN_VALUE || sub - RESULT > Integer.MAX_VALUE;
+        if (nbools == NVARS.length && isPseudoBoolean(NVARS, OPERATOR, true)
+                && hasSmallDegree(NCOEFFS, OPERATOR, RESULT)) {
+            return selectPseudoBoolean(NVARS, NCOEFFS, OPERATOR, RESULT);
+        }
         if (nones + nmones == NVARS.length) {
             if(isLong){
                 return selectSumWithLong(NVARS, NCOEFFS, OPERATOR, RESULT);
@@ -205,6 +218,95 @@ public class IntLinCombFactory {
         }
     }
 
+    /**
+     * @param VARS     array of integer variables
+     * @param OPERATOR an operator
+     * @param constant set to <i>true</i> when the linear combination is compared to a constant
+     * @return <i>true</i> if the linear combination is a pseudo-boolean inequality, which is not decomposed
+     */
+    private static boolean isPseudoBoolean(IntVar[] VARS, Operator OPERATOR, boolean constant) {
+        if (!constant || OPERATOR == Operator.NQ || OPERATOR == Operator.EQ
+                || !VARS[0].getModel().getSettings().enableWatchedLiteralsOnPseudoBoolean(VARS.length)) {
+            return false;
+        }
+        for (IntVar v : VARS) {
+            if (!v.isBool()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Watched literals pay off when only a few literals have to be watched,
+     * that is when, once normalized to SUM(a_i.l_i) &ge; k, k + max(a_i) is at most half the sum of the a_i.
+     *
+     * @param COEFFS   array of integers
+     * @param OPERATOR an operator
+     * @param RESULT   a long
+     * @return <i>true</i> if the degree of the normalized constraint is small enough
+     */
+    private static boolean hasSmallDegree(int[] COEFFS, Operator OPERATOR, long RESULT) {
+        long total = 0, neg = 0, amax = 0;
+        for (int c : COEFFS) {
+            total += Math.abs((long) c);
+            amax = Math.max(amax, Math.abs((long) c));
+            if (c < 0) {
+                neg -= c;
+            }
+        }
+        long k;
+        switch (OPERATOR) {
+            case GE:
+                k = RESULT + neg;
+                break;
+            case GT:
+                k = RESULT + 1 + neg;
+                break;
+            case LE:
+                k = total - neg - RESULT;
+                break;
+            case LT:
+                k = total - neg - RESULT + 1;
+                break;
+            default:
+                return false;
+        }
+        return 2 * (k + Math.min(amax, Math.max(k, 1))) <= total;
+    }
+
+    /**
+     * Select a pseudo-boolean constraint, propagated with watched literals
+     *
+     * @param VARS     array of boolean variables
+     * @param COEFFS   array of integers
+     * @param OPERATOR on operator, but NQ
+     * @param RESULT   a long
+     * @return a constraint
+     */
+    public static Constraint selectPseudoBoolean(IntVar[] VARS, int[] COEFFS, Operator OPERATOR, long RESULT) {
+        BoolVar[] bvars = VARS[0].getModel().toBoolVar(VARS);
+        int[] opp = new int[COEFFS.length];
+        for (int i = 0; i < COEFFS.length; i++) {
+            opp[i] = -COEFFS[i];
+        }
+        switch (OPERATOR) {
+            case GE:
+                return new SumConstraint(new PropPseudoBoolean(bvars, COEFFS, RESULT));
+            case GT:
+                return new SumConstraint(new PropPseudoBoolean(bvars, COEFFS, RESULT + 1));
+            case LE:
+                return new SumConstraint(new PropPseudoBoolean(bvars, opp, -RESULT));
+            case LT:
+                return new SumConstraint(new PropPseudoBoolean(bvars, opp, 1 - RESULT));
+            case EQ:
+                return new SumConstraint(new PropPseudoBoolean(bvars, COEFFS, RESULT),
+                        new PropPseudoBoolean(bvars.clone(), opp, -RESULT));
+            default:
+                throw new SolverException("Unexpected operator " + OPERATOR);
+        }
+    }
+
     /**
      * Select the most relevant Sum constraint to return
      *
@@ -299,6 +401,9 @@ public class IntLinCombFactory {
 
                     }
                 }
+                if (OPERATOR != Operator.NQ && model.getSettings().enableIncrementalityOnSum(tmpV.length)) {
+                    return new SumConstraint(new PropSumIncr(tmpV, b, OPERATOR, RESULT));
+                }
                 return new SumConstraint( new PropSum(tmpV, b, OPERATOR, RESULT));
         }
     }
@@ -386,6 +491,9 @@ public class IntLinCombFactory {
             OPERATOR = Operator.LE;
             RESULT--;
         }
+        if (OPERATOR != Operator.NQ && s.getSettings().enableIncrementalityOnSum(tmpV.length)) {
+            return new SumConstraint(new PropScalarIncr(tmpV, tmpC, b, OPERATOR, RESULT));
+        }
         return new SumConstraint(new PropScalar(tmpV, tmpC, b, OPERATOR, RESULT));
     }
 
@@ -422,6 +530,137 @@ public class IntLinCombFactory {
         return new SumConstraint(new PropScalarWithLong(tmpV, tmpC, b, OPERATOR, RESULT));
     }
 
+    /**
+     * Gather the linear constraints posted in <i>model</i>, that is, the sums, the scalar products
+     * and the arithmetic constraints over two variables which are not reified,
+     * and build a constraint that maintains their linear relaxation.
+     * If an objective variable is declared in <i>model</i>, it is also used in the relaxation.
+     * Other constraints, including linear ones that have been turned into a table, are ignored.
+     *
+     * @param model a model
+     * @return a constraint to post, or a "true" constraint if no linear constraint can be found
+     */
+    public static Constraint linearRelaxation(Model model) {
+        LinearRows rows = new LinearRows();
+        for (Constraint c : model.getCstrs()) {
+            if (c.getStatus() != Constraint.Status.POSTED) {
+                continue;
+            }
+            if (c instanceof Arithmetic) {
+                // unary ones are already captured by the bounds of the variables
+                Arithmetic a = (Arithmetic) c;
+                IntVar[] vs = a.getVariables();
+                if (vs.length == 2) {
+                    Operator[] ops = a.getOperators();
+                    if (ops[0] == Operator.PL || ops[0] == Operator.MN) { // X +/- Y op C
+                        rows.add(vs, new long[]{1, ops[0] == Operator.PL ? 1 : -1}, ops[1], a.getConstant());
+                    } else { // X op Y +/- C
+                        rows.add(vs, new long[]{1, -1}, ops[0],
+                                ops[1] == Operator.PL ? a.getConstant() : -a.getConstant());
+                    }
+                }
+                continue;
+            }
+            for (Propagator<?> p : c.getPropagators()) {
+                if (p instanceof PropSum) {
+                    PropSum ps = (PropSum) p;
+                    long[] cs = new long[ps.getNbVars()];
+                    for (int i = 0; i < cs.length; i++) {
+                        cs[i] = ps.getCoefficient(i);
+                    }
+                    rows.add(ps.getVars(), cs, ps.getOperator(), ps.getConstant());
+                } else if (p instanceof PropSumWithLong) {
+                    PropSumWithLong ps = (PropSumWithLong) p;
+                    long[] cs = new long[ps.getNbVars()];
+                    for (int i = 0; i < cs.length; i++) {
+                        cs[i] = ps.getCoefficient(i);
+                    }
+                    rows.add(ps.getVars(), cs, ps.getOperator(), ps.getConstant());
+                } else if (p instanceof PropXplusYeqZ) {
+                    rows.add(((PropXplusYeqZ) p).getVars(), new long[]{1, 1, -1}, Operator.EQ, 0);
+                }
+            }
+        }
+        if (rows.size() == 0) {
+            return model.trueConstraint();
+        }
+        int obj = -1;
+        boolean maximize = false;
+        if (model.getObjective() != null
+                && (model.getObjective().getTypeAndKind() & Variable.INT) != 0
+                && model.getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+            obj = rows.column((IntVar) model.getObjective());
+            maximize = model.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE;
+        }
+        return new Constraint(ConstraintsName.LINEAR_RELAXATION, rows.build(obj, maximize));
+    }
+
+    /**
+     * The rows of a linear relaxation, under construction
+     */
+    private static class LinearRows {
+        final TIntIntHashMap columns = new TIntIntHashMap(16, .5f, -1, -1);
+        final List<IntVar> vars = new ArrayList<>();
+        final List<int[]> rows = new ArrayList<>();
+        final List<long[]> coeffs = new ArrayList<>();
+        final List<long[]> bounds = new ArrayList<>();
+
+        int column(IntVar var) {
+            int c = columns.get(var.getId());
+            if (c == -1) {
+                c = vars.size();
+                columns.put(var.getId(), c);
+                vars.add(var);
+            }
+            return c;
+        }
+
+        void add(IntVar[] vs, long[] cs, Operator o, long b) {
+            long lb = Long.MIN_VALUE, ub = Long.MAX_VALUE;
+            switch (o) {
+                case EQ:
+                    lb = ub = b;
+                    break;
+                case LE:
+                    ub = b;
+                    break;
+                case LT:
+                    ub = b - 1;
+                    break;
+                case GE:
+                    lb = b;
+                    break;
+                case GT:
+                    lb = b + 1;
+                    break;
+                default: // NQ has no linear relaxation
+                    return;
+            }
+            int[] row = new int[vs.length];
+            for (int i = 0; i < vs.length; i++) {
+                row[i] = column(vs[i]);
+            }
+            rows.add(row);
+            coeffs.add(cs);
+            bounds.add(new long[]{lb, ub});
+        }
+
+        int size() {
+            return rows.size();
+        }
+
+        PropLinearRelaxation build(int obj, boolean maximize) {
+            long[] lbs = new long[rows.size()];
+            long[] ubs = new long[rows.size()];
+            for (int r = 0; r < rows.size(); r++) {
+                lbs[r] = bounds.get(r)[0];
+                ubs[r] = bounds.get(r)[1];
+            }
+            return new PropLinearRelaxation(vars.toArray(new IntVar[0]),
+                    rows.toArray(new int[0][]), coeffs.toArray(new long[0][]), lbs, ubs, obj, maximize);
+        }
+    }
+
 ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
 }
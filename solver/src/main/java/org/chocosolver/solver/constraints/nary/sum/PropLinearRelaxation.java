@@ -0,0 +1,207 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.lp.LinearProgram.Status;
+import org.chocosolver.lp.SparseLinearProgram;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.tools.MemoryUtils;
+
+/**
+ * A global propagator that maintains the linear relaxation of a set of linear constraints:
+ * <pre>
+ *     lb_r &le; SUM(c_ri.x_i) &le; ub_r, for each row r
+ * </pre>
+ * The relaxation is stored in a {@link SparseLinearProgram} whose columns are the variables of the propagator.
+ * On each call, the bounds of the columns are synchronized with the current domains,
+ * which is also how backtracking is handled, and the relaxation is re-optimized with the dual simplex,
+ * starting from the last basis found.
+ * <p>
+ * When the relaxation is infeasible, a failure is raised.
+ * When an objective variable is declared, the optimal value of the relaxation bounds it,
+ * and reduced costs are used to tighten the bounds of the non-basic variables
+ * (so-called reduced-cost fixing) against the best known bound of the objective.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class PropLinearRelaxation extends Propagator<IntVar> {
+
+    /**
+     * Relative tolerance used to round values computed by the linear program
+     */
+    private static final double EPS = 1e-6;
+
+    /**
+     * The variables of each row, as indices in {@link #vars}
+     */
+    private final int[][] rows;
+    /**
+     * The coefficients of each row
+     */
+    private final long[][] coeffs;
+    /**
+     * Lower bound of each row, {@link Long#MIN_VALUE} stands for no bound
+     */
+    private final long[] lbs;
+    /**
+     * Upper bound of each row, {@link Long#MAX_VALUE} stands for no bound
+     */
+    private final long[] ubs;
+    /**
+     * Index of the objective variable in {@link #vars}, -1 if none
+     */
+    private final int obj;
+    /**
+     * Set to <i>true</i> when the objective variable is maximized
+     */
+    private final boolean maximize;
+    /**
+     * The linear relaxation
+     */
+    private final SparseLinearProgram lp;
+
+    /**
+     * Create a propagator that maintains the linear relaxation of a set of rows.
+     *
+     * @param vars     the variables
+     * @param rows     for each row, the indices of its variables in <i>vars</i>
+     * @param coeffs   for each row, the coefficients of its variables
+     * @param lbs      lower bound of each row, {@link Long#MIN_VALUE} stands for no bound
+     * @param ubs      upper bound of each row, {@link Long#MAX_VALUE} stands for no bound
+     * @param obj      index of the objective variable in <i>vars</i>, -1 if none
+     * @param maximize set to <i>true</i> to maximize the objective variable, <i>false</i> to minimize it
+     */
+    public PropLinearRelaxation(IntVar[] vars, int[][] rows, long[][] coeffs, long[] lbs, long[] ubs,
+                                int obj, boolean maximize) {
+        super(vars, PropagatorPriority.VERY_SLOW, false);
+        this.rows = rows;
+        this.coeffs = coeffs;
+        this.lbs = lbs;
+        this.ubs = ubs;
+        this.obj = obj;
+        this.maximize = maximize;
+        this.lp = new SparseLinearProgram();
+        for (IntVar var : vars) {
+            lp.makeVariable(var.getLB(), var.getUB());
+        }
+        for (int r = 0; r < rows.length; r++) {
+            double[] cs = new double[coeffs[r].length];
+            for (int i = 0; i < cs.length; i++) {
+                cs[i] = coeffs[r][i];
+            }
+            lp.addRow(rows[r], cs,
+                    lbs[r] == Long.MIN_VALUE ? Double.NEGATIVE_INFINITY : lbs[r],
+                    ubs[r] == Long.MAX_VALUE ? Double.POSITIVE_INFINITY : ubs[r]);
+        }
+        if (obj > -1) {
+            lp.setObjective(maximize, new int[]{obj}, new double[]{1.});
+        }
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.boundAndInst();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        for (int i = 0; i < vars.length; i++) {
+            int lb = vars[i].getLB();
+            int ub = vars[i].getUB();
+            if (lp.getLB(i) != lb || lp.getUB(i) != ub) {
+                lp.setBounds(i, lb, ub);
+            }
+        }
+        Status status = lp.simplex();
+        if (status == Status.INFEASIBLE) {
+            fails();
+        }
+        if (status != Status.FEASIBLE || obj == -1) {
+            return;
+        }
+        double z = lp.objective();
+        double eps = EPS * (1. + Math.abs(z));
+        if (maximize) {
+            vars[obj].updateUpperBound((int) Math.floor(z + eps), this);
+        } else {
+            vars[obj].updateLowerBound((int) Math.ceil(z - eps), this);
+        }
+        // reduced-cost fixing, the gap is the slack of the objective w.r.t. its best known bound
+        double gap = maximize ? z - vars[obj].getLB() : vars[obj].getUB() - z;
+        for (int i = 0; i < vars.length; i++) {
+            if (i == obj || lp.isBasic(i) || vars[i].isInstantiated()) {
+                continue;
+            }
+            // the rate at which the gap closes when the variable moves away from its bound
+            double rc = maximize ? -lp.reducedCost(i) : lp.reducedCost(i);
+            double v = lp.value(i);
+            if (rc > EPS && v == lp.getLB(i)) {
+                double ub = v + Math.floor(gap / rc + eps);
+                if (ub < vars[i].getUB()) {
+                    vars[i].updateUpperBound((int) ub, this);
+                }
+            } else if (rc < -EPS && v == lp.getUB(i)) {
+                double lb = v - Math.floor(gap / -rc + eps);
+                if (lb > vars[i].getLB()) {
+                    vars[i].updateLowerBound((int) lb, this);
+                }
+            }
+        }
+    }
+
+    @Override
+    public ESat isEntailed() {
+        if (!isCompletelyInstantiated()) {
+            return ESat.UNDEFINED;
+        }
+        for (int r = 0; r < rows.length; r++) {
+            long act = 0;
+            for (int i = 0; i < rows[r].length; i++) {
+                act += coeffs[r][i] * vars[rows[r][i]].getValue();
+            }
+            if (act < lbs[r] || act > ubs[r]) {
+                return ESat.FALSE;
+            }
+        }
+        return ESat.TRUE;
+    }
+
+    /**
+     * @return the linear relaxation maintained by this propagator
+     */
+    public SparseLinearProgram getLinearProgram() {
+        return lp;
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        long size = 0;
+        for (int r = 0; r < rows.length; r++) {
+            size += MemoryUtils.sizeOf(rows[r]) + MemoryUtils.sizeOf(coeffs[r]);
+        }
+        // the linear program stores its matrix twice, by rows and by columns, and about twenty vectors
+        int nnz = lp.getNbNonzeros();
+        return size + MemoryUtils.sizeOf(lbs) + MemoryUtils.sizeOf(ubs)
+                + 2 * (MemoryUtils.sizeOfArray(nnz, 4) + MemoryUtils.sizeOfArray(nnz, 8))
+                + 20 * MemoryUtils.sizeOfArray(lp.getNbVariables() + lp.getNbRows(), 8);
+    }
+
+    @Override
+    public String toString() {
+        return "LINEAR_RELAXATION(" + rows.length + " rows, " + vars.length + " variables)";
+    }
+}
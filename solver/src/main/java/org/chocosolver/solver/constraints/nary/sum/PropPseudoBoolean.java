@@ -0,0 +1,337 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.sort.ArraySort;
+import org.chocosolver.util.tools.MemoryUtils;
+
+/**
+ * A propagator for SUM(c_i.x_i) &ge; b, where x_i are boolean variables, based on watched literals.
+ * <br/>
+ * The constraint is normalized into SUM(a_i.l_i) &ge; k, where a_i = |c_i| (saturated to k)
+ * and l_i is x_i when c_i &gt; 0, its negation otherwise.
+ * A subset of non-false literals is watched, such that the sum of their coefficients is greater than
+ * or equal to k + max(a_i): as long as it holds, no literal can be forced.
+ * Only the instantiation of a watched literal schedules the propagator, which then looks for
+ * unwatched non-false literals to restore the property, or becomes passive when the true watched literals
+ * are enough to satisfy the constraint.
+ * When it cannot be restored, all non-false literals are watched and the ones that are needed to reach k are
+ * set to true.
+ * <br/>
+ * No counter is maintained, the watched literals are not restored on backtrack:
+ * the sum of non-false watched literals can only increase when going up in the search tree.
+ * This makes this propagator well suited for cardinality and pseudo-boolean constraints with many literals.
+ * <br/>
+ * Based on "Fast Pseudo-Boolean Constraint Propagation" </br>
+ * D. Chai and A. Kuehlmann
+ * <p>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class PropPseudoBoolean extends Propagator<BoolVar> {
+
+    /**
+     * The coefficients, as declared
+     */
+    final int[] c;
+    /**
+     * The bound, as declared
+     */
+    final long b;
+    /**
+     * Saturated coefficients of the literals
+     */
+    private final int[] a;
+    /**
+     * Value taken by a variable when its literal is true
+     */
+    private final int[] tv;
+    /**
+     * Degree of the normalized constraint
+     */
+    private final long k;
+    /**
+     * The sum of non-false watched literals to maintain, that is k + max(a_i)
+     */
+    private final long target;
+    /**
+     * Indices of the variables, sorted by decreasing coefficient
+     */
+    private final int[] order;
+    /**
+     * Watched literals
+     */
+    private final int[] watch;
+    /**
+     * Position of each literal in {@link #watch}, -1 if not watched
+     */
+    private final int[] where;
+    /**
+     * Number of watched literals
+     */
+    private int size;
+    /**
+     * Position in {@link #order} where to look for a non-false literal to watch
+     */
+    private int cursor;
+
+    /**
+     * Create a propagator for SUM(c_i.x_i) &ge; b, where x_i are boolean variables.
+     *
+     * @param variables list of boolean variables
+     * @param coeffs    list of non-zero coefficients
+     * @param b         bound to respect
+     */
+    public PropPseudoBoolean(BoolVar[] variables, int[] coeffs, long b) {
+        super(variables, PropagatorPriority.BINARY, true);
+        int n = variables.length;
+        this.c = coeffs;
+        this.b = b;
+        this.a = new int[n];
+        this.tv = new int[n];
+        long d = b;
+        for (int i = 0; i < n; i++) {
+            if (coeffs[i] > 0) {
+                tv[i] = 1;
+            } else {
+                // c.x = -a + a.(1-x)
+                d -= coeffs[i];
+            }
+        }
+        this.k = d;
+        long amax = 0;
+        for (int i = 0; i < n; i++) {
+            a[i] = (int) Math.min(Math.abs((long) coeffs[i]), Math.max(k, 1));
+            amax = Math.max(amax, a[i]);
+        }
+        this.target = k + amax;
+        this.order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        new ArraySort<>(n, false, true).sort(order, n, (i1, i2) -> Integer.compare(a[i2], a[i1]));
+        this.watch = new int[n];
+        this.where = new int[n];
+        for (int i = 0; i < n; i++) {
+            where[i] = -1;
+        }
+    }
+
+    @Override
+    public int getPropagationConditions(int vIdx) {
+        return IntEventType.INSTANTIATE.getMask();
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (k <= 0) {
+            setPassive();
+            return;
+        }
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            while (size > 0) {
+                unwatch(watch[size - 1]);
+            }
+        }
+        long s = 0, t = 0;
+        for (int p = 0; p < size; p++) {
+            int i = watch[p];
+            if (!isFalse(i)) {
+                s += a[i];
+                if (vars[i].isInstantiated()) {
+                    t += a[i];
+                }
+            }
+        }
+        if (t >= k) {
+            // the true watched literals are enough
+            setPassive();
+            return;
+        }
+        // look for unwatched non-false literals
+        for (int q = 0; q < order.length && s < target && size < order.length; q++) {
+            int i = order[cursor];
+            if (++cursor == order.length) {
+                cursor = 0;
+            }
+            if (where[i] == -1 && !isFalse(i)) {
+                watch(i);
+                s += a[i];
+            }
+        }
+        if (s >= target) {
+            // false literals are not needed anymore
+            for (int p = size - 1; p >= 0; p--) {
+                if (isFalse(watch[p])) {
+                    unwatch(watch[p]);
+                }
+            }
+        } else {
+            // all non-false literals are watched, the false ones are kept
+            // for the property to hold upper in the search tree
+            filter(s);
+        }
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        if (where[idxVarInProp] > -1) {
+            forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+        }
+    }
+
+    /**
+     * Set to true the watched literals needed to reach the degree
+     *
+     * @param s sum of the coefficients of the non-false literals
+     * @throws ContradictionException if the degree cannot be reached
+     */
+    private void filter(long s) throws ContradictionException {
+        if (s < k) {
+            // When explanations are on, no global failure allowed
+            if (model.getSolver().isLearnOff()) {
+                fails();
+            }
+            // so a wipe-out is forced on a false watched literal, if any
+            for (int p = 0; p < size; p++) {
+                int i = watch[p];
+                if (isFalse(i)) {
+                    vars[i].instantiateTo(tv[i], this);
+                }
+            }
+            // otherwise, the degree cannot be reached even when all literals are true
+            int i = watch[0];
+            vars[i].instantiateTo(tv[i], this);
+            vars[i].instantiateTo(1 - tv[i], this);
+        }
+        for (int p = 0; p < size; p++) {
+            int i = watch[p];
+            if (s - a[i] < k && !vars[i].isInstantiated()) {
+                vars[i].instantiateTo(tv[i], this);
+            }
+        }
+    }
+
+    private boolean isFalse(int i) {
+        return vars[i].isInstantiatedTo(1 - tv[i]);
+    }
+
+    private void watch(int i) {
+        where[i] = size;
+        watch[size++] = i;
+    }
+
+    private void unwatch(int i) {
+        int p = where[i];
+        int j = watch[--size];
+        watch[p] = j;
+        where[j] = p;
+        where[i] = -1;
+    }
+
+    @Override
+    public ESat isEntailed() {
+        long lb = 0, ub = 0;
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i].isInstantiated()) {
+                if (vars[i].getValue() == tv[i]) {
+                    lb += a[i];
+                    ub += a[i];
+                }
+            } else {
+                ub += a[i];
+            }
+        }
+        if (lb >= k) {
+            return ESat.TRUE;
+        }
+        if (ub < k) {
+            return ESat.FALSE;
+        }
+        return ESat.UNDEFINED;
+    }
+
+    /**
+     * A literal l_j is set to true since the sum of the coefficients of the other non-false literals is less than k.
+     * The reason is made of the literals false before that, taken by decreasing coefficient
+     * until the sum of the coefficients of the remaining ones is less than k.
+     * On failure, the sum of the coefficients of all non-false literals is less than k,
+     * the pivot is then treated as any other literal.
+     */
+    @Override
+    public void explain(int p, ExplanationForSignedClause explanation) {
+        BoolVar pivot = (BoolVar) explanation.readVar(p);
+        boolean failure = explanation.readDom(p).isEmpty();
+        int j = 0;
+        while (vars[j] != pivot) {
+            j++;
+        }
+        long rest = failure ? 0 : -a[j];
+        for (int i = 0; i < vars.length; i++) {
+            rest += a[i];
+        }
+        for (int q = 0; q < order.length && rest >= k; q++) {
+            int i = order[q];
+            if (failure || i != j) {
+                IntIterableRangeSet dom = explanation.readDom(vars[i]);
+                if (!dom.contains(tv[i])) {
+                    vars[i].unionLit(tv[i], explanation);
+                    rest -= a[i];
+                }
+            }
+        }
+        assert rest < k : "the reason does not entail " + pivot;
+        if (!failure) {
+            pivot.intersectLit(tv[j], explanation);
+        }
+    }
+
+    /**
+     * @return the opposite propagator, SUM(c_i.x_i) &le; b - 1, that is SUM(-c_i.x_i) &ge; 1 - b
+     */
+    PropPseudoBoolean opposite() {
+        int[] oc = new int[c.length];
+        for (int i = 0; i < c.length; i++) {
+            oc[i] = -c[i];
+        }
+        return new PropPseudoBoolean(vars.clone(), oc, 1 - b);
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return MemoryUtils.sizeOf(c) + MemoryUtils.sizeOf(a) + MemoryUtils.sizeOf(tv)
+                + MemoryUtils.sizeOf(order) + MemoryUtils.sizeOf(watch) + MemoryUtils.sizeOf(where);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder linComb = new StringBuilder(20);
+        for (int i = 0; i < vars.length; i++) {
+            if (i > 0) {
+                linComb.append(c[i] > 0 ? " + " : " - ");
+            } else if (c[i] < 0) {
+                linComb.append('-');
+            }
+            linComb.append(Math.abs(c[i])).append('.').append(vars[i].getName());
+        }
+        linComb.append(" >= ").append(b);
+        return linComb.toString();
+    }
+}
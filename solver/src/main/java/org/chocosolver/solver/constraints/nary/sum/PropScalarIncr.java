@@ -0,0 +1,356 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.memory.IStateIntVector;
+import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.events.PropagatorEventType;
+import org.chocosolver.util.tools.MemoryUtils;
+
+/**
+ * A propagator for SUM(x_i*c_i) o b, where o is one of EQ, LE or GE, maintained incrementally.
+ * <br/>
+ * The bounds of each variable known by the propagator are stored, as well as the sums of the smallest
+ * and of the largest contributions they induce.
+ * On a bound event, the sums are updated in constant time with the difference between the known bound
+ * and the new one, and the filtering algorithm is only executed when the slack drops below
+ * an upper bound of the largest span <i>|c_i|.(ub_i - lb_i)</i>, which is computed by the last filtering.
+ * Only the variables that are not instantiated yet are visited by the filtering algorithm,
+ * they are maintained in a reversible sparse set.
+ * <br/>
+ * The known bounds are always looser than (or equal to) the current ones,
+ * the filtering is then never stronger than bounds consistency.
+ * <br/>
+ * Based on "Bounds Consistency Techniques for Long Linear Constraint" </br>
+ * W. Harvey and J. Schimpf
+ * <p>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class PropScalarIncr extends PropScalar {
+
+    /**
+     * Sum of the smallest contributions, wrt the known bounds
+     */
+    private final IStateInt sMin;
+    /**
+     * Sum of the largest contributions, wrt the known bounds
+     */
+    private final IStateInt sMax;
+    /**
+     * Known lower bounds
+     */
+    private final IStateIntVector kLB;
+    /**
+     * Known upper bounds
+     */
+    private final IStateIntVector kUB;
+    /**
+     * Upper bound of the largest span of the free variables
+     */
+    private final IStateLong maxSpan;
+    /**
+     * Indices of the variables, the first {@link #nbFree} ones are not instantiated
+     */
+    private final int[] free;
+    /**
+     * Position of each variable in {@link #free}
+     */
+    private final int[] where;
+    /**
+     * Number of variables not instantiated
+     */
+    private final IStateInt nbFree;
+
+    /**
+     * Create a scalar product: SUM(x_i*c_i) o b, maintained incrementally.
+     * Variables and coefficients are excepted to be ordered wrt to coefficients: first positive ones then negative ones.
+     *
+     * @param variables list of integer variables
+     * @param coeffs    list of coefficients
+     * @param pos       position of the last positive coefficient
+     * @param o         operator, one of EQ, LE or GE
+     * @param b         bound to respect.
+     */
+    public PropScalarIncr(IntVar[] variables, int[] coeffs, int pos, Operator o, int b) {
+        super(variables, coeffs, pos, o, b, computePriority(variables.length), true);
+        if (o == Operator.NQ) {
+            throw new IllegalArgumentException("PropScalarIncr does not handle NQ operator");
+        }
+        this.sMin = model.getEnvironment().makeInt();
+        this.sMax = model.getEnvironment().makeInt();
+        this.kLB = model.getEnvironment().makeIntVector(l, 0);
+        this.kUB = model.getEnvironment().makeIntVector(l, 0);
+        this.maxSpan = model.getEnvironment().makeLong(Long.MAX_VALUE);
+        this.nbFree = model.getEnvironment().makeInt(l);
+        this.free = new int[l];
+        this.where = new int[l];
+        for (int i = 0; i < l; i++) {
+            free[i] = i;
+            where[i] = i;
+        }
+    }
+
+    @Override
+    public void propagate(int evtmask) throws ContradictionException {
+        if (PropagatorEventType.isFullPropagation(evtmask)) {
+            int min = 0, max = 0;
+            for (int i = 0; i < l; i++) {
+                int lb = vars[i].getLB();
+                int ub = vars[i].getUB();
+                kLB.quickSet(i, lb);
+                kUB.quickSet(i, ub);
+                if (c[i] > 0) {
+                    min += c[i] * lb;
+                    max += c[i] * ub;
+                } else {
+                    min += c[i] * ub;
+                    max += c[i] * lb;
+                }
+            }
+            sMin.set(min);
+            sMax.set(max);
+            maxSpan.set(Long.MAX_VALUE);
+        }
+        filter();
+    }
+
+    @Override
+    public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+        int i = idxVarInProp;
+        int lb = vars[i].getLB();
+        int ub = vars[i].getUB();
+        int klb = kLB.quickGet(i);
+        int kub = kUB.quickGet(i);
+        if (lb != klb) {
+            kLB.quickSet(i, lb);
+            if (c[i] > 0) {
+                sMin.add(c[i] * (lb - klb));
+            } else {
+                sMax.add(c[i] * (lb - klb));
+            }
+        }
+        if (ub != kub) {
+            kUB.quickSet(i, ub);
+            if (c[i] > 0) {
+                sMax.add(c[i] * (ub - kub));
+            } else {
+                sMin.add(c[i] * (ub - kub));
+            }
+        }
+        if (lb == ub && where[i] < nbFree.get()) {
+            remove(i);
+        }
+        long F = (long) b - sMin.get();
+        long E = (long) sMax.get() - b;
+        long span = maxSpan.get();
+        boolean doFilter;
+        switch (o) {
+            case LE:
+                doFilter = F < span || E <= 0;
+                break;
+            case GE:
+                doFilter = E < span || F <= 0;
+                break;
+            default:
+                doFilter = F < span || E < span;
+                break;
+        }
+        if (doFilter) {
+            forcePropagate(PropagatorEventType.CUSTOM_PROPAGATION);
+        }
+    }
+
+    /**
+     * Remove the variable <i>i</i> from the free ones
+     *
+     * @param i index of an instantiated variable
+     */
+    private void remove(int i) {
+        int last = nbFree.add(-1);
+        int j = free[last];
+        int p = where[i];
+        free[p] = j;
+        where[j] = p;
+        free[last] = i;
+        where[i] = last;
+    }
+
+    @Override
+    protected void filter() throws ContradictionException {
+        switch (o) {
+            case LE:
+                filterOnLeq();
+                break;
+            case GE:
+                filterOnGeq();
+                break;
+            default:
+                filterOnEq();
+                break;
+        }
+    }
+
+    @Override
+    protected void filterOnEq() throws ContradictionException {
+        boolean anychange;
+        do {
+            // a direction is only scanned when its slack is smaller than the largest span
+            anychange = false;
+            if (b - sMin.get() < maxSpan.get()) {
+                anychange = reduceMax();
+            }
+            if (isActive() && sMax.get() - b < maxSpan.get()) {
+                anychange |= reduceMin();
+            }
+        } while (anychange && isActive());
+    }
+
+    @Override
+    protected void filterOnLeq() throws ContradictionException {
+        reduceMax();
+    }
+
+    @Override
+    protected void filterOnGeq() throws ContradictionException {
+        reduceMin();
+    }
+
+    /**
+     * Make sure that SUM(x_i*c_i) &le; b holds
+     *
+     * @return <i>true</i> if a bound has been modified
+     * @throws ContradictionException if contradiction is detected
+     */
+    private boolean reduceMax() throws ContradictionException {
+        int F = b - sMin.get();
+        // When explanations are on, no global failure allowed
+        if (model.getSolver().isLearnOff() && F < 0) {
+            fails();
+        }
+        boolean change = false;
+        long max = 0;
+        for (int k = nbFree.get() - 1; k >= 0; k--) {
+            int i = free[k];
+            int klb = kLB.quickGet(i);
+            int kub = kUB.quickGet(i);
+            long span = Math.abs((long) c[i]) * ((long) kub - klb);
+            if (span <= F) {
+                max = Math.max(max, span);
+                continue;
+            }
+            if (c[i] > 0) {
+                if (vars[i].updateUpperBound(klb + Math.floorDiv(F, c[i]), this)) {
+                    int ub = vars[i].getUB();
+                    kUB.quickSet(i, ub);
+                    sMax.add(c[i] * (ub - kub));
+                    change = true;
+                }
+            } else {
+                if (vars[i].updateLowerBound(kub - Math.floorDiv(F, -c[i]), this)) {
+                    int lb = vars[i].getLB();
+                    kLB.quickSet(i, lb);
+                    sMax.add(c[i] * (lb - klb));
+                    change = true;
+                }
+            }
+            if (vars[i].isInstantiated()) {
+                remove(i);
+            } else {
+                max = Math.max(max, span(i));
+            }
+        }
+        maxSpan.set(max);
+        if (isActive() && sMax.get() <= b && (o == Operator.LE || sMin.get() >= b)) {
+            setPassive();
+        }
+        return change;
+    }
+
+    /**
+     * Make sure that SUM(x_i*c_i) &ge; b holds
+     *
+     * @return <i>true</i> if a bound has been modified
+     * @throws ContradictionException if contradiction is detected
+     */
+    private boolean reduceMin() throws ContradictionException {
+        int E = sMax.get() - b;
+        // When explanations are on, no global failure allowed
+        if (model.getSolver().isLearnOff() && E < 0) {
+            fails();
+        }
+        boolean change = false;
+        long max = 0;
+        for (int k = nbFree.get() - 1; k >= 0; k--) {
+            int i = free[k];
+            int klb = kLB.quickGet(i);
+            int kub = kUB.quickGet(i);
+            long span = Math.abs((long) c[i]) * ((long) kub - klb);
+            if (span <= E) {
+                max = Math.max(max, span);
+                continue;
+            }
+            if (c[i] > 0) {
+                if (vars[i].updateLowerBound(kub - Math.floorDiv(E, c[i]), this)) {
+                    int lb = vars[i].getLB();
+                    kLB.quickSet(i, lb);
+                    sMin.add(c[i] * (lb - klb));
+                    change = true;
+                }
+            } else {
+                if (vars[i].updateUpperBound(klb + Math.floorDiv(E, -c[i]), this)) {
+                    int ub = vars[i].getUB();
+                    kUB.quickSet(i, ub);
+                    sMin.add(c[i] * (ub - kub));
+                    change = true;
+                }
+            }
+            if (vars[i].isInstantiated()) {
+                remove(i);
+            } else {
+                max = Math.max(max, span(i));
+            }
+        }
+        maxSpan.set(max);
+        if (isActive() && sMin.get() >= b && (o == Operator.GE || sMax.get() <= b)) {
+            setPassive();
+        }
+        return change;
+    }
+
+    /**
+     * @param i index of a variable
+     * @return the span of the variable <i>i</i> wrt its known bounds
+     */
+    private long span(int i) {
+        return Math.abs((long) c[i]) * ((long) kUB.quickGet(i) - kLB.quickGet(i));
+    }
+
+    @Override
+    public long getEstimatedMemory() {
+        return MemoryUtils.sizeOf(c) + MemoryUtils.sizeOf(I) + MemoryUtils.sizeOf(free) + MemoryUtils.sizeOf(where)
+                + 2 * MemoryUtils.sizeOfArray(l, 4);
+    }
+
+    @Override
+    protected PropSum opposite() {
+        if (o == Operator.EQ) {
+            // not handled incrementally
+            return new PropScalar(vars, c, pos, Operator.NQ, b);
+        }
+        return new PropScalarIncr(vars, c, pos, nop(o), b + nb(o));
+    }
+}
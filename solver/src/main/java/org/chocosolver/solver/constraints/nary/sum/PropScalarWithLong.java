@@ -278,6 +278,11 @@ public class PropScalarWithLong extends PropSumWithLong {
         return check(sumLB, sumUB);
     }
 
+    @Override
+    public long getCoefficient(int i) {
+        return c[i];
+    }
+
     @Override
     public String toString() {
         StringBuilder linComb = new StringBuilder(20);
@@ -665,6 +665,28 @@ public class PropSum extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @param i index of a variable
+     * @return the coefficient of the <i>i</i>th variable in the linear combination
+     */
+    public int getCoefficient(int i) {
+        return i < pos ? 1 : -1;
+    }
+
+    /**
+     * @return the operator of the linear combination
+     */
+    public Operator getOperator() {
+        return o;
+    }
+
+    /**
+     * @return the constant the linear combination is compared to
+     */
+    public int getConstant() {
+        return b;
+    }
+
     @Override
     public String toString() {
         StringBuilder linComb = new StringBuilder(20);
@@ -0,0 +1,55 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.sum;
+
+import org.chocosolver.solver.constraints.Operator;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * A propagator for SUM(x_i) o b, where o is one of EQ, LE or GE, maintained incrementally.
+ * <br/>
+ * See {@link PropScalarIncr} for details.
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class PropSumIncr extends PropScalarIncr {
+
+    /**
+     * Creates a sum propagator: SUM(x_i) o b, maintained incrementally.
+     * Coefficients are induced by <code>pos</code>:
+     * those before <code>pos</code> (included) are equal to 1,
+     * the other ones are equal to -1.
+     *
+     * @param variables list of integer variables
+     * @param pos       position of the last positive coefficient
+     * @param o         operator, one of EQ, LE or GE
+     * @param b         bound to respect
+     */
+    public PropSumIncr(IntVar[] variables, int pos, Operator o, int b) {
+        super(variables, unit(variables.length, pos), pos, o, b);
+    }
+
+    private static int[] unit(int n, int pos) {
+        int[] coeffs = new int[n];
+        for (int i = 0; i < n; i++) {
+            coeffs[i] = i < pos ? 1 : -1;
+        }
+        return coeffs;
+    }
+
+    @Override
+    protected PropSum opposite() {
+        if (o == Operator.EQ) {
+            return new PropSum(vars, pos, Operator.NQ, b);
+        }
+        return new PropSumIncr(vars, pos, nop(o), b + nb(o));
+    }
+}
@@ -459,6 +459,28 @@ public class PropSumWithLong extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @param i index of a variable
+     * @return the coefficient of the <i>i</i>th variable in the linear combination
+     */
+    public long getCoefficient(int i) {
+        return i < pos ? 1 : -1;
+    }
+
+    /**
+     * @return the operator of the linear combination
+     */
+    public Operator getOperator() {
+        return o;
+    }
+
+    /**
+     * @return the constant the linear combination is compared to
+     */
+    public long getConstant() {
+        return b;
+    }
+
     @Override
     public String toString() {
         StringBuilder linComb = new StringBuilder(20);
@@ -32,6 +32,15 @@ public class SumConstraint extends Constraint {
         super(ConstraintsName.SUM, propagator);
     }
 
+    /**
+     * Make a new constraint defined as a set of given propagators
+     *
+     * @param propagators propagators defining the constraint
+     */
+    public SumConstraint(Propagator<?>... propagators) {
+        super(ConstraintsName.SUM, propagators);
+    }
+
     /**
      * The only reason this class exists
      *
@@ -50,6 +59,14 @@ public class SumConstraint extends Constraint {
                     Operator.NQ,
                     0
             ));
+        } else if (propagators[0] instanceof PropPseudoBoolean) {
+            PropPseudoBoolean me = (PropPseudoBoolean) propagators[0];
+            if (propagators.length == 1) {
+                return new SumConstraint(me.opposite());
+            } else if (me.b >= Integer.MIN_VALUE && me.b <= Integer.MAX_VALUE) {
+                // an equality, made of SUM(c_i.x_i) >= b and SUM(-c_i.x_i) >= -b
+                return IntLinCombFactory.selectScalar(me.getVars(), me.c, Operator.NQ, (int) me.b);
+            }
         }
         return super.makeOpposite();
     }
@@ -27,6 +27,7 @@ import org.chocosolver.util.PoolManager;
 import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
+import java.util.BitSet;
 import java.util.HashSet;
 
 /**
@@ -64,6 +65,11 @@ public class ExplanationForSignedClause extends IExplanation {
 
     private final PoolManager<IntIterableRangeSet> manager;
 
+    /**
+     * Decision levels met, to compute the LBD
+     */
+    private final BitSet levels = new BitSet();
+
     public ExplanationForSignedClause(Implications ig) {
         front = new ValueSortedMap<>();
         literals = new HashSet<>();
@@ -337,6 +343,21 @@ public class ExplanationForSignedClause extends IExplanation {
         return literals.size();
     }
 
+    /**
+     * @return the number of distinct decision levels among the literals of this explanation,
+     * aka the Literal Block Distance.
+     */
+    public int getLBD() {
+        levels.clear();
+        for (IntVar var : literals) {
+            int p = front.getValueOrDefault(var, -1);
+            if (p > -1) {
+                levels.set(mIG.getDecisionLevelAt(p));
+            }
+        }
+        return levels.cardinality();
+    }
+
     /**
      * @return the decision to refute (ie, point to jump to wrt the current decision path).
      */
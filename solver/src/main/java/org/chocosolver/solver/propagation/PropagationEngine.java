@@ -105,6 +105,16 @@ public class PropagationEngine {
      * A propagation insight to collect information about the propagation
      */
     private PropagationInsight insight = PropagationInsight.VOID;
+    /**
+     * Set to <tt>true</tt> when events on scheduled variables can be merged without calling
+     * {@link #onVariableUpdate(Variable, IEventType, ICause)}, as declared in the settings.
+     */
+    private final boolean batchable;
+    /**
+     * Set to <tt>true</tt> when events on scheduled variables can be merged
+     * without calling {@link #onVariableUpdate(Variable, IEventType, ICause)}.
+     */
+    private boolean batch;
 
     /**
      * A seven-queue propagation engine.
@@ -129,6 +139,8 @@ public class PropagationEngine {
         //0b00: cstr-ori
         //0b10: var-ori
         this.hybrid = model.getSettings().enableHybridizationOfPropagationEngine();
+        this.batchable = model.getSettings().enableBatchedNotification();
+        this.batch = batchable;
     }
 
     /**
@@ -176,6 +188,8 @@ public class PropagationEngine {
                 propagator.setPosition(i);
                 awake_queue.addLast(propagator);
             }
+            // all static propagators are known, their incidence can be stored compactly
+            model.getPropagatorIncidence().pack(model.getVars());
         }
     }
 
@@ -374,8 +388,31 @@ public class PropagationEngine {
         }
     }
 
+    /**
+     * Inform the propagation engine that a propagator has become passive.
+     *
+     * @param propagator the propagator passivated
+     */
+    public void onPropagatorPassivation(Propagator<?> propagator) {
+        insight.passivate(propagator);
+    }
+
     public void setInsight(PropagationInsight insight) {
         this.insight = insight;
+        // an insight needs to be informed of every modification
+        this.batch = batchable && insight == PropagationInsight.VOID;
+    }
+
+    /**
+     * When a variable is already scheduled, that is, it is waiting in the engine for its propagators to be scheduled,
+     * any new event on it can be merged into its pending events (see {@link Variable#storeEvents(int, ICause)})
+     * without calling {@link #onVariableUpdate(Variable, IEventType, ICause)}.
+     * The related propagators will then be scheduled once, when the current filtering pass is over.
+     *
+     * @return <i>true</i> if events on scheduled variables can be merged without informing <i>this</i>
+     */
+    public boolean batchNotifications() {
+        return batch && !CHECK_SCOPE;
     }
 
     public void setHybrid(byte hybrid) {
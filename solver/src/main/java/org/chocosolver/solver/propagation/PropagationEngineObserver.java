@@ -91,4 +91,12 @@ public class PropagationEngineObserver extends PropagationEngine {
         observer.onVariableModification(variable, type, cause);
         super.onVariableUpdate(variable, type, cause);
     }
+
+    /**
+     * @return <i>false</i>, since the propagation observer needs to be informed of every modification
+     */
+    @Override
+    public boolean batchNotifications() {
+        return false;
+    }
 }
@@ -43,6 +43,16 @@ public interface PropagationInsight {
 
     }
 
+    /**
+     * Called when a propagator becomes passive, that is, when it is entailed
+     * and will not be executed again until backtrack.
+     *
+     * @param p the propagator being passivated
+     */
+    default void passivate(Propagator<?> p) {
+
+    }
+
 
     class PickOnDom implements PropagationInsight {
         private final ArrayList<Variable> Lvars;
@@ -0,0 +1,173 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.limits;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseConstraint;
+import org.chocosolver.solver.search.restart.AbstractRestart;
+
+/**
+ * Set a limit over the estimated memory retained by the trails and the propagators during the search
+ * (see {@link Solver#updateMemoryMeasures()}).
+ * <p>
+ * As estimating the memory has a cost, it is only done every <i>period</i> calls.
+ * The first time the budget is exceeded, the search is degraded rather than stopped:
+ * learnt signed clauses, if any, are reduced and a restart is forced, after which the trails are shrunk.
+ * The resolution is stopped only if the budget is still exceeded at the next estimation.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public final class MemoryCounter extends ACounter {
+
+    /**
+     * Default number of calls between two estimations
+     */
+    public static final int DEFAULT_PERIOD = 1024;
+
+    private final Model model;
+    private final int period;
+    private int calls;
+    /**
+     * Last estimation, in bytes
+     */
+    private long current;
+    /**
+     * Set to <i>true</i> when the search has been degraded, until the next estimation
+     */
+    private boolean degraded;
+    /**
+     * Number of restarts when the search has been degraded, -1 once the trails are shrunk
+     */
+    private long restarts = -1;
+    /**
+     * Number of times the search has been degraded
+     */
+    private int degradations;
+    /**
+     * Restart policy to force a restart at the next safe point, lazily added to the solver
+     */
+    private ForcedRestart restart;
+
+    /**
+     * @param model the model to instrument
+     * @param bytes maximal estimated memory, in bytes
+     */
+    public MemoryCounter(Model model, long bytes) {
+        this(model, bytes, DEFAULT_PERIOD);
+    }
+
+    /**
+     * @param model  the model to instrument
+     * @param bytes  maximal estimated memory, in bytes
+     * @param period number of calls between two estimations
+     */
+    public MemoryCounter(Model model, long bytes, int period) {
+        super(model.getSolver().getMeasures(), bytes);
+        if (period < 1) {
+            throw new IllegalArgumentException("The period should be strictly positive");
+        }
+        this.model = model;
+        this.period = period;
+    }
+
+    @Override
+    public void init() {
+        calls = 0;
+        current = 0;
+        degraded = false;
+        restarts = -1;
+    }
+
+    @Override
+    public void update() {
+        if (calls++ % period == 0) {
+            model.getSolver().updateMemoryMeasures();
+            current = measures.getTrailMemory() + measures.getPropagatorMemory();
+        }
+    }
+
+    @Override
+    public boolean isMet(long value) {
+        if (restarts > -1 && measures.getRestartCount() > restarts) {
+            // the forced restart is done, release the trails and estimate again
+            restarts = -1;
+            model.getEnvironment().shrinkTrails();
+            calls = 0;
+        }
+        int before = calls;
+        update();
+        boolean measured = before % period == 0;
+        if (current < value) {
+            if (measured) {
+                degraded = false;
+            }
+            return false;
+        }
+        if (!degraded) {
+            degrade();
+            return false;
+        }
+        // wait for the next estimation before stopping
+        return measured;
+    }
+
+    private void degrade() {
+        degraded = true;
+        degradations++;
+        ClauseConstraint clauses = (ClauseConstraint) model.getHook(Model.CLAUSES_HOOK_NAME);
+        if (clauses != null) {
+            clauses.getClauseStore().reduce();
+        }
+        if (restart == null) {
+            restart = new ForcedRestart();
+            model.getSolver().addRestarter(restart);
+        }
+        restart.requested = true;
+        restarts = measures.getRestartCount();
+    }
+
+    @Override
+    public long currentValue() {
+        return current;
+    }
+
+    /**
+     * @return the number of times the search has been degraded because the budget was exceeded
+     */
+    public int getDegradations() {
+        return degradations;
+    }
+
+    /**
+     * A restart policy that restarts once each time it is requested.
+     */
+    private static final class ForcedRestart extends AbstractRestart {
+
+        boolean requested;
+
+        @Override
+        public void init() {
+            requested = false;
+            getNext().init();
+        }
+
+        @Override
+        public boolean mustRestart(Solver solver) {
+            if (requested) {
+                requested = false;
+                return true;
+            }
+            return getNext().mustRestart(solver);
+        }
+    }
+}
@@ -106,6 +106,17 @@ public interface ISearchMonitorFactory extends ISelf<Solver> {
     }
 
 
+    /**
+     * Defines a limit over the estimated memory retained by the trails and the propagators.
+     * When the limit is first exceeded, the search is degraded: learnt clauses are reduced and a restart is forced.
+     * If the limit is still exceeded afterwards, the resolution is stopped.
+     * @param bytes maximal estimated memory, in bytes
+     * @see MemoryCounter
+     */
+    default void limitMemory(long bytes) {
+        limitSearch(new MemoryCounter(ref().getModel(), bytes));
+    }
+
     /**
      * Defines a limit over the run time.
      * When the limit is reached, the resolution is stopped.
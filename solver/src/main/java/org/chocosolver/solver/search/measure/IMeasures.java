@@ -124,6 +124,22 @@ public interface IMeasures extends Serializable {
      */
     long getCurrentDepth();
 
+    /**
+     * @return an estimation, in bytes, of the memory retained by the trails of the environment
+     */
+    long getTrailMemory();
+
+    /**
+     * @return an estimation, in bytes, of the memory retained by the data structures owned by propagators,
+     * such as tables, diagrams or clauses
+     */
+    long getPropagatorMemory();
+
+    /**
+     * @return the highest estimation, in bytes, of the memory retained by trails and propagators
+     */
+    long getPeakMemory();
+
     /**
      * @return true iff the problem has an objective variable (i.e. optimization problem)
      */
@@ -107,6 +107,21 @@ public class Measures implements IMeasures, Cloneable {
      */
     protected long backjumpCount;
 
+    /**
+     * Estimated memory retained by the trails, in bytes
+     */
+    protected long trailMemory;
+
+    /**
+     * Estimated memory retained by the propagators, in bytes
+     */
+    protected long propagatorMemory;
+
+    /**
+     * Highest estimated memory retained by the trails and the propagators, in bytes
+     */
+    protected long peakMemory;
+
     //***********************************************************************************
     // CONSTRUCTOR
     //***********************************************************************************
@@ -142,6 +157,9 @@ public class Measures implements IMeasures, Cloneable {
         failCount = measures.getFailCount();
         depth = measures.getCurrentDepth();
         maxDepth = measures.getMaxDepth();
+        trailMemory = measures.getTrailMemory();
+        propagatorMemory = measures.getPropagatorMemory();
+        peakMemory = measures.getPeakMemory();
     }
 
     //****************************************************************************************************************//
@@ -206,6 +224,21 @@ public class Measures implements IMeasures, Cloneable {
         return depth;
     }
 
+    @Override
+    public final long getTrailMemory() {
+        return trailMemory;
+    }
+
+    @Override
+    public final long getPropagatorMemory() {
+        return propagatorMemory;
+    }
+
+    @Override
+    public final long getPeakMemory() {
+        return peakMemory;
+    }
+
     @Override
     public final boolean isObjectiveOptimal() {
         return objectiveOptimal;
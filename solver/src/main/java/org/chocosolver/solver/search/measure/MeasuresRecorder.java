@@ -117,6 +117,9 @@ public final class MeasuresRecorder extends Measures {
         restartCount = 0;
         depth = 0;
         maxDepth = 0;
+        trailMemory = 0;
+        propagatorMemory = 0;
+        peakMemory = 0;
     }
 
     //****************************************************************************************************************//
@@ -193,6 +196,17 @@ public final class MeasuresRecorder extends Measures {
         this.boundsManager = boundsManager;
     }
 
+    /**
+     * Update the estimations of the memory retained by the trails and by the propagators
+     * @param trailMemory estimated memory of the trails, in bytes
+     * @param propagatorMemory estimated memory of the propagators, in bytes
+     */
+    public void updateMemory(long trailMemory, long propagatorMemory) {
+        this.trailMemory = trailMemory;
+        this.propagatorMemory = propagatorMemory;
+        this.peakMemory = Math.max(peakMemory, trailMemory + propagatorMemory);
+    }
+
     public void setReadingTimeCount(long readingTimeCount) {
         if(this.readingTimeCount <= 0) {
             this.readingTimeCount = readingTimeCount;
@@ -0,0 +1,245 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.restart;
+
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.search.loop.learn.Learn;
+import org.chocosolver.solver.search.loop.learn.LearnSignedClauses;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * A dynamic restart policy, as introduced in Glucose:
+ * "Refining restarts strategies for SAT and UNSAT", G. Audemard and L. Simon, CP 2012.
+ * <p>
+ * On each conflict, a measure of the quality of the conflict is recorded
+ * (by default, the LBD of the learnt clause, see {@link Metric}).
+ * A restart is triggered as soon as the average of the last recent conflicts
+ * is significantly worse than the average over all conflicts, that is when:
+ * <pre>
+ *     K * avg(last <i>window</i> conflicts) > avg(all conflicts)
+ * </pre>
+ * Moreover, restarts are blocked when the solver seems to approach a solution,
+ * that is when, on a conflict, the size of the trail is significantly greater than its recent average:
+ * <pre>
+ *     trail > R * avg(last <i>blockingWindow</i> conflicts)
+ * </pre>
+ * In that case, the recent conflicts are forgotten, which postpones the next restart by at least <i>window</i> conflicts.
+ * <p>
+ * The trail size is estimated by the depth of the search.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public final class DynamicRestarter extends AbstractRestart {
+
+    /**
+     * Measures of the quality of a conflict, the smaller the better.
+     */
+    public enum Metric implements ToIntFunction<Solver> {
+        /**
+         * The number of distinct decision levels in the last learnt signed clause (Literal Block Distance).
+         * When learning is not enabled, the depth of the failure is considered instead.
+         */
+        LBD {
+            @Override
+            public int applyAsInt(Solver solver) {
+                Learn learner = solver.getLearner();
+                if (learner instanceof LearnSignedClauses) {
+                    ExplanationForSignedClause explanation = ((LearnSignedClauses<?>) learner).getExplanation();
+                    if (explanation != null) {
+                        return explanation.getLBD();
+                    }
+                }
+                return DEPTH.applyAsInt(solver);
+            }
+        },
+        /**
+         * The depth of the failure, that is the size of the decision path.
+         */
+        DEPTH {
+            @Override
+            public int applyAsInt(Solver solver) {
+                return (int) solver.getCurrentDepth();
+            }
+        }
+    }
+
+    /**
+     * Measure of a conflict
+     */
+    private final ToIntFunction<Solver> metric;
+    /**
+     * Recent conflicts
+     */
+    private final BoundedQueue recent;
+    /**
+     * Recent trail sizes
+     */
+    private final BoundedQueue trails;
+    /**
+     * Restart when {@code k * avg(recent)} is greater than the global average
+     */
+    private final double k;
+    /**
+     * Block restarts when the trail size is greater than {@code r * avg(trails)}
+     */
+    private final double r;
+    /**
+     * Number of conflicts before blocking restarts is allowed
+     */
+    private final long blockingFrom;
+    /**
+     * Restrict the total number of restarts
+     */
+    private final int restartLimit;
+    /**
+     * Count the number of restarts
+     */
+    private int restartCount;
+    /**
+     * Number of conflicts met so far
+     */
+    private long conflicts;
+    /**
+     * Sum of the measures of the conflicts met so far
+     */
+    private long sum;
+    /**
+     * Number of failures of the solver seen on the last call
+     */
+    private long fails;
+
+    /**
+     * Create a dynamic restart policy with Glucose default parameters.
+     *
+     * @param metric       measure of a conflict
+     * @param restartLimit restrict the total number of restarts
+     */
+    public DynamicRestarter(ToIntFunction<Solver> metric, int restartLimit) {
+        this(metric, 50, 0.8, 5000, 1.4, 10000, restartLimit);
+    }
+
+    /**
+     * Create a dynamic restart policy.
+     *
+     * @param metric         measure of a conflict, the smaller the better
+     * @param window         number of recent conflicts to consider
+     * @param k              restart when <i>k</i> times the recent average is greater than the global one,
+     *                       should be in ]0,1]
+     * @param blockingWindow number of recent trail sizes to consider
+     * @param r              block restarts when the trail is greater than <i>r</i> times its recent average,
+     *                       should be greater than 1
+     * @param blockingFrom   number of conflicts before restarts can be blocked
+     * @param restartLimit   restrict the total number of restarts
+     */
+    public DynamicRestarter(ToIntFunction<Solver> metric, int window, double k,
+                            int blockingWindow, double r, long blockingFrom, int restartLimit) {
+        if (window < 1 || blockingWindow < 1) {
+            throw new IllegalArgumentException("The size of windows should be strictly positive");
+        }
+        this.metric = metric;
+        this.recent = new BoundedQueue(window);
+        this.trails = new BoundedQueue(blockingWindow);
+        this.k = k;
+        this.r = r;
+        this.blockingFrom = blockingFrom;
+        this.restartLimit = restartLimit;
+    }
+
+    @Override
+    public void init() {
+        restartCount = 0;
+        conflicts = 0;
+        sum = 0;
+        fails = 0;
+        recent.clear();
+        trails.clear();
+        this.next.init();
+    }
+
+    /**
+     * Check conditions for restarting
+     *
+     * @param solver the caller
+     * @return true if restarting is required
+     */
+    @Override
+    public boolean mustRestart(Solver solver) {
+        if (fails < solver.getFailCount()) {
+            fails = solver.getFailCount();
+            if (onConflict(solver)) {
+                restartCount++;
+                recent.clear();
+                return true;
+            }
+        }
+        return next.mustRestart(solver);
+    }
+
+    private boolean onConflict(Solver solver) {
+        conflicts++;
+        int trail = (int) solver.getCurrentDepth();
+        if (conflicts > blockingFrom && recent.isFull() && trails.isFull() && trail > r * trails.average()) {
+            // the search may be close to a solution, postpone the next restart
+            recent.clear();
+        }
+        trails.push(trail);
+        int m = metric.applyAsInt(solver);
+        recent.push(m);
+        sum += m;
+        return restartCount < restartLimit
+                && recent.isFull()
+                && recent.average() * k > (double) sum / conflicts;
+    }
+
+    /**
+     * A circular queue of fixed capacity that maintains the sum of its elements.
+     */
+    private static final class BoundedQueue {
+
+        private final int[] elements;
+        private int first;
+        private int size;
+        private long sum;
+
+        BoundedQueue(int capacity) {
+            this.elements = new int[capacity];
+        }
+
+        void push(int e) {
+            if (size == elements.length) {
+                sum -= elements[first];
+                elements[first] = e;
+                first = (first + 1) % elements.length;
+            } else {
+                elements[(first + size) % elements.length] = e;
+                size++;
+            }
+            sum += e;
+        }
+
+        boolean isFull() {
+            return size == elements.length;
+        }
+
+        double average() {
+            return (double) sum / size;
+        }
+
+        void clear() {
+            first = 0;
+            size = 0;
+            sum = 0;
+        }
+    }
+}
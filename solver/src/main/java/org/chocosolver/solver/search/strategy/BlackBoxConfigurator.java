@@ -158,8 +158,9 @@ public class BlackBoxConfigurator {
     public static BlackBoxConfigurator forCSP() {
         BlackBoxConfigurator bb = init();
         // search strategy
+        // phase saving, since there is no solution to guide the search
         SearchParams.ValSelConf defaultValSel = new SearchParams.ValSelConf(
-                SearchParams.ValueSelection.MIN, SearchParams.BestSelection.NONE, 16, true);
+                SearchParams.ValueSelection.MIN, SearchParams.BestSelection.NONE, 16, false, true);
         SearchParams.VarSelConf defaultVarSel = new SearchParams.VarSelConf(
                 SearchParams.VariableSelection.DOMWDEG_CACD, 32);
         bb.setIntVarStrategy((vars) -> defaultVarSel.make().apply(vars, defaultValSel.make().apply(vars[0].getModel())));
@@ -11,7 +11,6 @@ package org.chocosolver.solver.search.strategy;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.ResolutionPolicy;
-import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.objective.ObjectiveStrategy;
 import org.chocosolver.solver.objective.OptimizationPolicy;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
@@ -472,15 +471,8 @@ public class Search {
                 || !(model.getObjective() instanceof IntVar)) {
             valueSelector = new IntDomainMin();
         } else {
-            valueSelector = new IntDomainBest();
-            Solution solution;
-            if (model.getSolver().defaultSolutionExists()) {
-                solution = model.getSolver().defaultSolution(); // already attached
-            } else {
-                solution = new Solution(model, vars);
-                model.getSolver().attach(solution);
-            }
-            valueSelector = new IntDomainLast(solution, valueSelector, null);
+            // solution-guided search
+            valueSelector = new IntDomainPhaseSaving(model, new IntDomainBest(), false, true);
         }
         return intVarSearch(new DomOverWDeg<>(vars, 0), valueSelector, vars);
     }
@@ -44,10 +44,12 @@ import java.util.function.Function;
  */
 public interface SearchParams {
     /**
-     * Different restart strategies
+     * Different restart strategies.
+     * The dynamic ones are based on moving averages of the LBD of learnt clauses
+     * or of the depth of failures (see {@link DynamicRestarter}).
      */
     enum Restart {
-        NONE, LUBY, GEOMETRIC, ARITHMETIC
+        NONE, LUBY, GEOMETRIC, ARITHMETIC, DYNAMIC_LBD, DYNAMIC_DEPTH
     }
 
     /**
@@ -120,10 +122,11 @@ public interface SearchParams {
          * Configure the restart strategy
          *
          * @param pol             restart policy
-         * @param cutoff          cutoff value
+         * @param cutoff          cutoff value (size of the moving window for dynamic policies)
          * @param geo             geometric factor (only for GEOMETRIC policy, ignored otherwise)
          * @param offset          offset value (when to stop restarting)
          * @param resetOnSolution set to <tt>true</tt> to reset the restart policy on solution
+         *                        (ignored by dynamic policies)
          * @implNote The default restart criteria is to restart on fail count.
          * If the policy is NONE, then the restart strategy is disabled.
          */
@@ -169,6 +172,12 @@ public interface SearchParams {
                 case ARITHMETIC:
                     return (s) -> new Restarter(new LinearCutoff(cutoff),
                             c -> s.getFailCount() >= c, offset, resetOnSolution);
+                case DYNAMIC_LBD:
+                    return (s) -> new DynamicRestarter(DynamicRestarter.Metric.LBD,
+                            cutoff, 0.8, 5000, 1.4, 10000, offset);
+                case DYNAMIC_DEPTH:
+                    return (s) -> new DynamicRestarter(DynamicRestarter.Metric.DEPTH,
+                            cutoff, 0.8, 5000, 1.4, 10000, offset);
             }
         }
 
@@ -266,11 +275,13 @@ public interface SearchParams {
     class VarSelConf {
         final SearchParams.VariableSelection varsel;
         final int flushRate;
+        final boolean heap;
 
         @Override
         public String toString() {
             return "(varsel=" + varsel +
                     ";flushRate=" + flushRate +
+                    ";heap=" + heap +
                     ')';
         }
 
@@ -281,8 +292,24 @@ public interface SearchParams {
          * @param flushRate number of restarts before flushing the scores of the variables
          */
         public VarSelConf(SearchParams.VariableSelection varsel, int flushRate) {
+            this(varsel, flushRate, false);
+        }
+
+        /**
+         * Configure the variable selection strategy
+         *
+         * @param varsel    variable selection strategy
+         * @param flushRate number of restarts before flushing the scores of the variables
+         * @param heap      set to <tt>true</tt> to maintain the variables in a heap keyed by their score,
+         *                  instead of scanning all of them at each decision.
+         *                  Only DOM, FIRST_FAIL, DOMWDEG, DOMWDEG_CACD, PICKONDOM* and PICKONFIL* support it,
+         *                  it is ignored otherwise.
+         * @implNote When heap is set, ties are broken lexicographically.
+         */
+        public VarSelConf(SearchParams.VariableSelection varsel, int flushRate, boolean heap) {
             this.varsel = varsel;
             this.flushRate = flushRate;
+            this.heap = heap;
         }
 
         /**
@@ -299,12 +326,16 @@ public interface SearchParams {
                     return (vars, vsel) -> Search.intVarSearch(new ConflictHistorySearch<>(vars, 0, flushRate), vsel, vars);
                 case DOM:
                 case FIRST_FAIL:
+                    if (heap) {
+                        return (vars, vsel) -> Search.intVarSearch(
+                                new HeapVariableSelector<>(vars, new FirstFail(vars[0].getModel())), vsel, vars);
+                    }
                     return (vars, vsel) -> Search.intVarSearch(new FirstFail(vars[0].getModel()), vsel, vars);
                 default:
                 case DOMWDEG:
-                    return (vars, vsel) -> Search.intVarSearch(new DomOverWDeg<>(vars, 0, flushRate), vsel, vars);
+                    return (vars, vsel) -> Search.intVarSearch(new DomOverWDeg<>(vars, 0, flushRate, heap), vsel, vars);
                 case DOMWDEG_CACD:
-                    return (vars, vsel) -> Search.intVarSearch(new DomOverWDegRef<>(vars, 0, flushRate), vsel, vars);
+                    return (vars, vsel) -> Search.intVarSearch(new DomOverWDegRef<>(vars, 0, flushRate, heap), vsel, vars);
                 case FLBA:
                     return (vars, vsel) -> Search.intVarSearch(new FailureBased<>(vars, 0, 4), vsel, vars);
                 case FRBA:
@@ -312,21 +343,21 @@ public interface SearchParams {
                 case INPUT:
                     return (vars, vsel) -> Search.intVarSearch(new InputOrder<>(vars[0].getModel()), vsel, vars);
                 case PICKONDOM0:
-                    return (vars, vsel) -> Search.intVarSearch(new PickOnDom<>(vars, 0, flushRate), vsel, vars);
+                    return (vars, vsel) -> Search.intVarSearch(new PickOnDom<>(vars, 0, flushRate, heap), vsel, vars);
                 case PICKONDOM1:
-                    return (vars, vsel) -> Search.intVarSearch(new PickOnDom<>(vars, 1, flushRate), vsel, vars);
+                    return (vars, vsel) -> Search.intVarSearch(new PickOnDom<>(vars, 1, flushRate, heap), vsel, vars);
                 case PICKONDOM2:
-                    return (vars, vsel) -> Search.intVarSearch(new PickOnDom<>(vars, 2, flushRate), vsel, vars);
+                    return (vars, vsel) -> Search.intVarSearch(new PickOnDom<>(vars, 2, flushRate, heap), vsel, vars);
                 case PICKONDOM3:
-                    return (vars, vsel) -> Search.intVarSearch(new PickOnDom<>(vars, 3, flushRate), vsel, vars);
+                    return (vars, vsel) -> Search.intVarSearch(new PickOnDom<>(vars, 3, flushRate, heap), vsel, vars);
                 case PICKONFIL0:
-                    return (vars, vsel) -> Search.intVarSearch(new PickOnFil<>(vars, 0, flushRate), vsel, vars);
+                    return (vars, vsel) -> Search.intVarSearch(new PickOnFil<>(vars, 0, flushRate, heap), vsel, vars);
                 case PICKONFIL1:
-                    return (vars, vsel) -> Search.intVarSearch(new PickOnFil<>(vars, 1, flushRate), vsel, vars);
+                    return (vars, vsel) -> Search.intVarSearch(new PickOnFil<>(vars, 1, flushRate, heap), vsel, vars);
                 case PICKONFIL2:
-                    return (vars, vsel) -> Search.intVarSearch(new PickOnFil<>(vars, 2, flushRate), vsel, vars);
+                    return (vars, vsel) -> Search.intVarSearch(new PickOnFil<>(vars, 2, flushRate, heap), vsel, vars);
                 case PICKONFIL3:
-                    return (vars, vsel) -> Search.intVarSearch(new PickOnFil<>(vars, 3, flushRate), vsel, vars);
+                    return (vars, vsel) -> Search.intVarSearch(new PickOnFil<>(vars, 3, flushRate, heap), vsel, vars);
                 case RAND:
                     return (vars, vsel) -> Search.intVarSearch(new Random<>(vars[0].getModel().getSeed()), vsel, vars);
             }
@@ -336,7 +367,7 @@ public interface SearchParams {
         public boolean equals(Object obj) {
             if (obj instanceof VarSelConf) {
                 VarSelConf other = (VarSelConf) obj;
-                return varsel == other.varsel && flushRate == other.flushRate;
+                return varsel == other.varsel && flushRate == other.flushRate && heap == other.heap;
             }
             return false;
         }
@@ -350,6 +381,7 @@ public interface SearchParams {
         final BestSelection best;
         final int bestFreq;
         final boolean last;
+        final boolean phase;
         Function<Model, IntValueSelector> greedy = null;
 
         /**
@@ -362,10 +394,28 @@ public interface SearchParams {
          * @param last     set to <tt>true</tt> to apply the last value selection strategy (or phase saving), <tt>false</tt> otherwise
          */
         public ValSelConf(SearchParams.ValueSelection valH, BestSelection best, int bestFreq, boolean last) {
+            this(valH, best, bestFreq, last, false);
+        }
+
+        /**
+         * Configure the value selection strategy
+         *
+         * @param valH     value selection strategy
+         * @param best     set to <tt>true</tt> to apply the best value selection strategy, <tt>false</tt> otherwise
+         * @param bestFreq if <tt>best</tt> is set to <tt>true</tt>, the frequency at which the best value selection strategy is applied.
+         *                 For example, when set to 12, the best value selection is applied at the first run and then every 12 restarts.
+         * @param last     set to <tt>true</tt> to select the value of a variable in the last solution (solution-guided search),
+         *                 <tt>false</tt> otherwise
+         * @param phase    set to <tt>true</tt> to select the last value chosen for a variable (phase saving),
+         *                 <tt>false</tt> otherwise. When combined with <tt>last</tt>, phases are reset to the last solution on restarts.
+         * @see IntDomainPhaseSaving
+         */
+        public ValSelConf(SearchParams.ValueSelection valH, BestSelection best, int bestFreq, boolean last, boolean phase) {
             this.valsel = valH;
             this.best = best;
             this.bestFreq = bestFreq;
             this.last = last;
+            this.phase = phase;
         }
 
         /**
@@ -431,12 +481,9 @@ public interface SearchParams {
                     break;
             }
             final Function<Model, IntValueSelector> fn2;
-            if (last) {
+            if (last || phase) {
                 Function<Model, IntValueSelector> finalFn = fn1;
-                fn2 = m -> {
-                    m.getSolver().attach(m.getSolver().defaultSolution());
-                    return new IntDomainLast(m.getSolver().defaultSolution(), finalFn.apply(m), null);
-                };
+                fn2 = m -> new IntDomainPhaseSaving(m, finalFn.apply(m), phase, last);
             } else {
                 fn2 = fn1;
             }
@@ -451,7 +498,7 @@ public interface SearchParams {
         public boolean equals(Object obj) {
             if (obj instanceof ValSelConf) {
                 ValSelConf vsc = (ValSelConf) obj;
-                return valsel == vsc.valsel && best == vsc.best && bestFreq == vsc.bestFreq && last == vsc.last;
+                return valsel == vsc.valsel && best == vsc.best && bestFreq == vsc.bestFreq && last == vsc.last && phase == vsc.phase;
             }
             return false;
         }
@@ -462,6 +509,7 @@ public interface SearchParams {
                     ";best=" + best +
                     ";bestFreq=" + bestFreq +
                     ";last=" + last +
+                    ";phase=" + phase +
                     ')';
         }
     }
@@ -0,0 +1,188 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.Arrays;
+
+/**
+ * Value selector based on phase saving: branches on the value stored for a variable, if still relevant,
+ * otherwise falls back to another value selector.
+ * <p>
+ * The phases are stored in primitive arrays indexed by variable ID and can be updated in two ways:
+ * <ul>
+ *     <li>on decisions: each time a value is selected for a variable, it is saved as the phase of the variable,</li>
+ *     <li>on solutions (solution-guided search): each time a solution is found, the value of every integer variable
+ *     is saved as its phase. Moreover, phases are reset to the last solution after each restart.</li>
+ * </ul>
+ * When only solution-guided search is enabled, it is equivalent to
+ * {@link IntDomainLast} declared with {@link Solver#defaultSolution()}, without having to record solutions.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public final class IntDomainPhaseSaving implements IntValueSelector, IMonitorSolution, IMonitorRestart {
+
+    /**
+     * The model the variables belong to
+     */
+    private final Model model;
+    /**
+     * The default value selector
+     */
+    private final IntValueSelector mainSelector;
+    /**
+     * Set to <i>true</i> to save the value of a variable each time it is selected
+     */
+    private final boolean onDecisions;
+    /**
+     * Set to <i>true</i> to save the values of the variables each time a solution is found
+     */
+    private final boolean onSolutions;
+    /**
+     * Phase of each variable, indexed by variable ID
+     */
+    private int[] phases;
+    /**
+     * Indicates whether a variable has a phase, indexed by variable ID
+     */
+    private boolean[] saved;
+    /**
+     * Value of each variable in the last solution, indexed by variable ID.
+     * Only needed when both {@link #onDecisions} and {@link #onSolutions} are set.
+     */
+    private int[] incumbent;
+    /**
+     * Number of solutions found so far
+     */
+    private long solutions;
+
+    /**
+     * Create a value selector that returns the phase of a variable.
+     * If no phase was saved or the phase does not exist anymore in the domain, falls back to 'mainSelector'.
+     *
+     * @param model        the model
+     * @param mainSelector falling back selector
+     * @param onDecisions  set to <i>true</i> to save the phase of a variable each time a value is selected for it
+     * @param onSolutions  set to <i>true</i> to save the phases of all integer variables on solutions (solution-guided search)
+     */
+    public IntDomainPhaseSaving(Model model, IntValueSelector mainSelector, boolean onDecisions, boolean onSolutions) {
+        this.model = model;
+        this.mainSelector = mainSelector;
+        this.onDecisions = onDecisions;
+        this.onSolutions = onSolutions;
+        this.phases = new int[0];
+        this.saved = new boolean[0];
+        this.incumbent = new int[0];
+    }
+
+    @Override
+    public boolean init() {
+        Solver solver = model.getSolver();
+        if (!solver.getSearchMonitors().contains(this)) {
+            solver.plugMonitor(this);
+        }
+        return mainSelector.init();
+    }
+
+    @Override
+    public void remove() {
+        Solver solver = model.getSolver();
+        if (solver.getSearchMonitors().contains(this)) {
+            solver.unplugMonitor(this);
+        }
+        mainSelector.remove();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int selectValue(IntVar var) throws ContradictionException {
+        int id = var.getId();
+        int value;
+        if (id < saved.length && saved[id] && relevant(var, phases[id])) {
+            value = phases[id];
+        } else {
+            value = mainSelector.selectValue(var);
+        }
+        if (onDecisions) {
+            save(id, value);
+        }
+        return value;
+    }
+
+    /**
+     * @param var a variable
+     * @return <i>true</i> if a phase is saved for {@code var}
+     */
+    public boolean hasPhase(IntVar var) {
+        return var.getId() < saved.length && saved[var.getId()];
+    }
+
+    /**
+     * @param var a variable
+     * @return the phase of {@code var}, only relevant if {@link #hasPhase(IntVar)} returns <i>true</i>
+     */
+    public int getPhase(IntVar var) {
+        return phases[var.getId()];
+    }
+
+    @Override
+    public void onSolution() {
+        if (onSolutions) {
+            Variable[] vars = model.getVars();
+            for (int i = 0; i < vars.length; i++) {
+                if ((vars[i].getTypeAndKind() & Variable.INT) != 0 && vars[i].isInstantiated()) {
+                    save(vars[i].getId(), ((IntVar) vars[i]).getValue());
+                }
+            }
+            if (onDecisions) {
+                // keep a copy of the solution, to restore it on restarts
+                incumbent = Arrays.copyOf(phases, phases.length);
+            }
+            solutions++;
+        }
+    }
+
+    @Override
+    public void afterRestart() {
+        if (onDecisions && solutions > 0) {
+            // solution-guided search: go back to the last solution
+            System.arraycopy(incumbent, 0, phases, 0, incumbent.length);
+        }
+    }
+
+    private void save(int id, int value) {
+        if (id >= phases.length) {
+            int nsize = Math.max(id + 1, Math.max(model.getNbVars(), phases.length * 3 / 2 + 1));
+            phases = Arrays.copyOf(phases, nsize);
+            saved = Arrays.copyOf(saved, nsize);
+        }
+        phases[id] = value;
+        saved[id] = true;
+    }
+
+    private static boolean relevant(IntVar var, int value) {
+        return (
+                (var.hasEnumeratedDomain() && var.contains(value))
+                        || (!var.hasEnumeratedDomain() &&
+                        (var.getLB() == value || var.getUB() == value))
+        );
+    }
+}
@@ -112,6 +112,10 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
      */
     final HashMap<Propagator<?>, double[]> refinedWeights = new HashMap<>();
     static final double[] rw = {0.};
+    /**
+     * When not null, variables are selected from this heap instead of scanning the decision variables.
+     */
+    final VariableHeap<V> heap;
 
     final BiConsumer<Variable, Propagator<?>> update = (v, p) -> {
         Element elt = failCount.get(p);
@@ -125,15 +129,33 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
     };
 
     public AbstractCriterionBasedVariableSelector(V[] vars, long seed, int flush) {
+        this(vars, seed, flush, false);
+    }
+
+    /**
+     * Create a criterion-based variable selector.
+     *
+     * @param vars        decision variables
+     * @param seed        seed for breaking ties randomly
+     * @param flush       flush threshold, when reached, it flushes scores
+     * @param incremental set to <i>true</i> to select variables from a heap keyed by
+     *                    the scores, instead of scanning all decision variables.
+     *                    In that case, ties are broken lexicographically and {@code seed} is ignored.
+     */
+    protected AbstractCriterionBasedVariableSelector(V[] vars, long seed, int flush, boolean incremental) {
         this.random = new java.util.Random(seed);
         this.solver = vars[0].getModel().getSolver();
         this.environment = vars[0].getModel().getEnvironment();
         this.last = environment.makeInt(vars.length - 1);
         this.flushThs = flush;
+        this.heap = incremental ? new VariableHeap<>(vars, v -> -weight(v) / v.getDomainSize()) : null;
     }
 
     @Override
     public final V getVariable(V[] vars) {
+        if (heap != null) {
+            return heap.top();
+        }
         V best = null;
         bests.resetQuick();
         double w = Double.NEGATIVE_INFINITY;
@@ -232,6 +254,18 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
         return 0;
     }
 
+    /**
+     * Inform this that the weight of {@code var} has changed,
+     * which is required when variables are selected from the {@link #heap}.
+     *
+     * @param var a variable
+     */
+    final void weightChanged(Variable var) {
+        if (heap != null && var != null) {
+            heap.touch(var);
+        }
+    }
+
     /**
      * This method sorts elements wrt to their weight.
      * If 90% of the top 20 elements remain unchanged, then weights are flushed
@@ -304,6 +338,10 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
 
     private void updateFutvars(Propagator<?> p, Element elt, int i) {
         assert (p.getVar(elt.ws[i]).isInstantiated());
+        if (heap != null && p.isPassive()) {
+            // weights were already withdrawn on passivation
+            return;
+        }
         // look for another free and unwatched variable
         assert i == 0 || i == 1;
         int w = next(p, elt.ws[i], elt.ws[1 - i]);
@@ -326,11 +364,13 @@ public abstract class AbstractCriterionBasedVariableSelector<V extends Variable>
                     delta[0] = ws[elt.ws[k]];
                 }
                 weights.adjustValue(other, -delta[0]);
+                weightChanged(other);
                 // but it should be restored upon backtrack
                 environment.save(() -> {
                     double ww = weights.get(other) + delta[0];
                     ww = Math.max(ww, 0.);
                     weights.put(other, ww);
+                    weightChanged(other);
                 });
             }
         }
@@ -9,7 +9,6 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
-import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -23,31 +22,25 @@ import org.chocosolver.solver.variables.IntVar;
  */
 public class AntiFirstFail implements VariableSelector<IntVar>,VariableEvaluator<IntVar> {
 
-    private final IStateInt lastIdx; // index of the last non-instantiated variable
+    private FreeVariables<IntVar> free; // non-instantiated variables
 
     /**
      * <b>First fail</b> variable selector.
      * @param model reference to the model (does not define the variable scope)
      */
     public AntiFirstFail(Model model){
-        lastIdx = model.getEnvironment().makeInt(0);
     }
 
     @Override
     public IntVar getVariable(IntVar[] variables) {
+        free = FreeVariables.bind(free, variables);
+        if (free == null) return null;
         int large_idx = -1;
         int large_dsize = Integer.MIN_VALUE;
-        boolean got = false;
-        for (int idx = lastIdx.get(); idx < variables.length; idx++) {
+        for (int k = free.refresh() - 1; k >= 0; k--) {
+            int idx = free.get(k);
             int dsize = variables[idx].getDomainSize();
-
-            if (!got && !variables[idx].isInstantiated()) {
-                //got is just to call 'set' at most once
-                lastIdx.set(idx);
-                got = true;
-            }
-
-            if (dsize > 1 && dsize > large_dsize) {
+            if (dsize > large_dsize || (dsize == large_dsize && idx < large_idx)) {
                 large_dsize = dsize;
                 large_idx = idx;
             }
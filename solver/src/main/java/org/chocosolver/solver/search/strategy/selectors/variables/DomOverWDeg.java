@@ -10,6 +10,7 @@
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.propagation.PropagationInsight;
 import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.Variable;
@@ -47,12 +48,34 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
         super(variables, seed, flushThs);
     }
 
+    /**
+     * Creates a DomOverWDeg variable selector
+     *
+     * @param variables   decision variables
+     * @param seed        seed for breaking ties randomly
+     * @param flushThs    flush threshold, when reached, it flushes scores
+     * @param incremental set to <i>true</i> to maintain a heap of variables keyed by dom/wdeg,
+     *                    and to withdraw weights of passivated propagators.
+     *                    Then, ties are broken lexicographically.
+     */
+    public DomOverWDeg(V[] variables, long seed, int flushThs, boolean incremental) {
+        super(variables, seed, flushThs, incremental);
+    }
 
     @Override
     public final boolean init() {
         if (!solver.getSearchMonitors().contains(this)) {
             solver.plugMonitor(this);
         }
+        if (heap != null) {
+            heap.plug();
+            solver.getEngine().setInsight(new PropagationInsight() {
+                @Override
+                public void passivate(Propagator<?> p) {
+                    onPassivation(p);
+                }
+            });
+        }
         return true;
     }
 
@@ -61,6 +84,10 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
         if (solver.getSearchMonitors().contains(this)) {
             solver.unplugMonitor(this);
         }
+        if (heap != null) {
+            heap.unplug();
+            solver.getEngine().setInsight(PropagationInsight.VOID);
+        }
     }
 
     @Override
@@ -84,9 +111,13 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
             // recall that variable at 0 is the 'deepest' one
             if (i == elt.ws[0] && futVar1) {
                 // it should be restored upon backtrack
-                environment.saveAt(() -> weights.adjustOrPutValue(ivar, 1., 1.), dk);
+                environment.saveAt(() -> {
+                    weights.adjustOrPutValue(ivar, 1., 1.);
+                    weightChanged(ivar);
+                }, dk);
             } else {
                 weights.adjustOrPutValue(ivar, 1., 1.);
+                weightChanged(ivar);
             }
             ws[i] += 1;
         }
@@ -97,6 +128,41 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
         return 1;
     }
 
+    /**
+     * When a propagator becomes passive, it no longer counts in the weighted degree of its variables.
+     * Its weights are withdrawn from its non-instantiated variables, and restored upon backtrack.
+     * If there is at most one non-instantiated variable, this is already handled when maintaining futvars.
+     *
+     * @param prop a passivated propagator
+     */
+    final void onPassivation(Propagator<?> prop) {
+        if (!failCount.containsKey(prop)) {
+            return; // never failed, hence no weight
+        }
+        double[] ws = refinedWeights.get(prop);
+        int futvars = 0;
+        for (int i = 0; i < prop.getNbVars() && futvars < 2; i++) {
+            if (!prop.getVar(i).isInstantiated()) {
+                futvars++;
+            }
+        }
+        if (futvars < 2) {
+            return;
+        }
+        for (int i = 0; i < prop.getNbVars() && i < ws.length; i++) {
+            Variable var = prop.getVar(i);
+            if (!var.isInstantiated() && ws[i] > 0.) {
+                double delta = ws[i];
+                weights.adjustValue(var, -delta);
+                weightChanged(var);
+                environment.save(() -> {
+                    weights.adjustValue(var, delta);
+                    weightChanged(var);
+                });
+            }
+        }
+    }
+
     @Override
     public void afterRestart() {
         /*if (vars[0].getModel().getSolver().getSolutionCount() > solution) {
@@ -108,6 +174,9 @@ public class DomOverWDeg<V extends Variable> extends AbstractCriterionBasedVaria
                 weights.put(a1, 0.);
                 return true;
             });
+            if (heap != null) {
+                heap.touchAll();
+            }
         }
     }
 
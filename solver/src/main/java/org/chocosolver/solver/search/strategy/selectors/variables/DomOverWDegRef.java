@@ -45,6 +45,20 @@ public class DomOverWDegRef<V extends Variable> extends DomOverWDeg<V> {
         super(variables, seed, flushThs);
     }
 
+    /**
+     * Creates a DomOverWDegRef variable selector with "CACD" as weight incrementer.
+     *
+     * @param variables   decision variables
+     * @param seed        seed for breaking ties randomly
+     * @param flushThs    flush threshold, when reached, it flushes scores
+     * @param incremental set to <i>true</i> to maintain a heap of variables keyed by dom/wdeg,
+     *                    and to withdraw weights of passivated propagators.
+     *                    Then, ties are broken lexicographically.
+     */
+    public DomOverWDegRef(V[] variables, long seed, int flushThs, boolean incremental) {
+        super(variables, seed, flushThs, incremental);
+    }
+
     /**
      * @implNote
      * This is the reason this class exists.
@@ -62,6 +76,7 @@ public class DomOverWDegRef<V extends Variable> extends DomOverWDeg<V> {
             IntVar ivar = (IntVar) prop.getVar(i);
             inc[0] = 1.0 / (futvars * (ivar.getDomainSize() == 0 ? 0.5 : ivar.getDomainSize()));
             weights.adjustOrPutValue(ivar, inc[0], inc[0]);
+            weightChanged(ivar);
             ws[i] += inc[0];
         }
     }
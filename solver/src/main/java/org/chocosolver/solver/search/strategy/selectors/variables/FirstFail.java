@@ -9,7 +9,6 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
-import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -23,41 +22,41 @@ import org.chocosolver.solver.variables.IntVar;
  */
 public class FirstFail implements VariableSelector<IntVar>, VariableEvaluator<IntVar> {
 
-    private final IStateInt lastIdx; // index of the last non-instantiated variable
+    private FreeVariables<IntVar> free; // non-instantiated variables
 
     /**
      * <b>First fail</b> variable selector.
      * @param model reference to the model (does not define the variable scope)
      */
     public FirstFail(Model model){
-        lastIdx = model.getEnvironment().makeInt(0);
     }
     
     
     @Override
     public IntVar getVariable(IntVar[] variables) {
-        IntVar smallVar = null;
-        int smallDSize = Integer.MAX_VALUE;
-        // get and update the index of the first uninstantiated variable
-        int idx = lastIdx.get();
-        while(idx < variables.length && variables[idx].isInstantiated()) {
-            idx++;
+        free = FreeVariables.bind(free, variables);
+        if (free == null) return null;
+        // get the index of the first uninstantiated variable
+        int first = free.first();
+        if (first == variables.length) {
+            return null;
+        }
+        // cannot be smaller than a boolean domain
+        if (variables[first].getDomainSize() == 2) {
+            return variables[first];
         }
-        lastIdx.set(idx);
         //search for the leftmost variable with smallest domain
-        while(idx < variables.length) {
+        int smallIdx = first;
+        int smallDSize = variables[first].getDomainSize();
+        for (int k = free.refresh() - 1; k >= 0; k--) {
+            final int idx = free.get(k);
             final int dsize = variables[idx].getDomainSize();
-            if (dsize < smallDSize && dsize > 1) {
-             // the variable is candidate for having the smallest domain
-             //and  the variable is not instantiated 
-                smallVar = variables[idx];
+            if (dsize < smallDSize || (dsize == smallDSize && idx < smallIdx)) {
+                smallIdx = idx;
                 smallDSize = dsize;
-                // cannot be smaller than a boolean domain 
-                if(dsize == 2) {break;}
             }
-            idx++;
         }
-        return smallVar;
+        return variables[smallIdx];
     }
     
     @Override
@@ -0,0 +1,130 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.variables.Variable;
+
+/**
+ * A backtrackable view of the not instantiated variables of an array, to be used by variable selectors.
+ * <p>
+ * It maintains:
+ * <ul>
+ *     <li>a pointer to the first not instantiated variable, wrt the order of the array (see {@link #first()}),</li>
+ *     <li>a sparse set of the not instantiated variables (see {@link #refresh()} and {@link #get(int)}).</li>
+ * </ul>
+ * Both are lazily updated: instantiated variables are detected when one of the two methods is called
+ * and are skipped until backtrack.
+ * Hence, iterating over the not instantiated variables is in O(#free) instead of O(n).
+ * <p>
+ * The sparse set does not preserve the order of the array.
+ * Selectors that break ties lexicographically have to compare the indices of the variables.
+ * <p>
+ * The array is not copied and should not be modified while this is in use.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public final class FreeVariables<V extends Variable> {
+
+    /**
+     * The variables, not copied
+     */
+    private final V[] vars;
+    /**
+     * Indices of the variables, the first {@link #size} ones are (maybe) not instantiated
+     */
+    private final int[] dense;
+    /**
+     * Number of (maybe) not instantiated variables
+     */
+    private final IStateInt size;
+    /**
+     * Index of the first (maybe) not instantiated variable
+     */
+    private final IStateInt first;
+
+    /**
+     * Create a backtrackable view of the not instantiated variables of {@code vars}.
+     *
+     * @param vars        an array of variables
+     * @param environment the environment used to restore the view upon backtrack
+     */
+    public FreeVariables(V[] vars, IEnvironment environment) {
+        this.vars = vars;
+        this.dense = new int[vars.length];
+        for (int i = 0; i < vars.length; i++) {
+            dense[i] = i;
+        }
+        // the initial values are valid in any world, so this can be created during search
+        this.size = environment.makeInt(vars.length);
+        this.first = environment.makeInt(0);
+    }
+
+    /**
+     * Return a view bound to {@code variables}, that is {@code current} when it already is, a new one otherwise.
+     *
+     * @param current   the view currently in use, may be <i>null</i>
+     * @param variables an array of variables
+     * @param <V>       the type of variables
+     * @return a view bound to {@code variables}, or <i>null</i> if {@code variables} is empty
+     */
+    public static <V extends Variable> FreeVariables<V> bind(FreeVariables<V> current, V[] variables) {
+        if (current != null && current.vars == variables) {
+            return current;
+        }
+        if (variables.length == 0) {
+            return null;
+        }
+        return new FreeVariables<>(variables, variables[0].getModel().getEnvironment());
+    }
+
+    /**
+     * @return the index of the first not instantiated variable, or the length of the array if all are.
+     */
+    public int first() {
+        int idx = first.get();
+        while (idx < vars.length && vars[idx].isInstantiated()) {
+            idx++;
+        }
+        first.set(idx);
+        return idx;
+    }
+
+    /**
+     * Remove instantiated variables from the sparse set.
+     * After this call, {@link #get(int)} returns the index of a not instantiated variable
+     * for any <i>k</i> in [0, {@link #refresh()}[.
+     *
+     * @return the number of not instantiated variables
+     */
+    public int refresh() {
+        int s = size.get();
+        for (int k = s - 1; k >= 0; k--) {
+            if (vars[dense[k]].isInstantiated()) {
+                int tmp = dense[k];
+                dense[k] = dense[--s];
+                dense[s] = tmp;
+            }
+        }
+        size.set(s);
+        return s;
+    }
+
+    /**
+     * @param k position in the sparse set, should be in [0, {@link #refresh()}[
+     * @return the index, in the array, of the <i>k</i>-th not instantiated variable
+     */
+    public int get(int k) {
+        return dense[k];
+    }
+}
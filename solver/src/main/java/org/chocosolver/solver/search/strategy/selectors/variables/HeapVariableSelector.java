@@ -0,0 +1,82 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.variables.Variable;
+
+/**
+ * A variable selector that maintains decision variables in a heap
+ * ordered wrt to one or more {@link VariableEvaluator}s (the smaller, the better).
+ * <p>
+ * It is equivalent to {@link VariableSelectorWithTies}, but only variables touched since the last call,
+ * either because their domain has been modified or restored upon backtrack,
+ * are evaluated again.
+ * Hence, selecting a variable is logarithmic in the number of decision variables instead of linear.
+ * <p>
+ * The evaluation of a variable is expected to depend only on its own domain (like {@link FirstFail},
+ * {@link Smallest} or {@link Largest}).
+ * If it depends on something else, the variable has to be touched with {@link #touch(Variable)}
+ * each time its evaluation changes.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class HeapVariableSelector<V extends Variable> implements VariableSelector<V> {
+
+    /**
+     * The heap of not instantiated variables
+     */
+    private final VariableHeap<V> heap;
+
+    /**
+     * Create a heap-based variable selector.
+     *
+     * @param variables  decision variables, should be the same as the ones of the declaring strategy
+     * @param evaluators scoring functions, to be minimized; the next one breaks ties of the previous ones
+     */
+    @SafeVarargs
+    public HeapVariableSelector(V[] variables, VariableEvaluator<V>... evaluators) {
+        this.heap = new VariableHeap<>(variables, evaluators);
+    }
+
+    @Override
+    public V getVariable(V[] variables) {
+        return heap.top();
+    }
+
+    @Override
+    public boolean init() {
+        heap.plug();
+        return true;
+    }
+
+    @Override
+    public void remove() {
+        heap.unplug();
+    }
+
+    /**
+     * Inform this that the evaluation of {@code var} has changed
+     * for a reason other than a modification of its domain.
+     *
+     * @param var a variable
+     */
+    public void touch(Variable var) {
+        heap.touch(var);
+    }
+
+    /**
+     * Inform this that the evaluation of all variables may have changed.
+     */
+    public void touchAll() {
+        heap.touchAll();
+    }
+}
@@ -9,7 +9,6 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
-import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.variables.Variable;
 
@@ -23,7 +22,7 @@ import org.chocosolver.solver.variables.Variable;
  */
 public class InputOrder<V extends Variable> implements VariableSelector<V> {
 
-    private final IStateInt lastIdx; // index of the last non-instantiated variable
+    private FreeVariables<V> free; // maintains the index of the first non-instantiated variable
 
 	/**
      * <b>Input order</b> variable selector.
@@ -31,18 +30,13 @@ public class InputOrder<V extends Variable> implements VariableSelector<V> {
      * @param model reference to the model (does not define the variable scope)
      */
     public InputOrder(Model model){
-        lastIdx = model.getEnvironment().makeInt(0);
     }
 
     @Override
     public V getVariable(V[] variables) {
-        for (int idx = lastIdx.get(); idx < variables.length; idx++) {
-            if (!variables[idx].isInstantiated()) {
-                lastIdx.set(idx);
-                return variables[idx];
-            }
-        }
-        lastIdx.set(variables.length);
-        return null;
+        free = FreeVariables.bind(free, variables);
+        if (free == null) return null;
+        int idx = free.first();
+        return idx < variables.length ? variables[idx] : null;
     }
 }
@@ -22,14 +22,18 @@ import org.chocosolver.solver.variables.IntVar;
 public class Largest implements VariableSelector<IntVar>,VariableEvaluator<IntVar>{
 
 
+    private FreeVariables<IntVar> free; // non-instantiated variables
+
     @Override
     public IntVar getVariable(IntVar[] variables) {
+        free = FreeVariables.bind(free, variables);
+        if (free == null) return null;
         int large_idx = -1;
         int large_value = Integer.MIN_VALUE;
-        for (int idx = 0; idx < variables.length; idx++) {
-            int dsize = variables[idx].getDomainSize();
+        for (int k = free.refresh() - 1; k >= 0; k--) {
+            int idx = free.get(k);
             int upper = variables[idx].getUB();
-            if (dsize > 1 && upper > large_value) {
+            if (upper > large_value || (upper == large_value && idx < large_idx)) {
                 large_value = upper;
                 large_idx = idx;
             }
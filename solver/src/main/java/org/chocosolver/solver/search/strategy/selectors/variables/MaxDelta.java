@@ -18,14 +18,19 @@ import org.chocosolver.solver.variables.SetVar;
  * @since 6/10/13
  */
 public class MaxDelta implements VariableSelector<SetVar>,VariableEvaluator<SetVar> {
+    private FreeVariables<SetVar> free; // non-instantiated variables
+
     @Override
     public SetVar getVariable(SetVar[] variables) {
+        free = FreeVariables.bind(free, variables);
+        if (free == null) return null;
         int small_idx = -1;
         int delta = 0;
-        for (int idx = 0; idx < variables.length; idx++) {
+        for (int k = free.refresh() - 1; k >= 0; k--) {
+            int idx = free.get(k);
             SetVar variable = variables[idx];
             int d = variable.getUB().size() - variable.getLB().size();
-            if (d > delta) {
+            if (d > delta || (d == delta && idx < small_idx)) {
                 delta = d;
                 small_idx = idx;
             }
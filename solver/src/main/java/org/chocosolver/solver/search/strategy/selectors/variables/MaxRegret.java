@@ -22,15 +22,19 @@ import org.chocosolver.solver.variables.IntVar;
  */
 public class MaxRegret implements VariableSelector<IntVar>,VariableEvaluator<IntVar> {
 
+    private FreeVariables<IntVar> free; // non-instantiated variables
+
     @Override
     public IntVar getVariable(IntVar[] variables) {
+        free = FreeVariables.bind(free, variables);
+        if (free == null) return null;
         int small_idx = -1;
         int small_value = Integer.MIN_VALUE;
-        for (int idx = 0; idx < variables.length; idx++) {
-            int dsize = variables[idx].getDomainSize();
+        for (int k = free.refresh() - 1; k >= 0; k--) {
+            int idx = free.get(k);
             int lower = variables[idx].getLB();
             int value = variables[idx].nextValue(lower) - lower;
-            if (dsize > 1 && value > small_value) {
+            if (value > small_value || (value == small_value && idx < small_idx)) {
                 small_value = value;
                 small_idx = idx;
             }
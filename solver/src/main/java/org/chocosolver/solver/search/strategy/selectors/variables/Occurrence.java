@@ -22,13 +22,18 @@ import org.chocosolver.solver.variables.Variable;
  */
 public class Occurrence<V extends Variable> implements VariableSelector<V>,VariableEvaluator<V> {
 
+    private FreeVariables<V> free; // non-instantiated variables
+
     @Override
     public V getVariable(V[] variables) {
+        free = FreeVariables.bind(free, variables);
+        if (free == null) return null;
         int large_idx = -1;
         int large_nb_cstrs = Integer.MIN_VALUE;
-        for (int idx = 0; idx < variables.length; idx++) {
+        for (int k = free.refresh() - 1; k >= 0; k--) {
+            int idx = free.get(k);
             int nb_cstrs = variables[idx].getNbProps();
-            if (!variables[idx].isInstantiated() && nb_cstrs > large_nb_cstrs) {
+            if (nb_cstrs > large_nb_cstrs || (nb_cstrs == large_nb_cstrs && idx < large_idx)) {
                 large_nb_cstrs = nb_cstrs;
                 large_idx = idx;
             }
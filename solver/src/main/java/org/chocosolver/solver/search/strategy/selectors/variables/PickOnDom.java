@@ -37,7 +37,20 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
     }
 
     public PickOnDom(V[] vars, int variant, int flushRare) {
-        super(vars, 0, flushRare);
+        this(vars, variant, flushRare, false);
+    }
+
+    /**
+     * Creates a PickOnDom variable selector
+     *
+     * @param vars        decision variables
+     * @param variant     the variant to use, from 0 to 3
+     * @param flushRare   flush threshold, when reached, it flushes scores
+     * @param incremental set to <i>true</i> to select variables from a heap keyed by the scores.
+     *                    Then, ties are broken lexicographically.
+     */
+    public PickOnDom(V[] vars, int variant, int flushRare, boolean incremental) {
+        super(vars, 0, flushRare, incremental);
         this.variant = variant;
     }
 
@@ -50,6 +63,9 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
         if (!solver.getSearchMonitors().contains(this)) {
             solver.plugMonitor(this);
         }
+        if (heap != null) {
+            heap.plug();
+        }
         return true;
     }
 
@@ -58,6 +74,9 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
         if (solver.getSearchMonitors().contains(this)) {
             solver.unplugMonitor(this);
         }
+        if (heap != null) {
+            heap.unplug();
+        }
     }
 
     @Override
@@ -73,11 +92,13 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
             case 0:
                 for (Variable lvar : Lvars) {
                     weights.adjustOrPutValue(lvar, 1, 1);
+                    weightChanged(lvar);
                 }
                 break;
             case 1:
                 for (int i = 0; i < Lvars.size(); i++) {
                     weights.adjustOrPutValue(Lvars.get(i), Ldeltas.get(i), Ldeltas.get(i));
+                    weightChanged(Lvars.get(i));
                 }
                 break;
             case 2:
@@ -86,6 +107,7 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
                 for (int i = 0; i < Lvars.size(); i++) {
                     double amnt = r * Ldeltas.get(i);
                     weights.adjustOrPutValue(Lvars.get(i), amnt, amnt);
+                    weightChanged(Lvars.get(i));
                 }
                 break;
             case 3:
@@ -96,6 +118,7 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
                 for (int i = 0; i < Lvars.size(); i++) {
                     double amnt = r * Ldeltas.get(i);
                     weights.adjustOrPutValue(Lvars.get(i), amnt, amnt);
+                    weightChanged(Lvars.get(i));
                 }
                 break;
 
@@ -110,6 +133,9 @@ public class PickOnDom<V extends Variable> extends AbstractCriterionBasedVariabl
     public void afterRestart() {
         if (flushWeights(weights)) {
             weights.clear();
+            if (heap != null) {
+                heap.touchAll();
+            }
         }
     }
 }
@@ -40,7 +40,20 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
     }
 
     public PickOnFil(V[] vars, int variant, int flushRate) {
-        super(vars, 0, flushRate);
+        this(vars, variant, flushRate, false);
+    }
+
+    /**
+     * Creates a PickOnFil variable selector
+     *
+     * @param vars        decision variables
+     * @param variant     the variant to use, from 0 to 3
+     * @param flushRate   flush threshold, when reached, it flushes scores
+     * @param incremental set to <i>true</i> to select variables from a heap keyed by the scores.
+     *                    Then, ties are broken lexicographically.
+     */
+    public PickOnFil(V[] vars, int variant, int flushRate, boolean incremental) {
+        super(vars, 0, flushRate, incremental);
         this.scores = new TObjectDoubleHashMap<>(15, 1.5f, 0.);
         this.variant = variant;
     }
@@ -54,6 +67,9 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
         if (!solver.getSearchMonitors().contains(this)) {
             solver.plugMonitor(this);
         }
+        if (heap != null) {
+            heap.plug();
+        }
         return true;
     }
 
@@ -62,6 +78,9 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
         if (solver.getSearchMonitors().contains(this)) {
             solver.unplugMonitor(this);
         }
+        if (heap != null) {
+            heap.unplug();
+        }
     }
 
     @Override
@@ -79,6 +98,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
                         scores.adjustOrPutValue(lv, 1, 1);
+                        weightChanged(lv);
                     }
                 }
                 break;
@@ -87,6 +107,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
                         scores.adjustOrPutValue(lv, Ldeltas.get(i), Ldeltas.get(i));
+                        weightChanged(lv);
                     }
                 }
                 break;
@@ -98,6 +119,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
                         scores.adjustOrPutValue(lv, amnt, amnt);
+                        weightChanged(lv);
                     }
                 }
                 break;
@@ -111,6 +133,7 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
                     Propagator<?> lc = Lcstrs.get(i);
                     for (Variable lv : lc.getVars()) {
                         scores.adjustOrPutValue(lv, amnt, amnt);
+                        weightChanged(lv);
                     }
                 }
                 break;
@@ -126,6 +149,9 @@ public class PickOnFil<V extends Variable> extends AbstractCriterionBasedVariabl
     public void afterRestart() {
         if (flushWeights(weights)) {
             weights.clear();
+            if (heap != null) {
+                heap.touchAll();
+            }
         }
     }
 }
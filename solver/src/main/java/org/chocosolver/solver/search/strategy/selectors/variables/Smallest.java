@@ -21,14 +21,18 @@ import org.chocosolver.solver.variables.IntVar;
  */
 public class Smallest implements VariableSelector<IntVar>, VariableEvaluator<IntVar> {
 
+    private FreeVariables<IntVar> free; // non-instantiated variables
+
     @Override
     public IntVar getVariable(IntVar[] variables) {
+        free = FreeVariables.bind(free, variables);
+        if (free == null) return null;
         int small_idx = -1;
         int small_value = Integer.MAX_VALUE;
-        for (int idx = 0; idx < variables.length; idx++) {
-            int dsize = variables[idx].getDomainSize();
+        for (int k = free.refresh() - 1; k >= 0; k--) {
+            int idx = free.get(k);
             int lower = variables[idx].getLB();
-            if (dsize > 1 && lower < small_value) {
+            if (lower < small_value || (lower == small_value && idx < small_idx)) {
                 small_value = lower;
                 small_idx = idx;
             }
@@ -0,0 +1,255 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.variables.IVariableMonitor;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+import org.chocosolver.util.objects.IntHeap;
+
+import java.util.Arrays;
+
+/**
+ * An addressable heap of decision variables, ordered wrt to one or more {@link VariableEvaluator}
+ * (the smaller, the better).
+ * When more than one evaluator is given, the next one breaks ties of the previous ones,
+ * as done in {@link VariableSelectorWithTies}.
+ * <p>
+ * Scores are not computed at each selection.
+ * Instead, a variable is marked as <i>dirty</i> when it is modified,
+ * when it is restored upon backtrack or when it is explicitly touched (for instance,
+ * because its weight has changed).
+ * Only dirty variables are re-evaluated on the next call to {@link #top()},
+ * which makes the selection logarithmic in the number of variables.
+ * <p>
+ * Instantiated variables are removed from the heap and inserted back on backtrack.
+ * Remaining ties are broken wrt to the index of the variables in the array given on construction.
+ * <p>
+ * The evaluation of a variable is expected to depend only on its own domain.
+ * Otherwise, the variable has to be {@link #touch(Variable) touched} each time its evaluation changes.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class VariableHeap<V extends Variable> implements IVariableMonitor<V> {
+
+    /**
+     * Decision variables, a copy of the input array.
+     */
+    private final V[] vars;
+    /**
+     * Smallest variable ID among {@link #vars}.
+     */
+    private final int offset;
+    /**
+     * Maps a variable ID (minus {@link #offset}) to its position in {@link #vars}, -1 if none.
+     */
+    private final int[] positions;
+    /**
+     * Last computed scores of each variable, one array per evaluator
+     */
+    private final double[][] scores;
+    /**
+     * How to score a variable.
+     */
+    private final VariableEvaluator<V>[] evaluators;
+    /**
+     * The heap of not instantiated variables
+     */
+    private final IntHeap heap;
+    /**
+     * Variables to re-evaluate before the next selection
+     */
+    private final int[] dirty;
+    /**
+     * Number of dirty variables
+     */
+    private int nbDirty;
+    /**
+     * For each variable, <i>true</i> if it is dirty
+     */
+    private final boolean[] isDirty;
+    /**
+     * For each variable, the last environment timestamp it was modified in.
+     * Needed to register at most one restoring operation per variable and per world.
+     */
+    private final int[] stamps;
+    /**
+     * For each variable, the operation marking it as dirty upon backtrack, lazily created.
+     */
+    private final IOperation[] restores;
+    /**
+     * Needed to save operations
+     */
+    private final IEnvironment environment;
+    /**
+     * Set to <i>true</i> when this is plugged to variables
+     */
+    private boolean plugged;
+
+    /**
+     * Create a heap of variables.
+     *
+     * @param vars       decision variables
+     * @param evaluators scoring functions, the smaller the better
+     */
+    @SafeVarargs
+    public VariableHeap(V[] vars, VariableEvaluator<V>... evaluators) {
+        if (evaluators.length == 0) {
+            throw new IllegalArgumentException("At least one variable evaluator is expected");
+        }
+        this.vars = vars.clone();
+        this.evaluators = evaluators;
+        this.environment = vars[0].getModel().getEnvironment();
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (V v : vars) {
+            min = Math.min(min, v.getId());
+            max = Math.max(max, v.getId());
+        }
+        this.offset = min;
+        this.positions = new int[max - min + 1];
+        Arrays.fill(positions, -1);
+        for (int i = 0; i < vars.length; i++) {
+            // in case of duplicates, only the first occurrence is considered
+            if (positions[vars[i].getId() - offset] == -1) {
+                positions[vars[i].getId() - offset] = i;
+            }
+        }
+        this.scores = new double[evaluators.length][vars.length];
+        this.heap = new IntHeap(this::lt);
+        this.dirty = new int[vars.length];
+        this.isDirty = new boolean[vars.length];
+        this.stamps = new int[vars.length];
+        Arrays.fill(stamps, -1);
+        this.restores = new IOperation[vars.length];
+    }
+
+    /**
+     * Plug this to the variables in order to be aware of their modifications.
+     * All variables are marked as dirty.
+     */
+    public void plug() {
+        if (!plugged) {
+            plugged = true;
+            for (int i = 0; i < vars.length; i++) {
+                if (positions[vars[i].getId() - offset] == i) {
+                    vars[i].addMonitor(this);
+                }
+            }
+        }
+        touchAll();
+    }
+
+    /**
+     * Unplug this from the variables.
+     */
+    public void unplug() {
+        if (plugged) {
+            plugged = false;
+            for (int i = 0; i < vars.length; i++) {
+                if (positions[vars[i].getId() - offset] == i) {
+                    vars[i].removeMonitor(this);
+                }
+            }
+        }
+    }
+
+    /**
+     * Mark a variable as dirty, its score will be re-evaluated before the next selection.
+     * This method is expected to be called when the score of a variable has changed
+     * without its domain being modified (for example, a weight update).
+     * Variables that are not managed by this heap are ignored.
+     *
+     * @param var a variable
+     */
+    public void touch(Variable var) {
+        int i = positionOf(var);
+        if (i > -1) {
+            markDirty(i);
+        }
+    }
+
+    /**
+     * Mark all variables as dirty.
+     */
+    public void touchAll() {
+        for (int i = 0; i < vars.length; i++) {
+            if (positions[vars[i].getId() - offset] == i) {
+                markDirty(i);
+            }
+        }
+    }
+
+    /**
+     * @return the not instantiated variable with the smallest score, or <i>null</i> if all variables are instantiated.
+     */
+    public V top() {
+        refresh();
+        return heap.isEmpty() ? null : vars[heap.get(0)];
+    }
+
+    @Override
+    public void onUpdate(V var, IEventType evt) {
+        int i = positionOf(var);
+        assert i > -1;
+        markDirty(i);
+        int ts = environment.getTimeStamp();
+        if (stamps[i] != ts) {
+            // the variable will be re-evaluated upon backtrack too
+            stamps[i] = ts;
+            if (restores[i] == null) {
+                restores[i] = () -> markDirty(i);
+            }
+            environment.save(restores[i]);
+        }
+    }
+
+    private boolean lt(int a, int b) {
+        for (double[] score : scores) {
+            if (score[a] != score[b]) {
+                return score[a] < score[b];
+            }
+        }
+        return a < b;
+    }
+
+    private int positionOf(Variable var) {
+        int k = var.getId() - offset;
+        return k >= 0 && k < positions.length ? positions[k] : -1;
+    }
+
+    private void markDirty(int i) {
+        if (!isDirty[i]) {
+            isDirty[i] = true;
+            dirty[nbDirty++] = i;
+        }
+    }
+
+    private void refresh() {
+        for (int k = 0; k < nbDirty; k++) {
+            int i = dirty[k];
+            isDirty[i] = false;
+            if (vars[i].isInstantiated()) {
+                if (heap.contains(i)) {
+                    heap.remove(i);
+                }
+            } else {
+                for (int j = 0; j < evaluators.length; j++) {
+                    scores[j][i] = evaluators[j].evaluate(vars[i]);
+                }
+                heap.update(i);
+            }
+        }
+        nbDirty = 0;
+    }
+}
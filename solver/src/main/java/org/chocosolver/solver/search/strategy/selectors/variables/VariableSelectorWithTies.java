@@ -9,12 +9,10 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.solver.variables.Variable;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * <br/>
@@ -25,9 +23,10 @@ import java.util.stream.Collectors;
 public class VariableSelectorWithTies<V extends Variable> implements VariableSelector<V> {
 
     private final VariableEvaluator<V>[] heuristics;
-    private final ArrayList<V> oldv = new ArrayList<>();
-    private final ArrayList<V> newv = new ArrayList<>();
+    private final TIntArrayList oldv = new TIntArrayList();
+    private final TIntArrayList newv = new TIntArrayList();
     private Predicate<V> predicate = (v -> !v.isInstantiated());
+    private FreeVariables<V> free; // non-instantiated variables
 
 
     @SafeVarargs
@@ -41,36 +40,37 @@ public class VariableSelectorWithTies<V extends Variable> implements VariableSel
 
     @Override
     public V getVariable(V[] variables) {
-        oldv.clear();
-        newv.clear();
-        Collections.addAll(oldv, variables);
+        free = FreeVariables.bind(free, variables);
+        if (free == null) return null;
+        newv.resetQuick();
         // 1. remove instantied variables
-        newv.addAll(oldv.stream().filter(this.predicate).collect(Collectors.toList()));
-        if (newv.size() == 0) return null;
+        for (int k = free.refresh() - 1; k >= 0; k--) {
+            int idx = free.get(k);
+            if (predicate.test(variables[idx])) {
+                newv.add(idx);
+            }
+        }
+        if (newv.isEmpty()) return null;
 
         // Then apply each heuristic one by one
         for (VariableEvaluator<V> h : heuristics) {
             double minValue = Double.MAX_VALUE - 1;
-            oldv.clear();
+            oldv.resetQuick();
             oldv.addAll(newv);
-            newv.clear();
-            for (V v : oldv) {
-                double val = h.evaluate(v);
-                if (val < minValue) {
-                    newv.clear();
-                    newv.add(v);
+            newv.resetQuick();
+            for (int i = 0; i < oldv.size(); i++) {
+                int idx = oldv.getQuick(i);
+                double val = h.evaluate(variables[idx]);
+                if (newv.isEmpty() || val < minValue) {
+                    newv.resetQuick();
+                    newv.add(idx);
                     minValue = val;
                 } else if (val == minValue) {
-                    newv.add(v);
+                    newv.add(idx);
                 }
             }
         }
-        switch (oldv.size()) {
-            case 0:
-                return null;
-            default:
-            case 1:
-                return oldv.get(0);
-        }
+        // remaining ties are broken lexicographically
+        return variables[newv.min()];
     }
 }
@@ -87,6 +87,7 @@ public class IntStrategy extends AbstractStrategy<IntVar> {
 	@Override
 	public void remove() {
 		variableSelector.remove();
+		valueSelector.remove();
 	}
 
 	@Override
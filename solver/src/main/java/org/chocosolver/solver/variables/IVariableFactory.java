@@ -168,6 +168,8 @@ public interface IVariableFactory extends ISelf<Model> {
      * Uses an enumerated domain if <i>ub</i>-<i>lb</i> is small, and a bounded domain otherwise
      * @implNote When boundedDomain is selected only bounds modifications are handled
      * (any value removals in the middle of the domain will be ignored).
+     * Large domains are enumerated too when they can be based on a list of ranges,
+     * see {@link org.chocosolver.solver.Settings#getMinDomSizeForRangeSet()}.
      * @param lb initial domain lower bound
      * @param ub initial domain upper bound
      * @return an IntVar of domain [<i>lb</i>, <i>ub</i>]
@@ -221,6 +223,10 @@ public interface IVariableFactory extends ISelf<Model> {
      *                      When 'boundedDomain' only bounds modifications are handled
      *                      (any value removals in the middle of the domain will be ignored).
      * @return an IntVar of domain [<i>lb</i>, <i>ub</i>]
+     * @implNote An enumerated domain is based on a list of ranges when its size is greater than or equal to
+     * {@link org.chocosolver.solver.Settings#getMinDomSizeForRangeSet()},
+     * otherwise on a sparse set when its size is greater than or equal to
+     * {@link org.chocosolver.solver.Settings#getMinDomSizeForSparseSet()}, on a bitset otherwise.
      */
     default IntVar intVar(String name, int lb, int ub, boolean boundedDomain) {
         checkIntDomainRange(name, lb, ub);
@@ -230,6 +236,10 @@ public interface IVariableFactory extends ISelf<Model> {
             return boolVar(name);
         } else if (boundedDomain) {
             return new IntervalIntVarImpl(name, lb, ub, ref());
+        } else if (ub - lb + 1 >= ref().getSettings().getMinDomSizeForRangeSet()) {
+            return new RangeSetIntVarImpl(name, lb, ub, ref());
+        } else if (ub - lb + 1 >= ref().getSettings().getMinDomSizeForSparseSet()) {
+            return new SparseSetIntVarImpl(name, lb, ub, ref());
         } else {
             return new BitsetIntVarImpl(name, lb, ub, ref());
         }
@@ -240,13 +250,16 @@ public interface IVariableFactory extends ISelf<Model> {
      * Uses an enumerated domain if <i>ub</i>-<i>lb</i> is small, and a bounded domain otherwise
      * @implNote When boundedDomain is selected only bounds modifications are handled
      * (any value removals in the middle of the domain will be ignored).
+     * Large domains are enumerated too when they can be based on a list of ranges,
+     * see {@link org.chocosolver.solver.Settings#getMinDomSizeForRangeSet()}.
      * @param name name of the variable
      * @param lb initial domain lower bound
      * @param ub initial domain upper bound
      * @return an IntVar of domain [<i>lb</i>, <i>ub</i>]
      */
     default IntVar intVar(String name, int lb, int ub) {
-        boolean bounded = ub - lb + 1 >= ref().getSettings().getMaxDomSizeForEnumerated();
+        boolean bounded = ub - lb + 1 >= ref().getSettings().getMaxDomSizeForEnumerated()
+                && ub - lb + 1 < ref().getSettings().getMinDomSizeForRangeSet();
         return intVar(name, lb, ub, bounded);
     }
 
@@ -256,6 +269,11 @@ public interface IVariableFactory extends ISelf<Model> {
      * @param name name of the variable
      * @param values initial domain
      * @return an IntVar of domain <i>values</i>
+     * @implNote The domain is based on a list of ranges when the range of <i>values</i> is greater than or equal to
+     * {@link org.chocosolver.solver.Settings#getMinDomSizeForRangeSet()},
+     * otherwise on a sparse set when it contains at least
+     * {@link org.chocosolver.solver.Settings#getMinDomSizeForSparseSet()} values
+     * and they are not too scattered, on a bitset otherwise.
      */
     default IntVar intVar(String name, int[] values) {
         values = ArrayUtils.mergeAndSortIfNot(values.clone());
@@ -264,6 +282,12 @@ public interface IVariableFactory extends ISelf<Model> {
             return intVar(name, values[0]);
         } else if (values.length == 2 && values[0] == 0 && values[1] == 1) {
             return boolVar(name);
+        } else if ((long) values[values.length - 1] - values[0] + 1 >= ref().getSettings().getMinDomSizeForRangeSet()) {
+            return new RangeSetIntVarImpl(name, values, ref());
+        } else if (values.length >= ref().getSettings().getMinDomSizeForSparseSet()
+                // the sparse array is as large as the range of values
+                && (long) values[values.length - 1] - values[0] < 5L * values.length) {
+            return new SparseSetIntVarImpl(name, values, ref());
         } else {
             return new BitsetIntVarImpl(name, values, ref());
         }
@@ -320,6 +344,8 @@ public interface IVariableFactory extends ISelf<Model> {
      * Uses an enumerated domain if <i>ub</i>-<i>lb</i> is small, and a bounded domain otherwise
      * @implNote When boundedDomain is selected only bounds modifications are handled
      * (any value removals in the middle of the domain will be ignored).
+     * Large domains are enumerated too when they can be based on a list of ranges,
+     * see {@link org.chocosolver.solver.Settings#getMinDomSizeForRangeSet()}.
      * @param size number of variables
      * @param lb initial domain lower bound of each variable
      * @param ub initial domain upper bound of each variable
@@ -367,6 +393,8 @@ public interface IVariableFactory extends ISelf<Model> {
      * Uses an enumerated domain if <i>ub</i>-<i>lb</i> is small, and a bounded domain otherwise
      * @implNote When boundedDomain is selected only bounds modifications are handled
      * (any value removals in the middle of the domain will be ignored).
+     * Large domains are enumerated too when they can be based on a list of ranges,
+     * see {@link org.chocosolver.solver.Settings#getMinDomSizeForRangeSet()}.
      *
      * @param name prefix name of the variables to create. The ith variable will be named <i>name</i>[i]
      * @param size number of variables
@@ -415,6 +443,8 @@ public interface IVariableFactory extends ISelf<Model> {
      * Uses an enumerated domain if <i>ub</i>-<i>lb</i> is small, and a bounded domain otherwise
      * @implNote When boundedDomain is selected only bounds modifications are handled
      * (any value removals in the middle of the domain will be ignored).
+     * Large domains are enumerated too when they can be based on a list of ranges,
+     * see {@link org.chocosolver.solver.Settings#getMinDomSizeForRangeSet()}.
      *
      * @param dim1 number of rows in the matrix
      * @param dim2 number of columns in the matrix
@@ -466,6 +496,8 @@ public interface IVariableFactory extends ISelf<Model> {
      * Uses an enumerated domain if <i>ub</i>-<i>lb</i> is small, and a bounded domain otherwise
      * @implNote When boundedDomain is selected only bounds modifications are handled
      * (any value removals in the middle of the domain will be ignored).
+     * Large domains are enumerated too when they can be based on a list of ranges,
+     * see {@link org.chocosolver.solver.Settings#getMinDomSizeForRangeSet()}.
      * @param name prefix name of the variables to create. The variable in row i and col j will be named <i>name</i>[i][j]
      * @param dim1 number of rows in the matrix
      * @param dim2 number of columns in the matrix
@@ -13,6 +13,8 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.util.procedure.IntProcedure;
 import org.chocosolver.util.procedure.SafeIntProcedure;
 
+import java.util.NoSuchElementException;
+
 /**
  * <br/>
  *
@@ -44,6 +46,36 @@ public interface IIntDeltaMonitor extends IDeltaMonitor{
      */
     int sizeApproximation();
 
+    /**
+     * Freeze the values removed since the last call, so that they can be iterated over
+     * with {@link #hasNextRemVal()} and {@link #nextRemVal()}.
+     * This is an allocation-free alternative to {@link #forEachRemVal(IntProcedure)}:
+     * <pre>
+     *     monitor.freeze();
+     *     while (monitor.hasNextRemVal()) {
+     *         int v = monitor.nextRemVal();
+     *         // ...
+     *     }
+     * </pre>
+     * Values not consumed before the next call to this method or to <i>forEachRemVal</i> are lost.
+     */
+    void freeze();
+
+    /**
+     * @return <i>true</i> if a frozen removed value remains to be consumed
+     * @see #freeze()
+     */
+    boolean hasNextRemVal();
+
+    /**
+     * Consume the next frozen removed value.
+     * Must only be called when {@link #hasNextRemVal()} returns <i>true</i>.
+     *
+     * @return the next removed value
+     * @see #freeze()
+     */
+    int nextRemVal();
+
     enum Default implements IIntDeltaMonitor {
         NONE() {
             @Override
@@ -65,6 +97,21 @@ public interface IIntDeltaMonitor extends IDeltaMonitor{
             public void forEachRemVal(IntProcedure proc) throws ContradictionException {
                 // nothing to do by default
             }
+
+            @Override
+            public void freeze() {
+                // nothing to do by default
+            }
+
+            @Override
+            public boolean hasNextRemVal() {
+                return false;
+            }
+
+            @Override
+            public int nextRemVal() {
+                throw new NoSuchElementException();
+            }
         }
     }
 }
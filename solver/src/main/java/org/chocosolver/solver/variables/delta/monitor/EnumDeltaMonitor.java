@@ -46,7 +46,8 @@ public class EnumDeltaMonitor extends TimeStampedObject implements IIntDeltaMoni
         this.first = this.last = delta.size();
     }
 
-    private void freeze() {
+    @Override
+    public void freeze() {
         if (getTimeStamp() == -1) {
             throw new SolverException("Delta Monitor created in this is not activated. " +
                     "This should be the last instruction of p.propagate(int) " +
@@ -89,6 +90,19 @@ public class EnumDeltaMonitor extends TimeStampedObject implements IIntDeltaMoni
         }
     }
 
+    @Override
+    public boolean hasNextRemVal() {
+        while (first < last && propagator != Cause.Null && propagator == delta.getCause(first)) {
+            first++;
+        }
+        return first < last;
+    }
+
+    @Override
+    public int nextRemVal() {
+        return delta.get(first++);
+    }
+
     @Override
     public String toString() {
         return String.format("(%d,%d) :: %d", first, last, delta.size());
@@ -29,6 +29,10 @@ public class IntervalDeltaMonitor extends TimeStampedObject implements IIntDelta
 
     private final IIntervalDelta delta;
     private int first, last;
+    /**
+     * Cursor over the values of the interval being iterated over
+     */
+    private int value, ub;
     private final ICause propagator;
 
     public IntervalDeltaMonitor(IIntervalDelta delta, ICause propagator) {
@@ -36,6 +40,8 @@ public class IntervalDeltaMonitor extends TimeStampedObject implements IIntDelta
         this.delta = delta;
         this.first = 0;
         this.last = 0;
+        this.value = 1;
+        this.ub = 0;
         this.propagator = propagator;
     }
 
@@ -46,7 +52,8 @@ public class IntervalDeltaMonitor extends TimeStampedObject implements IIntDelta
         this.first = this.last = delta.size();
     }
 
-    private void freeze() {
+    @Override
+    public void freeze() {
         if (getTimeStamp() == -1) {
             throw new SolverException("Delta Monitor created in this is not activated. " +
                     "This should be the last instruction of p.propagate(int) " +
@@ -64,6 +71,8 @@ public class IntervalDeltaMonitor extends TimeStampedObject implements IIntDelta
         }
         this.first = this.last;
         this.last = delta.size();
+        this.value = 1;
+        this.ub = 0;
     }
 
     @Override
@@ -96,6 +105,23 @@ public class IntervalDeltaMonitor extends TimeStampedObject implements IIntDelta
         }
     }
 
+    @Override
+    public boolean hasNextRemVal() {
+        while (value > ub && first < last) {
+            if (propagator == Cause.Null || propagator != delta.getCause(first)) {
+                value = delta.getLB(first);
+                ub = delta.getUB(first);
+            }
+            first++;
+        }
+        return value <= ub;
+    }
+
+    @Override
+    public int nextRemVal() {
+        return value++;
+    }
+
     @Override
     public String toString() {
         return String.format("(%d,%d) :: %d", first, last, delta.size());
@@ -45,7 +45,8 @@ public class OneValueDeltaMonitor extends TimeStampedObject implements IIntDelta
         this.used = false;
     }
 
-    private void freeze() {
+    @Override
+    public void freeze() {
         if (getTimeStamp() == -1) {
             throw new SolverException("Delta Monitor created in this is not activated. " +
                     "This should be the last instruction of p.propagate(int) " +
@@ -82,6 +83,17 @@ public class OneValueDeltaMonitor extends TimeStampedObject implements IIntDelta
         used = false;
     }
 
+    @Override
+    public boolean hasNextRemVal() {
+        return used && propagator != delta.getCause(0);
+    }
+
+    @Override
+    public int nextRemVal() {
+        used = false;
+        return delta.get(0);
+    }
+
     @Override
     public int sizeApproximation() {
         return used && propagator != delta.getCause(0) ? 1 : 0;
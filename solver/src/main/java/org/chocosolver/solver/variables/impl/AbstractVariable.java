@@ -238,6 +238,34 @@ public abstract class AbstractVariable implements Variable {
         propagators[i].swap(propagator, idxInProp, this);
     }
 
+    /**
+     * @return the number of slots needed to store the propagators of this variable
+     * in a {@link PropagatorIncidence}
+     */
+    final int incidenceSize() {
+        int n = 0;
+        for (int i = 0; i < propagators.length; i++) {
+            n += propagators[i].getLast();
+        }
+        return n;
+    }
+
+    /**
+     * Move the propagators of this variable into shared arrays, starting at position <i>from</i>.
+     *
+     * @param props shared array of propagators
+     * @param idx   shared array of positions of this variable in propagators
+     * @param from  first free position in the shared arrays
+     * @return the first free position in the shared arrays after the move
+     * @see PropagatorIncidence
+     */
+    final int packIncidence(Propagator<?>[] props, int[] idx, int from) {
+        for (int i = 0; i < propagators.length; i++) {
+            from = propagators[i].pack(props, idx, from);
+        }
+        return from;
+    }
+
     @Override
     public Stream<Propagator<?>> streamPropagators() {
         //noinspection Convert2Diamond
@@ -328,7 +356,13 @@ public abstract class AbstractVariable implements Variable {
         if (this.isInstantiated()) {
             recordWorldIndex();
         }
-        model.getSolver().getEngine().onVariableUpdate(this, event, cause);
+        PropagationEngine engine = model.getSolver().getEngine();
+        if (scheduled && engine.batchNotifications()) {
+            // already waiting in the engine, the event is merged into the pending ones
+            storeEvents(event.getMask(), cause);
+        } else {
+            engine.onVariableUpdate(this, event, cause);
+        }
         notifyMonitors(event);
         notifyViews(event, cause);
     }
@@ -33,6 +33,11 @@ final class BipartiteList implements IBipartiteList {
      * The current capacity
      */
     private int capacity;
+    /**
+     * Position in {@link #propagators} and {@link #pindices} of the first slot of this list.
+     * It is greater than 0 only when the arrays are shared with other lists (see {@link PropagatorIncidence}).
+     */
+    private int offset;
     /**
      * The position of the first element (inclusive)
      */
@@ -47,12 +52,12 @@ final class BipartiteList implements IBipartiteList {
     final IStateInt splitter;
 
     /**
-     * List of propagators
+     * List of propagators, possibly shared with other lists
      */
     Propagator<?>[] propagators;
 
     /**
-     * Store the index of each propagator.
+     * Store the index of each propagator, possibly shared with other lists.
      */
     int[] pindices;
 
@@ -84,7 +89,7 @@ final class BipartiteList implements IBipartiteList {
 
     @Override
     public Propagator<?> get(int i) {
-        return propagators[i];
+        return propagators[offset + i];
     }
 
     /**
@@ -97,13 +102,11 @@ final class BipartiteList implements IBipartiteList {
         if (first > 0 && splitter.get() == 0) {
             shiftTail();
         }
-        if (last == capacity - 1) {
-            capacity = ArrayUtils.newBoundedSize(capacity, capacity * 2);
-            propagators = Arrays.copyOf(propagators, capacity);
-            pindices = Arrays.copyOf(pindices, capacity);
+        if (last >= capacity - 1) {
+            grow();
         }
-        propagators[last] = propagator;
-        pindices[last++] = idxInVar;
+        propagators[offset + last] = propagator;
+        pindices[offset + last++] = idxInVar;
         return last - 1;
     }
 
@@ -113,28 +116,28 @@ final class BipartiteList implements IBipartiteList {
     public void remove(Propagator<?> propagator, int idxInProp, final AbstractVariable var) {
         int p = propagator.getVIndice(idxInProp);
         assert p > -1;
-        assert propagators[p] == propagator : "Try to unlink from " + var.getName() + ":\n" + propagator + "but found:\n" + propagators[p];
-        assert propagators[p].getVar(idxInProp) == var;
+        assert propagators[offset + p] == propagator : "Try to unlink from " + var.getName() + ":\n" + propagator + "but found:\n" + propagators[offset + p];
+        assert propagators[offset + p].getVar(idxInProp) == var;
         // Dynamic addition of a propagator may be not considered yet, so the assertion is not correct
         if (p < splitter.get()) {
             // swap the propagator to remove with the first one
             propagator.setVIndices(idxInProp, -1);
-            propagators[p] = propagators[first];
-            pindices[p] = pindices[first];
-            propagators[p].setVIndices(pindices[p], p);
-            propagators[first] = null;
-            pindices[first] = 0;
+            propagators[offset + p] = propagators[offset + first];
+            pindices[offset + p] = pindices[offset + first];
+            propagators[offset + p].setVIndices(pindices[offset + p], p);
+            propagators[offset + first] = null;
+            pindices[offset + first] = 0;
             first++;
         } else {
             // swap the propagator to remove with the last one
             last--;
             if (p < last) {
-                propagators[p] = propagators[last];
-                pindices[p] = pindices[last];
-                propagators[p].setVIndices(pindices[p], p);
+                propagators[offset + p] = propagators[offset + last];
+                pindices[offset + p] = pindices[offset + last];
+                propagators[offset + p].setVIndices(pindices[offset + p], p);
             }
-            propagators[last] = null;
-            pindices[last] = 0;
+            propagators[offset + last] = null;
+            pindices[offset + last] = 0;
             propagator.setVIndices(idxInProp, -1);
         }
     }
@@ -142,8 +145,8 @@ final class BipartiteList implements IBipartiteList {
     public void swap(Propagator<?> propagator, int idxInProp, final AbstractVariable var) {
         int p = propagator.getVIndice(idxInProp);
         assert p != -1;
-        assert propagators[p] == propagator : "Try to swap from " + var.getName() + ":\n" + propagator + "but found: " + propagators[p];
-        assert propagators[p].getVar(idxInProp) == var;
+        assert propagators[offset + p] == propagator : "Try to swap from " + var.getName() + ":\n" + propagator + "but found: " + propagators[offset + p];
+        assert propagators[offset + p].getVar(idxInProp) == var;
         int pos = splitter.add(1) - 1;
         if (first > 0) {
             if (pos == 0) {
@@ -156,14 +159,14 @@ final class BipartiteList implements IBipartiteList {
             }
         }
         if (pos < p) {
-            propagators[p] = propagators[pos];
-            propagators[pos] = propagator;
-            int pi = pindices[p];
-            pindices[p] = pindices[pos];
-            pindices[pos] = pi;
-            propagators[p].setVIndices(pindices[p], p);
-            propagators[pos].setVIndices(pindices[pos], pos);
-            assert propagators[pos] == propagator;
+            propagators[offset + p] = propagators[offset + pos];
+            propagators[offset + pos] = propagator;
+            int pi = pindices[offset + p];
+            pindices[offset + p] = pindices[offset + pos];
+            pindices[offset + pos] = pi;
+            propagators[offset + p].setVIndices(pindices[offset + p], p);
+            propagators[offset + pos].setVIndices(pindices[offset + pos], pos);
+            assert propagators[offset + pos] == propagator;
         }
     }
 
@@ -176,23 +179,61 @@ final class BipartiteList implements IBipartiteList {
                 throw new UnsupportedOperationException();
             }
         }
-        for (int p = s; p < last; p++) {
-            Propagator<?> prop = propagators[p];
+        final Propagator<?>[] props = propagators;
+        final int[] idx = pindices;
+        for (int p = offset + s, l = offset + last; p < l; p++) {
+            Propagator<?> prop = props[p];
             if (prop.isActive() && cause != prop) {
-                engine.schedule(prop, pindices[p], mask);
+                engine.schedule(prop, idx[p], mask);
             }
         }
     }
 
+    /**
+     * @implSpec The positions of the propagators in this list are not modified.
+     * An empty list is not moved.
+     */
+    @Override
+    public int pack(Propagator<?>[] propagators, int[] pindices, int from) {
+        if (last == 0) {
+            return from;
+        }
+        System.arraycopy(this.propagators, offset, propagators, from, last);
+        System.arraycopy(this.pindices, offset, pindices, from, last);
+        this.propagators = propagators;
+        this.pindices = pindices;
+        this.offset = from;
+        this.capacity = last;
+        return from + last;
+    }
+
+    /**
+     * Increase the capacity of this list.
+     * If the arrays are shared with other lists, this list is moved to its own arrays.
+     */
+    private void grow() {
+        int ncapacity = ArrayUtils.newBoundedSize(capacity, capacity * 2);
+        Propagator<?>[] nprops = new Propagator[ncapacity];
+        int[] nidx = new int[ncapacity];
+        System.arraycopy(propagators, offset, nprops, 0, last);
+        System.arraycopy(pindices, offset, nidx, 0, last);
+        // release references in the former slots, which may be shared
+        Arrays.fill(propagators, offset, offset + last, null);
+        propagators = nprops;
+        pindices = nidx;
+        capacity = ncapacity;
+        offset = 0;
+    }
+
     private void shiftTail() {
         for (int i = 0; i < last - first; i++) {
-            propagators[i] = propagators[i + first];
-            pindices[i] = pindices[i + first];
-            propagators[i].setVIndices(pindices[i], i);
+            propagators[offset + i] = propagators[offset + i + first];
+            pindices[offset + i] = pindices[offset + i + first];
+            propagators[offset + i].setVIndices(pindices[offset + i], i);
         }
         for (int i = last - first; i < last; i++) {
-            propagators[i] = null;
-            pindices[i] = 0;
+            propagators[offset + i] = null;
+            pindices[offset + i] = 0;
         }
         last -= first;
         first = 0;
@@ -211,7 +252,7 @@ final class BipartiteList implements IBipartiteList {
             @Override
             public boolean tryAdvance(Consumer<? super Propagator<?>> action) {
                 if (i < last) {
-                    action.accept(propagators[i++]);
+                    action.accept(propagators[offset + i++]);
                     return true;
                 } else {
                     return false;
@@ -67,6 +67,11 @@ interface IBipartiteList {
         public Stream<Propagator<?>> stream() {
             return Stream.empty();
         }
+
+        @Override
+        public int pack(Propagator<?>[] propagators, int[] pindices, int from) {
+            return from;
+        }
     };
 
     /**
@@ -134,4 +139,15 @@ interface IBipartiteList {
     void schedule(ICause cause, PropagationEngine engine, int mask);
 
     Stream<Propagator<?>> stream();
+
+    /**
+     * Move the content of this list into <i>propagators</i> and <i>pindices</i>, starting at position <i>from</i>.
+     * These arrays are then shared with other lists, until this list needs to grow.
+     *
+     * @param propagators shared array of propagators
+     * @param pindices    shared array of positions of variables in propagators
+     * @param from        first free position in the shared arrays
+     * @return the first free position in the shared arrays after the move
+     */
+    int pack(Propagator<?>[] propagators, int[] pindices, int from);
 }
@@ -0,0 +1,86 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.variables.Variable;
+
+/**
+ * A compact storage of the incidence between variables and propagators,
+ * in the manner of a compressed sparse row matrix.
+ * <p>
+ * Each variable stores its propagators in lists, one per kind of event
+ * (see {@link org.chocosolver.util.iterators.EvtScheduler}).
+ * Calling {@link #pack(Variable[])} moves all these lists, variable after variable,
+ * into two arrays shared by all variables:
+ * one for the propagators and one for the positions of the variables in the propagators.
+ * The positions of the propagators in the lists are not modified,
+ * so this can be done at any time, even during search.
+ * <p>
+ * A list that needs to grow afterwards, for instance on dynamic addition of a propagator,
+ * is moved back to its own arrays.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public final class PropagatorIncidence {
+
+    /**
+     * Propagators of all variables
+     */
+    private Propagator<?>[] propagators;
+    /**
+     * Number of slots used in the shared arrays
+     */
+    private int size;
+
+    public PropagatorIncidence() {
+        this.propagators = new Propagator[0];
+    }
+
+    /**
+     * Pack the propagators lists of <i>vars</i> into shared arrays of exact size.
+     * Lists packed on a previous call are moved into the new arrays.
+     *
+     * @param vars the variables whose propagators lists are packed
+     */
+    public void pack(Variable[] vars) {
+        int n = 0;
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] instanceof AbstractVariable) {
+                n += ((AbstractVariable) vars[i]).incidenceSize();
+            }
+        }
+        Propagator<?>[] props = new Propagator[n];
+        int[] idx = new int[n];
+        int from = 0;
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i] instanceof AbstractVariable) {
+                from = ((AbstractVariable) vars[i]).packIncidence(props, idx, from);
+            }
+        }
+        assert from == n;
+        this.propagators = props;
+        this.size = from;
+    }
+
+    /**
+     * @return the number of variable-propagator pairs stored when last packed
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "PropagatorIncidence{size=" + size + ", capacity=" + propagators.length + "}";
+    }
+}
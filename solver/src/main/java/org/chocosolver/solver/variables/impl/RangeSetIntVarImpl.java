@@ -0,0 +1,943 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.AbstractEventObserver;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.EnumDelta;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.EnumDeltaMonitor;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.solver.variables.impl.siglit.SignedLiteral;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.iterators.IntVarValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An enumerated IntVar based on a reversible list of ranges.
+ * <p>
+ * The domain is stored as a sorted array of disjoint and not adjacent ranges,
+ * like in {@link IntIterableRangeSet}: the bounds of the <i>i</i>-th range are at positions <i>2i</i> and <i>2i+1</i>.
+ * Hence, the memory footprint is proportional to the number of ranges instead of the width of the domain,
+ * and bounds or values are found in logarithmic time wrt the number of ranges.
+ * <p>
+ * The first time the domain is modified in a world, the ranges are copied onto a stack of primitive integers
+ * and an operation restoring them is saved in the environment.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public final class RangeSetIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Set to <tt>true</tt> if this variable reacts is associated with at least one propagator which reacts
+     * on value removal
+     */
+    private boolean reactOnRemoval = false;
+    /**
+     * Bounds of the ranges, sorted
+     */
+    private int[] ELEMENTS;
+    /**
+     * Number of bounds stored in {@link #ELEMENTS}, twice the number of ranges
+     */
+    private int SIZE;
+    /**
+     * Current size of domain
+     */
+    private int CARDINALITY;
+    /**
+     * Saved states of the domain, each one is made of the ranges followed by {@link #SIZE} and {@link #CARDINALITY}
+     */
+    private int[] saved;
+    /**
+     * Number of integers in {@link #saved}
+     */
+    private int top;
+    /**
+     * Last timestamp the domain was saved in
+     */
+    private int stamp = -1;
+    /**
+     * Restore the last saved state of the domain, upon backtrack
+     */
+    private final IOperation restore;
+    /**
+     * Needed to save operations
+     */
+    private final IEnvironment environment;
+    /**
+     * To iterate over removed values
+     */
+    private IEnumDelta delta = NoDelta.singleton;
+    /**
+     * To iterate over values in the domain
+     */
+    private DisposableValueIterator _viterator;
+    /**
+     * To iterate over ranges
+     */
+    private DisposableRangeIterator _riterator;
+
+    /**
+     * Value iterator allowing for(int i:this) loops
+     */
+    private IntVarValueIterator _javaIterator;
+
+    /**
+     * Signed Literal
+     */
+    private SignedLiteral.Set literal;
+
+    /**
+     * Create an enumerated IntVar based on a list of ranges
+     *
+     * @param name         name of the variable
+     * @param sortedValues original domain values
+     * @param model        declaring model
+     */
+    public RangeSetIntVarImpl(String name, int[] sortedValues, Model model) {
+        super(name, model);
+        this.environment = model.getEnvironment();
+        this.ELEMENTS = new int[4];
+        for (int v : sortedValues) {
+            if (SIZE > 0 && ELEMENTS[SIZE - 1] + 1 == v) {
+                ELEMENTS[SIZE - 1] = v;
+            } else {
+                if (SIZE == ELEMENTS.length) {
+                    ELEMENTS = Arrays.copyOf(ELEMENTS, SIZE * 2);
+                }
+                ELEMENTS[SIZE++] = v;
+                ELEMENTS[SIZE++] = v;
+            }
+        }
+        this.CARDINALITY = sortedValues.length;
+        this.saved = new int[0];
+        this.restore = () -> {
+            CARDINALITY = saved[--top];
+            SIZE = saved[--top];
+            top -= SIZE;
+            System.arraycopy(saved, top, ELEMENTS, 0, SIZE);
+        };
+    }
+
+    /**
+     * Create an enumerated IntVar based on a list of ranges
+     *
+     * @param name  name of the variable
+     * @param min   lower bound
+     * @param max   upper bound
+     * @param model declaring model
+     */
+    public RangeSetIntVarImpl(String name, int min, int max, Model model) {
+        super(name, model);
+        this.environment = model.getEnvironment();
+        this.ELEMENTS = new int[]{min, max, 0, 0};
+        this.SIZE = 2;
+        this.CARDINALITY = max - min + 1;
+        this.saved = new int[0];
+        this.restore = () -> {
+            CARDINALITY = saved[--top];
+            SIZE = saved[--top];
+            top -= SIZE;
+            System.arraycopy(saved, top, ELEMENTS, 0, SIZE);
+        };
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///// range list primitives ////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Save the current state of the domain, if not already done in the current world.
+     */
+    private void save() {
+        int ts = environment.getTimeStamp();
+        if (stamp != ts) {
+            stamp = ts;
+            if (top + SIZE + 2 > saved.length) {
+                saved = Arrays.copyOf(saved, Math.max(top + SIZE + 2, saved.length * 3 / 2 + 1));
+            }
+            System.arraycopy(ELEMENTS, 0, saved, top, SIZE);
+            top += SIZE;
+            saved[top++] = SIZE;
+            saved[top++] = CARDINALITY;
+            environment.save(restore);
+        }
+    }
+
+    /**
+     * @param v a value
+     * @return the index of the range that contains <i>v</i>, otherwise
+     * <i>-(p + 1)</i> where <i>p</i> is the index of the first range greater than <i>v</i>.
+     */
+    private int rangeOf(int v) {
+        int lo = 0, hi = (SIZE >> 1) - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ELEMENTS[mid << 1] > v) {
+                hi = mid - 1;
+            } else if (ELEMENTS[(mid << 1) + 1] < v) {
+                lo = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    /**
+     * Remove the values in [<i>f</i>, <i>t</i>] from the domain, without notifying propagators.
+     * The domain is expected not to become empty.
+     *
+     * @param f       first value to remove
+     * @param t       last value to remove
+     * @param cause   removal releaser
+     * @param observe set to <i>true</i> to notify the event observer of each value removal
+     * @return the number of values removed
+     */
+    private int removeBetween(int f, int t, ICause cause, boolean observe) {
+        if (f > t) {
+            return 0;
+        }
+        int i = rangeOf(f);
+        if (i < 0) i = -i - 1;
+        int j = rangeOf(t);
+        if (j < 0) j = -j - 2;
+        if (i > j) {
+            return 0;
+        }
+        save();
+        int removed = 0;
+        AbstractEventObserver observer = model.getSolver().getEventObserver();
+        observe &= observer != AbstractEventObserver.SILENT_OBSERVER;
+        for (int k = i; k <= j; k++) {
+            int a = Math.max(ELEMENTS[k << 1], f);
+            int b = Math.min(ELEMENTS[(k << 1) + 1], t);
+            removed += b - a + 1;
+            if (reactOnRemoval || observe) {
+                for (int v = a; v <= b; v++) {
+                    if (observe) {
+                        observer.removeValue(this, v, cause);
+                    }
+                    if (reactOnRemoval) {
+                        delta.add(v, cause);
+                    }
+                }
+            }
+        }
+        // the ranges i..j are replaced by at most two ranges
+        int left = ELEMENTS[i << 1];
+        int right = ELEMENTS[(j << 1) + 1];
+        int nb = (left < f ? 1 : 0) + (t < right ? 1 : 0);
+        int shift = (nb - (j - i + 1)) << 1;
+        if (shift != 0) {
+            if (SIZE + shift > ELEMENTS.length) {
+                ELEMENTS = Arrays.copyOf(ELEMENTS, Math.max(SIZE + shift, ELEMENTS.length * 3 / 2 + 1));
+            }
+            int from = (j + 1) << 1;
+            System.arraycopy(ELEMENTS, from, ELEMENTS, from + shift, SIZE - from);
+            SIZE += shift;
+        }
+        int p = i << 1;
+        if (left < f) {
+            ELEMENTS[p++] = left;
+            ELEMENTS[p++] = f - 1;
+        }
+        if (t < right) {
+            ELEMENTS[p++] = t + 1;
+            ELEMENTS[p] = right;
+        }
+        CARDINALITY -= removed;
+        return removed;
+    }
+
+    /**
+     * Notify the propagators of a modification of the domain, given the old bounds
+     */
+    private void notify(int olb, int oub, ICause cause) throws ContradictionException {
+        IntEventType e;
+        if (CARDINALITY == 1) {
+            e = IntEventType.INSTANTIATE;
+        } else if (olb != getLB()) {
+            e = oub != getUB() ? IntEventType.BOUND : IntEventType.INCLOW;
+        } else if (oub != getUB()) {
+            e = IntEventType.DECUPP;
+        } else {
+            e = IntEventType.REMOVE;
+        }
+        this.notifyPropagators(e, cause);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        boolean change = contains(value);
+        if (change) {
+            if (CARDINALITY == 1) {
+                model.getSolver().getEventObserver().removeValue(this, value, cause);
+                this.contradiction(cause, MSG_REMOVE);
+            }
+            int olb = getLB();
+            int oub = getUB();
+            removeBetween(value, value, cause, true);
+            notify(olb, oub, cause);
+        }
+        return change;
+    }
+
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        int value = values.nextValue(olb - 1);
+        if (value > oub) {
+            return false;
+        }
+        int count = CARDINALITY;
+        // first, check that the domain will not become empty
+        int v = value;
+        while (v <= oub && count > 0) {
+            if (contains(v)) {
+                count--;
+            }
+            v = values.nextValue(v);
+        }
+        if (count == 0) {
+            model.getSolver().getEventObserver().removeValue(this, value, cause);
+            this.contradiction(cause, MSG_REMOVE);
+        }
+        boolean hasRemoved = false;
+        while (value <= oub) {
+            if (contains(value)) {
+                // remove the largest interval of values to remove
+                int to = value;
+                int next = values.nextValue(to);
+                while (next == to + 1 && next <= oub) {
+                    to = next;
+                    next = values.nextValue(to);
+                }
+                hasRemoved |= removeBetween(value, to, cause, true) > 0;
+                value = next;
+            } else {
+                value = values.nextValue(value);
+            }
+        }
+        if (hasRemoved) {
+            notify(olb, oub, cause);
+        }
+        return hasRemoved;
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = getLB();
+        int oub = getUB();
+        // first, check that the domain will not become empty
+        int v = values.nextValue(olb - 1);
+        while (v <= oub && !contains(v)) {
+            v = values.nextValue(v);
+        }
+        if (v > oub) {
+            model.getSolver().getEventObserver().removeValue(this, olb, cause);
+            this.contradiction(cause, MSG_REMOVE);
+        }
+        boolean hasRemoved = false;
+        // remove the intervals of values not in 'values', from the upper bound
+        int t = oub;
+        while (t >= olb) {
+            int f = values.previousValue(t + 1);
+            if (f == t) {
+                t = values.previousValueOut(t);
+            } else {
+                int from = Math.max(olb, f + 1);
+                hasRemoved |= removeBetween(from, t, cause, true) > 0;
+                t = f;
+            }
+        }
+        if (hasRemoved) {
+            notify(olb, oub, cause);
+        }
+        return hasRemoved;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws ContradictionException {
+        assert cause != null;
+        if (from <= getLB())
+            return updateLowerBound(to + 1, cause);
+        else if (getUB() <= to)
+            return updateUpperBound(from - 1, cause);
+        else if (removeBetween(from, to, cause, true) > 0) {
+            this.notifyPropagators(IntEventType.REMOVE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause) throws ContradictionException {
+        // BEWARE: THIS CODE SHOULD NOT BE MOVED TO THE DOMAIN TO NOT DECREASE PERFORMANCES!
+        assert cause != null;
+        if (!contains(value)) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            save();
+            if (reactOnRemoval) {
+                for (int k = 0; k < SIZE; k += 2) {
+                    for (int v = ELEMENTS[k]; v <= ELEMENTS[k + 1]; v++) {
+                        if (v != value) {
+                            delta.add(v, cause);
+                        }
+                    }
+                }
+            }
+            ELEMENTS[0] = ELEMENTS[1] = value;
+            SIZE = 2;
+            CARDINALITY = 1;
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getLB();
+        if (old < value) {
+            int oub = this.getUB();
+            model.getSolver().getEventObserver().updateLowerBound(this, value, old, cause);
+            if (oub < value) {
+                this.contradiction(cause, MSG_LOW);
+            } else {
+                removeBetween(old, value - 1, cause, false);
+                this.notifyPropagators(isInstantiated() ? IntEventType.INSTANTIATE : IntEventType.INCLOW, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int oub = this.getUB();
+        if (oub > value) {
+            int olb = this.getLB();
+            model.getSolver().getEventObserver().updateUpperBound(this, value, oub, cause);
+            if (olb > value) {
+                this.contradiction(cause, MSG_UPP);
+            } else {
+                removeBetween(value + 1, oub, cause, false);
+                this.notifyPropagators(isInstantiated() ? IntEventType.INSTANTIATE : IntEventType.DECUPP, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = this.getLB();
+        int oub = this.getUB();
+        boolean update = false;
+        if (olb < lb || oub > ub) {
+            IntEventType e = null;
+            if (oub < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                this.contradiction(cause, MSG_LOW);
+            } else if (olb < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                e = IntEventType.INCLOW;
+                removeBetween(olb, lb - 1, cause, false);
+                olb = getLB();
+            }
+            if (olb > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                this.contradiction(cause, MSG_UPP);
+            } else if (oub > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                e = e == null ? IntEventType.DECUPP : IntEventType.BOUND;
+                removeBetween(ub + 1, oub, cause, false);
+            }
+            if (isInstantiated()) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            update = true;
+        }
+        return update;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return CARDINALITY == 1;
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && getLB() == value;
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        return ELEMENTS[0] <= aValue && aValue <= ELEMENTS[SIZE - 1] && rangeOf(aValue) >= 0;
+    }
+
+    @Override
+    public int getValue() throws IllegalStateException {
+        if (!isInstantiated()) {
+            throw new IllegalStateException("getValue() can be only called on instantiated variable. " +
+                    name + " is not instantiated");
+        }
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        return ELEMENTS[0];
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        return ELEMENTS[SIZE - 1];
+    }
+
+    @Override
+    public int getDomainSize() {
+        return CARDINALITY;
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    /**
+     * @return the number of ranges of the domain
+     */
+    public int getNbRanges() {
+        return SIZE >> 1;
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        if (aValue < getLB()) return getLB();
+        if (aValue >= getUB()) return Integer.MAX_VALUE;
+        int i = rangeOf(aValue + 1);
+        return i >= 0 ? aValue + 1 : ELEMENTS[(-i - 1) << 1];
+    }
+
+    @Override
+    public int nextValueOut(int aValue) {
+        int i = rangeOf(aValue + 1);
+        return i >= 0 ? ELEMENTS[(i << 1) + 1] + 1 : aValue + 1;
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        if (aValue > getUB()) return getUB();
+        if (aValue <= getLB()) return Integer.MIN_VALUE;
+        int i = rangeOf(aValue - 1);
+        return i >= 0 ? aValue - 1 : ELEMENTS[((-i - 1) << 1) - 1];
+    }
+
+    @Override
+    public int previousValueOut(int aValue) {
+        int i = rangeOf(aValue - 1);
+        return i >= 0 ? ELEMENTS[i << 1] - 1 : aValue - 1;
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IEnumDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (CARDINALITY == 1) {
+            s.append(this.getLB());
+        } else {
+            s.append('{');
+            for (int k = 0; k < SIZE; k += 2) {
+                if (k > 0) s.append(",");
+                s.append(ELEMENTS[k]);
+                if (ELEMENTS[k] < ELEMENTS[k + 1]) s.append("..").append(ELEMENTS[k + 1]);
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new EnumDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new EnumDeltaMonitor(delta, propagator);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    @Override
+    protected EvtScheduler<IntEventType> createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Current value
+                 */
+                int value;
+                /**
+                 * Index of the lower bound of the range of the current value
+                 */
+                int r;
+                /**
+                 * Set to <i>false</i> when the iteration is over
+                 */
+                boolean valid;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.r = 0;
+                    this.value = ELEMENTS[0];
+                    this.valid = true;
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.r = SIZE - 2;
+                    this.value = ELEMENTS[SIZE - 1];
+                    this.valid = true;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return valid;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return valid;
+                }
+
+                /**
+                 * Make sure <i>r</i> still points to the range of the current value,
+                 * since the domain may have been modified since the last move.
+                 *
+                 * @return <i>false</i> if the current value is not in the domain anymore,
+                 * in that case <i>r</i> points to the first range greater than the current value
+                 */
+                private boolean sync() {
+                    if (r < 0 || r >= SIZE || ELEMENTS[r] > value || ELEMENTS[r + 1] < value) {
+                        int p = rangeOf(value);
+                        if (p < 0) {
+                            r = (-p - 1) << 1;
+                            return false;
+                        }
+                        r = p << 1;
+                    }
+                    return true;
+                }
+
+                @Override
+                public int next() {
+                    int old = this.value;
+                    boolean in = sync();
+                    if (in && value < ELEMENTS[r + 1]) {
+                        value++;
+                        return old;
+                    }
+                    if (in) {
+                        r += 2;
+                    }
+                    if (r < SIZE) {
+                        value = ELEMENTS[r];
+                    } else {
+                        valid = false;
+                    }
+                    return old;
+                }
+
+                @Override
+                public int previous() {
+                    int old = this.value;
+                    if (sync() && value > ELEMENTS[r]) {
+                        value--;
+                        return old;
+                    }
+                    r -= 2;
+                    if (r >= 0) {
+                        value = ELEMENTS[r + 1];
+                    } else {
+                        valid = false;
+                    }
+                    return old;
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Index of the lower bound of the current range
+                 */
+                int r;
+                /**
+                 * Lower bound of the current range
+                 */
+                int from;
+                /**
+                 * Upper bound of the current range
+                 */
+                int to;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    moveTo(0);
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    moveTo(SIZE - 2);
+                }
+
+                private void moveTo(int i) {
+                    r = i;
+                    if (0 <= r && r < SIZE) {
+                        from = ELEMENTS[r];
+                        to = ELEMENTS[r + 1];
+                    } else {
+                        from = Integer.MAX_VALUE;
+                        to = Integer.MIN_VALUE;
+                    }
+                }
+
+                public boolean hasNext() {
+                    return from <= to;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return from <= to;
+                }
+
+                public void next() {
+                    // the domain may have been modified since the last move
+                    if (r + 3 < SIZE && ELEMENTS[r + 1] == to) {
+                        moveTo(r + 2);
+                    } else if (to == Integer.MAX_VALUE || to == Integer.MIN_VALUE) {
+                        moveTo(SIZE);
+                    } else {
+                        int p = rangeOf(to + 1);
+                        moveTo(p < 0 ? (-p - 1) << 1 : p << 1);
+                    }
+                }
+
+                @Override
+                public void previous() {
+                    if (r >= 2 && r < SIZE && ELEMENTS[r] == from) {
+                        moveTo(r - 2);
+                    } else if (from == Integer.MIN_VALUE || from == Integer.MAX_VALUE) {
+                        moveTo(-2);
+                    } else {
+                        int p = rangeOf(from - 1);
+                        moveTo(p < 0 ? ((-p - 1) << 1) - 2 : p << 1);
+                    }
+                }
+
+                @Override
+                public int min() {
+                    return from;
+                }
+
+                @Override
+                public int max() {
+                    return to;
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        if (_javaIterator == null) {
+            _javaIterator = new IntVarValueIterator(this);
+        }
+        _javaIterator.reset();
+        return _javaIterator;
+    }
+
+    @Override
+    public void createLit(IntIterableRangeSet rootDomain) {
+        if (this.literal != null) {
+            throw new IllegalStateException("createLit(Implications) called twice");
+        }
+        this.literal = new SignedLiteral.Set(rootDomain);
+    }
+
+    @Override
+    public SignedLiteral getLit() {
+        if (this.literal == null) {
+            throw new NullPointerException("getLit() called on null, a call to createLit(Implications) is required");
+        }
+        return this.literal;
+    }
+}
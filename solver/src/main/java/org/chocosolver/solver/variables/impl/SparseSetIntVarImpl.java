@@ -0,0 +1,946 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.variables.impl;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.delta.EnumDelta;
+import org.chocosolver.solver.variables.delta.IEnumDelta;
+import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
+import org.chocosolver.solver.variables.delta.NoDelta;
+import org.chocosolver.solver.variables.delta.monitor.EnumDeltaMonitor;
+import org.chocosolver.solver.variables.events.IntEventType;
+import org.chocosolver.solver.variables.impl.scheduler.IntEvtScheduler;
+import org.chocosolver.solver.variables.impl.siglit.SignedLiteral;
+import org.chocosolver.util.iterators.DisposableRangeIterator;
+import org.chocosolver.util.iterators.DisposableValueIterator;
+import org.chocosolver.util.iterators.EvtScheduler;
+import org.chocosolver.util.iterators.IntVarValueIterator;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSet;
+import org.chocosolver.util.tools.ArrayUtils;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * An enumerated IntVar based on a reversible sparse set.
+ * <p>
+ * The values of the domain are stored in a <i>dense</i> array, the first {@link #SIZE} ones being the current ones,
+ * and the position of each value in <i>dense</i> is stored in a <i>sparse</i> array.
+ * Removing a value swaps it with the last current value and decrements the size,
+ * which is the only trailed data (with the bounds).
+ * Hence, removing a value and restoring the domain upon backtrack are done in constant time,
+ * whatever the number of removed values is.
+ * <p>
+ * On the other hand, the dense array is not sorted,
+ * so looking for the next (or previous) value is done by scanning the following (or preceding) values,
+ * and then the current values if the former scan was not conclusive after as many steps as the domain size.
+ * Such a domain is adapted to large enumerated domains with scattered removals.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public final class SparseSetIntVarImpl extends AbstractVariable implements IntVar {
+
+    /**
+     * Set to <tt>true</tt> if this variable reacts is associated with at least one propagator which reacts
+     * on value removal
+     */
+    private boolean reactOnRemoval = false;
+    /**
+     * Values of the domain -- includes offset.
+     * The first {@link #SIZE} ones are the current ones.
+     */
+    private final int[] dense;
+    /**
+     * Position of each value in {@link #dense} -- includes offset.
+     * Values that do not belong to the initial domain are mapped to {@link Integer#MAX_VALUE}.
+     */
+    private final int[] sparse;
+    /**
+     * Lower bound of the current domain -- includes offset
+     */
+    private final IStateInt LB;
+    /**
+     * Upper bound of the current domain -- includes offset
+     */
+    private final IStateInt UB;
+    /**
+     * Current size of domain
+     */
+    private final IStateInt SIZE;
+    /**
+     * offset of the lower bound and the first value in the domain
+     */
+    private final int OFFSET;
+    /**
+     * To iterate over removed values
+     */
+    private IEnumDelta delta = NoDelta.singleton;
+    /**
+     * To iterate over values in the domain
+     */
+    private DisposableValueIterator _viterator;
+    /**
+     * To iterate over ranges
+     */
+    private DisposableRangeIterator _riterator;
+
+    /**
+     * Value iterator allowing for(int i:this) loops
+     */
+    private IntVarValueIterator _javaIterator;
+
+    /**
+     * Signed Literal
+     */
+    private SignedLiteral.Set literal;
+
+    /**
+     * Create an enumerated IntVar based on a sparse set
+     *
+     * @param name         name of the variable
+     * @param sortedValues original domain values
+     * @param model        declaring model
+     */
+    public SparseSetIntVarImpl(String name, int[] sortedValues, Model model) {
+        super(name, model);
+        IEnvironment env = model.getEnvironment();
+        OFFSET = sortedValues[0];
+        int capacity = sortedValues[sortedValues.length - 1] - OFFSET + 1;
+        this.dense = new int[sortedValues.length];
+        this.sparse = new int[capacity];
+        Arrays.fill(sparse, Integer.MAX_VALUE);
+        for (int i = 0; i < sortedValues.length; i++) {
+            dense[i] = sortedValues[i] - OFFSET;
+            sparse[dense[i]] = i;
+        }
+        this.LB = env.makeInt(0);
+        this.UB = env.makeInt(capacity - 1);
+        this.SIZE = env.makeInt(sortedValues.length);
+    }
+
+    /**
+     * Create an enumerated IntVar based on a sparse set
+     *
+     * @param name  name of the variable
+     * @param min   lower bound
+     * @param max   upper bound
+     * @param model declaring model
+     */
+    public SparseSetIntVarImpl(String name, int min, int max, Model model) {
+        this(name, ArrayUtils.array(min, max), model);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///// sparse set primitives, all values include offset /////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * @param a a value (includes offset)
+     * @param s the current size
+     * @return <i>true</i> if <i>a</i> is among the <i>s</i> first values of {@link #dense}
+     */
+    private boolean in(int a, int s) {
+        return a >= 0 && a < sparse.length && sparse[a] < s;
+    }
+
+    /**
+     * Swap out <i>a</i>, expected to be among the <i>s</i> first values of {@link #dense}
+     *
+     * @param a a value (includes offset)
+     * @param s the current size
+     * @return the new size
+     */
+    private int swapOut(int a, int s) {
+        int i = sparse[a];
+        int b = dense[--s];
+        dense[i] = b;
+        sparse[b] = i;
+        dense[s] = a;
+        sparse[a] = s;
+        return s;
+    }
+
+    /**
+     * @param a a value (includes offset)
+     * @return the smallest current value strictly greater than <i>a</i>, or -1 if none
+     */
+    private int nextIn(int a) {
+        int s = SIZE.get();
+        int ub = UB.get();
+        if (a >= ub) {
+            return -1;
+        }
+        // first, scan at most 's' values, then the current values
+        int v = Math.max(a + 1, LB.get());
+        int to = (int) Math.min(ub, (long) v + s);
+        for (; v <= to; v++) {
+            if (sparse[v] < s) {
+                return v;
+            }
+        }
+        int best = Integer.MAX_VALUE;
+        for (int k = 0; k < s; k++) {
+            v = dense[k];
+            if (v > a && v < best) {
+                best = v;
+            }
+        }
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    /**
+     * @param a a value (includes offset)
+     * @return the largest current value strictly smaller than <i>a</i>, or -1 if none
+     */
+    private int prevIn(int a) {
+        int s = SIZE.get();
+        int lb = LB.get();
+        if (a <= lb) {
+            return -1;
+        }
+        // first, scan at most 's' values, then the current values
+        int v = Math.min(a - 1, UB.get());
+        int to = (int) Math.max(lb, (long) v - s);
+        for (; v >= to; v--) {
+            if (sparse[v] < s) {
+                return v;
+            }
+        }
+        int best = -1;
+        for (int k = 0; k < s; k++) {
+            v = dense[k];
+            if (v < a && v > best) {
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Remove the current values in [<i>from</i>, <i>to</i>] (include offset),
+     * without updating the bounds and without notifying propagators.
+     *
+     * @return the new size
+     */
+    private int clear(int from, int to, int s, ICause cause) {
+        if (to - from + 1 <= s) {
+            for (int a = from; a <= to; a++) {
+                if (in(a, s)) {
+                    s = remove(a, s, cause);
+                }
+            }
+        } else {
+            // in decreasing order, a swapped value has already been checked
+            for (int k = s - 1; k >= 0; k--) {
+                int a = dense[k];
+                if (from <= a && a <= to) {
+                    s = remove(a, s, cause);
+                }
+            }
+        }
+        return s;
+    }
+
+    private int remove(int a, int s, ICause cause) {
+        if (reactOnRemoval) {
+            delta.add(a + OFFSET, cause);
+        }
+        return swapOut(a, s);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Removes {@code value}from the domain of {@code this}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is out of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if removing {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if removing {@code value} from the domain can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value value to remove from the domain (int)
+     * @param cause removal releaser
+     * @return true if the value has been removed, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean removeValue(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int aValue = value - OFFSET;
+        int s = SIZE.get();
+        boolean change = in(aValue, s);
+        if (change) {
+            model.getSolver().getEventObserver().removeValue(this, value, cause);
+            if (s == 1) {
+                this.contradiction(cause, MSG_REMOVE);
+            }
+            IntEventType e = IntEventType.REMOVE;
+            SIZE.set(remove(aValue, s, cause));
+            if (aValue == LB.get()) {
+                LB.set(nextIn(aValue));
+                e = IntEventType.INCLOW;
+            } else if (aValue == UB.get()) {
+                UB.set(prevIn(aValue));
+                e = IntEventType.DECUPP;
+            }
+            if (this.isInstantiated()) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+        }
+        return change;
+    }
+
+    @Override
+    public boolean removeValues(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        boolean hasChanged = false, fixpoint;
+        int vlb, vub;
+        do {
+            int nlb = getLB();
+            int nub = getUB();
+            vlb = values.nextValue(nlb - 1);
+            vub = values.previousValue(nub + 1);
+            if (!hasChanged && (vlb > nub || vub < nlb)) {
+                return false;
+            }
+            int i;
+            // look for the new lb
+            while (vlb == nlb && nlb < Integer.MAX_VALUE) {
+                i = nextIn(vlb - OFFSET);
+                nlb = i > -1 ? i + OFFSET : Integer.MAX_VALUE;
+                vlb = values.nextValue(nlb - 1);
+            }
+            if (vlb <= vub) {
+                // look for the new ub
+                while (vub == nub && nub > Integer.MIN_VALUE) {
+                    i = prevIn(vub - OFFSET);
+                    nub = i > -1 ? i + OFFSET : Integer.MIN_VALUE;
+                    vub = values.previousValue(nub + 1);
+                }
+            }
+            // the new bounds are now known, delegate to the right method
+            fixpoint = updateBounds(nlb, nub, cause);
+            hasChanged |= fixpoint;
+        } while (fixpoint);
+        // now deal with holes
+        int value = vlb;
+        boolean hasRemoved = false;
+        int count = SIZE.get();
+        while (value <= vub) {
+            int aValue = value - OFFSET;
+            if (in(aValue, count)) {
+                model.getSolver().getEventObserver().removeValue(this, value, cause);
+                if (count == 1) {
+                    this.contradiction(cause, MSG_REMOVE);
+                }
+                hasRemoved = true;
+                count = remove(aValue, count, cause);
+            }
+            value = values.nextValue(value);
+        }
+        if (hasRemoved) {
+            notifyRemovals(count, cause);
+        }
+        return hasRemoved || hasChanged;
+    }
+
+    private void notifyRemovals(int count, ICause cause) throws ContradictionException {
+        SIZE.set(count);
+        IntEventType e = IntEventType.REMOVE;
+        if (count == 1) {
+            e = IntEventType.INSTANTIATE;
+        }
+        this.notifyPropagators(e, cause);
+    }
+
+    @Override
+    public boolean removeAllValuesBut(IntIterableSet values, ICause cause) throws ContradictionException {
+        assert cause != null;
+        boolean hasChanged = false, fixpoint;
+        int nlb, nub;
+        do {
+            int clb = getLB();
+            int cub = getUB();
+            nlb = values.nextValue(clb - 1);
+            nub = values.previousValue(cub + 1);
+            int i;
+            // look for the new lb
+            while (nlb != clb && clb < Integer.MAX_VALUE && nlb < Integer.MAX_VALUE) {
+                i = nextIn(nlb - OFFSET - 1);
+                clb = i > -1 ? i + OFFSET : Integer.MAX_VALUE;
+                nlb = values.nextValue(clb - 1);
+            }
+            // look for the new ub
+            if (nlb <= nub) {
+                while (nub != cub && cub > Integer.MIN_VALUE && nub > Integer.MIN_VALUE) {
+                    i = prevIn(nub - OFFSET + 1);
+                    cub = i > -1 ? i + OFFSET : Integer.MIN_VALUE;
+                    nub = values.previousValue(cub + 1);
+                }
+            }
+            // the new bounds are now known, delegate to the right method
+            fixpoint = updateBounds(nlb, nub, cause);
+            hasChanged |= fixpoint;
+        } while (fixpoint);
+        // now deal with holes, in decreasing order of position since a swapped value has already been checked
+        boolean hasRemoved = false;
+        int count = SIZE.get();
+        for (int k = count - 1; k >= 0; k--) {
+            int value = dense[k] + OFFSET;
+            if (!values.contains(value)) {
+                model.getSolver().getEventObserver().removeValue(this, value, cause);
+                if (count == 1) {
+                    this.contradiction(cause, MSG_REMOVE);
+                }
+                hasRemoved = true;
+                count = remove(dense[k], count, cause);
+            }
+        }
+        if (hasRemoved) {
+            notifyRemovals(count, cause);
+        }
+        return hasRemoved || hasChanged;
+    }
+
+    @Override
+    public boolean removeInterval(int from, int to, ICause cause) throws
+            ContradictionException {
+        assert cause != null;
+        if (from <= getLB())
+            return updateLowerBound(to + 1, cause);
+        else if (getUB() <= to)
+            return updateUpperBound(from - 1, cause);
+        else {
+            int count = SIZE.get();
+            int ncount = clear(from - OFFSET, to - OFFSET, count, cause);
+            // the iteration is mandatory for observers
+            for (int k = ncount; k < count; k++) {
+                model.getSolver().getEventObserver().removeValue(this, dense[k] + OFFSET, cause);
+            }
+            if (ncount < count) {
+                SIZE.set(ncount);
+                this.notifyPropagators(IntEventType.REMOVE, cause);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Instantiates the domain of {@code this} to {@code value}. The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If the domain of {@code this} is already instantiated to {@code value},
+     * nothing is done and the return value is {@code false},</li>
+     * <li>If the domain of {@code this} is already instantiated to another value,
+     * then a {@code ContradictionException} is thrown,</li>
+     * <li>Otherwise, the domain of {@code this} is restricted to {@code value} and the observers are notified
+     * and the return value is {@code true}.</li>
+     * </ul>
+     *
+     * @param value instantiation value (int)
+     * @param cause instantiation releaser
+     * @return true if the instantiation is done, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean instantiateTo(int value, ICause cause) throws ContradictionException {
+        // BEWARE: THIS CODE SHOULD NOT BE MOVED TO THE DOMAIN TO NOT DECREASE PERFORMANCES!
+        assert cause != null;
+        if (!contains(value)) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            this.contradiction(cause, MSG_INST);
+        } else if (!isInstantiated()) {
+            model.getSolver().getEventObserver().instantiateTo(this, value, cause, getLB(), getUB());
+            int aValue = value - OFFSET;
+            if (reactOnRemoval) {
+                int s = SIZE.get();
+                for (int k = 0; k < s; k++) {
+                    if (dense[k] != aValue) {
+                        delta.add(dense[k] + OFFSET, cause);
+                    }
+                }
+            }
+            // move the value in first position
+            int i = sparse[aValue];
+            int b = dense[0];
+            dense[i] = b;
+            sparse[b] = i;
+            dense[0] = aValue;
+            sparse[aValue] = 0;
+            this.LB.set(aValue);
+            this.UB.set(aValue);
+            this.SIZE.set(1);
+            this.notifyPropagators(IntEventType.INSTANTIATE, cause);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Updates the lower bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is smaller than the lower bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the lower bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the lower bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new lower bound (included)
+     * @param cause updating releaser
+     * @return true if the lower bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateLowerBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int old = this.getLB();
+        if (old < value) {
+            int oub = this.getUB();
+            model.getSolver().getEventObserver().updateLowerBound(this, value, old, cause);
+            if (oub < value) {
+                this.contradiction(cause, MSG_LOW);
+            } else {
+                IntEventType e = IntEventType.INCLOW;
+                int aValue = value - OFFSET;
+                int s = clear(old - OFFSET, aValue - 1, SIZE.get(), cause);
+                assert SIZE.get() > s;
+                SIZE.set(s);
+                LB.set(in(aValue, s) ? aValue : nextIn(aValue));
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Updates the upper bound of the domain of {@code this} to {@code value}.
+     * The instruction comes from {@code propagator}.
+     * <ul>
+     * <li>If {@code value} is greater than the upper bound of the domain, nothing is done and the return value is {@code false},</li>
+     * <li>if updating the upper bound to {@code value} leads to a dead-end (domain wipe-out),
+     * a {@code ContradictionException} is thrown,</li>
+     * <li>otherwise, if updating the upper bound to {@code value} can be done safely,
+     * the event type is created (the original event can be promoted) and observers are notified
+     * and the return value is {@code true}</li>
+     * </ul>
+     *
+     * @param value new upper bound (included)
+     * @param cause update releaser
+     * @return true if the upper bound has been updated, false otherwise
+     * @throws ContradictionException if the domain become empty due to this action
+     */
+    @Override
+    public boolean updateUpperBound(int value, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int oub = this.getUB();
+        if (oub > value) {
+            int olb = this.getLB();
+            model.getSolver().getEventObserver().updateUpperBound(this, value, oub, cause);
+            if (olb > value) {
+                this.contradiction(cause, MSG_UPP);
+            } else {
+                IntEventType e = IntEventType.DECUPP;
+                int aValue = value - OFFSET;
+                int s = clear(aValue + 1, oub - OFFSET, SIZE.get(), cause);
+                assert SIZE.get() > s;
+                SIZE.set(s);
+                UB.set(in(aValue, s) ? aValue : prevIn(aValue));
+                if (isInstantiated()) {
+                    e = IntEventType.INSTANTIATE;
+                }
+                this.notifyPropagators(e, cause);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean updateBounds(int lb, int ub, ICause cause) throws ContradictionException {
+        assert cause != null;
+        int olb = this.getLB();
+        int oub = this.getUB();
+        boolean update = false;
+        if (olb < lb || oub > ub) {
+            IntEventType e = null;
+            if (oub < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                this.contradiction(cause, MSG_LOW);
+            } else if (olb < lb) {
+                model.getSolver().getEventObserver().updateLowerBound(this, lb, olb, cause);
+                e = IntEventType.INCLOW;
+                int aLB = lb - OFFSET;
+                int s = clear(olb - OFFSET, aLB - 1, SIZE.get(), cause);
+                SIZE.set(s);
+                olb = in(aLB, s) ? aLB : nextIn(aLB); // olb is used as a temporary variable
+                LB.set(olb);
+                olb += OFFSET; // required because we will treat upper bound just after
+            }
+            if (olb > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                this.contradiction(cause, MSG_UPP);
+            } else if (oub > ub) {
+                model.getSolver().getEventObserver().updateUpperBound(this, ub, oub, cause);
+                e = e == null ? IntEventType.DECUPP : IntEventType.BOUND;
+                int aUB = ub - OFFSET;
+                int s = clear(aUB + 1, oub - OFFSET, SIZE.get(), cause);
+                SIZE.set(s);
+                UB.set(in(aUB, s) ? aUB : prevIn(aUB));
+            }
+            if (isInstantiated()) {
+                e = IntEventType.INSTANTIATE;
+            }
+            this.notifyPropagators(e, cause);
+            update = true;
+        }
+        return update;
+    }
+
+    @Override
+    public boolean isInstantiated() {
+        return SIZE.get() == 1;
+    }
+
+    @Override
+    public boolean isInstantiatedTo(int value) {
+        return isInstantiated() && getLB() == value;
+    }
+
+    @Override
+    public boolean contains(int aValue) {
+        return in(aValue - OFFSET, SIZE.get());
+    }
+
+    @Override
+    public int getValue() throws IllegalStateException {
+        if (!isInstantiated()) {
+            throw new IllegalStateException("getValue() can be only called on instantiated variable. " +
+                    name + " is not instantiated");
+        }
+        return getLB();
+    }
+
+    /**
+     * Retrieves the lower bound of the variable
+     *
+     * @return the lower bound
+     */
+    @Override
+    public int getLB() {
+        return this.LB.get() + OFFSET;
+    }
+
+    /**
+     * Retrieves the upper bound of the variable
+     *
+     * @return the upper bound
+     */
+    @Override
+    public int getUB() {
+        return this.UB.get() + OFFSET;
+    }
+
+    @Override
+    public int getDomainSize() {
+        return SIZE.get();
+    }
+
+    @Override
+    public int getRange() {
+        return getUB() - getLB() + 1;
+    }
+
+    @Override
+    public int nextValue(int aValue) {
+        aValue -= OFFSET;
+        int lb = LB.get();
+        if (aValue < 0 || aValue < lb) return lb + OFFSET;
+        aValue = nextIn(aValue);
+        if (aValue > -1) return aValue + OFFSET;
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int nextValueOut(int aValue) {
+        int lb = getLB();
+        int ub = getUB();
+        if (lb - 1 <= aValue && aValue <= ub) {
+            int s = SIZE.get();
+            int a = aValue - OFFSET + 1;
+            while (in(a, s)) {
+                a++;
+            }
+            return a + OFFSET;
+        }
+        return aValue + 1;
+    }
+
+    @Override
+    public int previousValue(int aValue) {
+        aValue -= OFFSET;
+        int ub = UB.get();
+        if (aValue > ub) return ub + OFFSET;
+        aValue = prevIn(aValue);
+        if (aValue > -1) return aValue + OFFSET;
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public int previousValueOut(int aValue) {
+        int lb = getLB();
+        int ub = getUB();
+        if (lb <= aValue && aValue <= ub + 1) {
+            int s = SIZE.get();
+            int a = aValue - OFFSET - 1;
+            while (in(a, s)) {
+                a--;
+            }
+            return a + OFFSET;
+        }
+        return aValue - 1;
+    }
+
+    @Override
+    public boolean hasEnumeratedDomain() {
+        return true;
+    }
+
+    @Override
+    public IEnumDelta getDelta() {
+        return delta;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder s = new StringBuilder(20);
+        s.append(name).append(" = ");
+        if (SIZE.get() == 1) {
+            s.append(this.getLB());
+        } else {
+            int v = getLB(), w;
+            s.append('{').append(v);
+            w = nextValueOut(v);
+            if (v < w - 1) s.append("..").append(w - 1);
+            v = nextValue(w);
+            while (v < Integer.MAX_VALUE) {
+                s.append(",").append(v);
+                w = nextValueOut(v);
+                if (v < w - 1) s.append("..").append(w - 1);
+                v = nextValue(w);
+            }
+            s.append('}');
+        }
+        return s.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////
+    ///// methode liees au fait qu'une variable est observable /////
+    ////////////////////////////////////////////////////////////////
+
+
+    @Override
+    public void createDelta() {
+        if (!reactOnRemoval) {
+            delta = new EnumDelta(model.getEnvironment());
+            reactOnRemoval = true;
+        }
+    }
+
+    @Override
+    public IIntDeltaMonitor monitorDelta(ICause propagator) {
+        createDelta();
+        return new EnumDeltaMonitor(delta, propagator);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int getTypeAndKind() {
+        return VAR | INT;
+    }
+
+    @Override
+    protected EvtScheduler<IntEventType> createScheduler() {
+        return new IntEvtScheduler();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public DisposableValueIterator getValueIterator(boolean bottomUp) {
+        if (_viterator == null || _viterator.isNotReusable()) {
+            _viterator = new DisposableValueIterator() {
+
+                /**
+                 * Current value
+                 */
+                int value;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.value = LB.get();
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.value = UB.get();
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return this.value != -1;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.value != -1;
+                }
+
+                @Override
+                public int next() {
+                    int old = this.value;
+                    this.value = nextIn(this.value);
+                    return old + OFFSET;
+                }
+
+                @Override
+                public int previous() {
+                    int old = this.value;
+                    this.value = prevIn(this.value);
+                    return old + OFFSET;
+                }
+            };
+        }
+        if (bottomUp) {
+            _viterator.bottomUpInit();
+        } else {
+            _viterator.topDownInit();
+        }
+        return _viterator;
+    }
+
+    @Override
+    public DisposableRangeIterator getRangeIterator(boolean bottomUp) {
+        if (_riterator == null || _riterator.isNotReusable()) {
+            _riterator = new DisposableRangeIterator() {
+
+                /**
+                 * Lower bound of the current range
+                 */
+                int from;
+                /**
+                 * Upper bound of the current range
+                 */
+                int to;
+
+                @Override
+                public void bottomUpInit() {
+                    super.bottomUpInit();
+                    this.from = LB.get();
+                    this.to = nextValueOut(from + OFFSET) - OFFSET - 1;
+                }
+
+                @Override
+                public void topDownInit() {
+                    super.topDownInit();
+                    this.to = UB.get();
+                    this.from = previousValueOut(to + OFFSET) - OFFSET + 1;
+                }
+
+                public boolean hasNext() {
+                    return this.from != -1;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return this.to != -1;
+                }
+
+                public void next() {
+                    this.from = nextIn(this.to);
+                    if (this.from != -1) {
+                        this.to = nextValueOut(this.from + OFFSET) - OFFSET - 1;
+                    }
+                }
+
+                @Override
+                public void previous() {
+                    this.to = prevIn(this.from);
+                    if (this.to != -1) {
+                        this.from = previousValueOut(this.to + OFFSET) - OFFSET + 1;
+                    }
+                }
+
+                @Override
+                public int min() {
+                    return from + OFFSET;
+                }
+
+                @Override
+                public int max() {
+                    return to + OFFSET;
+                }
+            };
+        }
+        if (bottomUp) {
+            _riterator.bottomUpInit();
+        } else {
+            _riterator.topDownInit();
+        }
+        return _riterator;
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        if (_javaIterator == null) {
+            _javaIterator = new IntVarValueIterator(this);
+        }
+        _javaIterator.reset();
+        return _javaIterator;
+    }
+
+    @Override
+    public void createLit(IntIterableRangeSet rootDomain) {
+        if (this.literal != null) {
+            throw new IllegalStateException("createLit(Implications) called twice");
+        }
+        this.literal = new SignedLiteral.Set(rootDomain);
+    }
+
+    @Override
+    public SignedLiteral getLit() {
+        if (this.literal == null) {
+            throw new NullPointerException("getLit() called on null, a call to createLit(Implications) is required");
+        }
+        return this.literal;
+    }
+}
@@ -9,7 +9,6 @@
  */
 package org.chocosolver.solver.variables.view;
 
-import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
 import org.chocosolver.util.procedure.IntProcedure;
@@ -24,22 +23,10 @@ import org.chocosolver.util.procedure.SafeIntProcedure;
  */
 public abstract class ViewDeltaMonitor implements IIntDeltaMonitor {
 
-    private class Filler implements SafeIntProcedure {
-
-        @Override
-        public void execute(int i) {
-            values.add(i);
-        }
-    }
-
     private final IIntDeltaMonitor deltamonitor;
-    private final TIntArrayList values;
-    private final Filler filler;
 
     public ViewDeltaMonitor(IIntDeltaMonitor deltamonitor) {
         this.deltamonitor = deltamonitor;
-        values = new TIntArrayList(8);
-        filler = new Filler();
     }
 
     @Override
@@ -49,22 +36,35 @@ public abstract class ViewDeltaMonitor implements IIntDeltaMonitor {
 
     @Override
     public void forEachRemVal(SafeIntProcedure proc) {
-        values.resetQuick();
-        deltamonitor.forEachRemVal(filler);
-        for (int i = 0; i < values.size(); i++) {
-            proc.execute(transform(values.getQuick(i)));
+        deltamonitor.freeze();
+        while (deltamonitor.hasNextRemVal()) {
+            proc.execute(transform(deltamonitor.nextRemVal()));
         }
     }
 
     @Override
     public void forEachRemVal(IntProcedure proc) throws ContradictionException {
-        values.resetQuick();
-        deltamonitor.forEachRemVal(filler);
-        for (int i = 0; i < values.size(); i++) {
-            proc.execute(transform(values.getQuick(i)));
+        deltamonitor.freeze();
+        while (deltamonitor.hasNextRemVal()) {
+            proc.execute(transform(deltamonitor.nextRemVal()));
         }
     }
 
+    @Override
+    public void freeze() {
+        deltamonitor.freeze();
+    }
+
+    @Override
+    public boolean hasNextRemVal() {
+        return deltamonitor.hasNextRemVal();
+    }
+
+    @Override
+    public int nextRemVal() {
+        return transform(deltamonitor.nextRemVal());
+    }
+
     @Override
     public int sizeApproximation() {
         return deltamonitor.sizeApproximation();
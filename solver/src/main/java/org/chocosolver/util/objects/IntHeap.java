@@ -148,6 +148,25 @@ public class IntHeap {
     }
 
 
+    /**
+     * Remove an element from this heap.
+     *
+     * @param n element to remove
+     */
+    public void remove(int n) {
+        assert (contains(n));
+        int i = indices.get(n);
+        int last = heap.get(heap.size() - 1);
+        heap.removeAt(heap.size() - 1);
+        indices.set(n, -1);
+        if (last != n) {
+            heap.set(i, last);
+            indices.set(last, i);
+            percolateUp(i);
+            percolateDown(indices.get(last));
+        }
+    }
+
     /**
      * Empty this and add elements from {@code elements}.
      *
@@ -156,6 +175,10 @@ public class IntHeap {
     public void build(TIntList elements) {
         clear();
         for (int i = 0; i < elements.size(); i++) {
+            int k = indices.size();
+            if (k <= elements.get(i)) {
+                indices.fill(k, elements.get(i) + 1, -1);
+            }
             indices.set(elements.get(i), i);
             heap.add(elements.get(i));
         }
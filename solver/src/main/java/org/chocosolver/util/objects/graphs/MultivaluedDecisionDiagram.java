@@ -11,11 +11,15 @@ package org.chocosolver.util.objects.graphs;
 
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.solver.constraints.nary.automata.FA.IAutomaton;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.variables.IntVar;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 
 /**
  * A Multi-valued Decision Diagram (MDD for short) to store
@@ -167,6 +171,34 @@ public class MultivaluedDecisionDiagram  {
         init(TRANSITIONS);
     }
 
+    /**
+     * Create an MDD based on an array of flatten domains and an automaton.
+     * The MDD stores the words of length VARIABLES.length recognized by the automaton,
+     * it is built by unfolding the automaton layer by layer, without enumerating the words.
+     * A non-deterministic automaton is determinized on the fly.
+     *
+     * @param VARIABLES array of flatten domains
+     * @param AUTOMATON an automaton
+     */
+    public MultivaluedDecisionDiagram(IntVar[] VARIABLES, IAutomaton AUTOMATON) {
+        int[][] FLATDOM = flattenDomain(VARIABLES);
+        this.nbLayers = FLATDOM.length;
+        this.offsets = new int[nbLayers];
+        this.sizes = new int[nbLayers];
+        this.compactOnce = true;
+        this.sortTuples = false;
+        int maxDom = 0;
+        for (int i = 0; i < nbLayers; i++) {
+            offsets[i] = FLATDOM[i][0];
+            sizes[i] = FLATDOM[i][FLATDOM[i].length - 1] - FLATDOM[i][0] + 1;
+            if (maxDom < sizes[i]) {
+                maxDom = sizes[i];
+            }
+        }
+        mdd = new int[nbLayers * maxDom];
+        init(AUTOMATON);
+    }
+
     @SuppressWarnings("unchecked")
     private void init(Tuples TUPLES) {
         nextFreeCell = sizes[0];
@@ -311,6 +343,119 @@ public class MultivaluedDecisionDiagram  {
     }
 
 
+    @SuppressWarnings("unchecked")
+    private void init(IAutomaton AUTOMATON) {
+        nextFreeCell = sizes[0];
+        _pos = new int[nbLayers];
+        _nodesToRemove = new TIntIntHashMap(16, .5f, -1, -1);
+        _identicalNodes = new ArrayList[nbLayers][];
+        _nodeId = new TIntArrayList[nbLayers][];
+        if (AUTOMATON.getInitialState() < 0) {
+            return;
+        }
+        // 1. unfold the automaton: a node of a layer is a set of states, the root is the initial state
+        List<int[]>[] transitions = new List[AUTOMATON.getNbStates()];
+        ArrayList<TIntArrayList>[] nodes = new ArrayList[nbLayers];
+        int[][][] childs = new int[nbLayers][][];
+        nodes[0] = new ArrayList<>();
+        nodes[0].add(new TIntArrayList(new int[]{AUTOMATON.getInitialState()}));
+        for (int i = 0; i < nbLayers; i++) {
+            HashMap<TIntArrayList, Integer> ids = new HashMap<>();
+            TIntHashSet[] nexts = new TIntHashSet[sizes[i]];
+            if (i + 1 < nbLayers) {
+                nodes[i + 1] = new ArrayList<>();
+            }
+            childs[i] = new int[nodes[i].size()][sizes[i]];
+            for (int n = 0; n < nodes[i].size(); n++) {
+                TIntArrayList states = nodes[i].get(n);
+                for (int k = 0; k < states.size(); k++) {
+                    int s = states.getQuick(k);
+                    if (transitions[s] == null) {
+                        transitions[s] = AUTOMATON.getTransitions(s);
+                    }
+                    for (int[] t : transitions[s]) { // {source, destination, symbol}
+                        int j = t[2] - offsets[i];
+                        if (j >= 0 && j < sizes[i]) {
+                            if (nexts[j] == null) {
+                                nexts[j] = new TIntHashSet();
+                            }
+                            nexts[j].add(t[1]);
+                        }
+                    }
+                }
+                for (int j = 0; j < sizes[i]; j++) {
+                    int c = EMPTY;
+                    if (nexts[j] == null || nexts[j].isEmpty()) {
+                        continue;
+                    }
+                    int[] next = nexts[j].toArray();
+                    nexts[j].clear();
+                    if (i + 1 == nbLayers) {
+                        for (int s : next) {
+                            if (AUTOMATON.isFinal(s)) {
+                                c = TERMINAL;
+                                break;
+                            }
+                        }
+                    } else {
+                        Arrays.sort(next);
+                        TIntArrayList key = new TIntArrayList(next);
+                        Integer id = ids.get(key);
+                        if (id == null) {
+                            id = nodes[i + 1].size();
+                            ids.put(key, id);
+                            nodes[i + 1].add(key);
+                        }
+                        c = id + 1;
+                    }
+                    childs[i][n][j] = c;
+                }
+            }
+        }
+        // 2. only keep nodes from which the terminal node can be reached
+        int[][] positions = new int[nbLayers][];
+        for (int i = nbLayers - 1; i >= 0; i--) {
+            positions[i] = new int[nodes[i].size()];
+            for (int n = 0; n < nodes[i].size(); n++) {
+                for (int j = 0; j < sizes[i]; j++) {
+                    int c = childs[i][n][j];
+                    if (c > EMPTY && positions[i + 1][c - 1] == EMPTY) {
+                        childs[i][n][j] = c = EMPTY;
+                    }
+                    if (c != EMPTY) {
+                        positions[i][n] = 1;
+                    }
+                }
+            }
+        }
+        if (positions[0][0] == EMPTY) {
+            return;
+        }
+        // 3. store the nodes, layer by layer
+        for (int i = 1; i < nbLayers; i++) {
+            for (int n = 0; n < nodes[i].size(); n++) {
+                if (positions[i][n] != EMPTY) {
+                    positions[i][n] = nextFreeCell;
+                    nextFreeCell += sizes[i];
+                }
+            }
+        }
+        ensureCapacity(nextFreeCell);
+        for (int i = 0; i < nbLayers; i++) {
+            for (int n = 0; n < nodes[i].size(); n++) {
+                if (i == 0 || positions[i][n] != EMPTY) {
+                    int p = i == 0 ? 0 : positions[i][n];
+                    for (int j = 0; j < sizes[i]; j++) {
+                        int c = childs[i][n][j];
+                        mdd[p + j] = c > EMPTY ? positions[i + 1][c - 1] : c;
+                    }
+                }
+            }
+        }
+        // compact() visits the diagram as a tree, which does not scale on an unfolded automaton
+        reduce();
+    }
+
     /**
      * Ensure all data structure are correctly sized.
      *
@@ -330,8 +475,10 @@ public class MultivaluedDecisionDiagram  {
      */
     @SuppressWarnings("unchecked")
     private void compact() {
-        long card = Arrays.stream(sizes).mapToLong(i -> (long)i)
-                .reduce((a,b) -> a * b).getAsLong();
+        long card = 1;
+        for (int i = 0; i < nbLayers && card <= 2_000_000; i++) {
+            card *= sizes[i];
+        }
         if(card <= 2_000_000) {
             _nodesToRemove.clear();
             for (int i = 0; i < nbLayers; i++) {
@@ -341,7 +488,53 @@ public class MultivaluedDecisionDiagram  {
             _removedCells = 0;
             detectIsomorphism(0, 0);
             deleteIsomorphism();
+        } else if (compactOnce) {
+            reduce();
+        }
+    }
+
+    /**
+     * Compact the MDD by merging equivalent nodes, bottom-up, in a single traversal.
+     * Unlike {@link #detectIsomorphism(int, int)}, each node is visited once, even when it has several parents,
+     * and equivalent nodes are retrieved by hashing.
+     */
+    @SuppressWarnings("unchecked")
+    private void reduce() {
+        int[] compacted = new int[nextFreeCell];
+        HashMap<TIntArrayList, Integer>[] unique = new HashMap[nbLayers];
+        for (int i = 0; i < nbLayers; i++) {
+            unique[i] = new HashMap<>();
+        }
+        // the root remains at position 0
+        int[] next = {sizes[0]};
+        reduce(0, 0, compacted, new TIntIntHashMap(16, .5f, -1, -1), unique, next);
+        nextFreeCell = next[0];
+        mdd = Arrays.copyOf(compacted, nextFreeCell);
+    }
+
+    private int reduce(int node, int layer, int[] compacted, TIntIntHashMap moved,
+                       HashMap<TIntArrayList, Integer>[] unique, int[] next) {
+        int p = moved.get(node);
+        if (p > -1) {
+            return p;
+        }
+        int[] childs = new int[sizes[layer]];
+        for (int j = 0; j < sizes[layer]; j++) {
+            int c = mdd[node + j];
+            childs[j] = c > EMPTY ? reduce(c, layer + 1, compacted, moved, unique, next) : c;
+        }
+        p = layer == 0 ? 0 : next[0];
+        Integer q = unique[layer].putIfAbsent(TIntArrayList.wrap(childs), p);
+        if (q == null) {
+            System.arraycopy(childs, 0, compacted, p, childs.length);
+            if (layer > 0) {
+                next[0] += childs.length;
+            }
+        } else {
+            p = q;
         }
+        moved.put(node, p);
+        return p;
     }
 
     /**
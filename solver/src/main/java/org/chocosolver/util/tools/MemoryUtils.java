@@ -0,0 +1,122 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.tools;
+
+/**
+ * Utilities to estimate, cheaply, the memory retained by arrays.
+ * <p>
+ * Estimations assume a 64-bit JVM with compressed references:
+ * an array header of 16 bytes, 4-byte references and sizes aligned on 8 bytes.
+ * They are not exact but are cheap enough to be computed during search.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class MemoryUtils {
+
+    /** Size of an array header, in bytes */
+    public static final int ARRAY_HEADER = 16;
+
+    /** Size of an object header, in bytes */
+    public static final int OBJECT_HEADER = 12;
+
+    /** Size of a reference, in bytes */
+    public static final int REFERENCE = 4;
+
+    private MemoryUtils() {
+    }
+
+    /**
+     * @param bytes a number of bytes
+     * @return <i>bytes</i> aligned on 8 bytes
+     */
+    public static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * @param length   number of elements in an array
+     * @param elemSize size of one element, in bytes
+     * @return estimated size of the array, in bytes
+     */
+    public static long sizeOfArray(int length, int elemSize) {
+        return align(ARRAY_HEADER + (long) length * elemSize);
+    }
+
+    public static long sizeOf(boolean[] array) {
+        return array == null ? 0 : sizeOfArray(array.length, 1);
+    }
+
+    public static long sizeOf(int[] array) {
+        return array == null ? 0 : sizeOfArray(array.length, 4);
+    }
+
+    public static long sizeOf(long[] array) {
+        return array == null ? 0 : sizeOfArray(array.length, 8);
+    }
+
+    public static long sizeOf(double[] array) {
+        return array == null ? 0 : sizeOfArray(array.length, 8);
+    }
+
+    /**
+     * @param array an array of references
+     * @return estimated size of the array itself, not of the referenced objects
+     */
+    public static long sizeOf(Object[] array) {
+        return array == null ? 0 : sizeOfArray(array.length, REFERENCE);
+    }
+
+    /**
+     * @param matrix a matrix of integers
+     * @return estimated size of the matrix, rows included
+     */
+    public static long sizeOf(int[][] matrix) {
+        if (matrix == null) {
+            return 0;
+        }
+        long s = sizeOf((Object[]) matrix);
+        for (int[] row : matrix) {
+            s += sizeOf(row);
+        }
+        return s;
+    }
+
+    /**
+     * @param matrix a matrix of longs
+     * @return estimated size of the matrix, rows included
+     */
+    public static long sizeOf(long[][] matrix) {
+        if (matrix == null) {
+            return 0;
+        }
+        long s = sizeOf((Object[]) matrix);
+        for (long[] row : matrix) {
+            s += sizeOf(row);
+        }
+        return s;
+    }
+
+    /**
+     * @param cube a cube of longs
+     * @return estimated size of the cube, rows included
+     */
+    public static long sizeOf(long[][][] cube) {
+        if (cube == null) {
+            return 0;
+        }
+        long s = sizeOf((Object[]) cube);
+        for (long[][] matrix : cube) {
+            s += sizeOf(matrix);
+        }
+        return s;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.lp;
+
+import org.chocosolver.lp.LinearProgram.Status;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class SparseLinearProgramTest {
+
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFeasible() {
+        SparseLinearProgram lp = new SparseLinearProgram();
+        int x = lp.makeVariable(0, INF);
+        int y = lp.makeVariable(0, INF);
+        lp.addLeq(new int[]{x, y}, new double[]{4, 3}, 36);
+        lp.addLeq(new int[]{x, y}, new double[]{2, 3}, 48);
+        lp.setObjective(true, new int[]{x, y}, new double[]{5, 7});
+        Assert.assertEquals(lp.simplex(), Status.FEASIBLE);
+        Assert.assertEquals(lp.objective(), 84., 1e-8);
+        Assert.assertEquals(lp.value(x), 0., 1e-8);
+        Assert.assertEquals(lp.value(y), 12., 1e-8);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInfeasible() {
+        SparseLinearProgram lp = new SparseLinearProgram();
+        lp.makeVariables(2, 0, INF);
+        lp.addLeq(new int[]{0, 1}, new double[]{1, 1}, 2);
+        lp.addGeq(new int[]{0, 1}, new double[]{1, 1}, 5);
+        lp.setObjective(true, new double[]{3, -2});
+        Assert.assertEquals(lp.simplex(), Status.INFEASIBLE);
+        Assert.assertTrue(Double.isNaN(lp.objective()));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUnbounded() {
+        SparseLinearProgram lp = new SparseLinearProgram();
+        lp.makeVariables(2, 0, INF);
+        lp.addLeq(new int[]{0, 1}, new double[]{-2, 1}, -1);
+        lp.addLeq(new int[]{0, 1}, new double[]{-1, -2}, -2);
+        lp.setObjective(true, new double[]{1, -1});
+        Assert.assertEquals(lp.simplex(), Status.UNBOUNDED);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBoundsAndRanges() {
+        // min -x - 2y + z, with free z, -1 <= x - y <= 1, x + y + z = 4, x in [0,3], y in [1,2]
+        SparseLinearProgram lp = new SparseLinearProgram();
+        int x = lp.makeVariable(0, 3);
+        int y = lp.makeVariable(1, 2);
+        int z = lp.makeVariable(Double.NEGATIVE_INFINITY, INF);
+        int r = lp.addRow(new int[]{x, y}, new double[]{1, -1}, -1, 1);
+        lp.addEq(new int[]{x, y, z}, new double[]{1, 1, 1}, 4);
+        lp.addGeq(new int[]{z}, new double[]{1}, -5);
+        lp.setObjective(false, new int[]{x, y, z}, new double[]{-1, -2, 1});
+        Assert.assertEquals(lp.simplex(), Status.FEASIBLE);
+        // z = 4 - x - y, so min -2x - 3y + 4: x = 3, y = 2
+        Assert.assertEquals(lp.objective(), -8., 1e-8);
+        Assert.assertEquals(lp.value(x), 3., 1e-8);
+        Assert.assertEquals(lp.value(y), 2., 1e-8);
+        Assert.assertEquals(lp.value(z), -1., 1e-8);
+        Assert.assertEquals(lp.activity(r), 1., 1e-8);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAgainstDense() {
+        Random rnd = new Random(0);
+        for (int k = 0; k < 200; k++) {
+            int n = 1 + rnd.nextInt(6);
+            int m = 1 + rnd.nextInt(6);
+            double[][] A = new double[m][n];
+            double[] b = new double[m];
+            double[] c = new double[n];
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < n; j++) {
+                    A[i][j] = rnd.nextInt(3) == 0 ? 0 : rnd.nextInt(11) - 3;
+                }
+                b[i] = rnd.nextInt(20) - 4;
+            }
+            for (int j = 0; j < n; j++) {
+                c[j] = rnd.nextInt(11) - 5;
+            }
+            LinearProgram dense = new LinearProgram(A, b, c);
+            Status expected = dense.simplex();
+            SparseLinearProgram lp = new SparseLinearProgram();
+            lp.makeVariables(n, 0, INF);
+            int[] vars = new int[n];
+            for (int j = 0; j < n; j++) {
+                vars[j] = j;
+            }
+            for (int i = 0; i < m; i++) {
+                lp.addLeq(vars, A[i], b[i]);
+            }
+            lp.setObjective(true, c);
+            Assert.assertEquals(lp.simplex(), expected, "instance " + k);
+            if (expected == Status.FEASIBLE) {
+                Assert.assertEquals(lp.objective(), dense.objective(), 1e-6, "instance " + k);
+                checkFeasible(lp, vars, A, b);
+            }
+        }
+    }
+
+    private static void checkFeasible(SparseLinearProgram lp, int[] vars, double[][] A, double[] b) {
+        for (int i = 0; i < A.length; i++) {
+            double s = 0;
+            for (int j = 0; j < vars.length; j++) {
+                s += A[i][j] * lp.value(vars[j]);
+            }
+            Assert.assertTrue(s <= b[i] + 1e-6);
+        }
+    }
+
+    /**
+     * A random sparse linear program, feasible by construction: a point in the box satisfies all the rows.
+     */
+    private static SparseLinearProgram random(Random rnd, int n, int m, int perRow, double[] lbs, double[] ubs) {
+        SparseLinearProgram lp = new SparseLinearProgram();
+        double[] x0 = new double[n];
+        for (int j = 0; j < n; j++) {
+            lbs[j] = rnd.nextInt(5) - 2;
+            ubs[j] = lbs[j] + 1 + rnd.nextInt(10);
+            lp.makeVariable(lbs[j], ubs[j]);
+            x0[j] = lbs[j] + rnd.nextDouble() * (ubs[j] - lbs[j]);
+        }
+        for (int i = 0; i < m; i++) {
+            int[] vars = new int[perRow];
+            double[] coeffs = new double[perRow];
+            double act = 0;
+            for (int k = 0; k < perRow; k++) {
+                vars[k] = rnd.nextInt(n);
+                coeffs[k] = rnd.nextInt(19) - 9;
+                act += coeffs[k] * x0[vars[k]];
+            }
+            switch (rnd.nextInt(3)) {
+                case 0:
+                    lp.addLeq(vars, coeffs, Math.ceil(act));
+                    break;
+                case 1:
+                    lp.addGeq(vars, coeffs, Math.floor(act));
+                    break;
+                default:
+                    lp.addRow(vars, coeffs, Math.floor(act) - 2, Math.ceil(act) + 2);
+                    break;
+            }
+        }
+        double[] c = new double[n];
+        for (int j = 0; j < n; j++) {
+            c[j] = rnd.nextInt(21) - 10;
+        }
+        lp.setObjective(rnd.nextBoolean(), c);
+        return lp;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testWarmStartBounds() {
+        Random rnd = new Random(1);
+        for (int k = 0; k < 20; k++) {
+            int n = 60, m = 40;
+            double[] lbs = new double[n], ubs = new double[n];
+            SparseLinearProgram lp = random(rnd, n, m, 5, lbs, ubs);
+            Assert.assertEquals(lp.simplex(), Status.FEASIBLE);
+            for (int t = 0; t < 10; t++) {
+                int j = rnd.nextInt(n);
+                double v = lp.value(j);
+                if (rnd.nextBoolean()) {
+                    lbs[j] = Math.min(ubs[j], Math.floor(v) + 1);
+                } else {
+                    ubs[j] = Math.max(lbs[j], Math.ceil(v) - 1);
+                }
+                lp.setBounds(j, lbs[j], ubs[j]);
+                Status warm = lp.simplex();
+                double obj = lp.objective();
+                lp.resetBasis();
+                Status cold = lp.simplex();
+                Assert.assertEquals(warm, cold);
+                if (cold == Status.FEASIBLE) {
+                    Assert.assertEquals(obj, lp.objective(), 1e-6);
+                } else {
+                    break;
+                }
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testWarmStartRowsAndObjective() {
+        Random rnd = new Random(2);
+        int n = 80, m = 60;
+        double[] lbs = new double[n], ubs = new double[n];
+        SparseLinearProgram lp = random(rnd, n, m, 6, lbs, ubs);
+        Assert.assertEquals(lp.simplex(), Status.FEASIBLE);
+        double before = lp.objective();
+        long cold = lp.getIterations();
+        // a constraint that cuts the current optimum off
+        int[] vars = new int[n];
+        double[] coeffs = new double[n];
+        double act = 0.;
+        for (int j = 0; j < n; j++) {
+            vars[j] = j;
+            coeffs[j] = 1.;
+            act += lp.value(j);
+        }
+        lp.addLeq(vars, coeffs, act - 1.);
+        Status st = lp.simplex();
+        if (st == Status.FEASIBLE) {
+            double warm = lp.objective();
+            Assert.assertTrue(lp.getIterations() < cold);
+            lp.resetBasis();
+            Assert.assertEquals(lp.simplex(), Status.FEASIBLE);
+            Assert.assertEquals(warm, lp.objective(), 1e-6);
+            Assert.assertNotEquals(before, warm, 1e-9);
+        }
+        // change the objective
+        double[] c = new double[n];
+        for (int j = 0; j < n; j++) {
+            c[j] = rnd.nextInt(21) - 10;
+        }
+        lp.setObjective(false, c);
+        Status warm = lp.simplex();
+        double obj = lp.objective();
+        lp.resetBasis();
+        Assert.assertEquals(lp.simplex(), warm);
+        if (warm == Status.FEASIBLE) {
+            Assert.assertEquals(obj, lp.objective(), 1e-6);
+        }
+    }
+
+    @Test(groups = "10s", timeOut = 60000)
+    public void testLarge() {
+        Random rnd = new Random(3);
+        int n = 3000, m = 2000;
+        double[] lbs = new double[n], ubs = new double[n];
+        SparseLinearProgram lp = random(rnd, n, m, 8, lbs, ubs);
+        double[] c = new double[n];
+        for (int j = 0; j < n; j++) {
+            c[j] = rnd.nextInt(21) - 10;
+        }
+        lp.setObjective(true, c);
+        Assert.assertEquals(lp.simplex(), Status.FEASIBLE);
+        double obj = lp.objective();
+        long iterations = lp.getIterations();
+        for (int j = 0; j < n; j++) {
+            Assert.assertTrue(lp.value(j) >= lbs[j] - 1e-6 && lp.value(j) <= ubs[j] + 1e-6);
+        }
+        // tighten a variable and re-solve
+        int j = rnd.nextInt(n);
+        lp.setBounds(j, lbs[j], (lbs[j] + lp.value(j)) / 2);
+        lp.simplex();
+        Assert.assertTrue(lp.getIterations() < iterations / 10);
+        Assert.assertTrue(lp.objective() <= obj + 1e-6 || lp.getStatus() != Status.FEASIBLE);
+    }
+}
@@ -34,6 +34,14 @@ public class EnvironmentTest {
         return new Object[][]{{32}, {64}, {128}};
     }
 
+    @DataProvider(name = "shrinking")
+    public Object[][] shrinking() {
+        return new IEnvironment[][]{
+                {new EnvironmentBuilder().fromFlat().setShrinkPeriod(64).build()},
+                {new EnvironmentBuilder().fromChunk().setShrinkPeriod(64).build()}
+        };
+    }
+
     @DataProvider(name = "env")
     public Object[][] env() {
         return new IEnvironment[][]{
@@ -418,4 +426,112 @@ public class EnvironmentTest {
         env.worldPop();
         Assert.assertEquals(val, new int[]{0, 1});
     }
-}
\ No newline at end of file
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testEstimatedMemory(IEnvironment environment) {
+        IStateInt[] ints = new IStateInt[1000];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = environment.makeInt(0);
+        }
+        IStateLong l = environment.makeLong(0);
+        long init = environment.getEstimatedMemory();
+        Assert.assertTrue(init > 0);
+        for (int k = 1; k <= 10; k++) {
+            environment.worldPush();
+            for (int i = 0; i < ints.length; i++) {
+                ints[i].set(k);
+            }
+            l.set(k);
+        }
+        long deep = environment.getEstimatedMemory();
+        // at least one former value per modification
+        Assert.assertTrue(deep >= init + 10 * ints.length * 4L);
+        environment.worldPopUntil(0);
+        // popping worlds does not free the trails
+        Assert.assertTrue(environment.getEstimatedMemory() >= init);
+    }
+
+    private static void dive(IEnvironment environment, IStateInt[] ints, IStateBool b, int depth) {
+        int w = environment.getWorldIndex();
+        int v = ints[0].get();
+        boolean c = b.get();
+        for (int k = 1; k <= depth; k++) {
+            environment.worldPush();
+            for (int i = 0; i < ints.length; i++) {
+                ints[i].add(1);
+            }
+            b.set(!b.get());
+        }
+        Assert.assertEquals(ints[0].get(), v + depth);
+        environment.worldPopUntil(w);
+        Assert.assertEquals(ints[0].get(), v);
+        Assert.assertEquals(b.get(), c);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testTrailUsage(IEnvironment environment) {
+        IStateInt[] ints = new IStateInt[10];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = environment.makeInt(0);
+        }
+        Assert.assertEquals(environment.getTrailUsage(), 0);
+        environment.worldPush();
+        for (int i = 0; i < ints.length; i++) {
+            ints[i].set(1);
+            ints[i].set(2);
+        }
+        // one entry per integer per world
+        Assert.assertEquals(environment.getTrailUsage(), 10);
+        Assert.assertTrue(environment.getTrailCapacity() >= 10);
+        environment.worldPop();
+        Assert.assertEquals(environment.getTrailUsage(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testShrinkTrails(IEnvironment environment) {
+        IStateInt[] ints = new IStateInt[100];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = environment.makeInt(0);
+        }
+        IStateBool b = environment.makeBool(false);
+        long init = environment.getTrailCapacity();
+        dive(environment, ints, b, 1000);
+        long deep = environment.getTrailCapacity();
+        long mem = environment.getEstimatedMemory();
+        Assert.assertTrue(deep >= 100 * 1000);
+        environment.worldPush();
+        ints[0].set(5);
+        environment.shrinkTrails();
+        Assert.assertTrue(environment.getTrailCapacity() < deep / 10);
+        Assert.assertTrue(environment.getEstimatedMemory() < mem / 10);
+        Assert.assertTrue(environment.getTrailCapacity() >= init);
+        Assert.assertEquals(environment.getTrailUsage(), 1);
+        // the trails are still operational
+        dive(environment, ints, b, 500);
+        Assert.assertEquals(ints[0].get(), 5);
+        environment.worldPop();
+        Assert.assertEquals(ints[0].get(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "shrinking")
+    public void testShrinkAfterDeepExcursion(IEnvironment environment) {
+        IStateInt[] ints = new IStateInt[100];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = environment.makeInt(0);
+        }
+        IStateBool b = environment.makeBool(false);
+        dive(environment, ints, b, 1000);
+        long deep = environment.getTrailCapacity();
+        // a short period of shallow search is not enough
+        for (int k = 0; k < 10; k++) {
+            dive(environment, ints, b, 2);
+        }
+        Assert.assertEquals(environment.getTrailCapacity(), deep);
+        // but a sustained one is
+        for (int k = 0; k < 100; k++) {
+            dive(environment, ints, b, 2);
+        }
+        Assert.assertTrue(environment.getTrailCapacity() < deep / 10);
+        dive(environment, ints, b, 1000);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.structure;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.IStateBitSet;
+import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * Unit tests for {@link org.chocosolver.memory.structure.RoaringBitSet}.
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class RoaringBitSetTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFactory() {
+        IEnvironment env = new EnvironmentTrailing();
+        Assert.assertTrue(env.makeBitSet(1 << 16) instanceof RoaringBitSet);
+        Assert.assertTrue(env.makeBitSet(1 << 15) instanceof S64BitSet);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNew() {
+        IEnvironment env = new EnvironmentTrailing();
+        IStateBitSet bs = new RoaringBitSet(env, 0);
+        Assert.assertTrue(bs.isEmpty());
+        Assert.assertEquals(bs.cardinality(), 0);
+        Assert.assertEquals(bs.nextSetBit(0), -1);
+        Assert.assertEquals(bs.prevSetBit(1000), -1);
+        Assert.assertEquals(bs.nextClearBit(1000), 1000);
+        Assert.assertEquals(bs.prevClearBit(1000), 1000);
+        Assert.assertFalse(bs.get(Integer.MAX_VALUE));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testContainers() {
+        IEnvironment env = new EnvironmentTrailing();
+        RoaringBitSet bs = new RoaringBitSet(env, 0);
+        bs.set(3);
+        bs.set(1_000_000_000);
+        Assert.assertEquals(bs.containers(), 2);
+        Assert.assertEquals(bs.cardinality(), 2);
+        Assert.assertEquals(bs.nextSetBit(4), 1_000_000_000);
+        Assert.assertEquals(bs.prevSetBit(999_999_999), 3);
+        bs.set(1 << 16, 1 << 20);
+        Assert.assertEquals(bs.containers(), 17);
+        Assert.assertEquals(bs.cardinality(), 2 + (1 << 20) - (1 << 16));
+        Assert.assertEquals(bs.nextClearBit(1 << 16), 1 << 20);
+        Assert.assertEquals(bs.prevClearBit((1 << 20) - 1), (1 << 16) - 1);
+        bs.clear(10, 1_000_000_000);
+        Assert.assertEquals(bs.containers(), 2);
+        Assert.assertEquals(bs.toString(), "{3, 1000000000}");
+        bs.clear();
+        Assert.assertTrue(bs.isEmpty());
+        Assert.assertEquals(bs.containers(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBacktrack() {
+        IEnvironment env = new EnvironmentTrailing();
+        RoaringBitSet bs = new RoaringBitSet(env, 1 << 20);
+        bs.set(0, 1 << 20);
+        env.worldPush();
+        bs.clear(5, (1 << 20) - 5);
+        Assert.assertEquals(bs.cardinality(), 10);
+        env.worldPush();
+        bs.clear(0);
+        bs.set(100);
+        Assert.assertEquals(bs.cardinality(), 10);
+        env.worldPop();
+        Assert.assertEquals(bs.cardinality(), 10);
+        Assert.assertTrue(bs.get(0));
+        Assert.assertFalse(bs.get(100));
+        env.worldPop();
+        Assert.assertEquals(bs.cardinality(), 1 << 20);
+        Assert.assertEquals(bs.nextClearBit(0), 1 << 20);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandomAgainstBitSet() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 20; t++) {
+            IEnvironment env = new EnvironmentTrailing();
+            int n = 1 << (10 + rnd.nextInt(9));
+            IStateBitSet bs = new RoaringBitSet(env, n);
+            BitSet ref = new BitSet(n);
+            Deque<BitSet> saved = new ArrayDeque<>();
+            for (int i = 0; i < 400; i++) {
+                int a = rnd.nextInt(n);
+                int b = Math.min(n, a + (rnd.nextBoolean() ? rnd.nextInt(64) : rnd.nextInt(n)));
+                switch (rnd.nextInt(8)) {
+                    case 0:
+                        bs.set(a);
+                        ref.set(a);
+                        break;
+                    case 1:
+                        bs.clear(a);
+                        ref.clear(a);
+                        break;
+                    case 2:
+                        bs.set(a, b);
+                        ref.set(a, b);
+                        break;
+                    case 3:
+                        bs.clear(a, b);
+                        ref.clear(a, b);
+                        break;
+                    case 4:
+                    case 5:
+                        env.worldPush();
+                        saved.push((BitSet) ref.clone());
+                        break;
+                    default:
+                        if (!saved.isEmpty()) {
+                            env.worldPop();
+                            ref = saved.pop();
+                        }
+                        break;
+                }
+                Assert.assertEquals(bs.cardinality(), ref.cardinality());
+                Assert.assertEquals(bs.isEmpty(), ref.isEmpty());
+                for (int k = 0; k < 10; k++) {
+                    int x = rnd.nextInt(n);
+                    Assert.assertEquals(bs.get(x), ref.get(x));
+                    Assert.assertEquals(bs.nextSetBit(x), ref.nextSetBit(x));
+                    Assert.assertEquals(bs.prevSetBit(x), ref.previousSetBit(x));
+                    Assert.assertEquals(bs.nextClearBit(x), ref.nextClearBit(x));
+                    Assert.assertEquals(bs.prevClearBit(x), ref.previousClearBit(x));
+                }
+            }
+            while (!saved.isEmpty()) {
+                env.worldPop();
+                ref = saved.pop();
+                Assert.assertEquals(bs.cardinality(), ref.cardinality());
+                for (int x = ref.nextSetBit(0), y = bs.nextSetBit(0); x >= 0 || y >= 0;
+                     x = ref.nextSetBit(x + 1), y = bs.nextSetBit(y + 1)) {
+                    Assert.assertEquals(y, x);
+                }
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEnumeratedVariable() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 1 << 17, false);
+        model.getEnvironment().worldPush();
+        x.removeInterval(10, 1 << 16, Cause.Null);
+        x.removeValue(3, Cause.Null);
+        Assert.assertEquals(x.getDomainSize(), 9 + (1 << 16));
+        Assert.assertEquals(x.nextValue(9), (1 << 16) + 1);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x.getDomainSize(), (1 << 17) + 1);
+    }
+}
@@ -10,6 +10,8 @@
 package org.chocosolver.solver;
 
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.limits.TimeCounter;
@@ -740,4 +742,147 @@ public class ModelTest {
         sol.limit(10).forEach(s -> System.out.printf("%s%n", s));
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFreeze() {
+        Model m = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        int nv = m.getNbVars();
+        int nc = m.getNbCstrs();
+        Solver s = m.getSolver();
+        Assert.assertTrue(s.solve());
+        m.freeze();
+        Assert.assertEquals(m.getNbVars(), nv);
+        Assert.assertEquals(m.getNbCstrs(), nc);
+        Assert.assertEquals(m.getPropagatorIncidence().size(), 8 * 7 * 3);
+        while (s.solve()) ;
+        Assert.assertEquals(s.getSolutionCount(), 92);
+        // the model can still be extended
+        s.reset();
+        IntVar[] qs = m.retrieveIntVars(true);
+        m.arithm(qs[0], "<", qs[7]).post();
+        Assert.assertEquals(m.getNbCstrs(), nc + 1);
+        while (s.solve()) ;
+        Assert.assertEquals(s.getSolutionCount(), 46);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFreezeEmpty() {
+        Model m = new Model();
+        m.freeze();
+        IntVar x = m.intVar("x", 0, 3);
+        IntVar y = m.intVar("y", 0, 3);
+        m.arithm(x, "<", y).post();
+        Assert.assertEquals(m.getNbVars(), 2);
+        Assert.assertEquals(m.getNbCstrs(), 1);
+        Assert.assertEquals(m.getSolver().streamSolutions().count(), 6);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFreezeReport() {
+        Model m = ProblemMaker.makeNQueenWithOneAlldifferent(20);
+        m.getSolver().solve();
+        m.getModelAnalyser().printVariableAnalysis();
+        long before = m.getEstimatedMemory();
+        m.freeze(true);
+        Assert.assertTrue(m.getEstimatedMemory() < before);
+        Assert.assertEquals(m.getVars().length, m.getNbVars());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopy() {
+        Model m = ProblemMaker.makeNQueenWithOneAlldifferent(8);
+        Model c = m.copy();
+        Assert.assertNotSame(c, m);
+        Assert.assertNotSame(c.getSolver(), m.getSolver());
+        Assert.assertNotSame(c.getEnvironment(), m.getEnvironment());
+        Assert.assertSame(c.getSettings(), m.getSettings());
+        Assert.assertEquals(c.getNbVars(), m.getNbVars());
+        Assert.assertEquals(c.getNbCstrs(), m.getNbCstrs());
+        for (int i = 0; i < m.getNbVars(); i++) {
+            Assert.assertNotSame(c.getVar(i), m.getVar(i));
+            Assert.assertSame(c.getVar(i).getModel(), c);
+            Assert.assertEquals(c.getVar(i).getId(), m.getVar(i).getId());
+            Assert.assertEquals(c.getVar(i).getName(), m.getVar(i).getName());
+        }
+        Assert.assertSame(c.getCstrs()[0].getPropagator(0).getModel(), c);
+        while (c.getSolver().solve()) ;
+        Assert.assertEquals(c.getSolver().getSolutionCount(), 92);
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 0);
+        for (int i = 0; i < m.getNbVars(); i++) {
+            Assert.assertFalse(m.getVar(i).isInstantiated());
+        }
+        while (m.getSolver().solve()) ;
+        Assert.assertEquals(m.getSolver().getSolutionCount(), 92);
+        Assert.assertEquals(m.getSolver().getNodeCount(), c.getSolver().getNodeCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyAfterSolve() {
+        Model m = ProblemMaker.makeGolombRuler(6);
+        m.getSolver().setSearch(Search.inputOrderLBSearch((IntVar[]) m.getHook("ticks")));
+        m.getSolver().findOptimalSolution((IntVar) m.getObjective(), Model.MINIMIZE);
+        long nodes = m.getSolver().getNodeCount();
+        m.getSolver().reset();
+        Model c = m.copy();
+        Solution s = c.getSolver().findOptimalSolution((IntVar) c.getObjective(), Model.MINIMIZE);
+        Assert.assertNotNull(s);
+        Assert.assertEquals(s.getIntVal((IntVar) c.getObjective()), 17);
+        Assert.assertEquals(c.getSolver().getNodeCount(), nodes);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyDuringSearch() throws ContradictionException {
+        Model m = new Model();
+        IntVar x = m.intVar("x", 0, 9);
+        IntVar y = m.intVar("y", 0, 9, true);
+        m.arithm(x, "<", y).post();
+        m.getSolver().propagate();
+        m.getEnvironment().worldPush();
+        x.updateLowerBound(5, Cause.Null);
+        m.getSolver().propagate();
+        Model c = m.copy();
+        IntVar cx = (IntVar) c.getVar(0);
+        IntVar cy = (IntVar) c.getVar(1);
+        Assert.assertEquals(cx.getLB(), 5);
+        Assert.assertEquals(cy.getLB(), 6);
+        cx.instantiateTo(7, Cause.Null);
+        c.getSolver().propagate();
+        Assert.assertEquals(cy.getLB(), 8);
+        Assert.assertEquals(y.getLB(), 6);
+        c.getEnvironment().worldPop();
+        Assert.assertEquals(cx.getLB(), 0);
+        Assert.assertEquals(cy.getLB(), 1);
+        Assert.assertEquals(x.getLB(), 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyTableAndRegular() {
+        Model m = new Model();
+        IntVar[] xs = m.intVarArray("x", 4, 0, 3);
+        Tuples tuples = new Tuples(true);
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                if (i != j) tuples.add(i, j);
+            }
+        }
+        m.table(xs[0], xs[1], tuples).post();
+        m.table(xs[2], xs[3], tuples, "CT+").post();
+        m.regular(xs, new FiniteAutomaton("(0|1)*(2|3)*")).post();
+        Model c = m.copy();
+        Assert.assertEquals(c.getSolver().streamSolutions().count(), m.getSolver().streamSolutions().count());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyTiming() {
+        long t = System.nanoTime();
+        Model m = ProblemMaker.makeNQueenWithBinaryConstraints(60);
+        long build = System.nanoTime() - t;
+        t = System.nanoTime();
+        Model c = m.copy();
+        long copy = System.nanoTime() - t;
+        System.out.printf("build: %.3fms, copy: %.3fms%n", build / 1e6, copy / 1e6);
+        Assert.assertEquals(c.getNbCstrs(), m.getNbCstrs());
+        Assert.assertTrue(c.getSolver().solve());
+        Assert.assertTrue(m.getSolver().solve());
+        Assert.assertEquals(c.getSolver().getNodeCount(), m.getSolver().getNodeCount());
+    }
 }
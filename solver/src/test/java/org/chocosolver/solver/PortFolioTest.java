@@ -45,6 +45,19 @@ public class PortFolioTest {
         System.gc();
     }
 
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopies() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        pares.addModelAndCopies(ProblemMaker.makeGolombRuler(7), 3);
+        Assert.assertEquals(pares.getModels().size(), 4);
+        pares.stealNogoodsOnRestarts();
+        //noinspection StatementWithEmptyBody
+        while (pares.solve()) ;
+        Model finder = pares.getBestModel();
+        Assert.assertNotNull(finder);
+        Assert.assertEquals(finder.getSolver().getObjectiveManager().getBestSolutionValue(), 25);
+    }
+
     @Test(groups = "10s", timeOut = 60000)
     public void testP11() {
         ParallelPortfolio pares = new ParallelPortfolio();
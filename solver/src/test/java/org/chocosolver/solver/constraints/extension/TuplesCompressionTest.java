@@ -0,0 +1,136 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.extension;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.extension.TuplesCompression.Representation;
+import org.chocosolver.solver.constraints.extension.hybrid.PropCompactHybridTable;
+import org.chocosolver.solver.constraints.extension.nary.PropCompactMDD;
+import org.chocosolver.solver.constraints.extension.nary.PropCompactTableStar;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class TuplesCompressionTest {
+
+    private static Tuples tuples(int n, int ub, Predicate<int[]> filter) {
+        int[][] doms = new int[n][ub + 1];
+        for (int i = 0; i < n; i++) {
+            for (int v = 0; v <= ub; v++) {
+                doms[i][v] = v;
+            }
+        }
+        return TuplesFactory.generateTuples(filter::test, true, doms);
+    }
+
+    /**
+     * Count the solutions with the default table constraint, compressed or not.
+     * When not null, <i>expected</i> is the class of the propagator of the compressed table
+     */
+    private static long[] solve(int n, int ub, Tuples tuples, Class<?> expected) {
+        long[] counts = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = new Model();
+            model.getSettings().setMinTuplesForTableCompression(k == 0 ? 1 : Integer.MAX_VALUE);
+            IntVar[] x = model.intVarArray("x", n, 0, ub);
+            Constraint c = model.table(x, tuples);
+            if (k == 0 && expected != null) {
+                Assert.assertEquals(c.getPropagator(0).getClass(), expected);
+            }
+            c.post();
+            model.arithm(x[0], "!=", x[n - 1]).post();
+            model.getSolver().setSearch(Search.randomSearch(x, 0));
+            counts[k] = model.getSolver().streamSolutions().count();
+        }
+        Assert.assertEquals(counts[0], counts[1]);
+        return counts;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testShortTable() {
+        // x0 = x1, the others are free
+        Tuples tuples = tuples(5, 4, t -> t[0] == t[1]);
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 0, 4);
+        TuplesCompression compression = TuplesCompression.analyze(x, tuples);
+        Assert.assertEquals(compression.getRepresentation(), Representation.SHORT_TABLE);
+        Assert.assertEquals(compression.getSize(Representation.TABLE), 625 * 5);
+        Assert.assertEquals(compression.getSize(Representation.SHORT_TABLE), 5 * 5);
+        Assert.assertEquals(compression.getCompressionRatio(), 125.);
+        Assert.assertEquals(compression.getShortTuples().nbTuples(), 5);
+        solve(5, 4, tuples, PropCompactTableStar.class);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testHybridTable() {
+        // x0 in {0,1} and x1 > 2 or x0 in {3,4} and x1 < 2, the others are in {1,2}
+        Tuples tuples = tuples(5, 4, t -> ((t[0] < 2 && t[1] > 2) || (t[0] > 2 && t[1] < 2))
+                && t[2] > 0 && t[2] < 3 && t[3] > 0 && t[3] < 3 && t[4] > 0 && t[4] < 3);
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 0, 4);
+        TuplesCompression compression = TuplesCompression.analyze(x, tuples);
+        Assert.assertEquals(compression.getRepresentation(), Representation.HYBRID_TABLE);
+        Assert.assertEquals(compression.getHybridTuples().nbTuples(), 2);
+        Assert.assertEquals(compression.getSize(Representation.SHORT_TABLE), compression.getSize(Representation.TABLE));
+        solve(5, 4, tuples, PropCompactHybridTable.class);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMDD() {
+        Tuples tuples = tuples(6, 3, t -> t[0] + t[1] + t[2] + t[3] + t[4] + t[5] == 9);
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 6, 0, 3);
+        TuplesCompression compression = TuplesCompression.analyze(x, tuples);
+        Assert.assertEquals(compression.getRepresentation(), Representation.MDD);
+        Assert.assertTrue(compression.getCompressionRatio() > 10., compression.toString());
+        solve(6, 3, tuples, PropCompactMDD.class);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoCompression() {
+        Random rnd = new Random(0);
+        Tuples tuples = new Tuples();
+        for (int t = 0; t < 200; t++) {
+            tuples.add(rnd.nextInt(10), rnd.nextInt(10), rnd.nextInt(10), rnd.nextInt(10));
+        }
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 9);
+        TuplesCompression compression = TuplesCompression.analyze(x, tuples);
+        Assert.assertEquals(compression.getRepresentation(), Representation.TABLE);
+        Assert.assertEquals(compression.getCompressionRatio(), 1.);
+        solve(4, 9, tuples, null);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        Class<?>[] props = {null, PropCompactTableStar.class, PropCompactHybridTable.class, PropCompactMDD.class};
+        Random rnd = new Random(0);
+        for (int seed = 0; seed < 20; seed++) {
+            int a = rnd.nextInt(3), b = rnd.nextInt(3), c = rnd.nextInt(4);
+            Tuples tuples = tuples(4, 3, t -> t[0] * a + t[1] * b <= t[2] + c || t[3] == t[0]);
+            Model model = new Model();
+            IntVar[] x = model.intVarArray("x", 4, 0, 3);
+            TuplesCompression compression = TuplesCompression.analyze(x, tuples);
+            Assert.assertTrue(compression.getCompressionRatio() >= 1., compression.toString());
+            solve(4, 3, tuples, props[compression.getRepresentation().ordinal()]);
+        }
+    }
+}
@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.extension.hybrid;
 
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.BoolVar;
@@ -18,7 +19,11 @@ import org.chocosolver.solver.variables.IntVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
 
 import static org.chocosolver.solver.constraints.extension.hybrid.HybridTuples.*;
 
@@ -405,4 +410,138 @@ public class HybridTableTest {
         solver.findAllSolutions();
         Assert.assertEquals(solver.getSolutionCount(), 0);
     }
+
+    @Test(groups = "1s")
+    public void testCompactBasic() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 1, 3);
+        IntVar y = model.intVar("y", 1, 3);
+        IntVar z = model.intVar("z", 1, 3);
+        HybridTuples tuples = new HybridTuples();
+        tuples.add(any(), le(col(0)), ne(2));
+        tuples.add(eq(3), any(), gt(col(1), 1));
+        Assert.assertTrue(tuples.isBasic());
+        Constraint c = model.table(new IntVar[]{x, y, z}, tuples);
+        Assert.assertTrue(c.getPropagator(0) instanceof PropCompactHybridTable);
+        c.post();
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(x, y, z));
+        solver.findAllSolutions();
+        // y <= x and z != 2: 12 solutions, x = 3 and z > y + 1: 1 solution, (3,1,3) is shared
+        Assert.assertEquals(solver.getSolutionCount(), 12);
+    }
+
+    @Test(groups = "1s")
+    public void testCompactNotBasic() {
+        HybridTuples tuples = new HybridTuples();
+        tuples.add(col(1), ne(col(0)));
+        Assert.assertFalse(tuples.isBasic());
+        Model model = new Model();
+        Constraint c = model.table(model.intVarArray(2, 1, 2), tuples);
+        Assert.assertTrue(c.getPropagator(0) instanceof PropHybridTable);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCompactRandom() {
+        Random rnd = new Random(0);
+        for (int k = 0; k < 200; k++) {
+            int n = 2 + rnd.nextInt(3);
+            HybridTuples tuples = new HybridTuples();
+            List<Predicate<int[]>> checks = new ArrayList<>();
+            int nt = 1 + rnd.nextInt(8);
+            for (int t = 0; t < nt; t++) {
+                tuples.add(randomBasicTuple(rnd, n, checks));
+            }
+            Predicate<int[]> check = checks.stream().reduce(Predicate::or).get();
+            // count the solutions by enumeration
+            int expected = 0;
+            int[] values = new int[n];
+            for (int c = 0; c < Math.pow(5, n); c++) {
+                for (int i = 0, r = c; i < n; i++, r /= 5) {
+                    values[i] = r % 5;
+                }
+                if (check.test(values)) {
+                    expected++;
+                }
+            }
+            Model model = new Model();
+            IntVar[] vars = model.intVarArray("x", n, 0, 4, rnd.nextBoolean());
+            Constraint c = model.table(vars, tuples);
+            Assert.assertTrue(c.getPropagator(0) instanceof PropCompactHybridTable);
+            c.post();
+            Solver solver = model.getSolver();
+            solver.setSearch(Search.randomSearch(vars, k));
+            solver.findAllSolutions();
+            Assert.assertEquals(solver.getSolutionCount(), expected, "instance " + k);
+        }
+    }
+
+    private static ISupportable[] randomBasicTuple(Random rnd, int n, List<Predicate<int[]>> checks) {
+        ISupportable[] tuple = new ISupportable[n];
+        Predicate<int[]> check = t -> true;
+        for (int i = 0; i < n; i++) {
+            int v = rnd.nextInt(5);
+            int j = i;
+            switch (rnd.nextInt(8)) {
+                case 0:
+                    tuple[i] = eq(v);
+                    check = check.and(t -> t[j] == v);
+                    break;
+                case 1:
+                    tuple[i] = ne(v);
+                    check = check.and(t -> t[j] != v);
+                    break;
+                case 2:
+                    tuple[i] = le(v);
+                    check = check.and(t -> t[j] <= v);
+                    break;
+                case 3:
+                    tuple[i] = ge(v);
+                    check = check.and(t -> t[j] >= v);
+                    break;
+                case 4:
+                    tuple[i] = in(v, v + 2);
+                    check = check.and(t -> t[j] == v || t[j] == v + 2);
+                    break;
+                case 5:
+                    tuple[i] = nin(v, v + 1);
+                    check = check.and(t -> t[j] != v && t[j] != v + 1);
+                    break;
+                default:
+                    tuple[i] = any();
+            }
+        }
+        // or relate the last column to a previous one
+        if (rnd.nextBoolean()) {
+            int i = rnd.nextInt(n - 1);
+            int j = n - 1;
+            tuple[i] = any();
+            int inc = rnd.nextInt(3) - 1;
+            switch (rnd.nextInt(4)) {
+                case 0:
+                    tuple[j] = eq(col(i), inc);
+                    check = t -> t[j] == t[i] + inc;
+                    break;
+                case 1:
+                    tuple[j] = ne(col(i), inc);
+                    check = t -> t[j] != t[i] + inc;
+                    break;
+                case 2:
+                    tuple[j] = le(col(i), inc);
+                    check = t -> t[j] <= t[i] + inc;
+                    break;
+                default:
+                    tuple[j] = ge(col(i), inc);
+                    check = t -> t[j] >= t[i] + inc;
+            }
+            // the other columns are left unrestricted too
+            for (int l = 0; l < n - 1; l++) {
+                if (l != i) {
+                    tuple[l] = any();
+                }
+            }
+        }
+        checks.add(check);
+        return tuple;
+    }
 }
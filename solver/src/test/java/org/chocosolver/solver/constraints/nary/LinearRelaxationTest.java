@@ -0,0 +1,157 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class LinearRelaxationTest {
+
+    private static Model knapsack(long seed, int n, int m, boolean relax) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", n, 0, 3);
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++) {
+            p[i] = 5 + rnd.nextInt(40);
+        }
+        for (int k = 0; k < m; k++) {
+            int[] w = new int[n];
+            int s = 0;
+            for (int i = 0; i < n; i++) {
+                w[i] = 1 + rnd.nextInt(30);
+                s += w[i];
+            }
+            model.scalar(x, w, "<=", s / 2).post();
+        }
+        IntVar obj = model.intVar("obj", 0, 3 * 45 * n);
+        model.scalar(x, p, "=", obj).post();
+        model.setObjective(Model.MAXIMIZE, obj);
+        if (relax) {
+            model.linearRelaxation().post();
+        }
+        model.getSolver().setSearch(Search.inputOrderUBSearch(x));
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKnapsack() {
+        for (int seed = 0; seed < 5; seed++) {
+            Model m1 = knapsack(seed, 12, 3, false);
+            Model m2 = knapsack(seed, 12, 3, true);
+            Solver s1 = m1.getSolver();
+            Solver s2 = m2.getSolver();
+            while (s1.solve()) ;
+            while (s2.solve()) ;
+            Assert.assertEquals(s2.getBestSolutionValue(), s1.getBestSolutionValue());
+            Assert.assertTrue(s2.getNodeCount() < s1.getNodeCount(),
+                    s2.getNodeCount() + " vs. " + s1.getNodeCount());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMinimize() {
+        for (int seed = 0; seed < 5; seed++) {
+            Model[] models = new Model[2];
+            for (int k = 0; k < 2; k++) {
+                Random rnd = new Random(seed);
+                Model model = new Model();
+                IntVar[] x = model.intVarArray("x", 10, 0, 5);
+                for (int r = 0; r < 4; r++) {
+                    int[] c = new int[10];
+                    for (int i = 0; i < 10; i++) {
+                        c[i] = rnd.nextInt(7);
+                    }
+                    model.scalar(x, c, ">=", 10 + rnd.nextInt(20)).post();
+                }
+                int[] c = new int[10];
+                for (int i = 0; i < 10; i++) {
+                    c[i] = 1 + rnd.nextInt(9);
+                }
+                IntVar obj = model.intVar("obj", 0, 500);
+                model.scalar(x, c, "=", obj).post();
+                model.setObjective(Model.MINIMIZE, obj);
+                if (k == 1) {
+                    model.linearRelaxation().post();
+                }
+                model.getSolver().setSearch(Search.inputOrderLBSearch(x));
+                while (model.getSolver().solve()) ;
+                models[k] = model;
+            }
+            Assert.assertEquals(models[1].getSolver().getBestSolutionValue(),
+                    models[0].getSolver().getBestSolutionValue());
+            Assert.assertTrue(models[1].getSolver().getNodeCount() <= models[0].getSolver().getNodeCount());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAllSolutions() {
+        Random rnd = new Random(0);
+        for (int t = 0; t < 20; t++) {
+            long seed = rnd.nextLong();
+            long[] counts = new long[2];
+            for (int k = 0; k < 2; k++) {
+                Random r = new Random(seed);
+                Model model = new Model();
+                IntVar[] x = model.intVarArray("x", 5, -2, 3);
+                for (int j = 0; j < 3; j++) {
+                    int[] c = new int[5];
+                    for (int i = 0; i < 5; i++) {
+                        c[i] = r.nextInt(9) - 4;
+                    }
+                    String[] ops = {"<=", ">=", "=", "<", ">"};
+                    model.scalar(x, c, ops[r.nextInt(ops.length)], r.nextInt(7) - 3).post();
+                }
+                if (k == 1) {
+                    model.linearRelaxation().post();
+                }
+                counts[k] = model.getSolver().findAllSolutions().size();
+            }
+            Assert.assertEquals(counts[1], counts[0], "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testInfeasibleAtRoot() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 8, 0, 2);
+        model.sum(new IntVar[]{x[0], x[1], x[2], x[3]}, ">=", 6).post();
+        model.sum(new IntVar[]{x[0], x[1], x[4], x[5]}, "<=", 2).post();
+        model.sum(new IntVar[]{x[2], x[3], x[6], x[7]}, "<=", 2).post();
+        model.getSolver().propagate();
+        Constraint relax = model.linearRelaxation();
+        Assert.assertEquals(relax.getName(), ConstraintsName.LINEAR_RELAXATION);
+        relax.post();
+        Assert.assertThrows(ContradictionException.class, () -> model.getSolver().propagate());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoLinearConstraint() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 2);
+        model.allDifferent(x).post();
+        Assert.assertEquals(model.linearRelaxation().getName(), ConstraintsName.BOOLEAN);
+    }
+}
@@ -1074,4 +1074,210 @@ public class IntLinCombTest {
         model.getSolver().findAllSolutions();
         Assert.assertEquals(model.getSolver().getSolutionCount(), 772);
     }
+
+    private static Model incremental(long seed, boolean incr, boolean unit) {
+        Random rnd = new Random(seed);
+        Model model = new Model(Settings.init().setEnableIncrementalityOnSum(i -> incr));
+        IntVar[] x = model.intVarArray("x", 6, -4, 4);
+        String[] ops = {"=", "<=", ">=", "<", ">"};
+        for (int k = 0; k < 3; k++) {
+            IntVar[] vs = new IntVar[4 + rnd.nextInt(3)];
+            int[] cs = new int[vs.length];
+            for (int i = 0; i < vs.length; i++) {
+                vs[i] = x[rnd.nextInt(x.length)];
+                cs[i] = unit ? (rnd.nextBoolean() ? 1 : -1) : (1 + rnd.nextInt(5)) * (rnd.nextBoolean() ? 1 : -1);
+            }
+            Constraint c = model.scalar(vs, cs, ops[rnd.nextInt(ops.length)], rnd.nextInt(9) - 4);
+            if (rnd.nextInt(4) == 0) {
+                c.reify();
+            } else {
+                c.post();
+            }
+        }
+        model.getSolver().setSearch(inputOrderLBSearch(x));
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testIncrementalScalar() {
+        for (int seed = 0; seed < 50; seed++) {
+            Model m1 = incremental(seed, false, false);
+            Model m2 = incremental(seed, true, false);
+            while (m1.getSolver().solve()) ;
+            while (m2.getSolver().solve()) ;
+            assertEquals(m2.getSolver().getSolutionCount(), m1.getSolver().getSolutionCount(), "seed " + seed);
+            assertEquals(m2.getSolver().getNodeCount(), m1.getSolver().getNodeCount(), "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testIncrementalSum() {
+        for (int seed = 0; seed < 50; seed++) {
+            Model m1 = incremental(seed, false, true);
+            Model m2 = incremental(seed, true, true);
+            while (m1.getSolver().solve()) ;
+            while (m2.getSolver().solve()) ;
+            assertEquals(m2.getSolver().getSolutionCount(), m1.getSolver().getSolutionCount(), "seed " + seed);
+            assertEquals(m2.getSolver().getNodeCount(), m1.getSolver().getNodeCount(), "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testIncrementalSelection() {
+        Model model = new Model(Settings.init().setEnableIncrementalityOnSum(i -> i > 4));
+        IntVar[] x = model.intVarArray("x", 5, 0, 10);
+        Assert.assertTrue(model.sum(x, "<=", 20).getPropagator(0) instanceof PropSumIncr);
+        Assert.assertTrue(model.scalar(x, new int[]{1, 2, 3, 4, 5}, ">=", 20).getPropagator(0) instanceof PropScalarIncr);
+        Assert.assertFalse(model.scalar(x, new int[]{1, 2, 3, 4, 5}, "!=", 20).getPropagator(0) instanceof PropScalarIncr);
+        Assert.assertFalse(model.sum(Arrays.copyOf(x, 4), "<=", 20).getPropagator(0) instanceof PropSumIncr);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testIncrementalLarge() throws ContradictionException {
+        Model model = new Model(Settings.init().setEnableIncrementalityOnSum(i -> true));
+        IntVar[] x = model.intVarArray("x", 5000, 0, 10);
+        int[] c = new int[x.length];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = 1 + i % 7;
+        }
+        model.scalar(x, c, "<=", 40).post();
+        Solver solver = model.getSolver();
+        solver.propagate();
+        // only the variables with a coefficient greater than 4 are filtered
+        Assert.assertEquals(x[4].getUB(), 8);
+        Assert.assertEquals(x[6].getUB(), 5);
+        Assert.assertEquals(x[3].getUB(), 10);
+        model.getEnvironment().worldPush();
+        x[0].instantiateTo(10, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(x[1].getUB(), 10);
+        Assert.assertEquals(x[6].getUB(), 4);
+        Assert.assertEquals(x[2].getUB(), 10);
+        x[2].updateLowerBound(8, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(x[3].getUB(), 1);
+        Assert.assertEquals(x[2].getUB(), 10);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x[6].getUB(), 5);
+        x[1].instantiateTo(1, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(x[6].getUB(), 5);
+        Assert.assertEquals(x[4].getUB(), 7);
+    }
+
+    private static Model pseudoBoolean(long seed, boolean watch, boolean learn) {
+        Random rnd = new Random(seed);
+        Model model = new Model();
+        BoolVar[] x = model.boolVarArray("x", 10);
+        String[] ops = {"=", "<=", ">=", "<", ">"};
+        for (int k = 0; k < 6; k++) {
+            IntVar[] vs = x.clone();
+            for (int i = vs.length - 1; i > 0; i--) {
+                int j = rnd.nextInt(i + 1);
+                IntVar t = vs[i];
+                vs[i] = vs[j];
+                vs[j] = t;
+            }
+            vs = Arrays.copyOf(vs, 4 + rnd.nextInt(4));
+            int[] cs = new int[vs.length];
+            int s = 0;
+            for (int i = 0; i < vs.length; i++) {
+                cs[i] = (1 + rnd.nextInt(5)) * (rnd.nextBoolean() ? 1 : -1);
+                s += Math.abs(cs[i]);
+            }
+            Operator op = Operator.get(ops[rnd.nextInt(ops.length)]);
+            int b = rnd.nextInt(s + 1) - s / 2;
+            Constraint c = watch ?
+                    IntLinCombFactory.selectPseudoBoolean(vs, cs, op, b) :
+                    model.scalar(vs, cs, op.toString(), b);
+            if (!learn && rnd.nextInt(4) == 0) {
+                c.reify();
+            } else {
+                c.post();
+            }
+        }
+        if (learn) {
+            model.getSolver().setLearningSignedClauses();
+        }
+        model.getSolver().setSearch(Search.randomSearch(x, seed));
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPseudoBoolean() {
+        for (int seed = 0; seed < 200; seed++) {
+            Model m1 = pseudoBoolean(seed, false, false);
+            Model m2 = pseudoBoolean(seed, true, false);
+            while (m1.getSolver().solve()) ;
+            while (m2.getSolver().solve()) ;
+            assertEquals(m2.getSolver().getSolutionCount(), m1.getSolver().getSolutionCount(), "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPseudoBooleanLearning() {
+        for (int seed = 0; seed < 200; seed++) {
+            Model m1 = pseudoBoolean(seed, false, true);
+            Model m2 = pseudoBoolean(seed, true, true);
+            m1.getSolver().setSearch(Search.inputOrderLBSearch(m1.retrieveBoolVars()));
+            m2.getSolver().setSearch(Search.inputOrderLBSearch(m2.retrieveBoolVars()));
+            assertEquals(m2.getSolver().solve(), m1.getSolver().solve(), "seed " + seed);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPseudoBooleanSelection() {
+        Model model = new Model(Settings.init().setEnableWatchedLiteralsOnPseudoBoolean(i -> i > 9));
+        BoolVar[] x = model.boolVarArray("x", 10);
+        int[] c = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        Assert.assertTrue(model.sum(x, ">=", 2).getPropagator(0) instanceof PropPseudoBoolean);
+        Assert.assertTrue(model.scalar(x, c, ">", 8).getPropagator(0) instanceof PropPseudoBoolean);
+        Assert.assertTrue(model.scalar(x, c, "<", 48).getPropagator(0) instanceof PropPseudoBoolean);
+        // too many literals to watch
+        Assert.assertFalse(model.scalar(x, c, "<", 8).getPropagator(0) instanceof PropPseudoBoolean);
+        Assert.assertFalse(model.scalar(x, c, "=", 8).getPropagator(0) instanceof PropPseudoBoolean);
+        Assert.assertFalse(model.scalar(x, c, "!=", 8).getPropagator(0) instanceof PropPseudoBoolean);
+        Assert.assertFalse(model.sum(Arrays.copyOf(x, 9), ">=", 2).getPropagator(0) instanceof PropPseudoBoolean);
+        IntVar y = model.intVar("y", 0, 5);
+        Assert.assertFalse(model.sum(x, ">=", y).getPropagator(0) instanceof PropPseudoBoolean);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testPseudoBooleanLarge() throws ContradictionException {
+        Model model = new Model(Settings.init().setMinCardinalityForSumDecomposition(10));
+        BoolVar[] x = model.boolVarArray("x", 1000);
+        int[] c = new int[x.length];
+        for (int i = 0; i < c.length; i++) {
+            c[i] = 1 + i % 5;
+        }
+        // at most 4 units can be lost
+        Constraint cstr = IntLinCombFactory.selectPseudoBoolean(x, c, Operator.GE, 3 * x.length - 4);
+        Assert.assertTrue(cstr.getPropagator(0) instanceof PropPseudoBoolean);
+        cstr.post();
+        Solver solver = model.getSolver();
+        solver.propagate();
+        Assert.assertEquals(x[4].getLB(), 1);
+        Assert.assertEquals(x[3].getLB(), 0);
+        model.getEnvironment().worldPush();
+        x[0].instantiateTo(0, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(x[3].getLB(), 1);
+        Assert.assertEquals(x[2].getLB(), 0);
+        x[5].instantiateTo(0, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(x[2].getLB(), 1);
+        Assert.assertEquals(x[1].getLB(), 0);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(x[3].getLB(), 0);
+        x[1].instantiateTo(0, Cause.Null);
+        solver.propagate();
+        Assert.assertEquals(x[2].getLB(), 1);
+        Assert.assertEquals(x[3].getLB(), 1);
+        Assert.assertEquals(x[0].getLB(), 0);
+        Assert.assertThrows(ContradictionException.class, () -> {
+            x[6].instantiateTo(0, Cause.Null);
+            x[11].instantiateTo(0, Cause.Null);
+            solver.propagate();
+        });
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.propagation;
 
+import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Constraint;
@@ -123,6 +124,91 @@ public class DeltaTest {
         }
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testCursor() throws ContradictionException {
+        Model model = new Model();
+        IntVar e = model.intVar("e", 0, 9, false);
+        IntVar b = model.intVar("b", 0, 9, true);
+        IntVar v = model.intAffineView(2, e, 1);
+        PropTestCursor p = new PropTestCursor(new IntVar[]{e, b, v});
+        new Constraint("Cursor", p).post();
+        model.getSolver().propagate();
+        e.removeValue(2, Null);
+        e.removeValue(5, Null);
+        b.updateBounds(2, 7, Null);
+        model.getSolver().propagate();
+        Assert.assertEquals(p.removed[0].toArray(), new int[]{2, 5});
+        Assert.assertEquals(p.removed[1].toArray(), new int[]{0, 1, 8, 9});
+        Assert.assertEquals(p.removed[2].toArray(), new int[]{5, 11});
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCursorVsForEach() {
+        for (int k = 0; k < 20; k++) {
+            Model model = new Model();
+            IntVar[] vars = new IntVar[]{
+                    model.intVar("e", -2, 2, false),
+                    model.intVar("b", -2, 2, true),
+                    model.boolVar("o"),
+                    model.intMinusView(model.intVar("m", -2, 2, false))
+            };
+            model.getSolver().setSearch(randomSearch(vars, k));
+            new Constraint("Constraint", new PropTestCursor(vars), new PropTestDM2(vars[0], vars[2])).post();
+            model.allDifferent(vars).post();
+            while (model.getSolver().solve()) ;
+        }
+    }
+
+    /**
+     * Consume the deltas with both the cursor and the procedure APIs, and check they match
+     */
+    private static class PropTestCursor extends Propagator<IntVar> {
+        IIntDeltaMonitor[] cursors;
+        IIntDeltaMonitor[] procs;
+        TIntArrayList[] removed;
+        TIntArrayList expected = new TIntArrayList();
+
+        private PropTestCursor(IntVar[] vars) {
+            super(vars, PropagatorPriority.UNARY, true);
+            cursors = new IIntDeltaMonitor[vars.length];
+            procs = new IIntDeltaMonitor[vars.length];
+            removed = new TIntArrayList[vars.length];
+            for (int k = 0; k < vars.length; k++) {
+                cursors[k] = vars[k].monitorDelta(this);
+                procs[k] = vars[k].monitorDelta(this);
+                removed[k] = new TIntArrayList();
+            }
+        }
+
+        @Override
+        public void propagate(int evtmask) throws ContradictionException {
+            for (int k = 0; k < vars.length; k++) {
+                cursors[k].startMonitoring();
+                procs[k].startMonitoring();
+            }
+        }
+
+        @Override
+        public void propagate(int idxVarInProp, int mask) throws ContradictionException {
+            removed[idxVarInProp].resetQuick();
+            cursors[idxVarInProp].freeze();
+            while (cursors[idxVarInProp].hasNextRemVal()) {
+                int x = cursors[idxVarInProp].nextRemVal();
+                Assert.assertFalse(vars[idxVarInProp].contains(x));
+                removed[idxVarInProp].add(x);
+            }
+            Assert.assertFalse(cursors[idxVarInProp].hasNextRemVal());
+            expected.resetQuick();
+            procs[idxVarInProp].forEachRemVal((IntProcedure) x -> expected.add(x));
+            Assert.assertEquals(removed[idxVarInProp], expected);
+        }
+
+        @Override
+        public ESat isEntailed() {
+            return ESat.TRUE;
+        }
+    }
+
     private static class PropTestDM1 extends Propagator<IntVar> {
         IntVar i, j;
         IIntDeltaMonitor iD;
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.propagation;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
@@ -21,6 +22,8 @@ import org.chocosolver.util.ProblemMaker;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Random;
+
 import static org.chocosolver.solver.constraints.PropagatorPriority.UNARY;
 import static org.chocosolver.solver.search.strategy.Search.minDomLBSearch;
 import static org.chocosolver.solver.search.strategy.Search.randomSearch;
@@ -192,4 +195,61 @@ public class PropEngineTest {
         solver.getEngine().clear();
         solver.reset(); // error (null)
     }
+
+    private static Solver sumHeavy(boolean batch, int seed) {
+        Model model = new Model(Settings.init().setEnableBatchedNotification(batch));
+        Random rnd = new Random(seed);
+        int n = 40;
+        IntVar[] xs = model.intVarArray("x", n, 0, 9);
+        int[] sol = new int[n];
+        for (int i = 0; i < n; i++) {
+            sol[i] = rnd.nextInt(10);
+        }
+        for (int c = 0; c < 6; c++) {
+            int[] coeffs = new int[n];
+            int rhs = 0;
+            for (int i = 0; i < n; i++) {
+                coeffs[i] = rnd.nextInt(7) - 3;
+                rhs += coeffs[i] * sol[i];
+            }
+            model.scalar(xs, coeffs, "=", rhs).post();
+        }
+        model.sum(xs, "<=", 5 * n).post();
+        Solver solver = model.getSolver();
+        solver.setSearch(randomSearch(xs, seed));
+        solver.limitNode(20_000);
+        while (solver.solve()) ;
+        return solver;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBatchedNotification() {
+        for (int seed = 0; seed < 3; seed++) {
+            long t = -System.nanoTime();
+            Solver s1 = sumHeavy(false, seed);
+            t += System.nanoTime();
+            long b = -System.nanoTime();
+            Solver s2 = sumHeavy(true, seed);
+            b += System.nanoTime();
+            assertEquals(s2.getSolutionCount(), s1.getSolutionCount());
+            assertEquals(s2.getNodeCount(), s1.getNodeCount());
+            assertEquals(s2.getFailCount(), s1.getFailCount());
+            System.out.printf("seed %d: %.3fs (unbatched) vs %.3fs (batched)\n", seed, t / 1e9, b / 1e9);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBatchedNotificationDisabled() {
+        Model model = new Model(Settings.init().setEnableBatchedNotification(true));
+        PropagationEngine engine = model.getSolver().getEngine();
+        Assert.assertTrue(engine.batchNotifications());
+        engine.setInsight(new PropagationInsight() {
+        });
+        Assert.assertFalse(engine.batchNotifications());
+        engine.setInsight(PropagationInsight.VOID);
+        Assert.assertTrue(engine.batchNotifications());
+        Assert.assertFalse(new PropagationEngineObserver(model, new PropagationProfiler(model)).batchNotifications());
+        model = new Model(Settings.init().setEnableBatchedNotification(false));
+        Assert.assertFalse(model.getSolver().getEngine().batchNotifications());
+    }
 }
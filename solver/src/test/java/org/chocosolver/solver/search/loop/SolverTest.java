@@ -14,7 +14,10 @@ import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.propagation.PropagationProfiler;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.limits.MemoryCounter;
 import org.chocosolver.solver.search.limits.NodeCounter;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
 import org.chocosolver.solver.search.loop.monitors.SolvingStatisticsFlow;
@@ -446,4 +449,77 @@ public class SolverTest {
         Assert.assertEquals(m.group(2), "155");
         Assert.assertEquals(m.group(3), "1024");
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMemoryMeasures() {
+        Model model = ProblemMaker.makeGolombRuler(8);
+        Solver solver = model.getSolver();
+        Assert.assertEquals(solver.getTrailMemory(), 0);
+        Assert.assertEquals(solver.getPeakMemory(), 0);
+        while (solver.solve()) ;
+        Assert.assertTrue(solver.getTrailMemory() > 0);
+        Assert.assertTrue(solver.getPeakMemory() >= solver.getTrailMemory() + solver.getPropagatorMemory());
+        Assert.assertEquals(solver.getMeasures().getTrailMemory(), model.getEnvironment().getEstimatedMemory());
+        solver.reset();
+        Assert.assertEquals(solver.getPeakMemory(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMemoryMeasuresTable() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 9);
+        Tuples tuples = new Tuples(true);
+        for (int i = 0; i < 10; i++) {
+            tuples.add(i, (i + 1) % 10, (i + 2) % 10);
+        }
+        model.table(x, tuples, "CT+").post();
+        Solver solver = model.getSolver();
+        solver.updateMemoryMeasures();
+        // 3 variables x 10 values x 1 word
+        Assert.assertTrue(solver.getPropagatorMemory() >= 30 * 24);
+        Assert.assertEquals(solver.getPropagatorMemory(), model.getCstrs()[0].getPropagator(0).getEstimatedMemory());
+        while (solver.solve()) ;
+        Assert.assertEquals(solver.getSolutionCount(), 10);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testMemoryMeasuresClauses() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        solver.setLearningSignedClauses();
+        solver.setSearch(inputOrderLBSearch(model.retrieveIntVars(true)));
+        while (solver.solve()) ;
+        assertEquals(solver.getSolutionCount(), 92);
+        long before = solver.getPropagatorMemory();
+        Assert.assertTrue(before > 0);
+        int learnts = model.getClauseConstraint().getClauseStore().getNbLearntClauses();
+        model.getClauseConstraint().getClauseStore().reduce();
+        Assert.assertTrue(model.getClauseConstraint().getClauseStore().getNbLearntClauses() < learnts);
+        solver.updateMemoryMeasures();
+        Assert.assertTrue(solver.getPropagatorMemory() < before);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLimitMemory() {
+        Model model = ProblemMaker.makeGolombRuler(10);
+        Solver solver = model.getSolver();
+        MemoryCounter counter = new MemoryCounter(model, 1, 16);
+        solver.limitSearch(counter);
+        while (solver.solve()) ;
+        // first degraded with a restart, then stopped
+        Assert.assertEquals(counter.getDegradations(), 1);
+        Assert.assertEquals(solver.getRestartCount(), 1);
+        Assert.assertEquals(solver.getSearchState(), SearchState.STOPPED);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLimitMemoryNotReached() {
+        Model model = ProblemMaker.makeGolombRuler(8);
+        Solver solver = model.getSolver();
+        solver.limitMemory(1L << 40);
+        while (solver.solve()) ;
+        Assert.assertEquals(solver.getSearchState(), SearchState.TERMINATED);
+        Assert.assertEquals(solver.getBestSolutionValue(), 34);
+        Assert.assertEquals(solver.getRestartCount(), 0);
+    }
 }
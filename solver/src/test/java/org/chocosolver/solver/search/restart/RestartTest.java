@@ -15,8 +15,10 @@ import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.limits.NodeCounter;
 import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.SearchParams;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.chocosolver.solver.search.strategy.Search.*;
@@ -134,4 +136,54 @@ public class RestartTest {
         assertEquals(solver.getRestartCount(), 2);
         assertEquals(solver.getSolutionCount(), 9);
     }
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDynamicRestartDepth() {
+        Model model = ProblemMaker.makeGolombRuler(9);
+        IntVar[] ticks = (IntVar[]) model.getHook("ticks");
+        Solver solver = model.getSolver();
+        solver.addRestarter(new DynamicRestarter(DynamicRestarter.Metric.DEPTH,
+                5, 0.8, 50, 1.4, 100, Integer.MAX_VALUE));
+        solver.setNoGoodRecordingFromRestarts();
+        solver.setSearch(domOverWDegSearch(ticks));
+        int best = Integer.MAX_VALUE;
+        while (solver.solve()) {
+            best = ticks[ticks.length - 1].getValue();
+        }
+        assertEquals(best, 44);
+        Assert.assertTrue(solver.getRestartCount() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDynamicRestartLBD() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(10);
+        Solver solver = model.getSolver();
+        solver.setLearningSignedClauses();
+        solver.addRestarter(new DynamicRestarter(DynamicRestarter.Metric.LBD,
+                5, 0.8, 50, 1.4, 100, Integer.MAX_VALUE));
+        solver.setSearch(inputOrderLBSearch(model.retrieveIntVars(true)));
+        while (solver.solve()) ;
+        // learnt clauses make the enumeration complete despite restarts
+        assertEquals(solver.getSolutionCount(), 724);
+        Assert.assertTrue(solver.getRestartCount() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDynamicRestartLimit() {
+        Model model = buildQ(12);
+        Solver solver = model.getSolver();
+        solver.addRestarter(new DynamicRestarter(DynamicRestarter.Metric.DEPTH,
+                2, 1., 10, 1.4, 10, 3));
+        while (solver.solve()) ;
+        assertEquals(solver.getRestartCount(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDynamicRestartConf() {
+        Model model = buildQ(8);
+        Solver solver = model.getSolver();
+        solver.addRestarter(new SearchParams.ResConf(SearchParams.Restart.DYNAMIC_DEPTH, 2, 5, false)
+                .make().apply(solver));
+        Assert.assertTrue(solver.getRestarter() instanceof DynamicRestarter);
+        Assert.assertTrue(solver.solve());
+    }
 }
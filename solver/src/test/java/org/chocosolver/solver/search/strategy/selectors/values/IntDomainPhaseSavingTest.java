@@ -0,0 +1,111 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDeg;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class IntDomainPhaseSavingTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOnDecisions() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        IntVar y = model.intVar("y", 0, 5, true);
+        IntDomainPhaseSaving phase = new IntDomainPhaseSaving(model, new IntDomainMax(), true, false);
+        Assert.assertFalse(phase.hasPhase(x));
+        Assert.assertEquals(phase.selectValue(x), 5);
+        Assert.assertTrue(phase.hasPhase(x));
+        Assert.assertEquals(phase.getPhase(x), 5);
+        Assert.assertFalse(phase.hasPhase(y));
+        model.getEnvironment().worldPush();
+        x.removeValue(5, Cause.Null);
+        x.removeValue(2, Cause.Null);
+        // phase is not relevant anymore
+        Assert.assertEquals(phase.selectValue(x), 4);
+        Assert.assertEquals(phase.getPhase(x), 4);
+        y.updateUpperBound(3, Cause.Null);
+        Assert.assertEquals(phase.selectValue(y), 3);
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(phase.selectValue(x), 4);
+        // bounded domain: only bounds are relevant
+        Assert.assertEquals(phase.selectValue(y), 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOnSolutions() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("x", 3, 0, 5);
+        model.allDifferent(xs).post();
+        model.setObjective(Model.MINIMIZE, xs[0]);
+        Solver solver = model.getSolver();
+        IntDomainPhaseSaving phase = new IntDomainPhaseSaving(model, new IntDomainMax(), true, true);
+        solver.setSearch(Search.inputOrderUBSearch(xs));
+        Assert.assertTrue(phase.init());
+        Assert.assertTrue(solver.solve());
+        for (IntVar x : xs) {
+            Assert.assertTrue(phase.hasPhase(x));
+            Assert.assertEquals(phase.getPhase(x), x.getValue());
+        }
+        solver.reset();
+        // decisions overwrite phases
+        Assert.assertEquals(phase.selectValue(xs[0]), 5);
+        model.getEnvironment().worldPush();
+        xs[0].removeValue(5, Cause.Null);
+        Assert.assertEquals(phase.selectValue(xs[0]), 4);
+        Assert.assertEquals(phase.getPhase(xs[0]), 4);
+        model.getEnvironment().worldPop();
+        // restarting resets phases to the last solution
+        phase.afterRestart();
+        Assert.assertEquals(phase.getPhase(xs[0]), 5);
+        phase.remove();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEquivalentToLast() {
+        long[][] stats = new long[2][];
+        for (int k = 0; k < 2; k++) {
+            Model model = ProblemMaker.makeGolombRuler(8);
+            IntVar[] ticks = (IntVar[]) model.getHook("ticks");
+            Solver solver = model.getSolver();
+            IntValueSelector vsel;
+            if (k == 0) {
+                Solution solution = new Solution(model);
+                solver.attach(solution);
+                vsel = new IntDomainLast(solution, new IntDomainMin(), null);
+            } else {
+                vsel = new IntDomainPhaseSaving(model, new IntDomainMin(), false, true);
+            }
+            solver.setSearch(Search.intVarSearch(new DomOverWDeg<>(ticks, 0), vsel, ticks));
+            solver.setLubyRestart(50, new FailCounter(model, 50), 50_000);
+            solver.setRestartOnSolutions();
+            while (solver.solve()) ;
+            stats[k] = new long[]{solver.getSolutionCount(), solver.getNodeCount(), solver.getBestSolutionValue().longValue()};
+        }
+        Assert.assertEquals(stats[1], stats[0]);
+        Assert.assertEquals(stats[1][2], 34);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class DomOverWDegTest {
+
+    @DataProvider
+    public Object[][] refined() {
+        return new Object[][]{{false}, {true}};
+    }
+
+    private static DomOverWDeg<IntVar> make(IntVar[] vars, boolean refined, boolean incremental) {
+        return refined ?
+                new DomOverWDegRef<>(vars, 0, Integer.MAX_VALUE, incremental) :
+                new DomOverWDeg<>(vars, 0, Integer.MAX_VALUE, incremental);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "refined")
+    public void testAllSolutions(boolean refined) {
+        long[] counts = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = ProblemMaker.makeCostasArrays(8);
+            IntVar[] vars = (IntVar[]) model.getHook("vars");
+            Solver solver = model.getSolver();
+            solver.setSearch(Search.intVarSearch(make(vars, refined, k == 1), new IntDomainMin(), vars));
+            while (solver.solve()) ;
+            counts[k] = solver.getSolutionCount();
+        }
+        Assert.assertEquals(counts[1], counts[0]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "refined")
+    public void testOptimization(boolean refined) {
+        int[] best = new int[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = ProblemMaker.makeGolombRuler(8);
+            IntVar[] vars = (IntVar[]) model.getHook("ticks");
+            IntVar obj = (IntVar) model.getHook("objective");
+            Solver solver = model.getSolver();
+            solver.setSearch(Search.intVarSearch(make(vars, refined, k == 1), new IntDomainMin(), vars));
+            while (solver.solve()) {
+                best[k] = obj.getValue();
+            }
+        }
+        Assert.assertEquals(best[1], best[0]);
+        Assert.assertEquals(best[1], 34);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "refined")
+    public void testHeapIsUpToDate(boolean refined) {
+        Model model = ProblemMaker.makeGolombRuler(7);
+        IntVar[] vars = (IntVar[]) model.getHook("ticks");
+        DomOverWDeg<IntVar> dwd = make(vars, refined, true);
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.intVarSearch(new VariableSelector<IntVar>() {
+            @Override
+            public IntVar getVariable(IntVar[] variables) {
+                IntVar var = dwd.getVariable(variables);
+                double best = Double.NEGATIVE_INFINITY;
+                for (IntVar v : variables) {
+                    if (!v.isInstantiated()) {
+                        best = Math.max(best, dwd.weight(v) / v.getDomainSize());
+                    }
+                }
+                if (var == null) {
+                    Assert.assertEquals(best, Double.NEGATIVE_INFINITY);
+                } else {
+                    Assert.assertFalse(var.isInstantiated());
+                    Assert.assertEquals(dwd.weight(var) / var.getDomainSize(), best, 1e-9);
+                }
+                return var;
+            }
+
+            @Override
+            public boolean init() {
+                return dwd.init();
+            }
+
+            @Override
+            public void remove() {
+                dwd.remove();
+            }
+        }, new IntDomainMin(), vars));
+        while (solver.solve()) ;
+        Assert.assertTrue(solver.getFailCount() > 0);
+    }
+}
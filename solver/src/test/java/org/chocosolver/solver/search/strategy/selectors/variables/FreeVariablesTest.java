@@ -0,0 +1,109 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.BitSet;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class FreeVariablesTest {
+
+    private static void check(FreeVariables<IntVar> free, IntVar[] vars) {
+        int first = 0;
+        while (first < vars.length && vars[first].isInstantiated()) first++;
+        Assert.assertEquals(free.first(), first);
+        BitSet expected = new BitSet();
+        for (int i = 0; i < vars.length; i++) {
+            if (!vars[i].isInstantiated()) expected.set(i);
+        }
+        BitSet actual = new BitSet();
+        for (int k = free.refresh() - 1; k >= 0; k--) {
+            actual.set(free.get(k));
+        }
+        Assert.assertEquals(actual, expected);
+    }
+
+    @DataProvider
+    public Object[][] delay() {
+        return new Object[][]{{0}, {5}, {12}};
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "delay")
+    public void testBacktrack(int delay) {
+        Model model = ProblemMaker.makeCostasArrays(7);
+        IntVar[] vars = (IntVar[]) model.getHook("vars");
+        Solver solver = model.getSolver();
+        FirstFail ff = new FirstFail(model);
+        FreeVariables<?>[] free = new FreeVariables<?>[1];
+        solver.setSearch(Search.intVarSearch(variables -> {
+            // the view may be created during search
+            if (free[0] == null && solver.getNodeCount() >= delay) {
+                free[0] = FreeVariables.bind(null, variables);
+            }
+            if (free[0] != null) {
+                //noinspection unchecked
+                check((FreeVariables<IntVar>) free[0], variables);
+            }
+            return ff.getVariable(variables);
+        }, new IntDomainMin(), vars));
+        while (solver.solve()) ;
+        Assert.assertEquals(solver.getSolutionCount(), 100);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEmpty() {
+        Assert.assertNull(FreeVariables.bind(null, new IntVar[0]));
+        Assert.assertNull(new Smallest().getVariable(new IntVar[0]));
+        Assert.assertNull(new InputOrder<IntVar>(new Model()).getVariable(new IntVar[0]));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testLexicographicTies() {
+        Model model = new Model();
+        IntVar[] vars = new IntVar[]{
+                model.intVar("a", 3),
+                model.intVar("b", 0, 4),
+                model.intVar("c", 1, 3),
+                model.intVar("d", 0, 6),
+                model.intVar("e", 1, 3),
+        };
+        Assert.assertEquals(new InputOrder<IntVar>(model).getVariable(vars), vars[1]);
+        Assert.assertEquals(new FirstFail(model).getVariable(vars), vars[2]);
+        Assert.assertEquals(new AntiFirstFail(model).getVariable(vars), vars[3]);
+        Assert.assertEquals(new Smallest().getVariable(vars), vars[1]);
+        Assert.assertEquals(new Largest().getVariable(vars), vars[3]);
+        Assert.assertEquals(new MaxRegret().getVariable(vars), vars[1]);
+        Assert.assertEquals(new Occurrence<IntVar>().getVariable(vars), vars[1]);
+        Assert.assertEquals(new VariableSelectorWithTies<>(new FirstFail(model)).getVariable(vars), vars[2]);
+        // the last heuristic breaks the ties of the first one
+        Assert.assertEquals(new VariableSelectorWithTies<>(new Smallest(), new FirstFail(model))
+                .getVariable(vars), vars[1]);
+        Assert.assertEquals(new VariableSelectorWithTies<>(new Smallest(), new Largest())
+                .getVariable(vars), vars[3]);
+        Assert.assertEquals(new VariableSelectorWithTies<>(new FirstFail(model), new Largest())
+                .getVariable(vars), vars[2]);
+        Assert.assertEquals(new VariableSelectorWithTies<>(new FirstFail(model), new Smallest())
+                .getVariable(vars), vars[2]);
+    }
+}
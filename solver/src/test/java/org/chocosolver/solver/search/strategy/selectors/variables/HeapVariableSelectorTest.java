@@ -0,0 +1,105 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.variables;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class HeapVariableSelectorTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testFirstFail() {
+        long[] nodes = new long[2];
+        long[] sols = new long[2];
+        for (int k = 0; k < 2; k++) {
+            Model model = ProblemMaker.makeCostasArrays(8);
+            IntVar[] vars = (IntVar[]) model.getHook("vars");
+            Solver solver = model.getSolver();
+            // FirstFail breaks ties lexicographically, like the heap does
+            VariableSelector<IntVar> vs = k == 0 ?
+                    new FirstFail(model) :
+                    new HeapVariableSelector<>(vars, new FirstFail(model));
+            solver.setSearch(Search.intVarSearch(vs, new IntDomainMin(), vars));
+            while (solver.solve()) ;
+            nodes[k] = solver.getNodeCount();
+            sols[k] = solver.getSolutionCount();
+        }
+        Assert.assertEquals(sols[1], sols[0]);
+        Assert.assertEquals(nodes[1], nodes[0]);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testTieBreaking() {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", 4, 0, 5);
+        model.arithm(vars[0], "<", vars[1]).post();
+        model.arithm(vars[2], "!=", vars[3]).post();
+        Solver solver = model.getSolver();
+        HeapVariableSelector<IntVar> vs = new HeapVariableSelector<>(vars, new Smallest(), new FirstFail(model));
+        solver.setSearch(Search.intVarSearch(new VariableSelector<IntVar>() {
+            @Override
+            public IntVar getVariable(IntVar[] variables) {
+                IntVar var = vs.getVariable(variables);
+                IntVar exp = new VariableSelectorWithTies<>(new Smallest(), new FirstFail(model)).getVariable(variables);
+                Assert.assertEquals(var, exp);
+                return var;
+            }
+
+            @Override
+            public boolean init() {
+                return vs.init();
+            }
+
+            @Override
+            public void remove() {
+                vs.remove();
+            }
+        }, new IntDomainMin(), vars));
+        while (solver.solve()) ;
+        Assert.assertEquals(solver.getSolutionCount(), 15 * 30);
+    }
+
+    @DataProvider
+    public Object[][] pick() {
+        return new Object[][]{{0}, {1}, {2}, {3}};
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "pick")
+    public void testPickOnDom(int mode) {
+        long[] counts = new long[4];
+        for (int k = 0; k < 4; k++) {
+            Model model = ProblemMaker.makeCostasArrays(7);
+            IntVar[] vars = (IntVar[]) model.getHook("vars");
+            Solver solver = model.getSolver();
+            VariableSelector<IntVar> vs = k / 2 == 0 ?
+                    new PickOnDom<>(vars, mode, Integer.MAX_VALUE, k % 2 == 1) :
+                    new PickOnFil<>(vars, mode, Integer.MAX_VALUE, k % 2 == 1);
+            solver.setSearch(Search.intVarSearch(vs, new IntDomainMin(), vars));
+            while (solver.solve()) ;
+            counts[k] = solver.getSolutionCount();
+        }
+        Assert.assertEquals(counts[1], counts[0]);
+        Assert.assertEquals(counts[2], counts[0]);
+        Assert.assertEquals(counts[3], counts[0]);
+    }
+}
@@ -356,4 +356,56 @@ public class AbstractVariableTest {
         Assert.assertEquals(list[4].stream().toArray(Propagator[]::new),
                 new Propagator[]{p0, p1, p2});
     }
-}
\ No newline at end of file
+
+    @Test(groups = "1s", dependsOnMethods = {"testSwapStd"})
+    public void testPackIncidence() {
+        Model model = new Model();
+        IEnvironment env = model.getEnvironment();
+        IntVar v = model.intVar("x", 1, 3);
+        IntVar w = model.intVar("y", 1, 3);
+        IBipartiteList[] list = ((AbstractVariable) v).propagators;
+        IBipartiteList[] wlist = ((AbstractVariable) w).propagators;
+        PropFake p0 = new PropFake(v, 0);
+        PropFake p1 = new PropFake(v, 1);
+        PropFake p2 = new PropFake(v, 2);
+        PropFake q0 = new PropFake(w, 0);
+        PropFake q1 = new PropFake(w, 1);
+        v.link(p0, 0);
+        v.link(p1, 0);
+        v.link(p2, 0);
+        w.link(q0, 0);
+        w.link(q1, 0);
+        model.getPropagatorIncidence().pack(model.getVars());
+        Assert.assertEquals(model.getPropagatorIncidence().size(), 5);
+        Assert.assertEquals(list[4].stream().toArray(Propagator[]::new),
+                new Propagator[]{p0, p1, p2});
+        Assert.assertEquals(wlist[4].stream().toArray(Propagator[]::new),
+                new Propagator[]{q0, q1});
+        //
+        env.worldPush();
+        v.swapOnPassivate(p1, 0);
+        PropFake p3 = new PropFake(v, 3);
+        v.link(p3, 0);
+        env.save(() -> v.unlink(p3, 0));
+        Assert.assertEquals(list[4].getSplitter(), 1);
+        Assert.assertEquals(list[4].stream().toArray(Propagator[]::new),
+                new Propagator[]{p0, p2, p3});
+        Assert.assertEquals(wlist[4].stream().toArray(Propagator[]::new),
+                new Propagator[]{q0, q1});
+        env.worldPop();
+        Assert.assertEquals(list[4].getLast(), 3);
+        Assert.assertEquals(list[4].getSplitter(), 0);
+        Assert.assertEquals(list[4].stream().toArray(Propagator[]::new),
+                new Propagator[]{p1, p0, p2});
+        w.unlink(q0, 0);
+        Assert.assertEquals(wlist[4].stream().toArray(Propagator[]::new),
+                new Propagator[]{q1});
+        // packing again
+        model.getPropagatorIncidence().pack(model.getVars());
+        Assert.assertEquals(model.getPropagatorIncidence().size(), 4);
+        Assert.assertEquals(list[4].stream().toArray(Propagator[]::new),
+                new Propagator[]{p1, p0, p2});
+        Assert.assertEquals(wlist[4].stream().toArray(Propagator[]::new),
+                new Propagator[]{q1});
+    }
+}
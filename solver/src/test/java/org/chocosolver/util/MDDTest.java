@@ -9,15 +9,23 @@
  */
 package org.chocosolver.util;
 
+import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.constraints.extension.nary.PropLargeMDDC;
+import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.objects.graphs.MultivaluedDecisionDiagram;
+import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
 /**
  * Created by cprudhom on 04/11/14.
@@ -198,4 +206,138 @@ public class MDDTest {
         Assert.assertEquals(mdd.getDiagram(), new int[]{3, 3, 11, 0, 0, 6, 0, 0, -1, 0, 0, 6, 0, 0});
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testCompactMDD() {
+        for (int seed = 0; seed < 50; seed++) {
+            Random rnd = new Random(seed);
+            Tuples tuples = new Tuples();
+            int nbTuples = 5 + rnd.nextInt(60);
+            for (int t = 0; t < nbTuples; t++) {
+                tuples.add(rnd.nextInt(4) - 1, rnd.nextInt(3), rnd.nextInt(5) - 2, rnd.nextInt(3), rnd.nextInt(4));
+            }
+            long[] counts = new long[2];
+            long[] nodes = new long[2];
+            for (int k = 0; k < 2; k++) {
+                Model model = new Model();
+                IntVar[] vars = model.intVarArray("X", 5, -2, 3, k == 0 && seed % 2 == 0);
+                MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, tuples);
+                if (k == 0) {
+                    model.mddc(vars, mdd).post();
+                } else {
+                    new Constraint("MDDC", new PropLargeMDDC(mdd, vars)).post();
+                }
+                model.allDifferent(vars[1], vars[3]).post();
+                Solver solver = model.getSolver();
+                solver.setSearch(Search.randomSearch(vars, seed));
+                while (solver.solve()) ;
+                counts[k] = solver.getSolutionCount();
+                nodes[k] = solver.getNodeCount();
+            }
+            Assert.assertEquals(counts[0], counts[1], "seed " + seed);
+            if (seed % 2 == 1) {
+                Assert.assertEquals(nodes[0], nodes[1], "seed " + seed);
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCompactMDDFromTransitions() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", 3, 0, 2, false);
+        int[][] transitions = new int[][]{
+                {0, 0, 1}, {0, 1, 2}, {0, 2, 3},
+                {1, 0, 4}, {2, 1, 4}, {3, 2, 5},
+                {4, 1, -1}, {4, 2, -1}, {5, 0, -1}
+        };
+        MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, transitions);
+        // node 5 cannot reach the terminal node anymore
+        vars[2].removeValue(0, Cause.Null);
+        model.mddc(vars, mdd).post();
+        model.getSolver().propagate();
+        Assert.assertEquals(vars[0].getUB(), 1);
+        Assert.assertEquals(vars[1].getUB(), 1);
+        Assert.assertEquals(vars[2].getLB(), 1);
+        model.getEnvironment().worldPush();
+        vars[1].removeValue(0, Cause.Null);
+        model.getSolver().propagate();
+        Assert.assertTrue(vars[0].isInstantiatedTo(1));
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(vars[0].getDomainSize(), 2);
+        vars[0].instantiateTo(0, Cause.Null);
+        vars[1].instantiateTo(1, Cause.Null);
+        Assert.assertThrows(ContradictionException.class, () -> model.getSolver().propagate());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testAutomaton() {
+        FiniteAutomaton auto = new FiniteAutomaton("(1|2)(3*)(1|4|5)");
+        for (int n = 2; n < 7; n++) {
+            Model model = new Model();
+            IntVar[] vars = model.intVarArray("X", n, 0, 5, false);
+            MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, auto);
+            Assert.assertTrue(mdd.exists(ArrayUtils.concat(new int[]{2}, ArrayUtils.concat(new int[n - 2], 4))) == (n == 2));
+            model.mddc(vars, mdd).post();
+            Model ref = new Model();
+            IntVar[] rvars = ref.intVarArray("X", n, 0, 5, false);
+            ref.regular(rvars, auto).post();
+            Assert.assertEquals(model.getSolver().findAllSolutions().size(), ref.getSolver().findAllSolutions().size());
+            Assert.assertEquals(model.getSolver().getSolutionCount(), 2 * 3);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testNonDeterministicAutomaton() {
+        // words ending with 1, 0
+        FiniteAutomaton auto = new FiniteAutomaton();
+        int s0 = auto.addState();
+        int s1 = auto.addState();
+        int s2 = auto.addState();
+        auto.setInitialState(s0);
+        auto.setFinal(s2);
+        auto.addTransition(s0, s0, 0, 1);
+        auto.addTransition(s0, s1, 1);
+        auto.addTransition(s1, s2, 0);
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", 6, 0, 1);
+        MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, auto);
+        Assert.assertTrue(mdd.exists(0, 1, 1, 0, 1, 0));
+        Assert.assertFalse(mdd.exists(0, 1, 1, 0, 0, 1));
+        model.mddc(vars, mdd).post();
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 16);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testEmptyAutomaton() {
+        FiniteAutomaton auto = new FiniteAutomaton("12");
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", 3, 0, 2);
+        MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, auto);
+        model.mddc(vars, mdd).post();
+        Assert.assertFalse(model.getSolver().solve());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testReduceLargeDomains() {
+        // x0 = x7, the others are in {0,1}, the cartesian product of the domains is greater than 2M
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("X", 8, 0, 9);
+        Tuples tuples = new Tuples();
+        for (int v = 0; v < 10; v++) {
+            for (int k = 0; k < 64; k++) {
+                int[] tuple = new int[8];
+                tuple[0] = tuple[7] = v;
+                for (int i = 1; i < 7; i++) {
+                    tuple[i] = (k >> (i - 1)) & 1;
+                }
+                tuples.add(tuple);
+            }
+        }
+        MultivaluedDecisionDiagram mdd = new MultivaluedDecisionDiagram(vars, tuples);
+        // one node per value of x0 on each layer but the first one
+        Assert.assertEquals(mdd.getDiagram().length, 10 + 10 * 6 * 10 + 10 * 10);
+        Assert.assertTrue(mdd.exists(3, 0, 1, 1, 0, 1, 0, 3));
+        Assert.assertFalse(mdd.exists(3, 0, 1, 1, 0, 1, 0, 2));
+        model.mddc(vars, mdd).post();
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 640);
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2024, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+/**
+ * <br/>
+ *
+ * @author Charles Prud'homme
+ * @since 19/10/2026
+ */
+public class IntHeapTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRemoveMin() {
+        double[] w = {5., 3., 8., 1., 9., 2.};
+        IntHeap heap = new IntHeap((a, b) -> w[a] < w[b]);
+        for (int i = 0; i < w.length; i++) {
+            heap.insert(i);
+        }
+        int[] expected = {3, 5, 1, 0, 2, 4};
+        for (int e : expected) {
+            Assert.assertEquals(heap.removeMin(), e);
+        }
+        Assert.assertTrue(heap.isEmpty());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRemove() {
+        double[] w = {5., 3., 8., 1., 9., 2.};
+        IntHeap heap = new IntHeap((a, b) -> w[a] < w[b]);
+        for (int i = 0; i < w.length; i++) {
+            heap.insert(i);
+        }
+        heap.remove(3);
+        heap.remove(4);
+        Assert.assertFalse(heap.contains(3));
+        Assert.assertFalse(heap.contains(4));
+        Assert.assertEquals(heap.size(), 4);
+        int[] expected = {5, 1, 0, 2};
+        for (int e : expected) {
+            Assert.assertEquals(heap.removeMin(), e);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        Random rnd = new Random(0);
+        int n = 200;
+        double[] w = new double[n];
+        IntHeap heap = new IntHeap((a, b) -> w[a] < w[b] || (w[a] == w[b] && a < b));
+        for (int k = 0; k < 5_000; k++) {
+            int i = rnd.nextInt(n);
+            if (heap.contains(i) && rnd.nextBoolean()) {
+                heap.remove(i);
+            } else {
+                w[i] = rnd.nextInt(50);
+                heap.update(i);
+            }
+            if (!heap.isEmpty()) {
+                int min = -1;
+                for (int j = 0; j < n; j++) {
+                    if (heap.contains(j) && (min == -1 || w[j] < w[min])) {
+                        min = j;
+                    }
+                }
+                Assert.assertEquals(heap.get(0), min);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testBuild() {
+        double[] w = {5., 3., 8., 1., 9., 2.};
+        IntHeap heap = new IntHeap((a, b) -> w[a] < w[b]);
+        heap.build(new TIntArrayList(new int[]{4, 2, 0, 3}));
+        Assert.assertEquals(heap.size(), 4);
+        Assert.assertEquals(heap.removeMin(), 3);
+        Assert.assertEquals(heap.removeMin(), 0);
+        Assert.assertEquals(heap.removeMin(), 2);
+        Assert.assertEquals(heap.removeMin(), 4);
+    }
+}